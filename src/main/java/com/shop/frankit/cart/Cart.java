@@ -0,0 +1,117 @@
+package com.shop.frankit.cart;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자 한 명의 장바구니, 잠금은 CartStore가 이 객체로 건다
+ * - 변경할 때마다 version이 오르고, DB에 쓴 version은 flushedVersion에 기록한다. (둘이 같으면 내보내도 안전)
+ */
+final class Cart {
+
+    private final Long userId;
+    private final List<CartItem> items;
+    private int nextItemId;
+    private long version;
+    private long flushedVersion;
+    private volatile long lastAccessNanos;
+    private boolean evicted;
+
+    Cart(Long userId, List<CartItem> items) {
+        this.userId = userId;
+        this.items = new ArrayList<>(items);
+        this.nextItemId = items.stream().mapToInt(CartItem::id).max().orElse(0) + 1;
+        touch();
+    }
+
+    Long userId() {
+        return userId;
+    }
+
+    List<CartItem> items() {
+        return List.copyOf(items);
+    }
+
+    /**
+     * 같은 상품/옵션의 항목이 있으면 수량을 더하고, 없으면 새 항목 추가
+     */
+    CartItem add(Long productId, Map<Long, String> selections, Map<Long, String> inputs, int quantity) {
+        CartItem added = new CartItem(nextItemId, productId, selections, inputs, quantity);
+        for (int i = 0; i < items.size(); i++) {
+            CartItem item = items.get(i);
+            if (item.sameChoice(productId, added.selections(), added.inputs())) {
+                CartItem merged = item.withQuantity(Math.addExact(item.quantity(), quantity));
+                items.set(i, merged);
+                changed();
+                return merged;
+            }
+        }
+        items.add(added);
+        nextItemId++;
+        changed();
+        return added;
+    }
+
+    /**
+     * 항목 수량 변경, 없는 항목이면 null
+     */
+    CartItem setQuantity(int itemId, int quantity) {
+        for (int i = 0; i < items.size(); i++) {
+            if (items.get(i).id() == itemId) {
+                CartItem updated = items.get(i).withQuantity(quantity);
+                items.set(i, updated);
+                changed();
+                return updated;
+            }
+        }
+        return null;
+    }
+
+    boolean remove(int itemId) {
+        boolean removed = items.removeIf(item -> item.id() == itemId);
+        if (removed) {
+            changed();
+        }
+        return removed;
+    }
+
+    void clear() {
+        if (!items.isEmpty()) {
+            items.clear();
+            changed();
+        }
+    }
+
+    long version() {
+        return version;
+    }
+
+    boolean isClean() {
+        return version == flushedVersion;
+    }
+
+    void flushed(long version) {
+        flushedVersion = Math.max(flushedVersion, version);
+    }
+
+    void touch() {
+        lastAccessNanos = System.nanoTime();
+    }
+
+    long lastAccessNanos() {
+        return lastAccessNanos;
+    }
+
+    boolean isEvicted() {
+        return evicted;
+    }
+
+    void evict() {
+        evicted = true;
+    }
+
+    private void changed() {
+        version++;
+    }
+}
@@ -0,0 +1,24 @@
+package com.shop.frankit.cart;
+
+import java.util.Map;
+
+/**
+ * 장바구니 항목 하나, 불변
+ * id: 장바구니 안에서의 항목 번호, selections: SELECT 옵션 ID별 선택 값, inputs: INPUT 옵션 ID별 입력 내용
+ */
+public record CartItem(int id, Long productId, Map<Long, String> selections, Map<Long, String> inputs,
+                       int quantity) {
+
+    public CartItem {
+        selections = selections == null ? Map.of() : Map.copyOf(selections);
+        inputs = inputs == null ? Map.of() : Map.copyOf(inputs);
+    }
+
+    boolean sameChoice(Long productId, Map<Long, String> selections, Map<Long, String> inputs) {
+        return this.productId.equals(productId) && this.selections.equals(selections) && this.inputs.equals(inputs);
+    }
+
+    CartItem withQuantity(int quantity) {
+        return new CartItem(id, productId, selections, inputs, quantity);
+    }
+}
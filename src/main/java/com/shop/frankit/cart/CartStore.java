@@ -0,0 +1,274 @@
+package com.shop.frankit.cart;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shop.frankit.shard.ShardRouter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메모리 장바구니 저장소 (write-behind)
+ * - 사용 중인 장바구니를 사용자 ID별로 메모리에 두고, 처음 사용할 때 DB(carts)에서 읽어온다. (재시작 후 복구)
+ * - 변경은 메모리에만 반영하고 사용자 ID만 표시해 두었다가, flush-interval마다 그 시점의 장바구니 전체를
+ *   한 번의 upsert로 덮어쓴다. 한 주기 안의 여러 변경은 마지막 상태 하나로 합쳐진다.
+ * - idle-timeout 동안 사용되지 않았거나 max-entries를 넘으면 오래된 것부터 내보낸다. 아직 DB에 쓰지 않은
+ *   장바구니는 내보내지 않으므로, 쓰기가 계속 실패하면 잠시 max-entries를 넘을 수 있다.
+ * - 장바구니는 이 인스턴스의 메모리가 기준이므로, 같은 사용자의 요청은 한 인스턴스에서 처리해야 한다.
+ */
+@Slf4j
+@Component
+public class CartStore {
+
+    private static final int CART_SHARD = 0;
+    private static final String LOAD_SQL = "SELECT items FROM carts WHERE user_id = ?";
+    private static final int UPSERT_CHUNK_SIZE = 500;
+    private static final String UPSERT_PREFIX = "INSERT INTO carts (user_id, items, updated_at) VALUES ";
+    private static final String UPSERT_ROW = "(?, ?, NOW(6))";
+    private static final String UPSERT_SUFFIX =
+        " ON DUPLICATE KEY UPDATE items = VALUES(items), updated_at = VALUES(updated_at)";
+    private static final TypeReference<List<CartItem>> ITEMS_TYPE = new TypeReference<>() {
+    };
+
+    private record PendingWrite(Cart cart, String items, long version) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardRouter shardRouter;
+    private final ObjectMapper objectMapper;
+    private final int maxEntries;
+    private final long idleTimeoutNanos;
+    private final Map<Long, Cart> carts = new ConcurrentHashMap<>();
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean trimming = new AtomicBoolean();
+
+    public CartStore(JdbcTemplate jdbcTemplate, ShardRouter shardRouter, ObjectMapper objectMapper,
+        MeterRegistry meterRegistry,
+        @Value("${app.cart.max-entries:100000}") int maxEntries,
+        @Value("${app.cart.idle-timeout:30m}") Duration idleTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.shardRouter = shardRouter;
+        this.objectMapper = objectMapper;
+        this.maxEntries = maxEntries;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        Gauge.builder("cart.store.size", carts, Map::size)
+            .description("메모리에 있는 장바구니 수")
+            .register(meterRegistry);
+        Gauge.builder("cart.store.dirty", dirty, Set::size)
+            .description("DB에 쓰기를 기다리는 장바구니 수")
+            .register(meterRegistry);
+    }
+
+    public List<CartItem> items(Long userId) {
+        return withCart(userId, Cart::items);
+    }
+
+    public CartItem add(Long userId, Long productId, Map<Long, String> selections, Map<Long, String> inputs,
+        int quantity) {
+        return withCart(userId, cart -> cart.add(productId, selections, inputs, quantity));
+    }
+
+    /**
+     * 항목 수량 변경, 없는 항목이면 null
+     */
+    public CartItem setQuantity(Long userId, int itemId, int quantity) {
+        return withCart(userId, cart -> cart.setQuantity(itemId, quantity));
+    }
+
+    public boolean remove(Long userId, int itemId) {
+        return withCart(userId, cart -> cart.remove(itemId));
+    }
+
+    public void clear(Long userId) {
+        withCart(userId, cart -> {
+            cart.clear();
+            return null;
+        });
+    }
+
+    /**
+     * 변경된 장바구니를 DB에 덮어씀 (write-behind)
+     */
+    @Scheduled(initialDelayString = "${app.cart.flush-interval:1000}",
+        fixedDelayString = "${app.cart.flush-interval:1000}")
+    public synchronized void flush() {
+        if (dirty.isEmpty()) {
+            return;
+        }
+        List<PendingWrite> writes = new ArrayList<>();
+        for (Long userId : new ArrayList<>(dirty)) {
+            // 표시를 먼저 지우므로 이후의 변경은 다음 flush에서 다시 쓴다
+            dirty.remove(userId);
+            Cart cart = carts.get(userId);
+            if (cart == null) {
+                continue;
+            }
+            List<CartItem> items;
+            long version;
+            synchronized (cart) {
+                if (cart.isClean()) {
+                    continue;
+                }
+                items = cart.items();
+                version = cart.version();
+            }
+            writes.add(new PendingWrite(cart, serialize(items), version));
+        }
+        if (!writes.isEmpty()) {
+            shardRouter.onShard(CART_SHARD, () -> {
+                upsert(writes);
+                return null;
+            });
+            log.debug("Flushed {} carts", writes.size());
+        }
+    }
+
+    /**
+     * idle-timeout 동안 사용되지 않은 장바구니를 메모리에서 내보냄
+     */
+    @Scheduled(initialDelayString = "${app.cart.eviction-interval:60000}",
+        fixedDelayString = "${app.cart.eviction-interval:60000}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        int evicted = 0;
+        for (Map.Entry<Long, Cart> entry : carts.entrySet()) {
+            if (now - entry.getValue().lastAccessNanos() > idleTimeoutNanos && tryEvict(entry.getKey(), entry.getValue())) {
+                evicted++;
+            }
+        }
+        if (evicted > 0) {
+            log.debug("Evicted {} idle carts", evicted);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 내보낸 장바구니를 잡은 경우 다시 읽어온 장바구니로 재시도
+    private <T> T withCart(Long userId, Function<Cart, T> action) {
+        while (true) {
+            Cart cart = cart(userId);
+            synchronized (cart) {
+                if (cart.isEvicted()) {
+                    continue;
+                }
+                cart.touch();
+                long version = cart.version();
+                T result = action.apply(cart);
+                if (cart.version() != version) {
+                    dirty.add(userId);
+                }
+                return result;
+            }
+        }
+    }
+
+    private Cart cart(Long userId) {
+        Cart cart = carts.get(userId);
+        if (cart != null) {
+            return cart;
+        }
+        Cart loaded = load(userId);
+        Cart existing = carts.putIfAbsent(userId, loaded);
+        if (existing != null) {
+            return existing;
+        }
+        if (carts.size() > maxEntries) {
+            trim();
+        }
+        return loaded;
+    }
+
+    private Cart load(Long userId) {
+        List<String> rows = shardRouter.onShard(CART_SHARD,
+            () -> jdbcTemplate.query(LOAD_SQL, (rs, rowNum) -> rs.getString(1), userId));
+        if (rows.isEmpty()) {
+            return new Cart(userId, List.of());
+        }
+        try {
+            return new Cart(userId, objectMapper.readValue(rows.get(0), ITEMS_TYPE));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 가장 오래 사용되지 않은 장바구니부터 max-entries의 90%가 될 때까지 내보냄 (한 번에 10%를 비워 자주 돌지 않도록)
+    private void trim() {
+        if (!trimming.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int excess = carts.size() - (maxEntries - maxEntries / 10);
+            carts.entrySet().stream()
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().lastAccessNanos()))
+                .limit(Math.max(0, excess))
+                .toList()
+                .forEach(entry -> tryEvict(entry.getKey(), entry.getValue()));
+        } finally {
+            trimming.set(false);
+        }
+    }
+
+    private boolean tryEvict(Long userId, Cart cart) {
+        synchronized (cart) {
+            if (cart.isEvicted() || !cart.isClean()) {
+                return false;
+            }
+            cart.evict();
+            return carts.remove(userId, cart);
+        }
+    }
+
+    // 실패한 문장의 장바구니만 다시 표시해서 다음 flush에 다시 씀
+    private void upsert(List<PendingWrite> writes) {
+        for (int from = 0; from < writes.size(); from += UPSERT_CHUNK_SIZE) {
+            List<PendingWrite> chunk = writes.subList(from, Math.min(from + UPSERT_CHUNK_SIZE, writes.size()));
+            StringBuilder sql = new StringBuilder(UPSERT_PREFIX);
+            Object[] args = new Object[chunk.size() * 2];
+            for (int i = 0; i < chunk.size(); i++) {
+                PendingWrite write = chunk.get(i);
+                sql.append(i == 0 ? "" : ", ").append(UPSERT_ROW);
+                args[i * 2] = write.cart().userId();
+                args[i * 2 + 1] = write.items();
+            }
+            try {
+                jdbcTemplate.update(sql.append(UPSERT_SUFFIX).toString(), args);
+            } catch (RuntimeException e) {
+                log.warn("Failed to flush {} carts, retrying next flush", chunk.size(), e);
+                chunk.forEach(write -> dirty.add(write.cart().userId()));
+                continue;
+            }
+            for (PendingWrite write : chunk) {
+                synchronized (write.cart()) {
+                    write.cart().flushed(write.version());
+                }
+            }
+        }
+    }
+
+    private String serialize(List<CartItem> items) {
+        try {
+            return objectMapper.writeValueAsString(items);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
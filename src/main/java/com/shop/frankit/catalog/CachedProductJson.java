@@ -0,0 +1,84 @@
+package com.shop.frankit.catalog;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 상품 하나의 응답 JSON(UTF-8)과 gzip 압축본
+ * - 항목마다 자동 Arena에 할당하므로 캐시에서 빠지고 참조가 사라지면 GC가 오프힙 메모리를 해제한다.
+ *   (명시적으로 닫지 않으므로 응답을 쓰는 중에 무효화되어도 안전함)
+ * - referenced는 CLOCK 교체용 최근 조회 표시, 조회 스레드가 잠금 없이 켜고 교체할 때 끈다.
+ */
+final class CachedProductJson {
+
+    private final Long id;
+    private final OffHeapJson json;
+    private final OffHeapJson gzip;
+    private final long expiresAt;
+    private volatile boolean referenced;
+
+    private CachedProductJson(Long id, OffHeapJson json, OffHeapJson gzip, long expiresAt) {
+        this.id = id;
+        this.json = json;
+        this.gzip = gzip;
+        this.expiresAt = expiresAt;
+    }
+
+    static CachedProductJson of(Long id, byte[] json, long expiresAt) {
+        return new CachedProductJson(id, new OffHeapJson(copyOffHeap(json), false),
+            new OffHeapJson(copyOffHeap(gzip(json)), true), expiresAt);
+    }
+
+    Long id() {
+        return id;
+    }
+
+    void markReferenced() {
+        // 이미 켜져 있으면 쓰지 않아 조회가 몰려도 캐시 라인을 다투지 않음
+        if (!referenced) {
+            referenced = true;
+        }
+    }
+
+    /**
+     * 최근 조회 표시를 끄고, 켜져 있었는지 반환
+     */
+    boolean clearReferenced() {
+        boolean was = referenced;
+        referenced = false;
+        return was;
+    }
+
+    OffHeapJson body(boolean gzipped) {
+        return gzipped ? gzip : json;
+    }
+
+    boolean isExpired(long now) {
+        return now - expiresAt >= 0;
+    }
+
+    long offHeapBytes() {
+        return json.length() + gzip.length();
+    }
+
+    private static MemorySegment copyOffHeap(byte[] bytes) {
+        MemorySegment segment = Arena.ofAuto().allocate(bytes.length);
+        MemorySegment.copy(bytes, 0, segment, ValueLayout.JAVA_BYTE, 0, bytes.length);
+        return segment.asReadOnly();
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 2 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
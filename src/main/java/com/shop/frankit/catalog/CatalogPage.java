@@ -0,0 +1,77 @@
+package com.shop.frankit.catalog;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.shop.frankit.dto.ProductField;
+import com.shop.frankit.promotion.PromotionTable;
+import java.util.Set;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 메모리 카탈로그의 조회 결과 한 페이지
+ * 행 번호만 가지고 있으며 응답은 CatalogPageSerializer가 스냅샷 컬럼에서 바로 쓴다.
+ */
+@JsonSerialize(using = CatalogPageSerializer.class)
+public class CatalogPage {
+
+    private final CatalogSnapshot snapshot;
+    private final int[] rows;
+    private final int count;
+    private final Pageable pageable;
+    private final long totalElements;
+    private final Set<ProductField> fields;
+    private PromotionTable promotions;
+
+    CatalogPage(CatalogSnapshot snapshot, int[] rows, int count, Pageable pageable, long totalElements,
+        Set<ProductField> fields) {
+        this.snapshot = snapshot;
+        this.rows = rows;
+        this.count = count;
+        this.pageable = pageable;
+        this.totalElements = totalElements;
+        this.fields = fields;
+    }
+
+    public int getNumberOfElements() {
+        return count;
+    }
+
+    public long getTotalElements() {
+        return totalElements;
+    }
+
+    public int getTotalPages() {
+        return (int) ((totalElements + pageable.getPageSize() - 1) / pageable.getPageSize());
+    }
+
+    public Pageable getPageable() {
+        return pageable;
+    }
+
+    public long idAt(int index) {
+        return snapshot.id(rows[index]);
+    }
+
+    CatalogSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    Set<ProductField> getFields() {
+        return fields;
+    }
+
+    /**
+     * 직렬화할 때 적용할 할인 조회표 (없으면 할인 가격을 쓰지 않음)
+     */
+    CatalogPage withPromotions(PromotionTable promotions) {
+        this.promotions = promotions;
+        return this;
+    }
+
+    PromotionTable getPromotions() {
+        return promotions;
+    }
+
+    int rowAt(int index) {
+        return rows[index];
+    }
+}
@@ -0,0 +1,154 @@
+package com.shop.frankit.catalog;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.shop.frankit.dto.ProductField;
+import com.shop.frankit.entity.converter.MoneyJsonSerializer;
+import com.shop.frankit.promotion.PromotionTable;
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * CatalogPage를 행마다 객체를 만들지 않고 컬럼 값에서 바로 JSON(또는 CBOR)으로 쓰는 직렬화기
+ * - 상품 필드 이름과 값 형식은 ProductResponse 직렬화 결과와 같게 맞춘다. (할인 가격 포함)
+ *   (금액은 소수 둘째 자리, 등록일시는 ISO-8601 LocalDateTime 문자열)
+ * - 페이지 정보는 {"content": [...], "page": {size, number, totalElements, totalPages}} 형태로 쓴다.
+ */
+public class CatalogPageSerializer extends StdSerializer<CatalogPage> {
+
+    public CatalogPageSerializer() {
+        super(CatalogPage.class);
+    }
+
+    @Override
+    public void serialize(CatalogPage page, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        CatalogSnapshot snapshot = page.getSnapshot();
+        Set<ProductField> fields = page.getFields();
+        PromotionTable promotions = page.getPromotions();
+        boolean discounted = promotions != null && !promotions.isEmpty() && fields.contains(ProductField.PRICE);
+        char[] buffer = new char[32];  // 숫자/날짜 포맷용 버퍼, 페이지당 한 번만 할당
+
+        gen.writeStartObject();
+        gen.writeArrayFieldStart("content");
+        for (int i = 0; i < page.getNumberOfElements(); i++) {
+            int row = page.rowAt(i);
+            gen.writeStartObject();
+            // 전역 ID는 2^53을 넘으므로 ProductResponse와 같이 문자열로 씀
+            gen.writeFieldName("id");
+            gen.writeString(buffer, 0, formatId(snapshot.id(row), buffer));
+            if (fields.contains(ProductField.NAME)) {
+                gen.writeStringField("name", snapshot.name(row));
+            }
+            if (fields.contains(ProductField.PRICE)) {
+                gen.writeFieldName("price");
+                MoneyJsonSerializer.writeMinorUnits(snapshot.price(row), gen, buffer);
+            }
+            if (fields.contains(ProductField.SHIPPING_FEE)) {
+                gen.writeFieldName("shippingFee");
+                MoneyJsonSerializer.writeMinorUnits(snapshot.shippingFee(row), gen, buffer);
+            }
+            if (discounted) {
+                writeDiscount(promotions, snapshot, row, fields, gen, buffer);
+            }
+            if (fields.contains(ProductField.REGISTERED_AT)) {
+                gen.writeFieldName("registeredAt");
+                gen.writeString(buffer, 0, formatDateTime(snapshot.registeredAt(row), buffer));
+            }
+            if (fields.contains(ProductField.USER_ID)) {
+                gen.writeNumberField("userId", snapshot.userId(row));
+            }
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+
+        gen.writeObjectFieldStart("page");
+        gen.writeNumberField("size", page.getPageable().getPageSize());
+        gen.writeNumberField("number", page.getPageable().getPageNumber());
+        gen.writeNumberField("totalElements", page.getTotalElements());
+        gen.writeNumberField("totalPages", page.getTotalPages());
+        gen.writeEndObject();
+        gen.writeEndObject();
+    }
+
+    // ProductMapper.applyPromotions와 같은 규칙 (판매자 ID는 선택된 경우에만 사용)
+    private static void writeDiscount(PromotionTable promotions, CatalogSnapshot snapshot, int row,
+        Set<ProductField> fields, JsonGenerator gen, char[] buffer) throws IOException {
+        long price = snapshot.price(row);
+        Long sellerId = fields.contains(ProductField.USER_ID) ? snapshot.userId(row) : null;
+        PromotionTable.Discount discount = promotions.apply(snapshot.id(row), sellerId, price);
+        if (discount == null) {
+            return;
+        }
+        if (discount.price().minorUnits() != price) {
+            gen.writeFieldName("discountedPrice");
+            MoneyJsonSerializer.writeMinorUnits(discount.price().minorUnits(), gen, buffer);
+        }
+        if (discount.freeShipping() && fields.contains(ProductField.SHIPPING_FEE) && snapshot.shippingFee(row) != 0) {
+            gen.writeFieldName("discountedShippingFee");
+            MoneyJsonSerializer.writeMinorUnits(0, gen, buffer);
+        }
+    }
+
+    /**
+     * epoch 마이크로초를 ISO_LOCAL_DATE_TIME 형식(소수 초는 뒤의 0 생략)으로 쓰고 길이를 반환
+     */
+    static int formatDateTime(long epochMicros, char[] buffer) {
+        long epochSecond = Math.floorDiv(epochMicros, 1_000_000L);
+        int micros = (int) Math.floorMod(epochMicros, 1_000_000L);
+        long epochDay = Math.floorDiv(epochSecond, 86_400L);
+        int secondOfDay = (int) Math.floorMod(epochSecond, 86_400L);
+
+        // 그레고리력 날짜 계산 (civil_from_days)
+        long shifted = epochDay + 719_468;
+        long era = Math.floorDiv(shifted, 146_097);
+        long dayOfEra = shifted - era * 146_097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1_460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long monthIndex = (5 * dayOfYear + 2) / 153;
+        int day = (int) (dayOfYear - (153 * monthIndex + 2) / 5 + 1);
+        int month = (int) (monthIndex < 10 ? monthIndex + 3 : monthIndex - 9);
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+
+        int position = writeDigits(buffer, 0, year, 4);
+        buffer[position++] = '-';
+        position = writeDigits(buffer, position, month, 2);
+        buffer[position++] = '-';
+        position = writeDigits(buffer, position, day, 2);
+        buffer[position++] = 'T';
+        position = writeDigits(buffer, position, secondOfDay / 3_600, 2);
+        buffer[position++] = ':';
+        position = writeDigits(buffer, position, secondOfDay / 60 % 60, 2);
+        buffer[position++] = ':';
+        position = writeDigits(buffer, position, secondOfDay % 60, 2);
+        if (micros > 0) {
+            int digits = 6;
+            while (micros % 10 == 0) {
+                micros /= 10;
+                digits--;
+            }
+            buffer[position++] = '.';
+            position = writeDigits(buffer, position, micros, digits);
+        }
+        return position;
+    }
+
+    /**
+     * 0 이상의 ID를 10진 문자열로 쓰고 길이를 반환
+     */
+    static int formatId(long id, char[] buffer) {
+        int width = 1;
+        for (long rest = id / 10; rest > 0; rest /= 10) {
+            width++;
+        }
+        return writeDigits(buffer, 0, id, width);
+    }
+
+    private static int writeDigits(char[] buffer, int position, long value, int width) {
+        for (int i = width - 1; i >= 0; i--) {
+            buffer[position + i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return position + width;
+    }
+}
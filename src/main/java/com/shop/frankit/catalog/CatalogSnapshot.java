@@ -0,0 +1,380 @@
+package com.shop.frankit.catalog;
+
+import com.shop.frankit.dto.ProductField;
+import com.shop.frankit.entity.Money;
+import com.shop.frankit.event.ProductChangedEvent;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 상품 목록 조회용 불변 컬럼형 스냅샷
+ * - 가격/배송비는 최소 단위(1/100) long, 등록일시는 epoch 마이크로초(UTC 기준 LocalDateTime), 상품명은 사전 코드로 저장
+ * - 정렬 기준별 행 순서(오름차순 int 순열)를 미리 계산해 두고, 내림차순은 역순으로 읽는다.
+ * - 변경은 기존 스냅샷을 수정하지 않고 새 스냅샷을 만들어 반영한다 (copy-on-write).
+ */
+public final class CatalogSnapshot {
+
+    private static final CatalogSort[] SORTS = CatalogSort.values();
+
+    private final int size;
+    private final long[] ids;
+    private final long[] userIds;
+    private final int[] nameCodes;
+    private final long[] prices;
+    private final long[] shippingFees;
+    private final long[] registeredAts;
+    private final NameDictionary dictionary;
+    private final String[] names;
+    private final int[][] orders;
+
+    private CatalogSnapshot(Builder builder, CatalogSnapshot previous, int[] remap, int firstAdded) {
+        this.size = builder.size;
+        this.ids = Arrays.copyOf(builder.ids, size);
+        this.userIds = Arrays.copyOf(builder.userIds, size);
+        this.nameCodes = Arrays.copyOf(builder.nameCodes, size);
+        this.prices = Arrays.copyOf(builder.prices, size);
+        this.shippingFees = Arrays.copyOf(builder.shippingFees, size);
+        this.registeredAts = Arrays.copyOf(builder.registeredAts, size);
+        this.dictionary = builder.dictionary;
+        this.names = dictionary.names();
+        this.orders = new int[SORTS.length][];
+        for (CatalogSort sort : SORTS) {
+            RowComparator comparator = comparator(sort);
+            orders[sort.ordinal()] = previous == null
+                ? sortedRows(0, size, comparator)
+                : mergeOrder(previous.orders[sort.ordinal()], remap, firstAdded, comparator);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder(new NameDictionary(), 1024);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 상품 변경 이벤트를 반영한 새 스냅샷 생성
+     * 유지되는 행의 순서는 그대로 두고, 추가/수정된 행만 정렬해서 기존 순열과 병합한다.
+     */
+    public CatalogSnapshot apply(List<ProductChangedEvent> changes) {
+        // 같은 상품의 변경은 마지막 것만 반영
+        Map<Long, ProductChangedEvent> latest = new LinkedHashMap<>();
+        for (ProductChangedEvent change : changes) {
+            latest.put(change.getProductId(), change);
+        }
+
+        boolean[] removed = new boolean[size];
+        int removedCount = 0;
+        List<ProductChangedEvent> saved = new ArrayList<>(latest.size());
+        for (ProductChangedEvent change : latest.values()) {
+            int row = rowOf(change.getProductId());
+            if (row >= 0) {
+                removed[row] = true;
+                removedCount++;
+            }
+            if (!change.isDeleted()) {
+                saved.add(change);
+            }
+        }
+
+        Builder builder = new Builder(dictionary, size - removedCount + saved.size());
+        int[] remap = new int[size];
+        for (int row = 0; row < size; row++) {
+            remap[row] = removed[row] ? -1 : builder.copyRow(this, row);
+        }
+        int firstAdded = builder.size;
+        for (ProductChangedEvent change : saved) {
+            builder.add(change.getProductId(), change.getUserId(), change.getName(),
+                change.getPrice(), change.getShippingFee(), change.getRegisteredAt());
+        }
+        return new CatalogSnapshot(builder, this, remap, firstAdded);
+    }
+
+    /**
+     * 한 페이지 조회, 결과 행 번호만 담고 상품 값은 직렬화 시점에 컬럼에서 바로 읽는다
+     * minPrice, maxPrice는 최소 단위이며 경계값을 포함한다.
+     */
+    public CatalogPage page(CatalogSort sort, Sort.Direction direction, long minPrice, long maxPrice,
+        Pageable pageable, Set<ProductField> fields) {
+        int[] order = orders[sort.ordinal()];
+        boolean ascending = direction.isAscending();
+        boolean filtered = minPrice != Long.MIN_VALUE || maxPrice != Long.MAX_VALUE;
+        long offset = pageable.getOffset();
+        int[] rows = new int[pageable.getPageSize()];
+        int count = 0;
+
+        if (!filtered || sort == CatalogSort.PRICE) {
+            // 가격 순열에서는 가격 범위가 연속 구간이므로 이진 탐색으로 범위만 자름
+            int from = filtered ? lowerBound(order, minPrice) : 0;
+            int to = filtered ? Math.max(from, upperBound(order, maxPrice)) : size;
+            long total = to - from;
+            for (long position = offset; position < total && count < rows.length; position++) {
+                rows[count++] = order[ascending ? from + (int) position : to - 1 - (int) position];
+            }
+            return new CatalogPage(this, rows, count, pageable, total, fields);
+        }
+
+        long total = 0;
+        for (int position = 0; position < size; position++) {
+            int row = order[ascending ? position : size - 1 - position];
+            if (prices[row] < minPrice || prices[row] > maxPrice) {
+                continue;
+            }
+            if (total >= offset && count < rows.length) {
+                rows[count++] = row;
+            }
+            total++;
+        }
+        return new CatalogPage(this, rows, count, pageable, total, fields);
+    }
+
+    long id(int row) {
+        return ids[row];
+    }
+
+    long userId(int row) {
+        return userIds[row];
+    }
+
+    String name(int row) {
+        return names[nameCodes[row]];
+    }
+
+    long price(int row) {
+        return prices[row];
+    }
+
+    long shippingFee(int row) {
+        return shippingFees[row];
+    }
+
+    long registeredAt(int row) {
+        return registeredAts[row];
+    }
+
+    static long toMinor(BigDecimal value, RoundingMode roundingMode) {
+        return Money.of(value, roundingMode).minorUnits();
+    }
+
+    static long toEpochMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+
+    /**
+     * ID 순열에서 이진 탐색, 없으면 -1
+     */
+    private int rowOf(long id) {
+        int[] order = orders[CatalogSort.ID.ordinal()];
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midId = ids[order[mid]];
+            if (midId < id) {
+                low = mid + 1;
+            } else if (midId > id) {
+                high = mid - 1;
+            } else {
+                return order[mid];
+            }
+        }
+        return -1;
+    }
+
+    // 가격이 minPrice 이상인 첫 위치
+    private int lowerBound(int[] order, long minPrice) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (prices[order[mid]] < minPrice) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // 가격이 maxPrice를 넘는 첫 위치
+    private int upperBound(int[] order, long maxPrice) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (prices[order[mid]] <= maxPrice) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 정렬 기준 비교, 같으면 ID 순
+     */
+    private RowComparator comparator(CatalogSort sort) {
+        RowComparator byId = (a, b) -> Long.compare(ids[a], ids[b]);
+        return switch (sort) {
+            case ID -> byId;
+            case NAME -> (a, b) -> {
+                int result = names[nameCodes[a]].compareTo(names[nameCodes[b]]);
+                return result != 0 ? result : byId.compare(a, b);
+            };
+            case PRICE -> thenById(prices, byId);
+            case SHIPPING_FEE -> thenById(shippingFees, byId);
+            case REGISTERED_AT -> thenById(registeredAts, byId);
+        };
+    }
+
+    private static RowComparator thenById(long[] column, RowComparator byId) {
+        return (a, b) -> {
+            int result = Long.compare(column[a], column[b]);
+            return result != 0 ? result : byId.compare(a, b);
+        };
+    }
+
+    /**
+     * 이전 순열에서 삭제된 행을 빼고 새 행 번호로 바꾼 뒤, 정렬된 추가 행과 병합
+     */
+    private int[] mergeOrder(int[] previousOrder, int[] remap, int firstAdded, RowComparator comparator) {
+        int[] added = sortedRows(firstAdded, size, comparator);
+        int[] result = new int[size];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < previousOrder.length || j < added.length) {
+            if (i < previousOrder.length && remap[previousOrder[i]] < 0) {
+                i++;
+            } else if (j == added.length
+                || (i < previousOrder.length && comparator.compare(remap[previousOrder[i]], added[j]) <= 0)) {
+                result[k++] = remap[previousOrder[i++]];
+            } else {
+                result[k++] = added[j++];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * [from, to) 범위 행 번호를 정렬한 배열 (bottom-up 병합 정렬, 박싱 없음)
+     */
+    private static int[] sortedRows(int from, int to, RowComparator comparator) {
+        int length = to - from;
+        int[] source = new int[length];
+        for (int i = 0; i < length; i++) {
+            source[i] = from + i;
+        }
+        int[] target = new int[length];
+        int[] rows = source;
+        for (int width = 1; width < length; width <<= 1) {
+            for (int low = 0; low < length; low += width << 1) {
+                int mid = Math.min(low + width, length);
+                int high = Math.min(low + (width << 1), length);
+                int i = low;
+                int j = mid;
+                int k = low;
+                while (i < mid && j < high) {
+                    target[k++] = comparator.compare(source[i], source[j]) <= 0 ? source[i++] : source[j++];
+                }
+                while (i < mid) {
+                    target[k++] = source[i++];
+                }
+                while (j < high) {
+                    target[k++] = source[j++];
+                }
+            }
+            int[] swap = source;
+            source = target;
+            target = swap;
+        }
+        if (source != rows) {
+            System.arraycopy(source, 0, rows, 0, length);
+        }
+        return rows;
+    }
+
+    @FunctionalInterface
+    private interface RowComparator {
+        int compare(int leftRow, int rightRow);
+    }
+
+    /**
+     * 스냅샷 컬럼을 채우는 빌더 (전체 적재 및 변경 반영에 사용)
+     */
+    public static final class Builder {
+
+        private final NameDictionary dictionary;
+        private int size;
+        private long[] ids;
+        private long[] userIds;
+        private int[] nameCodes;
+        private long[] prices;
+        private long[] shippingFees;
+        private long[] registeredAts;
+
+        private Builder(NameDictionary dictionary, int capacity) {
+            this.dictionary = dictionary;
+            int initial = Math.max(capacity, 1);
+            this.ids = new long[initial];
+            this.userIds = new long[initial];
+            this.nameCodes = new int[initial];
+            this.prices = new long[initial];
+            this.shippingFees = new long[initial];
+            this.registeredAts = new long[initial];
+        }
+
+        public Builder add(Long id, Long userId, String name, Money price, Money shippingFee,
+            LocalDateTime registeredAt) {
+            int row = nextRow();
+            ids[row] = id;
+            userIds[row] = userId;
+            nameCodes[row] = dictionary.encode(name);
+            prices[row] = price.minorUnits();
+            shippingFees[row] = shippingFee.minorUnits();
+            registeredAts[row] = toEpochMicros(registeredAt);
+            return this;
+        }
+
+        public CatalogSnapshot build() {
+            return new CatalogSnapshot(this, null, null, 0);
+        }
+
+        private int copyRow(CatalogSnapshot source, int sourceRow) {
+            int row = nextRow();
+            ids[row] = source.ids[sourceRow];
+            userIds[row] = source.userIds[sourceRow];
+            nameCodes[row] = source.nameCodes[sourceRow];
+            prices[row] = source.prices[sourceRow];
+            shippingFees[row] = source.shippingFees[sourceRow];
+            registeredAts[row] = source.registeredAts[sourceRow];
+            return row;
+        }
+
+        private int nextRow() {
+            if (size == ids.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                userIds = Arrays.copyOf(userIds, capacity);
+                nameCodes = Arrays.copyOf(nameCodes, capacity);
+                prices = Arrays.copyOf(prices, capacity);
+                shippingFees = Arrays.copyOf(shippingFees, capacity);
+                registeredAts = Arrays.copyOf(registeredAts, capacity);
+            }
+            return size++;
+        }
+    }
+}
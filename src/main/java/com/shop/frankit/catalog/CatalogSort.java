@@ -0,0 +1,34 @@
+package com.shop.frankit.catalog;
+
+/**
+ * 메모리 카탈로그가 미리 계산해 두는 정렬 기준
+ */
+public enum CatalogSort {
+    ID("id"),
+    NAME("name"),
+    PRICE("price"),
+    SHIPPING_FEE("shippingFee"),
+    REGISTERED_AT("registeredAt");
+
+    private final String property;
+
+    CatalogSort(String property) {
+        this.property = property;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    /**
+     * 정렬 속성 이름으로 조회, 지원하지 않는 속성이면 null
+     */
+    public static CatalogSort from(String property) {
+        for (CatalogSort sort : values()) {
+            if (sort.property.equals(property)) {
+                return sort;
+            }
+        }
+        return null;
+    }
+}
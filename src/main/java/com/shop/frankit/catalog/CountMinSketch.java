@@ -0,0 +1,77 @@
+package com.shop.frankit.catalog;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * long 키용 Count-Min 스케치, 키 개수와 무관하게 depth x width개의 카운터만 사용한다
+ * - 추정값은 실제 횟수 이상이며, 다른 키와의 충돌만큼 크게 나올 수 있다.
+ * - decay로 모든 카운터를 절반으로 줄여 오래된 조회의 비중을 낮춘다.
+ */
+final class CountMinSketch {
+
+    private final AtomicLongArray counters;
+    private final int depth;
+    private final int widthMask;
+
+    CountMinSketch(int width, int depth) {
+        if (width < 1 || depth < 1 || depth > 16) {
+            throw new IllegalArgumentException("Count-Min 스케치 크기가 올바르지 않습니다: " + width + " x " + depth);
+        }
+        int roundedWidth = Integer.highestOneBit(Math.max(1, width - 1)) << 1;
+        this.counters = new AtomicLongArray(roundedWidth * depth);
+        this.depth = depth;
+        this.widthMask = roundedWidth - 1;
+    }
+
+    /**
+     * 키의 횟수를 1 늘리고, 늘린 뒤의 추정값 반환
+     */
+    long increment(long key) {
+        long h1 = mix(key);
+        long h2 = Long.rotateLeft(h1, 32) | 1;
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.incrementAndGet(index(row, h1, h2)));
+        }
+        return estimate;
+    }
+
+    long estimate(long key) {
+        long h1 = mix(key);
+        long h2 = Long.rotateLeft(h1, 32) | 1;
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.get(index(row, h1, h2)));
+        }
+        return estimate;
+    }
+
+    /**
+     * 모든 카운터를 절반으로 (동시에 증가된 값은 잃지 않음)
+     */
+    void decay() {
+        for (int i = 0; i < counters.length(); i++) {
+            if (counters.get(i) != 0) {
+                counters.getAndUpdate(i, count -> count >>> 1);
+            }
+        }
+    }
+
+    long sizeInBytes() {
+        return (long) counters.length() * Long.BYTES;
+    }
+
+    private int index(int row, long h1, long h2) {
+        return row * (widthMask + 1) + (int) ((h1 + row * h2) & widthMask);
+    }
+
+    // 연속된 ID도 고르게 퍼지도록 섞음 (murmur3 fmix64)
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return key;
+    }
+}
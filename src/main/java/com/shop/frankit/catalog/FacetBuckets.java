@@ -0,0 +1,81 @@
+package com.shop.frankit.catalog;
+
+import com.shop.frankit.entity.Money;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+/**
+ * 금액 패싯 구간 정의, 각 구간은 [lower, upper) (최소 단위)
+ * separateFree이면 0원을 "free" 구간으로 따로 둔다.
+ */
+final class FacetBuckets {
+
+    static final String FREE = "free";
+
+    private final long[] lower;
+    private final long[] upper;
+    private final String[] keys;
+
+    FacetBuckets(List<BigDecimal> bounds, boolean separateFree) {
+        long[] sorted = bounds.stream()
+            .mapToLong(bound -> CatalogSnapshot.toMinor(bound, RoundingMode.HALF_UP))
+            .sorted()
+            .distinct()
+            .toArray();
+        int offset = separateFree ? 1 : 0;
+        int count = sorted.length + 1 + offset;
+        this.lower = new long[count];
+        this.upper = new long[count];
+        this.keys = new String[count];
+
+        if (separateFree) {
+            lower[0] = 0;
+            upper[0] = 1;
+            keys[0] = FREE;
+        }
+        for (int i = 0; i <= sorted.length; i++) {
+            int bucket = i + offset;
+            lower[bucket] = i == 0 ? (separateFree ? 1 : Long.MIN_VALUE) : sorted[i - 1];
+            upper[bucket] = i == sorted.length ? Long.MAX_VALUE : sorted[i];
+            keys[bucket] = (i == 0 ? "0" : format(sorted[i - 1])) + "-" + (i == sorted.length ? "" : format(sorted[i]));
+        }
+    }
+
+    int count() {
+        return keys.length;
+    }
+
+    /**
+     * 금액이 속한 구간 번호 (구간 시작값 이하인 마지막 구간)
+     */
+    int bucketOf(long minor) {
+        int low = 0;
+        int high = lower.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (lower[mid] <= minor) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    long lower(int bucket) {
+        return lower[bucket];
+    }
+
+    long upper(int bucket) {
+        return upper[bucket];
+    }
+
+    String key(int bucket) {
+        return keys[bucket];
+    }
+
+    private static String format(long minor) {
+        return BigDecimal.valueOf(minor, Money.SCALE).stripTrailingZeros().toPlainString();
+    }
+}
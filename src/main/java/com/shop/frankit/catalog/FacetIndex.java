@@ -0,0 +1,206 @@
+package com.shop.frankit.catalog;
+
+import com.shop.frankit.dto.FacetCount;
+import com.shop.frankit.event.ProductChangedEvent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.roaringbitmap.RoaringBitmap;
+
+/**
+ * 가격 구간, 배송비 구간, 판매자별 압축 비트맵으로 구성한 패싯 인덱스
+ * - 상품마다 문서 번호(int)를 부여하고 비트맵에는 문서 번호를 저장한다.
+ * - 문서 번호는 재사용하지 않으며, 전체 재적재 시 상품 ID 순으로 다시 부여된다.
+ * - 스레드 안전하지 않으므로 ProductFacetIndex가 락으로 보호한다.
+ */
+final class FacetIndex {
+
+    private static final RoaringBitmap EMPTY = new RoaringBitmap();
+
+    private final FacetBuckets priceBuckets;
+    private final FacetBuckets shippingFeeBuckets;
+    private final RoaringBitmap[] byPrice;
+    private final RoaringBitmap[] byShippingFee;
+    private final Map<Long, RoaringBitmap> bySeller = new HashMap<>();
+    private final RoaringBitmap live = new RoaringBitmap();
+    private final Map<Long, Integer> docs = new HashMap<>();
+
+    private long[] productIds = new long[1024];
+    private long[] sellerIds = new long[1024];
+    private long[] prices = new long[1024];
+    private long[] shippingFees = new long[1024];
+    private int nextDoc;
+
+    FacetIndex(FacetBuckets priceBuckets, FacetBuckets shippingFeeBuckets) {
+        this.priceBuckets = priceBuckets;
+        this.shippingFeeBuckets = shippingFeeBuckets;
+        this.byPrice = newBitmaps(priceBuckets.count());
+        this.byShippingFee = newBitmaps(shippingFeeBuckets.count());
+    }
+
+    int size() {
+        return live.getCardinality();
+    }
+
+    void apply(ProductChangedEvent event) {
+        if (event.isDeleted()) {
+            remove(event.getProductId());
+        } else {
+            upsert(event.getProductId(), event.getUserId(),
+                event.getPrice().minorUnits(), event.getShippingFee().minorUnits());
+        }
+    }
+
+    /**
+     * 상품 추가 또는 변경, 기존 상품이면 이전 값의 비트를 지우고 새 값으로 설정
+     */
+    void upsert(long productId, long sellerId, long price, long shippingFee) {
+        Integer existing = docs.get(productId);
+        int doc;
+        if (existing != null) {
+            doc = existing;
+            clear(doc);
+        } else {
+            doc = allocate(productId);
+        }
+        sellerIds[doc] = sellerId;
+        prices[doc] = price;
+        shippingFees[doc] = shippingFee;
+        byPrice[priceBuckets.bucketOf(price)].add(doc);
+        byShippingFee[shippingFeeBuckets.bucketOf(shippingFee)].add(doc);
+        bySeller.computeIfAbsent(sellerId, id -> new RoaringBitmap()).add(doc);
+        live.add(doc);
+    }
+
+    void remove(long productId) {
+        Integer doc = docs.remove(productId);
+        if (doc != null) {
+            clear(doc);
+            live.remove(doc);
+        }
+    }
+
+    /**
+     * 조건 비트맵의 교집합으로 결과를 구하고, 패싯별 개수는 비트맵 교집합 크기로 계산
+     * minPrice, maxPrice는 최소 단위이며 경계값을 포함한다.
+     */
+    FacetResult search(long minPrice, long maxPrice, boolean freeShipping, Collection<Long> sellers,
+        long offset, int limit) {
+        RoaringBitmap priceFilter = minPrice != Long.MIN_VALUE || maxPrice != Long.MAX_VALUE
+            ? priceRange(minPrice, maxPrice) : null;
+        RoaringBitmap shippingFeeFilter = freeShipping ? byShippingFee[shippingFeeBuckets.bucketOf(0)] : null;
+        RoaringBitmap sellerFilter = sellers == null || sellers.isEmpty() ? null : sellerUnion(sellers);
+
+        RoaringBitmap matched = intersect(priceFilter, shippingFeeFilter, sellerFilter);
+        int total = matched.getCardinality();
+        List<Long> ids = new ArrayList<>(limit);
+        for (long position = offset; position < total && ids.size() < limit; position++) {
+            ids.add(productIds[matched.select((int) position)]);
+        }
+
+        // 각 패싯의 개수에는 자기 자신을 제외한 나머지 조건만 적용
+        RoaringBitmap withoutPrice = intersect(null, shippingFeeFilter, sellerFilter);
+        RoaringBitmap withoutShippingFee = intersect(priceFilter, null, sellerFilter);
+        RoaringBitmap withoutSeller = intersect(priceFilter, shippingFeeFilter, null);
+
+        List<FacetCount> sellerCounts = new ArrayList<>();
+        if (sellerFilter != null) {
+            for (Long sellerId : sellers) {
+                sellerCounts.add(new FacetCount(String.valueOf(sellerId),
+                    RoaringBitmap.andCardinality(bySeller.getOrDefault(sellerId, EMPTY), withoutSeller)));
+            }
+        }
+        return new FacetResult(ids, total,
+            counts(priceBuckets, byPrice, withoutPrice),
+            counts(shippingFeeBuckets, byShippingFee, withoutShippingFee),
+            sellerCounts);
+    }
+
+    /**
+     * 가격 범위에 해당하는 문서, 범위에 완전히 포함된 구간은 비트맵을 그대로 합치고
+     * 경계에 걸친 구간만 문서별 가격을 확인한다
+     */
+    private RoaringBitmap priceRange(long minPrice, long maxPrice) {
+        RoaringBitmap result = new RoaringBitmap();
+        for (int bucket = 0; bucket < priceBuckets.count(); bucket++) {
+            long lower = priceBuckets.lower(bucket);
+            long upper = priceBuckets.upper(bucket);
+            if (upper <= minPrice || lower > maxPrice) {
+                continue;
+            }
+            if (lower >= minPrice && upper - 1 <= maxPrice) {
+                result.or(byPrice[bucket]);
+            } else {
+                byPrice[bucket].forEach((int doc) -> {
+                    if (prices[doc] >= minPrice && prices[doc] <= maxPrice) {
+                        result.add(doc);
+                    }
+                });
+            }
+        }
+        return result;
+    }
+
+    private RoaringBitmap sellerUnion(Collection<Long> sellers) {
+        RoaringBitmap result = new RoaringBitmap();
+        for (Long sellerId : sellers) {
+            result.or(bySeller.getOrDefault(sellerId, EMPTY));
+        }
+        return result;
+    }
+
+    private RoaringBitmap intersect(RoaringBitmap... filters) {
+        RoaringBitmap result = live;
+        for (RoaringBitmap filter : filters) {
+            if (filter != null) {
+                result = RoaringBitmap.and(result, filter);
+            }
+        }
+        return result;
+    }
+
+    private static List<FacetCount> counts(FacetBuckets buckets, RoaringBitmap[] bitmaps, RoaringBitmap base) {
+        List<FacetCount> counts = new ArrayList<>(buckets.count());
+        for (int bucket = 0; bucket < buckets.count(); bucket++) {
+            counts.add(new FacetCount(buckets.key(bucket), RoaringBitmap.andCardinality(bitmaps[bucket], base)));
+        }
+        return counts;
+    }
+
+    private void clear(int doc) {
+        byPrice[priceBuckets.bucketOf(prices[doc])].remove(doc);
+        byShippingFee[shippingFeeBuckets.bucketOf(shippingFees[doc])].remove(doc);
+        RoaringBitmap seller = bySeller.get(sellerIds[doc]);
+        if (seller != null) {
+            seller.remove(doc);
+            if (seller.isEmpty()) {
+                bySeller.remove(sellerIds[doc]);
+            }
+        }
+    }
+
+    private int allocate(long productId) {
+        int doc = nextDoc++;
+        if (doc == productIds.length) {
+            int capacity = doc * 2;
+            productIds = Arrays.copyOf(productIds, capacity);
+            sellerIds = Arrays.copyOf(sellerIds, capacity);
+            prices = Arrays.copyOf(prices, capacity);
+            shippingFees = Arrays.copyOf(shippingFees, capacity);
+        }
+        productIds[doc] = productId;
+        docs.put(productId, doc);
+        return doc;
+    }
+
+    private static RoaringBitmap[] newBitmaps(int count) {
+        RoaringBitmap[] bitmaps = new RoaringBitmap[count];
+        for (int i = 0; i < count; i++) {
+            bitmaps[i] = new RoaringBitmap();
+        }
+        return bitmaps;
+    }
+}
@@ -0,0 +1,19 @@
+package com.shop.frankit.catalog;
+
+import com.shop.frankit.dto.FacetCount;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 패싯 인덱스 검색 결과, 상품 내용은 productIds로 따로 조회한다
+ */
+@Getter
+@AllArgsConstructor
+public class FacetResult {
+    private final List<Long> productIds;
+    private final long total;
+    private final List<FacetCount> priceBuckets;
+    private final List<FacetCount> shippingFeeBuckets;
+    private final List<FacetCount> sellers;
+}
@@ -0,0 +1,30 @@
+package com.shop.frankit.catalog;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Before;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * @HotProductRead 메소드 호출을 상품별로 기록
+ * @Coalesced로 합쳐지는 호출도 각각 세도록 CoalescedAspect보다 바깥에서 실행한다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class HotProductAspect {
+
+    private final HotProductTracker hotProductTracker;
+
+    @Before("@annotation(com.shop.frankit.catalog.HotProductRead)")
+    public void record(JoinPoint joinPoint) {
+        Object[] args = joinPoint.getArgs();
+        if (args.length > 0 && args[0] instanceof Long productId) {
+            hotProductTracker.record(productId);
+        }
+    }
+}
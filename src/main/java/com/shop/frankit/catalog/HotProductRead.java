@@ -0,0 +1,16 @@
+package com.shop.frankit.catalog;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 첫 번째 인자(상품 ID)의 조회 횟수를 HotProductTracker에 기록 (HotProductAspect)
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface HotProductRead {
+}
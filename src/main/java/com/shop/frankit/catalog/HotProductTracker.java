@@ -0,0 +1,138 @@
+package com.shop.frankit.catalog;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 자주 조회되는 상품(핫셋) 탐지 (app.catalog.hot-products.enabled=true 일 때만 동작)
+ * - @HotProductRead 메소드의 조회를 고정 크기 Count-Min 스케치로 세고, 추정값이 min-count 이상인 상위 size개를 핫셋으로 유지한다.
+ * - decay-interval마다 스케치를 절반으로 줄여서, 시간대별로 바뀌는 인기 상품을 따라간다.
+ * - 핫셋 상품의 응답은 ProductJsonCache의 고정 영역에 남아 LRU 교체로 밀려나지 않는다.
+ */
+@Slf4j
+@Component
+public class HotProductTracker {
+
+    private final boolean enabled;
+    private final int capacity;
+    private final long minCount;
+    private final CountMinSketch sketch;
+    private final Map<Long, Long> hot = new ConcurrentHashMap<>();
+
+    // 핫셋이 가득 찼을 때 새 상품이 들어오기 위해 넘어야 하는 추정값 (핫셋의 최솟값)
+    private volatile long floor;
+
+    public HotProductTracker(MeterRegistry meterRegistry,
+        @Value("${app.catalog.hot-products.enabled:false}") boolean enabled,
+        @Value("${app.catalog.hot-products.size:256}") int capacity,
+        @Value("${app.catalog.hot-products.min-count:50}") long minCount,
+        @Value("${app.catalog.hot-products.sketch-width:16384}") int sketchWidth,
+        @Value("${app.catalog.hot-products.sketch-depth:4}") int sketchDepth) {
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.minCount = minCount;
+        this.sketch = new CountMinSketch(sketchWidth, sketchDepth);
+        Gauge.builder("catalog.hot.products", hot, Map::size)
+            .description("현재 핫셋 상품 수")
+            .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public long minCount() {
+        return minCount;
+    }
+
+    public void record(Long productId) {
+        if (!enabled || productId == null) {
+            return;
+        }
+        long estimate = sketch.increment(productId);
+        if (estimate < minCount) {
+            return;
+        }
+        if (hot.replace(productId, estimate) != null) {
+            return;
+        }
+        if (hot.size() < capacity || estimate > floor) {
+            admit(productId, estimate);
+        }
+    }
+
+    public boolean isHot(Long productId) {
+        return productId != null && hot.containsKey(productId);
+    }
+
+    /**
+     * 현재 핫셋, 추정 조회 수 내림차순 (운영 확인용)
+     */
+    public List<HotProduct> hotSet() {
+        List<HotProduct> products = new ArrayList<>(hot.size());
+        hot.forEach((id, estimate) -> products.add(new HotProduct(id, estimate)));
+        products.sort((a, b) -> Long.compare(b.estimate(), a.estimate()));
+        return products;
+    }
+
+    public record HotProduct(long productId, long estimate) {
+    }
+
+    /**
+     * 스케치를 절반으로 줄이고, 줄어든 추정값이 min-count 아래로 떨어진 상품은 핫셋에서 뺌
+     */
+    @Scheduled(initialDelayString = "${app.catalog.hot-products.decay-interval:60000}",
+        fixedDelayString = "${app.catalog.hot-products.decay-interval:60000}")
+    public synchronized void decay() {
+        if (!enabled) {
+            return;
+        }
+        sketch.decay();
+        int before = hot.size();
+        hot.replaceAll((id, estimate) -> sketch.estimate(id));
+        hot.values().removeIf(estimate -> estimate < minCount);
+        floor = lowest();
+        log.debug("Hot product set decayed: {} -> {} products", before, hot.size());
+    }
+
+    // 핫셋이 가득 찼으면 가장 낮은 상품과 교체
+    private synchronized void admit(long productId, long estimate) {
+        if (hot.size() >= capacity) {
+            Long coldest = null;
+            long lowest = Long.MAX_VALUE;
+            for (Map.Entry<Long, Long> entry : hot.entrySet()) {
+                if (entry.getValue() < lowest) {
+                    lowest = entry.getValue();
+                    coldest = entry.getKey();
+                }
+            }
+            if (coldest == null || lowest >= estimate) {
+                floor = lowest;
+                return;
+            }
+            hot.remove(coldest);
+        }
+        hot.put(productId, estimate);
+        floor = hot.size() < capacity ? 0 : lowest();
+    }
+
+    private long lowest() {
+        long lowest = Long.MAX_VALUE;
+        for (long estimate : hot.values()) {
+            lowest = Math.min(lowest, estimate);
+        }
+        return lowest == Long.MAX_VALUE ? 0 : lowest;
+    }
+}
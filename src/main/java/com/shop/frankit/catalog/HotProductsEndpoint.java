@@ -0,0 +1,29 @@
+package com.shop.frankit.catalog;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 현재 핫셋 조회 (GET /actuator/hotproducts)
+ */
+@Component
+@Endpoint(id = "hotproducts")
+@RequiredArgsConstructor
+public class HotProductsEndpoint {
+
+    private final HotProductTracker hotProductTracker;
+
+    @ReadOperation
+    public Map<String, Object> hotProducts() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", hotProductTracker.isEnabled());
+        result.put("capacity", hotProductTracker.capacity());
+        result.put("minCount", hotProductTracker.minCount());
+        result.put("products", hotProductTracker.hotSet());
+        return result;
+    }
+}
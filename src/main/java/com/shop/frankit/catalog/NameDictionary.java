@@ -0,0 +1,38 @@
+package com.shop.frankit.catalog;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 스냅샷 사이에 공유하는 추가 전용 상품명 사전
+ * 코드 부여(encode)는 스냅샷을 만드는 쓰기 스레드에서만 호출한다.
+ * 이미 부여된 코드의 이름은 바뀌지 않으므로 이전 스냅샷은 계속 같은 배열을 읽을 수 있다.
+ */
+final class NameDictionary {
+
+    private final Map<String, Integer> codes = new HashMap<>();
+    private String[] names = new String[64];
+    private int size;
+
+    int encode(String name) {
+        Integer code = codes.get(name);
+        if (code != null) {
+            return code;
+        }
+        if (size == names.length) {
+            names = Arrays.copyOf(names, size * 2);
+        }
+        names[size] = name;
+        codes.put(name, size);
+        return size++;
+    }
+
+    String[] names() {
+        return names;
+    }
+
+    int size() {
+        return size;
+    }
+}
@@ -0,0 +1,33 @@
+package com.shop.frankit.catalog;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+/**
+ * 오프힙 메모리에 있는 직렬화 완료된 JSON 응답 본문 (gzip 압축본일 수 있음)
+ * OffHeapJsonHttpMessageConverter가 응답 스트림에 그대로 쓴다.
+ */
+public record OffHeapJson(MemorySegment segment, boolean gzipped) {
+
+    private static final int CHUNK_SIZE = 8192;
+    private static final ThreadLocal<byte[]> CHUNK = ThreadLocal.withInitial(() -> new byte[CHUNK_SIZE]);
+
+    public long length() {
+        return segment.byteSize();
+    }
+
+    /**
+     * 세그먼트 내용을 스레드별 버퍼를 거쳐 스트림에 복사
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        byte[] chunk = CHUNK.get();
+        long size = segment.byteSize();
+        for (long offset = 0; offset < size; offset += CHUNK_SIZE) {
+            int length = (int) Math.min(CHUNK_SIZE, size - offset);
+            MemorySegment.copy(segment, ValueLayout.JAVA_BYTE, offset, chunk, 0, length);
+            out.write(chunk, 0, length);
+        }
+    }
+}
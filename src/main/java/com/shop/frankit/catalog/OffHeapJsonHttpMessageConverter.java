@@ -0,0 +1,45 @@
+package com.shop.frankit.catalog;
+
+import java.io.IOException;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 오프힙 JSON 본문을 매핑/직렬화 없이 응답 스트림에 그대로 쓰는 컨버터 (쓰기 전용)
+ */
+@Component
+public class OffHeapJsonHttpMessageConverter extends AbstractHttpMessageConverter<OffHeapJson> {
+
+    public OffHeapJsonHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return OffHeapJson.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Long getContentLength(OffHeapJson body, MediaType contentType) {
+        return body.length();
+    }
+
+    @Override
+    protected OffHeapJson readInternal(Class<? extends OffHeapJson> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("OffHeapJson은 읽기를 지원하지 않습니다.", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(OffHeapJson body, HttpOutputMessage outputMessage) throws IOException {
+        body.writeTo(outputMessage.getBody());
+    }
+}
@@ -0,0 +1,120 @@
+package com.shop.frankit.catalog;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 시간 구간별 조회 수로 만든 슬라이딩 윈도우 인기 상품 순위
+ * - 현재 구간은 상품별 LongAdder로 세고, 구간이 끝나면 상위 candidates개만 남긴 요약으로 바꾼다.
+ * - 순위는 윈도우 안의 요약과 현재 구간을 합산해서 계산하므로, 구간별 상위에 못 든 조회는 빠진 근사값(하한)이다.
+ */
+class PopularityWindow {
+
+    private final long bucketMillis;
+    private final int bucketCount;
+    private final int candidates;
+    private final Deque<Summary> closed = new ArrayDeque<>();
+
+    private volatile Bucket current;
+
+    private record Bucket(long start, Map<Long, LongAdder> counts) {
+    }
+
+    private record Summary(long start, long[] ids, long[] counts) {
+    }
+
+    PopularityWindow(long bucketMillis, int bucketCount, int candidates, long now) {
+        if (bucketMillis <= 0 || bucketCount < 1 || candidates < 1) {
+            throw new IllegalArgumentException("인기 상품 윈도우 설정이 올바르지 않습니다.");
+        }
+        this.bucketMillis = bucketMillis;
+        this.bucketCount = bucketCount;
+        this.candidates = candidates;
+        this.current = new Bucket(bucketStart(now), new ConcurrentHashMap<>());
+    }
+
+    void record(long productId, long now) {
+        Bucket bucket = current;
+        if (now >= bucket.start() + bucketMillis) {
+            bucket = rotate(now);
+        }
+        bucket.counts().computeIfAbsent(productId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * 윈도우(now 기준 최근 bucketCount개 구간) 안의 조회 수 상위 limit개, 조회 수 내림차순
+     */
+    List<long[]> top(int limit, long now) {
+        Bucket bucket = rotate(now);
+        Map<Long, Long> totals = new HashMap<>();
+        synchronized (this) {
+            for (Summary summary : closed) {
+                for (int i = 0; i < summary.ids().length; i++) {
+                    totals.merge(summary.ids()[i], summary.counts()[i], Long::sum);
+                }
+            }
+        }
+        bucket.counts().forEach((id, count) -> totals.merge(id, count.sum(), Long::sum));
+
+        List<long[]> ranked = new ArrayList<>(totals.size());
+        totals.forEach((id, count) -> ranked.add(new long[]{id, count}));
+        ranked.sort((a, b) -> a[1] != b[1] ? Long.compare(b[1], a[1]) : Long.compare(a[0], b[0]));
+        return ranked.size() > limit ? new ArrayList<>(ranked.subList(0, limit)) : ranked;
+    }
+
+    /**
+     * 지난 구간을 요약으로 바꾸고 윈도우를 벗어난 요약은 버림
+     * 교체 직전에 옛 구간을 읽은 스레드의 증가분은 요약에서 빠질 수 있다.
+     */
+    private synchronized Bucket rotate(long now) {
+        Bucket bucket = current;
+        long start = bucketStart(now);
+        if (start > bucket.start()) {
+            closed.addLast(summarize(bucket));
+            current = bucket = new Bucket(start, new ConcurrentHashMap<>());
+        }
+        long oldest = start - (bucketCount - 1) * bucketMillis;
+        while (!closed.isEmpty() && closed.peekFirst().start() < oldest) {
+            closed.removeFirst();
+        }
+        return bucket;
+    }
+
+    private Summary summarize(Bucket bucket) {
+        int size = bucket.counts().size();
+        long[] ids = new long[size];
+        long[] counts = new long[size];
+        Integer[] rows = new Integer[size];
+        int n = 0;
+        for (Map.Entry<Long, LongAdder> entry : bucket.counts().entrySet()) {
+            if (n == size) {
+                break;
+            }
+            ids[n] = entry.getKey();
+            counts[n] = entry.getValue().sum();
+            rows[n] = n;
+            n++;
+        }
+        Integer[] order = Arrays.copyOf(rows, n);
+        Arrays.sort(order, (a, b) -> Long.compare(counts[b], counts[a]));
+        int kept = Math.min(n, candidates);
+        long[] topIds = new long[kept];
+        long[] topCounts = new long[kept];
+        for (int i = 0; i < kept; i++) {
+            topIds[i] = ids[order[i]];
+            topCounts[i] = counts[order[i]];
+        }
+        return new Summary(bucket.start(), topIds, topCounts);
+    }
+
+    private long bucketStart(long now) {
+        return now - Math.floorMod(now, bucketMillis);
+    }
+}
@@ -0,0 +1,102 @@
+package com.shop.frankit.catalog;
+
+import com.shop.frankit.entity.Money;
+import com.shop.frankit.entity.Product;
+import com.shop.frankit.entity.ProductOption;
+import com.shop.frankit.exception.InvalidRequestException;
+import com.shop.frankit.promotion.PromotionTable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품 가격 계산표, 불변 (견적 계산에 DB 조회가 필요 없도록 상품과 옵션에서 미리 계산)
+ * - 단가 = 상품 가격 + SELECT 옵션 추가 금액 합계 + 입력한 INPUT 옵션의 추가 금액
+ * - 합계 = 단가 x 수량 + 배송비 (배송비는 주문 줄마다 한 번)
+ * - SELECT 옵션은 모두 선택해야 하고, INPUT 옵션은 내용을 입력한 경우에만 추가 금액을 더한다.
+ * - 할인은 견적 시점의 할인 조회표로 상품 가격에 적용한다. (상품 응답의 discountedPrice와 같은 규칙, 옵션 추가 금액은 할인하지 않음)
+ */
+public final class PricingTable {
+
+    private final Long productId;
+    private final Long sellerId;
+    private final Money price;
+    private final Money shippingFee;
+    private final VariantMatrix variants;
+    private final Money selectedUnitPrice;  // 상품 가격 + SELECT 옵션 추가 금액
+    private final Map<Long, Money> inputPrices;  // INPUT 옵션 ID별 추가 금액
+
+    /**
+     * 견적, unitPrice와 shippingFee는 할인 적용 후 금액이고 discount는 상품 가격 할인액 x 수량
+     */
+    public record Quote(int variantIndex, List<String> selectedValues, Money unitPrice, int quantity,
+                        Money subtotal, Money discount, Money shippingFee, Money total) {
+    }
+
+    private PricingTable(Product product, List<ProductOption> options) {
+        this.productId = product.getId();
+        this.sellerId = product.getUser() == null ? null : product.getUser().getId();
+        this.price = product.getPrice();
+        this.shippingFee = product.getShippingFee();
+        this.variants = VariantMatrix.of(productId, options);
+        this.selectedUnitPrice = price.plus(variants.additionalPrice());
+        Map<Long, Money> inputs = new HashMap<>();
+        for (ProductOption option : options) {
+            if (option.getType() == ProductOption.OptionType.INPUT) {
+                inputs.put(option.getId(), option.getAdditionalPrice() == null ? Money.ZERO : option.getAdditionalPrice());
+            }
+        }
+        this.inputPrices = Map.copyOf(inputs);
+    }
+
+    public static PricingTable of(Product product, List<ProductOption> options) {
+        return new PricingTable(product, options);
+    }
+
+    public Long productId() {
+        return productId;
+    }
+
+    public Money price() {
+        return price;
+    }
+
+    public Money shippingFee() {
+        return shippingFee;
+    }
+
+    /**
+     * 선택한 옵션 값과 입력 내용으로 견적 계산, 옵션 수만큼의 조회만 한다
+     * selections: SELECT 옵션 ID별 값, inputs: INPUT 옵션 ID별 입력 내용, promotions: 현재 할인 조회표 (PromotionEngine.table())
+     */
+    public Quote quote(Map<Long, String> selections, Map<Long, String> inputs, int quantity,
+        PromotionTable promotions) {
+        if (quantity < 1) {
+            throw InvalidRequestException.invalidQuantity(quantity);
+        }
+        int variantIndex = variants.resolve(selections);
+        Money unitPrice = selectedUnitPrice;
+        for (Map.Entry<Long, String> input : inputs.entrySet()) {
+            Money inputPrice = inputPrices.get(input.getKey());
+            if (inputPrice == null) {
+                throw InvalidRequestException.invalidVariant("입력 옵션이 아닙니다. 옵션 ID: " + input.getKey());
+            }
+            if (input.getValue() != null && !input.getValue().isBlank()) {
+                unitPrice = unitPrice.plus(inputPrice);
+            }
+        }
+        Money fee = shippingFee;
+        Money unitDiscount = Money.ZERO;
+        PromotionTable.Discount discount = promotions.apply(productId, sellerId, price.minorUnits());
+        if (discount != null) {
+            unitDiscount = price.minus(discount.price());
+            unitPrice = unitPrice.minus(unitDiscount);
+            if (discount.freeShipping()) {
+                fee = Money.ZERO;
+            }
+        }
+        Money subtotal = unitPrice.times(quantity);
+        return new Quote(variantIndex, variants.variant(variantIndex).values(), unitPrice, quantity,
+            subtotal, unitDiscount.times(quantity), fee, subtotal.plus(fee));
+    }
+}
@@ -0,0 +1,51 @@
+package com.shop.frankit.catalog;
+
+import com.shop.frankit.event.ProductChangedEvent;
+import com.shop.frankit.event.ProductOptionsChangedEvent;
+import java.time.Duration;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 상품별 가격 계산표 캐시 (최근 사용된 max-entries개, LRU)
+ * - 상품 가격/배송비 또는 옵션이 바뀌면 커밋 후 바로 무효화하고, 다른 인스턴스의 변경은 time-to-live 후 반영된다.
+ */
+@Slf4j
+@Component
+public class PricingTableCache {
+
+    private final ProductKeyedCache<PricingTable> cache;
+
+    public PricingTableCache(
+        @Value("${app.catalog.pricing.max-entries:10000}") int maxEntries,
+        @Value("${app.catalog.pricing.time-to-live:1m}") Duration timeToLive) {
+        this.cache = new ProductKeyedCache<>(maxEntries, timeToLive);
+    }
+
+    /**
+     * 캐시된 계산표 조회, 없으면 loader로 만들어서 캐시 (loader의 예외는 그대로 전달)
+     */
+    public PricingTable get(Long productId, Supplier<PricingTable> loader) {
+        return cache.get(productId, loader);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOptionsChanged(ProductOptionsChangedEvent event) {
+        invalidate(event.getProductId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProductChanged(ProductChangedEvent event) {
+        invalidate(event.getProductId());
+    }
+
+    private void invalidate(Long productId) {
+        if (cache.invalidate(productId)) {
+            log.debug("Invalidated pricing table of product: {}", productId);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.shop.frankit.catalog;
+
+import com.shop.frankit.datasource.Workload;
+import com.shop.frankit.datasource.WorkloadType;
+import com.shop.frankit.dto.ProductField;
+import com.shop.frankit.entity.Money;
+import com.shop.frankit.event.ProductChangedEvent;
+import com.shop.frankit.promotion.PromotionEngine;
+import com.shop.frankit.shard.ShardRouter;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 상품 목록 조회용 메모리 카탈로그 (app.catalog.enabled=true 일 때만 동작)
+ * - 시작 시 전체 상품을 컬럼형 스냅샷으로 적재하고, 커밋된 상품 변경 이벤트를 모아 새 스냅샷으로 교체한다.
+ * - 다른 인스턴스에서 발생한 변경은 주기적인 전체 재적재(reload-interval)로 반영된다.
+ */
+@Slf4j
+@Component
+@Workload(WorkloadType.CATALOG)
+@RequiredArgsConstructor
+public class ProductCatalog {
+
+    private static final String LOAD_SQL =
+        "SELECT id, user_id, name, price, shipping_fee, registered_at FROM products";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardRouter shardRouter;
+    private final PromotionEngine promotionEngine;
+
+    private final AtomicReference<CatalogSnapshot> snapshot = new AtomicReference<>();
+    private final Queue<ProductChangedEvent> pending = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    @Value("${app.catalog.enabled:false}")
+    private boolean enabled;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    /**
+     * 전체 재적재, 사전에 쌓인 사용하지 않는 상품명도 이때 정리된다
+     */
+    @Scheduled(initialDelayString = "${app.catalog.reload-interval:600000}",
+        fixedDelayString = "${app.catalog.reload-interval:600000}")
+    public void reload() {
+        if (!enabled) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            long start = System.nanoTime();
+            CatalogSnapshot.Builder builder = CatalogSnapshot.builder();
+            RowCallbackHandler handler = rs -> builder.add(rs.getLong("id"), rs.getLong("user_id"),
+                rs.getString("name"), Money.of(rs.getBigDecimal("price")), Money.of(rs.getBigDecimal("shipping_fee")),
+                rs.getObject("registered_at", LocalDateTime.class));
+            for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+                shardRouter.onShard(shard, () -> {
+                    jdbcTemplate.query(LOAD_SQL, handler);
+                    return null;
+                });
+            }
+            CatalogSnapshot loaded = builder.build();
+            snapshot.set(loaded);
+            log.info("Product catalog loaded: {} products in {} ms", loaded.size(), (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            writeLock.unlock();
+        }
+        drain();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        pending.add(event);
+        drain();
+    }
+
+    /**
+     * 메모리 카탈로그로 처리할 수 있는 요청인지 확인
+     * 목록 기본 필드 이내의 필드와 미리 계산된 정렬 기준 하나(+ 같은 방향의 id)만 지원한다.
+     */
+    public boolean supports(Pageable pageable, Set<ProductField> fields) {
+        if (snapshot.get() == null || pageable.isUnpaged() || !ProductField.LIST_DEFAULT.containsAll(fields)) {
+            return false;
+        }
+        Iterator<Sort.Order> orders = pageable.getSort().iterator();
+        if (!orders.hasNext()) {
+            return true;
+        }
+        Sort.Order first = orders.next();
+        if (CatalogSort.from(first.getProperty()) == null) {
+            return false;
+        }
+        if (!orders.hasNext()) {
+            return true;
+        }
+        // 스냅샷 순열은 같은 값 안에서 id 순이므로 같은 방향의 id 정렬은 그대로 처리됨
+        Sort.Order tieBreaker = orders.next();
+        return CatalogSort.ID.getProperty().equals(tieBreaker.getProperty())
+            && tieBreaker.getDirection() == first.getDirection() && !orders.hasNext();
+    }
+
+    /**
+     * 가격 범위(경계 포함, null이면 제한 없음)에 맞는 상품 한 페이지 조회
+     */
+    public CatalogPage findPage(Pageable pageable, Set<ProductField> fields, BigDecimal minPrice, BigDecimal maxPrice) {
+        Sort.Order order = pageable.getSort().stream().findFirst().orElse(Sort.Order.asc(CatalogSort.ID.getProperty()));
+        return snapshot.get().page(CatalogSort.from(order.getProperty()), order.getDirection(),
+            minPrice == null ? Long.MIN_VALUE : CatalogSnapshot.toMinor(minPrice, RoundingMode.CEILING),
+            maxPrice == null ? Long.MAX_VALUE : CatalogSnapshot.toMinor(maxPrice, RoundingMode.FLOOR),
+            pageable, fields).withPromotions(promotionEngine.table());
+    }
+
+    /**
+     * 쌓인 변경을 한 번에 새 스냅샷으로 반영
+     * 락을 얻은 스레드가 다른 스레드가 넣은 변경까지 함께 처리하므로 변경이 몰려도 복사는 한 번씩만 일어난다.
+     */
+    private void drain() {
+        while (!pending.isEmpty() && writeLock.tryLock()) {
+            try {
+                CatalogSnapshot current = snapshot.get();
+                if (current == null) {
+                    return;  // 최초 적재 후 reload()에서 반영
+                }
+                List<ProductChangedEvent> batch = new ArrayList<>();
+                ProductChangedEvent event;
+                while ((event = pending.poll()) != null) {
+                    batch.add(event);
+                }
+                snapshot.set(current.apply(batch));
+                log.debug("Applied {} product changes to catalog snapshot", batch.size());
+            } finally {
+                writeLock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.shop.frankit.catalog;
+
+import com.shop.frankit.datasource.Workload;
+import com.shop.frankit.datasource.WorkloadType;
+import com.shop.frankit.dto.ProductFacetQuery;
+import com.shop.frankit.entity.Money;
+import com.shop.frankit.event.ProductChangedEvent;
+import com.shop.frankit.exception.ServiceUnavailableException;
+import com.shop.frankit.shard.ShardRouter;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 상품 패싯 검색 인덱스 (app.catalog.facets.enabled=true 일 때만 동작, 아니면 패싯 검색은 503)
+ * - 시작 시 전체 상품을 적재하고, 커밋된 상품 변경 이벤트로 비트맵을 바로 갱신한다.
+ * - 주기적인 전체 재적재로 다른 인스턴스의 변경을 반영하고 문서 번호를 정리한다.
+ */
+@Slf4j
+@Component
+@Workload(WorkloadType.CATALOG)
+public class ProductFacetIndex {
+
+    private static final String LOAD_SQL = "SELECT id, user_id, price, shipping_fee FROM products";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardRouter shardRouter;
+    private final boolean enabled;
+    private final FacetBuckets priceBuckets;
+    private final FacetBuckets shippingFeeBuckets;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private FacetIndex index;
+    private List<ProductChangedEvent> replay;  // 재적재 중 들어온 변경, 새 인덱스에 다시 반영
+
+    public ProductFacetIndex(JdbcTemplate jdbcTemplate, ShardRouter shardRouter,
+        @Value("${app.catalog.facets.enabled:false}") boolean enabled,
+        @Value("${app.catalog.facets.price-bounds:10000,30000,50000,100000}") List<BigDecimal> priceBounds,
+        @Value("${app.catalog.facets.shipping-fee-bounds:3000}") List<BigDecimal> shippingFeeBounds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.shardRouter = shardRouter;
+        this.enabled = enabled;
+        this.priceBuckets = new FacetBuckets(priceBounds, false);
+        this.shippingFeeBuckets = new FacetBuckets(shippingFeeBounds, true);
+        this.index = new FacetIndex(priceBuckets, shippingFeeBuckets);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    @Scheduled(initialDelayString = "${app.catalog.facets.reload-interval:3600000}",
+        fixedDelayString = "${app.catalog.facets.reload-interval:3600000}")
+    public void reload() {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            replay = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long start = System.nanoTime();
+        FacetIndex loaded;
+        try {
+            loaded = loadIndex();
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                replay = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        int size;
+        lock.writeLock().lock();
+        try {
+            replay.forEach(loaded::apply);
+            replay = null;
+            index = loaded;
+            size = loaded.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Product facet index loaded: {} products in {} ms", size, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            index.apply(event);
+            if (replay != null) {
+                replay.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public FacetResult search(ProductFacetQuery query, Pageable pageable) {
+        if (!enabled) {
+            throw ServiceUnavailableException.facetSearchDisabled();
+        }
+        long minPrice = query.getMinPrice() == null
+            ? Long.MIN_VALUE : CatalogSnapshot.toMinor(query.getMinPrice(), RoundingMode.CEILING);
+        long maxPrice = query.getMaxPrice() == null
+            ? Long.MAX_VALUE : CatalogSnapshot.toMinor(query.getMaxPrice(), RoundingMode.FLOOR);
+
+        lock.readLock().lock();
+        try {
+            return index.search(minPrice, maxPrice, query.isFreeShipping(), query.getSellerIds(),
+                pageable.getOffset(), pageable.getPageSize());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 모든 샤드의 상품을 읽어 상품 ID 순으로 문서 번호를 부여
+     */
+    private FacetIndex loadIndex() {
+        List<long[]> rows = new ArrayList<>();
+        for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+            shardRouter.onShard(shard, () -> jdbcTemplate.query(LOAD_SQL, (rs, rowNum) -> new long[] {
+                rs.getLong("id"),
+                rs.getLong("user_id"),
+                Money.of(rs.getBigDecimal("price")).minorUnits(),
+                Money.of(rs.getBigDecimal("shipping_fee")).minorUnits()
+            })).forEach(rows::add);
+        }
+        rows.sort(Comparator.comparingLong(row -> row[0]));
+
+        FacetIndex loaded = new FacetIndex(priceBuckets, shippingFeeBuckets);
+        for (long[] row : rows) {
+            loaded.upsert(row[0], row[1], row[2], row[3]);
+        }
+        return loaded;
+    }
+}
@@ -0,0 +1,159 @@
+package com.shop.frankit.catalog;
+
+import com.shop.frankit.datasource.Workload;
+import com.shop.frankit.datasource.WorkloadType;
+import com.shop.frankit.event.ProductChangedEvent;
+import com.shop.frankit.shard.GlobalIdGenerator;
+import com.shop.frankit.shard.ShardRouter;
+import jakarta.persistence.EntityNotFoundException;
+import java.time.Duration;
+import java.util.Arrays;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 존재하는 상품 ID의 블룸 필터 (app.catalog.id-filter.enabled=true 일 때만 동작)
+ * - 필터에 없는 ID는 DB 조회 없이 404로 응답한다.
+ * - 전역 ID에 생성 시각이 들어 있으므로, 마지막 적재 이후(recent-window 여유 포함)에 만들어진 ID는
+ *   다른 인스턴스에서 생성됐을 수 있어 필터로 거르지 않고, 미래 시각의 ID는 바로 거른다.
+ *   생성 시각이 없는 AUTO_INCREMENT ID(샤딩 미사용)는 마지막 적재 때의 최대 ID보다 크면 거르지 않는다.
+ * - 삭제된 상품은 주기적인 재생성(reload-interval) 때 필터에서 빠진다.
+ */
+@Slf4j
+@Component
+@Workload(WorkloadType.CATALOG)
+public class ProductIdFilter {
+
+    private static final String LOAD_SQL = "SELECT id FROM products";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardRouter shardRouter;
+    private final boolean enabled;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final long recentWindowMillis;
+
+    private volatile BloomFilter filter;
+    private volatile BloomFilter building;  // 재생성 중인 필터, 그동안 등록된 ID도 함께 넣음
+    private volatile long loadedAt;
+    private volatile long loadedMaxSequentialId;
+    private int loadedCount;  // 다음 재생성 때 필터 크기 결정에 사용
+
+    public ProductIdFilter(JdbcTemplate jdbcTemplate, ShardRouter shardRouter,
+        @Value("${app.catalog.id-filter.enabled:false}") boolean enabled,
+        @Value("${app.catalog.id-filter.expected-insertions:1000000}") long expectedInsertions,
+        @Value("${app.catalog.id-filter.false-positive-rate:0.01}") double falsePositiveRate,
+        @Value("${app.catalog.id-filter.recent-window:60s}") Duration recentWindow) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.shardRouter = shardRouter;
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.recentWindowMillis = recentWindow.toMillis();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    @Scheduled(initialDelayString = "${app.catalog.id-filter.reload-interval:3600000}",
+        fixedDelayString = "${app.catalog.id-filter.reload-interval:3600000}")
+    public synchronized void reload() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        BloomFilter next = BloomFilter.create(Math.max(expectedInsertions, loadedCount * 2L), falsePositiveRate);
+        building = next;
+        long[] ids;
+        try {
+            ids = loadIds();
+            long maxSequentialId = 0;
+            for (long id : ids) {
+                next.put(id);
+                if (GlobalIdGenerator.isLegacy(id)) {
+                    maxSequentialId = Math.max(maxSequentialId, id);
+                }
+            }
+            loadedMaxSequentialId = maxSequentialId;
+            filter = next;
+            loadedAt = start;
+            loadedCount = ids.length;
+        } finally {
+            building = null;
+        }
+        log.info("Product id filter loaded: {} ids, {} KB in {} ms",
+            ids.length, next.sizeInBytes() / 1024, System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (!enabled || event.isDeleted()) {
+            return;
+        }
+        BloomFilter current = filter;
+        if (current != null) {
+            current.put(event.getProductId());
+        }
+        BloomFilter next = building;
+        if (next != null) {
+            next.put(event.getProductId());
+        }
+    }
+
+    /**
+     * 상품이 있을 수도 있으면 true, 확실히 없으면 false (필터가 없으면 항상 true)
+     */
+    public boolean mightExist(Long id) {
+        BloomFilter current = filter;
+        if (current == null || id == null) {
+            return true;
+        }
+        if (GlobalIdGenerator.isLegacy(id)) {
+            return id > loadedMaxSequentialId || current.mightContain(id);
+        }
+        long createdAt = GlobalIdGenerator.creationMillisOf(id);
+        if (createdAt > System.currentTimeMillis() + recentWindowMillis) {
+            return false;
+        }
+        if (createdAt >= loadedAt - recentWindowMillis) {
+            return true;
+        }
+        return current.mightContain(id);
+    }
+
+    /**
+     * 확실히 없는 상품이면 서비스와 같은 EntityNotFoundException
+     */
+    public void checkExists(Long id) {
+        if (!mightExist(id)) {
+            log.debug("Product id rejected by filter: {}", id);
+            throw new EntityNotFoundException("상품을 찾을 수 없습니다. ID: " + id);
+        }
+    }
+
+    private long[] loadIds() {
+        long[][] buffer = {new long[1024]};
+        int[] count = {0};
+        for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+            shardRouter.onShard(shard, () -> {
+                jdbcTemplate.query(LOAD_SQL, rs -> {
+                    if (count[0] == buffer[0].length) {
+                        buffer[0] = Arrays.copyOf(buffer[0], count[0] * 2);
+                    }
+                    buffer[0][count[0]++] = rs.getLong(1);
+                });
+                return null;
+            });
+        }
+        return Arrays.copyOf(buffer[0], count[0]);
+    }
+}
@@ -0,0 +1,268 @@
+package com.shop.frankit.catalog;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shop.frankit.dto.ProductResponse;
+import com.shop.frankit.event.ProductChangedEvent;
+import com.shop.frankit.event.PromotionsCompiledEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * 상품 단건 조회 응답 캐시 (app.catalog.response-cache.enabled=true 일 때만 사용)
+ * - 최근에 조회된 상품 max-entries개의 최종 JSON 바이트와 gzip 압축본을 오프힙에 보관한다.
+ * - 캐시 적중은 ConcurrentHashMap 조회와 최근 조회 표시만 하고 잠금을 잡지 않는다.
+ *   교체는 CLOCK(second chance)으로 LRU에 가깝게 하며, 삽입과 교체, 무효화만 잠금 안에서 한다.
+ *   (무효화가 교체 중 고정 영역으로 옮겨지는 항목을 놓치지 않도록 같은 잠금을 씀)
+ * - 커밋된 상품 변경 이벤트로 바로 무효화하고, 다른 인스턴스의 변경은 time-to-live 후 반영된다.
+ * - 교체되는 항목이 핫셋(HotProductTracker) 상품이면 고정 영역으로 옮겨서, 한 번씩 조회되는 상품이 몰려도 남게 한다.
+ *   고정 영역은 핫셋 크기까지만 쓰고, 핫셋에서 빠진 상품은 decay 주기마다 정리한다.
+ */
+@Slf4j
+@Component
+public class ProductJsonCache {
+
+    private final ObjectMapper objectMapper;
+    private final HotProductTracker hotProductTracker;
+    private final boolean enabled;
+    private final int maxEntries;
+    private final long timeToLiveNanos;
+    private final Map<Long, CachedProductJson> entries = new ConcurrentHashMap<>();
+    private final Map<Long, CachedProductJson> pinned = new ConcurrentHashMap<>();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    // 무효화 횟수, 조회 중에 무효화가 있었으면 조회 결과를 캐시에 남기지 않음
+    private final AtomicLong invalidations = new AtomicLong();
+    // 맵에서 실제로 넣거나 뺀 스레드가 더하고 뺌
+    private final AtomicLong offHeapBytes = new AtomicLong();
+
+    // CLOCK 순서 (삽입 순, this로 보호), 무효화나 교체로 맵에서 빠진 항목은 돌아올 때 버림
+    private final Deque<CachedProductJson> clock = new ArrayDeque<>();
+
+    public ProductJsonCache(ObjectMapper objectMapper, MeterRegistry meterRegistry, HotProductTracker hotProductTracker,
+        @Value("${app.catalog.response-cache.enabled:false}") boolean enabled,
+        @Value("${app.catalog.response-cache.max-entries:4096}") int maxEntries,
+        @Value("${app.catalog.response-cache.time-to-live:60s}") Duration timeToLive) {
+        this.objectMapper = objectMapper;
+        this.hotProductTracker = hotProductTracker;
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.hitCounter = Counter.builder("catalog.response.cache")
+            .tag("result", "hit")
+            .register(meterRegistry);
+        this.missCounter = Counter.builder("catalog.response.cache")
+            .tag("result", "miss")
+            .register(meterRegistry);
+        Gauge.builder("catalog.response.cache.off.heap.bytes", offHeapBytes, AtomicLong::get)
+            .register(meterRegistry);
+        Gauge.builder("catalog.response.cache.pinned", pinned, Map::size)
+            .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 캐시된 응답 본문 조회, 없으면 loader로 조회해서 직렬화 후 캐시
+     * loader의 예외(상품 없음 등)는 그대로 전달되고 캐시에 남지 않는다.
+     */
+    public OffHeapJson get(Long id, boolean gzipped, Supplier<ProductResponse> loader) {
+        long now = System.nanoTime();
+        CachedProductJson cached = entries.get(id);
+        if (cached == null) {
+            cached = pinned.get(id);
+        }
+        if (cached != null && !cached.isExpired(now)) {
+            cached.markReferenced();
+            hitCounter.increment();
+            // 캐시에서 응답하면 서비스 조회가 없으므로 여기서 조회 횟수를 기록
+            hotProductTracker.record(id);
+            return cached.body(gzipped);
+        }
+        long stamp = invalidations.get();
+        missCounter.increment();
+
+        CachedProductJson loaded = CachedProductJson.of(id, serialize(loader.get()), now + timeToLiveNanos);
+        if (stamp == invalidations.get()) {
+            insert(loaded);
+            // 넣는 사이에 무효화되었으면 무효화가 못 지웠을 수 있으므로 직접 지움
+            if (stamp != invalidations.get()) {
+                remove(entries, id, loaded);
+            }
+        }
+        return loaded.body(gzipped);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (this) {
+            // 횟수를 먼저 올려야 진행 중인 조회가 무효화를 놓치지 않음
+            invalidations.incrementAndGet();
+            CachedProductJson removed = entries.remove(event.getProductId());
+            if (removed != null) {
+                offHeapBytes.addAndGet(-removed.offHeapBytes());
+            }
+            unpin(event.getProductId());
+        }
+        log.debug("Invalidated cached product response: {}", event.getProductId());
+    }
+
+    /**
+     * 적용 중인 할인이 바뀌면 할인 가격이 들어 있는 응답을 모두 버림
+     */
+    @EventListener
+    public void onPromotionsCompiled(PromotionsCompiledEvent event) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (this) {
+            invalidations.incrementAndGet();
+            entries.forEach((id, cached) -> remove(entries, id, cached));
+            pinned.forEach((id, cached) -> remove(pinned, id, cached));
+        }
+        log.debug("Cleared cached product responses for promotions version {}", event.getVersion());
+    }
+
+    /**
+     * 핫셋에서 빠졌거나 만료된 고정 항목 제거
+     */
+    @Scheduled(initialDelayString = "${app.catalog.hot-products.decay-interval:60000}",
+        fixedDelayString = "${app.catalog.hot-products.decay-interval:60000}")
+    public void releaseCooledEntries() {
+        if (pinned.isEmpty()) {
+            return;
+        }
+        long now = System.nanoTime();
+        int released = 0;
+        for (Map.Entry<Long, CachedProductJson> entry : pinned.entrySet()) {
+            if ((!hotProductTracker.isHot(entry.getKey()) || entry.getValue().isExpired(now))
+                && remove(pinned, entry.getKey(), entry.getValue())) {
+                released++;
+            }
+        }
+        log.debug("Released {} pinned product responses", released);
+    }
+
+    /**
+     * Accept 헤더 기준으로 JSON 응답이 선택되는지 확인 (CBOR 등 다른 형식을 원하면 캐시를 쓰지 않음)
+     */
+    public static boolean prefersJson(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return true;
+        }
+        List<MediaType> mediaTypes = MediaType.parseMediaTypes(accept);
+        MimeTypeUtils.sortBySpecificity(mediaTypes);
+        for (MediaType mediaType : mediaTypes) {
+            if (mediaType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return mediaType.getQualityValue() > 0;
+            }
+            if (mediaType.isCompatibleWith(MediaType.APPLICATION_CBOR)) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Accept-Encoding 헤더에 gzip이 허용되어 있는지 확인 (q=0은 거부로 처리)
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            String coding = parts[0].trim();
+            if (!coding.equalsIgnoreCase("gzip") && !coding.equals("*")) {
+                continue;
+            }
+            boolean rejected = false;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim().replace(" ", "");
+                if (param.startsWith("q=") && param.substring(2).matches("0(\\.0*)?")) {
+                    rejected = true;
+                }
+            }
+            return !rejected;
+        }
+        return false;
+    }
+
+    /**
+     * 새 응답을 넣고 최대 개수를 넘은 만큼 CLOCK 순서로 교체
+     */
+    private synchronized void insert(CachedProductJson loaded) {
+        unpin(loaded.id());
+        CachedProductJson previous = entries.put(loaded.id(), loaded);
+        offHeapBytes.addAndGet(loaded.offHeapBytes() - (previous == null ? 0 : previous.offHeapBytes()));
+        clock.addLast(loaded);
+
+        // 맵에서 빠진 항목은 버리고, 최근에 조회된 항목은 표시를 끄고 한 바퀴 더 둠
+        while (clock.size() > maxEntries) {
+            CachedProductJson head = clock.pollFirst();
+            if (entries.get(head.id()) != head) {
+                continue;
+            }
+            if (entries.size() <= maxEntries || head.clearReferenced()) {
+                clock.addLast(head);
+                continue;
+            }
+            if (!entries.remove(head.id(), head)) {
+                continue;
+            }
+            if (hotProductTracker.isHot(head.id()) && pinned.size() < hotProductTracker.capacity()) {
+                pinned.put(head.id(), head);
+            } else {
+                offHeapBytes.addAndGet(-head.offHeapBytes());
+            }
+        }
+    }
+
+    private boolean remove(Map<Long, CachedProductJson> map, Long id, CachedProductJson cached) {
+        if (map.remove(id, cached)) {
+            offHeapBytes.addAndGet(-cached.offHeapBytes());
+            return true;
+        }
+        return false;
+    }
+
+    private void unpin(Long id) {
+        CachedProductJson removed = pinned.remove(id);
+        if (removed != null) {
+            offHeapBytes.addAndGet(-removed.offHeapBytes());
+        }
+    }
+
+    private byte[] serialize(ProductResponse response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.shop.frankit.catalog;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 상품 ID별 읽기 모델 캐시 (최근 사용된 maxEntries개, LRU + time-to-live)
+ * 조회 중에 무효화가 있었으면 조회 결과를 캐시에 넣지 않는다.
+ */
+final class ProductKeyedCache<V> {
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+
+    private final long timeToLiveNanos;
+    private final Map<Long, Entry<V>> entries;
+    private long invalidations;
+
+    ProductKeyedCache(int maxEntries, Duration timeToLive) {
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry<V>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    V get(Long productId, Supplier<V> loader) {
+        long now = System.nanoTime();
+        long stamp;
+        synchronized (this) {
+            Entry<V> cached = entries.get(productId);
+            if (cached != null && now - cached.expiresAt() < 0) {
+                return cached.value();
+            }
+            stamp = invalidations;
+        }
+
+        V loaded = loader.get();
+        synchronized (this) {
+            if (stamp == invalidations) {
+                entries.put(productId, new Entry<>(loaded, now + timeToLiveNanos));
+            }
+        }
+        return loaded;
+    }
+
+    synchronized boolean invalidate(Long productId) {
+        invalidations++;
+        return entries.remove(productId) != null;
+    }
+}
@@ -0,0 +1,159 @@
+package com.shop.frankit.catalog;
+
+import com.shop.frankit.datasource.Workload;
+import com.shop.frankit.datasource.WorkloadType;
+import com.shop.frankit.dto.PopularProductResponse;
+import com.shop.frankit.shard.ShardRouter;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 조회 수 집계 (app.catalog.views.enabled=true 일 때만 동작)
+ * - 조회마다 상품별 LongAdder만 증가시키고, flush-interval마다 샤드별로 한 번의 upsert로 DB에 더한다.
+ * - 같은 조회로 인기 상품 윈도우를 갱신하고, 순위는 flush 때 계산해 두어 API가 DB 없이 응답한다.
+ * - 반영 실패한 조회 수는 다음 flush에 다시 더하며, 인스턴스가 비정상 종료되면 마지막 구간의 조회 수는 유실된다.
+ */
+@Slf4j
+@Component
+@Workload(WorkloadType.CATALOG)
+public class ProductViewCounter {
+
+    private static final int UPSERT_CHUNK_SIZE = 500;
+    private static final String UPSERT_PREFIX = "INSERT INTO product_view_counts (product_id, view_count, updated_at) VALUES ";
+    private static final String UPSERT_ROW = "(?, ?, NOW(6))";
+    private static final String UPSERT_SUFFIX =
+        " ON DUPLICATE KEY UPDATE view_count = view_count + VALUES(view_count), updated_at = VALUES(updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardRouter shardRouter;
+    private final boolean enabled;
+    private final int popularSize;
+    private final PopularityWindow window;
+    // 상품별 카운터, 한 flush 주기 동안 조회가 없었던 카운터는 flush 때 지움
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    private volatile List<PopularProductResponse> popular = List.of();
+
+    public ProductViewCounter(JdbcTemplate jdbcTemplate, ShardRouter shardRouter,
+        @Value("${app.catalog.views.enabled:false}") boolean enabled,
+        @Value("${app.catalog.views.popular.bucket:5m}") Duration bucket,
+        @Value("${app.catalog.views.popular.buckets:12}") int buckets,
+        @Value("${app.catalog.views.popular.candidates:1000}") int candidates,
+        @Value("${app.catalog.views.popular.size:100}") int popularSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.shardRouter = shardRouter;
+        this.enabled = enabled;
+        this.popularSize = popularSize;
+        this.window = new PopularityWindow(bucket.toMillis(), buckets, Math.max(candidates, popularSize),
+            System.currentTimeMillis());
+    }
+
+    public void record(Long productId) {
+        if (!enabled || productId == null) {
+            return;
+        }
+        pending.computeIfAbsent(productId, id -> new LongAdder()).increment();
+        window.record(productId, System.currentTimeMillis());
+    }
+
+    /**
+     * 최근 윈도우의 인기 상품 상위 limit개 (마지막 flush 시점 기준)
+     */
+    public List<PopularProductResponse> popular(int limit) {
+        List<PopularProductResponse> ranked = popular;
+        return ranked.subList(0, Math.max(0, Math.min(limit, ranked.size())));
+    }
+
+    @Scheduled(initialDelayString = "${app.catalog.views.flush-interval:10000}",
+        fixedDelayString = "${app.catalog.views.flush-interval:10000}")
+    public synchronized void flush() {
+        if (!enabled) {
+            return;
+        }
+        refreshPopular();
+
+        Map<Integer, List<long[]>> rowsByShard = new HashMap<>();
+        int total = 0;
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            long views = entry.getValue().sumThenReset();
+            if (views == 0) {
+                release(entry.getKey(), entry.getValue());
+            } else {
+                rowsByShard.computeIfAbsent(shardOf(entry.getKey()), shard -> new ArrayList<>())
+                    .add(new long[]{entry.getKey(), views});
+                total++;
+            }
+        }
+        if (total == 0) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        rowsByShard.forEach((shard, rows) -> shardRouter.onShard(shard, () -> {
+            upsert(shard, rows);
+            return null;
+        }));
+        log.debug("Flushed view counts of {} products in {} ms", total, System.currentTimeMillis() - start);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void refreshPopular() {
+        List<long[]> top = window.top(popularSize, System.currentTimeMillis());
+        List<PopularProductResponse> ranked = new ArrayList<>(top.size());
+        for (long[] entry : top) {
+            ranked.add(new PopularProductResponse(entry[0], entry[1]));
+        }
+        popular = List.copyOf(ranked);
+    }
+
+    // 여러 행을 한 문장으로 upsert, 너무 긴 문장을 피하려고 UPSERT_CHUNK_SIZE행씩 나눔
+    // 실패한 문장의 조회 수만 되돌려서 다음 flush에 다시 반영 (문장 단위로 원자적이라 중복 반영 없음)
+    private void upsert(int shard, List<long[]> rows) {
+        for (int from = 0; from < rows.size(); from += UPSERT_CHUNK_SIZE) {
+            List<long[]> chunk = rows.subList(from, Math.min(from + UPSERT_CHUNK_SIZE, rows.size()));
+            StringBuilder sql = new StringBuilder(UPSERT_PREFIX);
+            Object[] args = new Object[chunk.size() * 2];
+            for (int i = 0; i < chunk.size(); i++) {
+                sql.append(i == 0 ? "" : ", ").append(UPSERT_ROW);
+                args[i * 2] = chunk.get(i)[0];
+                args[i * 2 + 1] = chunk.get(i)[1];
+            }
+            try {
+                jdbcTemplate.update(sql.append(UPSERT_SUFFIX).toString(), args);
+            } catch (RuntimeException e) {
+                log.warn("Failed to flush {} product view counts on shard {}, retrying next flush", chunk.size(), shard, e);
+                for (long[] row : chunk) {
+                    pending.computeIfAbsent(row[0], id -> new LongAdder()).add(row[1]);
+                }
+            }
+        }
+    }
+
+    // 지우는 사이에 증가된 조회 수는 새 카운터로 옮김
+    private void release(Long productId, LongAdder adder) {
+        if (pending.remove(productId, adder)) {
+            long late = adder.sumThenReset();
+            if (late > 0) {
+                pending.computeIfAbsent(productId, id -> new LongAdder()).add(late);
+            }
+        }
+    }
+
+    private int shardOf(long productId) {
+        return shardRouter.isSharded() ? shardRouter.shardOfId(productId) : 0;
+    }
+}
@@ -0,0 +1,201 @@
+package com.shop.frankit.catalog;
+
+import com.shop.frankit.entity.Money;
+import com.shop.frankit.entity.OptionValue;
+import com.shop.frankit.entity.ProductOption;
+import com.shop.frankit.exception.InvalidRequestException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * 상품의 SELECT 옵션 조합(변형, SKU) 행렬, 불변
+ * - 조합은 옵션별 값 번호를 혼합 기수(mixed radix)로 묶은 int 하나로 표현한다.
+ *   첫 번째 옵션이 가장 높은 자리이므로 번호 순서가 옵션 순서의 사전순과 같다.
+ * - 전체 조합을 만들어 두지 않고 번호에서 바로 값을 계산한다. (옵션 수만큼의 나눗셈)
+ * - INPUT 옵션과 값이 없는 SELECT 옵션은 조합에 포함하지 않으며, SELECT 옵션이 없으면 조합은 빈 선택 하나뿐이다.
+ */
+public final class VariantMatrix {
+
+    private final Long productId;
+    private final long[] optionIds;
+    private final String[] optionNames;
+    private final String[][] values;
+    private final long[][] valueIds;
+    private final List<Map<String, Integer>> valueIndexes;
+    private final int[] strides;
+    private final int size;
+    private final Money additionalPrice;
+
+    public record Variant(int index, List<String> values) {
+    }
+
+    private VariantMatrix(Long productId, List<ProductOption> options) {
+        int count = options.size();
+        this.productId = productId;
+        this.optionIds = new long[count];
+        this.optionNames = new String[count];
+        this.values = new String[count][];
+        this.valueIds = new long[count][];
+        this.valueIndexes = new ArrayList<>(count);
+        this.strides = new int[count];
+
+        Money price = Money.ZERO;
+        for (int i = 0; i < count; i++) {
+            ProductOption option = options.get(i);
+            optionIds[i] = option.getId();
+            optionNames[i] = option.getName();
+            Map<String, Integer> index = new HashMap<>();
+            List<OptionValue> distinct = new ArrayList<>();
+            option.getOptionValues().stream()
+                .sorted(Comparator.comparing(OptionValue::getId, Comparator.nullsLast(Comparator.naturalOrder())))
+                .forEach(value -> {
+                    if (index.putIfAbsent(value.getValue(), distinct.size()) == null) {
+                        distinct.add(value);
+                    }
+                });
+            values[i] = distinct.stream().map(OptionValue::getValue).toArray(String[]::new);
+            valueIds[i] = distinct.stream().mapToLong(value -> value.getId() == null ? 0 : value.getId()).toArray();
+            valueIndexes.add(index);
+            if (option.getAdditionalPrice() != null) {
+                price = price.plus(option.getAdditionalPrice());
+            }
+        }
+        this.additionalPrice = price;
+
+        int stride = 1;
+        for (int i = count - 1; i >= 0; i--) {
+            strides[i] = stride;
+            try {
+                stride = Math.multiplyExact(stride, values[i].length);
+            } catch (ArithmeticException e) {
+                throw new IllegalStateException("옵션 조합 수가 너무 많습니다. 상품 ID: " + productId, e);
+            }
+        }
+        this.size = stride;
+    }
+
+    /**
+     * 상품 옵션 목록으로 행렬 생성, 옵션은 ID 순서(등록 순서)로 자리를 정한다
+     */
+    public static VariantMatrix of(Long productId, List<ProductOption> options) {
+        List<ProductOption> selectable = options.stream()
+            .filter(option -> option.getType() == ProductOption.OptionType.SELECT)
+            .filter(option -> option.getOptionValues() != null && !option.getOptionValues().isEmpty())
+            .sorted(Comparator.comparing(ProductOption::getId))
+            .toList();
+        return new VariantMatrix(productId, selectable);
+    }
+
+    public Long productId() {
+        return productId;
+    }
+
+    /**
+     * 전체 조합 수
+     */
+    public int size() {
+        return size;
+    }
+
+    public int optionCount() {
+        return optionIds.length;
+    }
+
+    public long optionId(int option) {
+        return optionIds[option];
+    }
+
+    public String optionName(int option) {
+        return optionNames[option];
+    }
+
+    public List<String> optionValues(int option) {
+        return List.of(values[option]);
+    }
+
+    /**
+     * 한 옵션의 value번째 값의 옵션 값(OptionValue) ID
+     */
+    public long valueId(int option, int value) {
+        return valueIds[option][value];
+    }
+
+    /**
+     * 선택한 SELECT 옵션들의 추가 금액 합계 (모든 조합에서 같음)
+     */
+    public Money additionalPrice() {
+        return additionalPrice;
+    }
+
+    /**
+     * 조합 번호에서 한 옵션의 값 번호
+     */
+    public int valueIndex(int variant, int option) {
+        checkIndex(variant);
+        return variant / strides[option] % values[option].length;
+    }
+
+    public Variant variant(int index) {
+        checkIndex(index);
+        String[] selected = new String[optionIds.length];
+        for (int option = 0; option < selected.length; option++) {
+            selected[option] = values[option][index / strides[option] % values[option].length];
+        }
+        return new Variant(index, List.of(selected));
+    }
+
+    /**
+     * 조합을 이루는 옵션 값(OptionValue)의 ID, 선택 옵션 순서
+     */
+    public long[] valueIds(int variant) {
+        checkIndex(variant);
+        long[] ids = new long[optionIds.length];
+        for (int option = 0; option < ids.length; option++) {
+            ids[option] = valueIds[option][variant / strides[option] % values[option].length];
+        }
+        return ids;
+    }
+
+    /**
+     * from부터 최대 count개의 조합을 순서대로, 필요할 때 하나씩 계산
+     */
+    public Stream<Variant> variants(int from, int count) {
+        int start = Math.max(0, Math.min(from, size));
+        int end = (int) Math.min(size, (long) start + Math.max(0, count));
+        return IntStream.range(start, end).mapToObj(this::variant);
+    }
+
+    /**
+     * 옵션 ID별 선택 값을 조합 번호로 변환, 모든 옵션을 정확히 한 번씩 선택해야 한다
+     */
+    public int resolve(Map<Long, String> selections) {
+        if (selections.size() != optionIds.length) {
+            throw InvalidRequestException.invalidVariant("모든 선택 옵션의 값을 하나씩 선택해주세요.");
+        }
+        int index = 0;
+        for (int option = 0; option < optionIds.length; option++) {
+            String value = selections.get(optionIds[option]);
+            if (value == null) {
+                throw InvalidRequestException.invalidVariant("선택하지 않은 옵션이 있습니다: " + optionNames[option]);
+            }
+            Integer digit = valueIndexes.get(option).get(value);
+            if (digit == null) {
+                throw InvalidRequestException.invalidVariant(
+                    "옵션 '" + optionNames[option] + "'에 없는 값입니다: " + value);
+            }
+            index += digit * strides[option];
+        }
+        return index;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw InvalidRequestException.invalidVariant("존재하지 않는 옵션 조합입니다: " + index);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.shop.frankit.catalog;
+
+import com.shop.frankit.event.ProductChangedEvent;
+import com.shop.frankit.event.ProductOptionsChangedEvent;
+import java.time.Duration;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 상품별 옵션 조합 행렬 캐시 (최근 사용된 max-entries개, LRU)
+ * - 커밋된 옵션/상품 변경 이벤트로 바로 무효화하고, 다른 인스턴스의 변경은 time-to-live 후 반영된다.
+ */
+@Slf4j
+@Component
+public class VariantMatrixCache {
+
+    private final ProductKeyedCache<VariantMatrix> cache;
+
+    public VariantMatrixCache(
+        @Value("${app.catalog.variants.max-entries:10000}") int maxEntries,
+        @Value("${app.catalog.variants.time-to-live:10m}") Duration timeToLive) {
+        this.cache = new ProductKeyedCache<>(maxEntries, timeToLive);
+    }
+
+    /**
+     * 캐시된 행렬 조회, 없으면 loader로 만들어서 캐시 (loader의 예외는 그대로 전달)
+     */
+    public VariantMatrix get(Long productId, Supplier<VariantMatrix> loader) {
+        return cache.get(productId, loader);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOptionsChanged(ProductOptionsChangedEvent event) {
+        invalidate(event.getProductId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.isDeleted()) {
+            invalidate(event.getProductId());
+        }
+    }
+
+    private void invalidate(Long productId) {
+        if (cache.invalidate(productId)) {
+            log.debug("Invalidated variant matrix of product: {}", productId);
+        }
+    }
+}
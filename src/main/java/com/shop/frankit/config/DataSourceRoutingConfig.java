@@ -0,0 +1,99 @@
+package com.shop.frankit.config;
+
+import com.shop.frankit.datasource.ConnectionPool;
+import com.shop.frankit.datasource.ReadYourWritesTracker;
+import com.shop.frankit.datasource.WorkloadAspect;
+import com.shop.frankit.datasource.WorkloadDataSourceFactory;
+import com.shop.frankit.datasource.WorkloadRepositoryPostProcessor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+
+/**
+ * 워크로드별 커넥션 풀(auth, catalog-read, catalog-write) 구성 및 라우팅 설정
+ * app.datasource.routing.enabled=true 일 때만 활성화되며, 비활성화 시 spring.datasource 단일 풀을 사용한다.
+ * 각 풀은 크기/타임아웃(Hikari 설정)과 대기열 깊이(app.datasource.pools.*.queue-depth)를 따로 가진다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("app.datasource.pools.auth")
+    public HikariDataSource authPool() {
+        return DataSourceBuilder.create().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.pools.catalog-write")
+    public HikariDataSource catalogWritePool() {
+        return DataSourceBuilder.create().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.pools.catalog-read")
+    public HikariDataSource catalogReadPool() {
+        return DataSourceBuilder.create().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+        @Value("${app.datasource.routing.read-your-writes-window:5s}") Duration window) {
+        log.info("Read-your-writes 윈도우: {}", window);
+        return new ReadYourWritesTracker(window);
+    }
+
+    @Bean
+    public WorkloadDataSourceFactory workloadDataSourceFactory(ReadYourWritesTracker readYourWritesTracker,
+        MeterRegistry meterRegistry, Environment environment) {
+        return new WorkloadDataSourceFactory(readYourWritesTracker, meterRegistry, environment);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+        @Qualifier("authPool") HikariDataSource authPool,
+        @Qualifier("catalogWritePool") HikariDataSource catalogWritePool,
+        @Qualifier("catalogReadPool") HikariDataSource catalogReadPool,
+        WorkloadDataSourceFactory workloadDataSourceFactory) {
+
+        Map<ConnectionPool, HikariDataSource> pools = new EnumMap<>(ConnectionPool.class);
+        pools.put(ConnectionPool.AUTH, authPool);
+        pools.put(ConnectionPool.CATALOG_WRITE, catalogWritePool);
+        pools.put(ConnectionPool.CATALOG_READ, catalogReadPool);
+
+        DataSource dataSource = workloadDataSourceFactory.create(pools);
+        log.info("워크로드 라우팅 DataSource 구성 완료: {}", pools.keySet());
+        return dataSource;
+    }
+
+    /**
+     * 리포지토리 인터페이스의 @Workload를 읽어 풀을 지정
+     */
+    @Bean
+    public static WorkloadRepositoryPostProcessor workloadRepositoryPostProcessor() {
+        return new WorkloadRepositoryPostProcessor();
+    }
+
+    /**
+     * 서비스 클래스의 @Workload를 읽어 풀을 지정
+     */
+    @Bean
+    public WorkloadAspect workloadAspect() {
+        return new WorkloadAspect();
+    }
+}
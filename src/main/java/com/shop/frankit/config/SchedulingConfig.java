@@ -0,0 +1,33 @@
+package com.shop.frankit.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 주기 작업 스케줄러 설정
+ * - 기본 스케줄러(taskScheduler): 적재, flush 등 일반 @Scheduled 작업 (spring.task.scheduling.pool.size)
+ * - 타이밍 휠 스케줄러(timingWheelScheduler): 재고 예약 만료, 예약 가격 적용 tick 전용
+ *   (전체 테이블 재적재 같은 긴 작업이 기본 스케줄러를 붙잡아도 tick 간격이 밀리지 않음)
+ */
+@Configuration
+public class SchedulingConfig {
+
+    /**
+     * 스케줄러 빈을 직접 두면 자동 구성이 빠지므로 기본 스케줄러도 같은 설정(spring.task.scheduling.*)으로 등록
+     */
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+
+    @Bean
+    public ThreadPoolTaskScheduler timingWheelScheduler(@Value("${app.scheduling.timing-wheel-threads:2}") int threads) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(threads);
+        scheduler.setThreadNamePrefix("timing-wheel-");
+        return scheduler;
+    }
+}
@@ -0,0 +1,113 @@
+package com.shop.frankit.config;
+
+import com.shop.frankit.datasource.ConnectionPool;
+import com.shop.frankit.datasource.WorkloadDataSourceFactory;
+import com.shop.frankit.shard.ShardRoutingDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * 기본 DataSource를 0번 샤드로 하는 샤드 라우팅 DataSource로 감쌈
+ * - 1번 이후 샤드도 0번 샤드와 같은 구성으로 만든다. 워크로드 라우팅을 사용하면 샤드마다 auth, catalog-write,
+ *   catalog-read 풀과 벌크헤드를 두고, 사용하지 않으면 기본 풀과 같은 설정의 풀 하나를 둔다.
+ * - 샤드 풀은 빈이 아니므로 Hikari 지표를 직접 연결하고, 컨텍스트 종료 시 닫는다.
+ */
+@Slf4j
+public class ShardDataSourcePostProcessor implements BeanPostProcessor, BeanFactoryAware, DisposableBean {
+
+    private final ShardingProperties properties;
+    private final boolean workloadRouting;
+    private final List<HikariDataSource> shardPools = new ArrayList<>();
+    private BeanFactory beanFactory;
+
+    public ShardDataSourcePostProcessor(ShardingProperties properties, boolean workloadRouting) {
+        this.properties = properties;
+        this.workloadRouting = workloadRouting;
+    }
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) {
+        this.beanFactory = beanFactory;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!"dataSource".equals(beanName) || !(bean instanceof DataSource primary)
+            || properties.getShardCount() == 1) {
+            return bean;
+        }
+        MeterRegistry meterRegistry = beanFactory.getBean(MeterRegistry.class);
+        List<DataSource> shards = new ArrayList<>();
+        shards.add(primary);
+        for (int shard = 1; shard < properties.getShardCount(); shard++) {
+            ShardingProperties.Shard config = properties.getShards().get(shard - 1);
+            shards.add(workloadRouting
+                ? workloadDataSource(shard, config, meterRegistry)
+                : pool(singlePool(primary), shard, config.getJdbcUrl(), config, meterRegistry));
+        }
+        ShardRoutingDataSource routingDataSource = new ShardRoutingDataSource(shards);
+        routingDataSource.afterPropertiesSet();
+        log.info("샤드 라우팅 DataSource 구성 완료: {}개 샤드, 워크로드 라우팅={}", shards.size(), workloadRouting);
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Override
+    public void destroy() {
+        shardPools.forEach(HikariDataSource::close);
+    }
+
+    private DataSource workloadDataSource(int shard, ShardingProperties.Shard config, MeterRegistry meterRegistry) {
+        String replicaJdbcUrl = config.getReplicaJdbcUrl() != null ? config.getReplicaJdbcUrl() : config.getJdbcUrl();
+        Map<ConnectionPool, HikariDataSource> pools = new EnumMap<>(ConnectionPool.class);
+        pools.put(ConnectionPool.AUTH,
+            pool(beanFactory.getBean("authPool", HikariDataSource.class), shard, config.getJdbcUrl(), config, meterRegistry));
+        pools.put(ConnectionPool.CATALOG_WRITE,
+            pool(beanFactory.getBean("catalogWritePool", HikariDataSource.class), shard, config.getJdbcUrl(), config, meterRegistry));
+        pools.put(ConnectionPool.CATALOG_READ,
+            pool(beanFactory.getBean("catalogReadPool", HikariDataSource.class), shard, replicaJdbcUrl, config, meterRegistry));
+        return beanFactory.getBean(WorkloadDataSourceFactory.class).create(pools);
+    }
+
+    /**
+     * 0번 샤드 풀의 설정을 복사하고 접속 정보와 풀 이름만 바꾼 샤드 풀
+     */
+    private HikariDataSource pool(HikariDataSource template, int shard, String jdbcUrl,
+        ShardingProperties.Shard config, MeterRegistry meterRegistry) {
+        HikariConfig hikariConfig = new HikariConfig();
+        template.copyStateTo(hikariConfig);
+        hikariConfig.setJdbcUrl(jdbcUrl);
+        if (config.getUsername() != null) {
+            hikariConfig.setUsername(config.getUsername());
+        }
+        if (config.getPassword() != null) {
+            hikariConfig.setPassword(config.getPassword());
+        }
+        hikariConfig.setPoolName((template.getPoolName() != null ? template.getPoolName() + "-" : "") + "shard-" + shard);
+        if (hikariConfig.getMetricRegistry() == null && hikariConfig.getMetricsTrackerFactory() == null) {
+            hikariConfig.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        }
+        HikariDataSource pool = new HikariDataSource(hikariConfig);
+        shardPools.add(pool);
+        return pool;
+    }
+
+    private static HikariDataSource singlePool(DataSource primary) {
+        if (!(primary instanceof HikariDataSource hikari)) {
+            throw new IllegalStateException("샤드 풀 설정을 복사할 기본 DataSource가 Hikari 풀이 아닙니다: " + primary.getClass());
+        }
+        return hikari;
+    }
+}
@@ -0,0 +1,95 @@
+package com.shop.frankit.config;
+
+import com.shop.frankit.shard.ShardKeyAspect;
+import com.shop.frankit.shard.ShardRouter;
+import com.shop.frankit.shard.ShardedIdGenerator;
+import com.shop.frankit.shard.ShardedQueryExecutor;
+import com.shop.frankit.shard.WorkerIdLease;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 상품 카탈로그 샤딩 설정
+ * app.sharding.enabled=false 이면 샤드 1개(기본 DataSource)로 동작하며, 상품/옵션 ID는 AUTO_INCREMENT를 사용한다.
+ * (전역 ID는 주문 ID에만 사용, 샤딩을 켠 뒤 다시 끄는 것은 지원하지 않음)
+ * 사용자 테이블(users)은 0번 샤드에만 저장하며, 다른 샤드의 상품은 외래 키 없이 user_id만 가진다.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    @Bean
+    public ShardRouter shardRouter(ShardingProperties properties) {
+        if (properties.isEnabled() && properties.getWorkerId() == null) {
+            throw new IllegalStateException("샤딩을 사용하려면 app.sharding.worker-id를 인스턴스마다 다르게 설정해야 합니다.");
+        }
+        log.info("상품 카탈로그 샤드 수: {}", properties.getShardCount());
+        return new ShardRouter(properties.getShardCount());
+    }
+
+    /**
+     * 워커 ID 임대, 설정된 워커 ID를 다른 인스턴스가 쓰고 있으면 기동 실패
+     */
+    @Bean
+    public WorkerIdLease workerIdLease(JdbcTemplate jdbcTemplate, ShardRouter shardRouter,
+        ShardingProperties properties) {
+        return new WorkerIdLease(jdbcTemplate, shardRouter, properties.getWorkerId(), properties.getWorkerLeaseTtl());
+    }
+
+    /**
+     * 샤딩 여부를 Hibernate 설정으로 넘겨서 @ShardedId 엔티티의 ID 생성 방식을 정함 (ShardedIdGenerator)
+     */
+    @Bean
+    public HibernatePropertiesCustomizer shardedIdHibernateProperties(ShardingProperties properties) {
+        return hibernateProperties -> hibernateProperties.put(ShardedIdGenerator.SHARDING_ENABLED, properties.isEnabled());
+    }
+
+    @Bean
+    public ShardKeyAspect shardKeyAspect(ShardRouter shardRouter) {
+        return new ShardKeyAspect(shardRouter);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ShardedQueryExecutor shardedQueryExecutor(ShardRouter shardRouter, ShardingProperties properties,
+        PlatformTransactionManager transactionManager) {
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        return new ShardedQueryExecutor(shardRouter, readOnlyTransaction, Executors.newFixedThreadPool(
+            properties.getQueryThreads(), Thread.ofPlatform().name("shard-query-", 0).daemon().factory()));
+    }
+
+    /**
+     * 모든 샤드에 같은 마이그레이션을 적용 (샤드별로 flyway_schema_history 관리)
+     */
+    @Bean
+    public FlywayMigrationStrategy shardedFlywayMigrationStrategy(ShardRouter shardRouter) {
+        return flyway -> {
+            for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+                shardRouter.onShard(shard, flyway::migrate);
+            }
+        };
+    }
+
+    /**
+     * 기본 DataSource를 0번 샤드로 하는 샤드 라우팅 DataSource로 감쌈 (ShardDataSourcePostProcessor 참고)
+     */
+    @Bean
+    public static ShardDataSourcePostProcessor shardDataSourcePostProcessor(Environment environment) {
+        ShardingProperties properties = Binder.get(environment)
+            .bind("app.sharding", ShardingProperties.class)
+            .orElseGet(ShardingProperties::new);
+        boolean workloadRouting = environment.getProperty("app.datasource.routing.enabled", Boolean.class, false);
+        return new ShardDataSourcePostProcessor(properties, workloadRouting);
+    }
+}
@@ -0,0 +1,38 @@
+package com.shop.frankit.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 상품 카탈로그 샤딩 설정
+ * 0번 샤드는 애플리케이션 기본 DataSource이며, shards에는 1번 샤드부터 나열한다.
+ * 샤드의 풀 설정(크기, 타임아웃, 대기열)은 0번 샤드의 풀을 그대로 따르고 접속 정보만 샤드마다 지정한다.
+ * 샤딩을 사용하면 workerId를 인스턴스마다 다르게 지정해야 한다. (미지정 시 기동 실패, 미사용 시에는 빈 번호를 임대)
+ */
+@Getter
+@Setter
+@ConfigurationProperties("app.sharding")
+public class ShardingProperties {
+    private boolean enabled;
+    private Integer workerId;
+    private Duration workerLeaseTtl = Duration.ofSeconds(60);
+    private int queryThreads = 8;
+    private List<Shard> shards = new ArrayList<>();
+
+    public int getShardCount() {
+        return enabled ? shards.size() + 1 : 1;
+    }
+
+    @Getter
+    @Setter
+    public static class Shard {
+        private String jdbcUrl;          // Primary (auth, catalog-write 풀)
+        private String replicaJdbcUrl;   // Replica (catalog-read 풀), 없으면 Primary에서 읽음
+        private String username;
+        private String password;
+    }
+}
@@ -0,0 +1,27 @@
+package com.shop.frankit.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.web.config.EnableSpringDataWebSupport;
+import org.springframework.data.web.config.EnableSpringDataWebSupport.PageSerializationMode;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * 응답 형식 설정
+ * - Page는 {"content": [...], "page": {size, number, totalElements, totalPages}} 형태로 직렬화 (메모리 카탈로그 응답과 동일)
+ * - Accept: application/cbor 요청에는 CBOR로 응답, 기본은 JSON
+ */
+@Configuration
+@EnableSpringDataWebSupport(pageSerializationMode = PageSerializationMode.VIA_DTO)
+public class WebConfig {
+
+    /**
+     * JSON과 같은 Jackson 설정(모듈, 날짜 형식 등)을 쓰는 CBOR 컨버터, 기본 CBOR 컨버터를 대체한다
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+}
@@ -0,0 +1,72 @@
+package com.shop.frankit.controller;
+
+import com.shop.frankit.catalog.ProductIdFilter;
+import com.shop.frankit.dto.CartItemRequest;
+import com.shop.frankit.dto.CartQuantityRequest;
+import com.shop.frankit.dto.CartResponse;
+import com.shop.frankit.security.UserDetailsImpl;
+import com.shop.frankit.service.CartService;
+import jakarta.validation.Valid;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping(value = "/api/cart",
+    produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+@RequiredArgsConstructor
+public class CartController {
+
+    private final CartService cartService;
+    private final ProductIdFilter productIdFilter;
+
+    @GetMapping
+    public ResponseEntity<CartResponse> getCart(@AuthenticationPrincipal UserDetails userDetails) {
+        log.info("Get cart request: user={}", userDetails.getUsername());
+        return ResponseEntity.ok(cartService.findByUserId(((UserDetailsImpl) userDetails).getId()));
+    }
+
+    @PostMapping("/items")
+    public ResponseEntity<CartResponse> addItem(
+        @Valid @RequestBody CartItemRequest request,
+        @AuthenticationPrincipal UserDetails userDetails) {
+
+        log.info("Add cart item request: {}, user={}", request, userDetails.getUsername());
+        productIdFilter.checkExists(request.getProductId());
+        return ResponseEntity.ok(cartService.addItem(((UserDetailsImpl) userDetails).getId(), request));
+    }
+
+    @PatchMapping("/items/{itemId}")
+    public ResponseEntity<CartResponse> updateQuantity(
+        @PathVariable int itemId,
+        @Valid @RequestBody CartQuantityRequest request,
+        @AuthenticationPrincipal UserDetails userDetails) {
+
+        log.info("Update cart item request: itemId={}, quantity={}, user={}",
+            itemId, request.getQuantity(), userDetails.getUsername());
+        Long userId = ((UserDetailsImpl) userDetails).getId();
+        return ResponseEntity.ok(cartService.updateQuantity(userId, itemId, request.getQuantity()));
+    }
+
+    @DeleteMapping("/items/{itemId}")
+    public ResponseEntity<CartResponse> removeItem(
+        @PathVariable int itemId,
+        @AuthenticationPrincipal UserDetails userDetails) {
+
+        log.info("Remove cart item request: itemId={}, user={}", itemId, userDetails.getUsername());
+        return ResponseEntity.ok(cartService.removeItem(((UserDetailsImpl) userDetails).getId(), itemId));
+    }
+
+    @DeleteMapping
+    public ResponseEntity<?> clearCart(@AuthenticationPrincipal UserDetails userDetails) {
+        log.info("Clear cart request: user={}", userDetails.getUsername());
+        cartService.clear(((UserDetailsImpl) userDetails).getId());
+        return ResponseEntity.ok(Map.of("message", "장바구니를 비웠습니다."));
+    }
+}
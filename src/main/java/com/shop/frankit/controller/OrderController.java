@@ -0,0 +1,44 @@
+package com.shop.frankit.controller;
+
+import com.shop.frankit.catalog.ProductIdFilter;
+import com.shop.frankit.dto.OrderRequest;
+import com.shop.frankit.dto.OrderResponse;
+import com.shop.frankit.security.UserDetailsImpl;
+import com.shop.frankit.service.OrderService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping(value = "/api/orders",
+    produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+@RequiredArgsConstructor
+public class OrderController {
+
+    // 응답 대기 시간 초과(ORDER_003) 뒤 같은 키로 다시 요청하면 중복 주문 없이 접수된 주문을 받음
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
+    private final OrderService orderService;
+    private final ProductIdFilter productIdFilter;
+
+    @PostMapping
+    public ResponseEntity<OrderResponse> placeOrder(
+        @Valid @RequestBody OrderRequest request,
+        @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+        @AuthenticationPrincipal UserDetails userDetails) {
+
+        log.info("Place order request: {}, idempotencyKey={}, user={}", request, idempotencyKey,
+            userDetails.getUsername());
+        productIdFilter.checkExists(request.getProductId());
+        Long userId = ((UserDetailsImpl) userDetails).getId();
+        OrderResponse order = orderService.place(request, userId, idempotencyKey);
+        return ResponseEntity.status(HttpStatus.CREATED).body(order);
+    }
+}
@@ -0,0 +1,59 @@
+package com.shop.frankit.controller;
+
+import com.shop.frankit.dto.PriceChangeRequest;
+import com.shop.frankit.dto.PriceChangeResponse;
+import com.shop.frankit.security.UserDetailsImpl;
+import com.shop.frankit.service.PriceChangeService;
+import jakarta.validation.Valid;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/products/{productId}/price-changes")
+@RequiredArgsConstructor
+public class PriceChangeController {
+
+    private final PriceChangeService priceChangeService;
+
+    @GetMapping
+    public ResponseEntity<List<PriceChangeResponse>> getPendingChanges(
+        @PathVariable Long productId,
+        @AuthenticationPrincipal UserDetails userDetails) {
+
+        log.info("Get price changes request: productId={}, user={}", productId, userDetails.getUsername());
+        Long userId = ((UserDetailsImpl) userDetails).getId();
+        return ResponseEntity.ok(priceChangeService.findPending(productId, userId));
+    }
+
+    @PostMapping
+    public ResponseEntity<PriceChangeResponse> scheduleChange(
+        @PathVariable Long productId,
+        @Valid @RequestBody PriceChangeRequest request,
+        @AuthenticationPrincipal UserDetails userDetails) {
+
+        log.info("Schedule price change request: productId={}, request={}, user={}", productId, request, userDetails.getUsername());
+        Long userId = ((UserDetailsImpl) userDetails).getId();
+        PriceChangeResponse change = priceChangeService.schedule(productId, request, userId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(change);
+    }
+
+    @DeleteMapping("/{changeId}")
+    public ResponseEntity<?> cancelChange(
+        @PathVariable Long productId,
+        @PathVariable Long changeId,
+        @AuthenticationPrincipal UserDetails userDetails) {
+
+        log.info("Cancel price change request: productId={}, changeId={}, user={}", productId, changeId, userDetails.getUsername());
+        Long userId = ((UserDetailsImpl) userDetails).getId();
+        priceChangeService.cancel(productId, changeId, userId);
+        return ResponseEntity.ok(Map.of("message", "가격 변경 예약이 취소되었습니다."));
+    }
+}
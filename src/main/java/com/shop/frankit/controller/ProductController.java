@@ -1,8 +1,28 @@
 package com.shop.frankit.controller;
 
+import com.shop.frankit.catalog.OffHeapJson;
+import com.shop.frankit.catalog.PricingTable;
+import com.shop.frankit.catalog.PricingTableCache;
+import com.shop.frankit.catalog.ProductCatalog;
+import com.shop.frankit.catalog.ProductIdFilter;
+import com.shop.frankit.catalog.ProductJsonCache;
+import com.shop.frankit.catalog.ProductViewCounter;
+import com.shop.frankit.dto.FacetedSearchResponse;
+import com.shop.frankit.dto.PopularProductResponse;
+import com.shop.frankit.dto.ProductBatchRequest;
+import com.shop.frankit.dto.ProductBatchResponse;
+import com.shop.frankit.dto.ProductFacetQuery;
+import com.shop.frankit.dto.ProductField;
 import com.shop.frankit.dto.ProductRequest;
 import com.shop.frankit.dto.ProductResponse;
+import com.shop.frankit.dto.ProductSearchCondition;
+import com.shop.frankit.dto.ProductSort;
+import com.shop.frankit.dto.QuoteRequest;
+import com.shop.frankit.dto.QuoteResponse;
+import com.shop.frankit.mapper.ProductMapper;
+import com.shop.frankit.promotion.PromotionEngine;
 import com.shop.frankit.security.UserDetailsImpl;
+import com.shop.frankit.service.ProductOptionService;
 import com.shop.frankit.service.ProductService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -10,54 +30,167 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 import lombok.extern.slf4j.Slf4j;
+import java.math.BigDecimal;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 @RestController
-@RequestMapping("/api/products")
+@RequestMapping(value = "/api/products", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
 @RequiredArgsConstructor
 public class ProductController {
 
+    // 단건 조회는 Accept(JSON/CBOR)와 Accept-Encoding(gzip)에 따라 응답 본문이 달라지므로 캐시와 무관하게 둘 다 명시
+    private static final String PRODUCT_VARY = HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING;
+
     private final ProductService productService;
+    private final ProductCatalog productCatalog;
+    private final ProductJsonCache productJsonCache;
+    private final ProductIdFilter productIdFilter;
+    private final ProductViewCounter productViewCounter;
+    private final ProductOptionService productOptionService;
+    private final PricingTableCache pricingTableCache;
+    private final ProductMapper productMapper;
+    private final PromotionEngine promotionEngine;
 
     @GetMapping
-    public ResponseEntity<Page<ProductResponse>> getAllProducts(
+    public ResponseEntity<?> getAllProducts(
         @RequestParam(defaultValue = "0") int page,
         @RequestParam(defaultValue = "10") int size,
-        @RequestParam(defaultValue = "id") String sort) {
+        @RequestParam(defaultValue = "id") String sort,
+        @RequestParam(required = false) String fields,
+        @RequestParam(required = false) BigDecimal minPrice,
+        @RequestParam(required = false) BigDecimal maxPrice) {
+
+        log.info("Get all products request: page={}, size={}, sort={}, fields={}, minPrice={}, maxPrice={}", page, size, sort, fields, minPrice, maxPrice);
+        Pageable pageable = PageRequest.of(page, size, ProductSort.parse(sort));
+        // 메모리 카탈로그 사용 여부와 관계없이 같은 정렬 조합만 허용
+        ProductSort.validate(pageable.getSort(), false, minPrice != null || maxPrice != null);
+        Set<ProductField> selected = ProductField.parse(fields);
 
-        log.info("Get all products request: page={}, size={}, sort={}", page, size, sort);
-        Pageable pageable = PageRequest.of(page, size, Sort.by(sort));
-        Page<ProductResponse> products = productService.findAll(pageable);
+        // 메모리 카탈로그가 켜져 있으면 DB 조회 없이 응답
+        if (productCatalog.supports(pageable, selected)) {
+            return ResponseEntity.ok(productCatalog.findPage(pageable, selected, minPrice, maxPrice));
+        }
+        ProductSearchCondition condition = ProductSearchCondition.builder()
+            .minPrice(minPrice)
+            .maxPrice(maxPrice)
+            .build();
+        Page<ProductResponse> products = productService.findAll(pageable, selected, condition);
         return ResponseEntity.ok(products);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ProductResponse> getProductById(@PathVariable Long id) {
+    public ResponseEntity<?> getProductById(
+        @PathVariable Long id,
+        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
         log.info("Get product by ID request: id={}", id);
+        productIdFilter.checkExists(id);
+        // 응답 캐시가 켜져 있으면 직렬화된 JSON 바이트(필요하면 gzip 압축본)를 그대로 응답
+        if (productJsonCache.isEnabled() && ProductJsonCache.prefersJson(accept)) {
+            boolean gzipped = ProductJsonCache.acceptsGzip(acceptEncoding);
+            OffHeapJson body = productJsonCache.get(id, gzipped, () -> productService.findById(id));
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, PRODUCT_VARY);
+            if (body.gzipped()) {
+                response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+            }
+            productViewCounter.record(id);
+            return response.body(body);
+        }
         ProductResponse product = productService.findById(id);
-        return ResponseEntity.ok(product);
+        productViewCounter.record(id);
+        return ResponseEntity.ok().header(HttpHeaders.VARY, PRODUCT_VARY).body(product);
+    }
+
+    @GetMapping("/popular")
+    public ResponseEntity<List<PopularProductResponse>> getPopularProducts(@RequestParam(defaultValue = "10") int limit) {
+        log.info("Get popular products request: limit={}", limit);
+        // 메모리의 최근 조회 수 순위로 응답 (DB 조회 없음)
+        return ResponseEntity.ok(productViewCounter.popular(limit));
+    }
+
+    @PostMapping("/{id}/quote")
+    public ResponseEntity<QuoteResponse> quote(
+        @PathVariable Long id,
+        @Valid @RequestBody QuoteRequest request) {
+
+        log.info("Quote request: id={}, request={}", id, request);
+        productIdFilter.checkExists(id);
+        // 캐시된 가격 계산표와 현재 할인 조회표로 계산 (캐시 적중 시 DB 조회 없음)
+        PricingTable pricing = pricingTableCache.get(id, () -> productOptionService.buildPricingTable(id));
+        PricingTable.Quote quote = pricing.quote(
+            request.getSelections() == null ? Map.of() : request.getSelections(),
+            request.getInputs() == null ? Map.of() : request.getInputs(),
+            request.getQuantity(),
+            promotionEngine.table());
+        return ResponseEntity.ok(productMapper.toQuoteResponse(id, quote));
+    }
+
+    @GetMapping(params = "ids")
+    public ResponseEntity<ProductBatchResponse> getProductsByIds(
+        @RequestParam List<Long> ids,
+        @RequestParam(required = false) String fields) {
+
+        log.info("Get products by ids request: count={}, fields={}", ids.size(), fields);
+        ProductBatchResponse response = productService.findByIds(ids, ProductField.parse(fields, ProductField.ALL));
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<ProductBatchResponse> getProductsByIdsBatch(@Valid @RequestBody ProductBatchRequest request) {
+        log.info("Get products by ids batch request: count={}, fields={}", request.getIds().size(), request.getFields());
+        ProductBatchResponse response = productService.findByIds(request.getIds(),
+            ProductField.parse(request.getFields(), ProductField.ALL));
+        return ResponseEntity.ok(response);
     }
 
     @GetMapping("/search")
     public ResponseEntity<Page<ProductResponse>> searchProducts(
         @RequestParam String name,
         @RequestParam(defaultValue = "0") int page,
-        @RequestParam(defaultValue = "10") int size) {
+        @RequestParam(defaultValue = "10") int size,
+        @RequestParam(required = false) String fields) {
 
-        log.info("Search products request: name={}, page={}, size={}", name, page, size);
+        log.info("Search products request: name={}, page={}, size={}, fields={}", name, page, size, fields);
         Pageable pageable = PageRequest.of(page, size);
-        Page<ProductResponse> products = productService.searchByName(name, pageable);
+        Page<ProductResponse> products = productService.searchByName(name, pageable, ProductField.parse(fields));
         return ResponseEntity.ok(products);
     }
 
+    @GetMapping("/search/faceted")
+    public ResponseEntity<FacetedSearchResponse> searchFaceted(
+        @RequestParam(required = false) BigDecimal minPrice,
+        @RequestParam(required = false) BigDecimal maxPrice,
+        @RequestParam(defaultValue = "false") boolean freeShipping,
+        @RequestParam(required = false) Set<Long> sellerIds,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "10") int size,
+        @RequestParam(required = false) String fields) {
+
+        log.info("Faceted search request: minPrice={}, maxPrice={}, freeShipping={}, sellerIds={}, page={}, size={}", minPrice, maxPrice, freeShipping, sellerIds, page, size);
+        ProductFacetQuery query = ProductFacetQuery.builder()
+            .minPrice(minPrice)
+            .maxPrice(maxPrice)
+            .freeShipping(freeShipping)
+            .sellerIds(sellerIds)
+            .build();
+        FacetedSearchResponse response = productService.searchFaceted(query, PageRequest.of(page, size), ProductField.parse(fields));
+        return ResponseEntity.ok(response);
+    }
+
     @PostMapping
     public ResponseEntity<ProductResponse> createProduct(
         @Valid @RequestBody ProductRequest request,
@@ -0,0 +1,40 @@
+package com.shop.frankit.controller;
+
+import com.shop.frankit.dto.ProductRevisionResponse;
+import com.shop.frankit.service.ProductRevisionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping(value = "/api/products/{productId}/history",
+    produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+@RequiredArgsConstructor
+public class ProductHistoryController {
+
+    private final ProductRevisionService productRevisionService;
+
+    @GetMapping
+    public ResponseEntity<Page<ProductRevisionResponse>> getHistory(
+        @PathVariable Long productId,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "20") int size) {
+
+        log.info("Get product history request: productId={}, page={}, size={}", productId, page, size);
+        return ResponseEntity.ok(productRevisionService.findRevisions(productId, PageRequest.of(page, size)));
+    }
+
+    @GetMapping("/{revision}")
+    public ResponseEntity<ProductRevisionResponse> getRevision(
+        @PathVariable Long productId,
+        @PathVariable int revision) {
+
+        log.info("Get product revision request: productId={}, revision={}", productId, revision);
+        return ResponseEntity.ok(productRevisionService.findRevision(productId, revision));
+    }
+}
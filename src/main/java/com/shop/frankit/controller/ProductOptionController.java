@@ -1,13 +1,21 @@
 package com.shop.frankit.controller;
 
+import com.shop.frankit.catalog.ProductIdFilter;
+import com.shop.frankit.catalog.VariantMatrix;
+import com.shop.frankit.catalog.VariantMatrixCache;
 import com.shop.frankit.dto.ProductOptionRequest;
 import com.shop.frankit.dto.ProductOptionResponse;
+import com.shop.frankit.dto.VariantMatrixResponse;
+import com.shop.frankit.dto.VariantResponse;
+import com.shop.frankit.dto.VariantSelectionRequest;
+import com.shop.frankit.mapper.ProductOptionMapper;
 import com.shop.frankit.security.UserDetailsImpl;
 import com.shop.frankit.service.ProductOptionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -19,25 +27,56 @@ import java.util.Map;
 
 @Slf4j
 @RestController
-@RequestMapping("/api/products/{productId}/options")
+@RequestMapping(value = "/api/products/{productId}/options",
+    produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
 @RequiredArgsConstructor
 public class ProductOptionController {
 
     private final ProductOptionService productOptionService;
+    private final ProductIdFilter productIdFilter;
+    private final VariantMatrixCache variantMatrixCache;
+    private final ProductOptionMapper productOptionMapper;
 
     @GetMapping
     public ResponseEntity<List<ProductOptionResponse>> getAllOptions(@PathVariable Long productId) {
         log.info("Get all options for product: id={}", productId);
+        productIdFilter.checkExists(productId);
         List<ProductOptionResponse> options = productOptionService.findByProductId(productId);
         return ResponseEntity.ok(options);
     }
 
+    @GetMapping("/variants")
+    public ResponseEntity<VariantMatrixResponse> getVariants(
+        @PathVariable Long productId,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "50") int size) {
+
+        log.info("Get variants for product: id={}, page={}, size={}", productId, page, size);
+        productIdFilter.checkExists(productId);
+        VariantMatrix matrix = variantMatrix(productId);
+        int from = (int) Math.min(Integer.MAX_VALUE, (long) Math.max(0, page) * Math.max(0, size));
+        return ResponseEntity.ok(productOptionMapper.toVariantMatrixResponse(matrix, from, size));
+    }
+
+    @PostMapping("/variants/resolve")
+    public ResponseEntity<VariantResponse> resolveVariant(
+        @PathVariable Long productId,
+        @Valid @RequestBody VariantSelectionRequest request) {
+
+        log.info("Resolve variant for product: id={}, selections={}", productId, request.getSelections());
+        productIdFilter.checkExists(productId);
+        VariantMatrix matrix = variantMatrix(productId);
+        VariantMatrix.Variant variant = matrix.variant(matrix.resolve(request.getSelections()));
+        return ResponseEntity.ok(productOptionMapper.toVariantResponse(matrix, variant));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ProductOptionResponse> getOptionById(
         @PathVariable Long productId,
         @PathVariable Long id) {
 
         log.info("Get option by ID: productId={}, optionId={}", productId, id);
+        productIdFilter.checkExists(productId);
         ProductOptionResponse option = productOptionService.findByIdAndProductId(id, productId);
         return ResponseEntity.ok(option);
     }
@@ -80,4 +119,9 @@ public class ProductOptionController {
         productOptionService.delete(id, productId, userId);
         return ResponseEntity.ok(Map.of("message", "상품 옵션이 삭제되었습니다."));
     }
-}
\ No newline at end of file
+
+    // 옵션이 바뀔 때까지 상품별 행렬을 재사용 (캐시 적중 시 DB 조회 없음)
+    private VariantMatrix variantMatrix(Long productId) {
+        return variantMatrixCache.get(productId, () -> productOptionService.buildVariantMatrix(productId));
+    }
+}
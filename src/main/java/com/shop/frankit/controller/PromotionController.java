@@ -0,0 +1,43 @@
+package com.shop.frankit.controller;
+
+import com.shop.frankit.dto.PromotionRequest;
+import com.shop.frankit.dto.PromotionResponse;
+import com.shop.frankit.service.PromotionService;
+import jakarta.validation.Valid;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/promotions")
+@PreAuthorize("hasRole('ADMIN')")
+@RequiredArgsConstructor
+public class PromotionController {
+
+    private final PromotionService promotionService;
+
+    @GetMapping
+    public ResponseEntity<List<PromotionResponse>> getPromotions() {
+        log.info("Get promotions request");
+        return ResponseEntity.ok(promotionService.findCurrent());
+    }
+
+    @PostMapping
+    public ResponseEntity<PromotionResponse> createPromotion(@Valid @RequestBody PromotionRequest request) {
+        log.info("Create promotion request: {}", request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(promotionService.create(request));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<?> deletePromotion(@PathVariable Long id) {
+        log.info("Delete promotion request: id={}", id);
+        promotionService.delete(id);
+        return ResponseEntity.ok(Map.of("message", "할인 규칙이 삭제되었습니다."));
+    }
+}
@@ -0,0 +1,87 @@
+package com.shop.frankit.controller;
+
+import com.shop.frankit.catalog.ProductIdFilter;
+import com.shop.frankit.dto.StockAdjustRequest;
+import com.shop.frankit.dto.StockReservationRequest;
+import com.shop.frankit.dto.StockReservationResponse;
+import com.shop.frankit.dto.StockResponse;
+import com.shop.frankit.security.UserDetailsImpl;
+import com.shop.frankit.service.StockService;
+import jakarta.validation.Valid;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping(value = "/api/products/{productId}/stock",
+    produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+@RequiredArgsConstructor
+public class StockController {
+
+    private final StockService stockService;
+    private final ProductIdFilter productIdFilter;
+
+    @GetMapping
+    public ResponseEntity<List<StockResponse>> getStock(@PathVariable Long productId) {
+        log.info("Get stock for product: id={}", productId);
+        productIdFilter.checkExists(productId);
+        return ResponseEntity.ok(stockService.findByProductId(productId));
+    }
+
+    @PostMapping("/adjust")
+    public ResponseEntity<StockResponse> adjustStock(
+        @PathVariable Long productId,
+        @Valid @RequestBody StockAdjustRequest request,
+        @AuthenticationPrincipal UserDetails userDetails) {
+
+        log.info("Adjust stock request: productId={}, request={}, user={}", productId, request, userDetails.getUsername());
+        Long userId = ((UserDetailsImpl) userDetails).getId();
+        StockResponse stock = stockService.adjust(productId, request.getStockKey(), request.getDelta(), userId);
+        return ResponseEntity.ok(stock);
+    }
+
+    @PostMapping("/reservations")
+    public ResponseEntity<StockReservationResponse> reserve(
+        @PathVariable Long productId,
+        @Valid @RequestBody StockReservationRequest request,
+        @AuthenticationPrincipal UserDetails userDetails) {
+
+        log.info("Reserve stock request: productId={}, request={}, user={}", productId, request, userDetails.getUsername());
+        productIdFilter.checkExists(productId);
+        Long userId = ((UserDetailsImpl) userDetails).getId();
+        StockReservationResponse reservation = stockService.reserve(productId,
+            request.getSelections() == null ? Map.of() : request.getSelections(), request.getQuantity(), userId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(reservation);
+    }
+
+    @PostMapping("/reservations/{reservationId}/commit")
+    public ResponseEntity<StockReservationResponse> commit(
+        @PathVariable Long productId,
+        @PathVariable String reservationId,
+        @AuthenticationPrincipal UserDetails userDetails) {
+
+        log.info("Commit stock reservation: productId={}, reservationId={}", productId, reservationId);
+        Long userId = ((UserDetailsImpl) userDetails).getId();
+        return ResponseEntity.ok(stockService.commit(reservationId, userId));
+    }
+
+    @DeleteMapping("/reservations/{reservationId}")
+    public ResponseEntity<?> release(
+        @PathVariable Long productId,
+        @PathVariable String reservationId,
+        @AuthenticationPrincipal UserDetails userDetails) {
+
+        log.info("Release stock reservation: productId={}, reservationId={}", productId, reservationId);
+        Long userId = ((UserDetailsImpl) userDetails).getId();
+        stockService.release(reservationId, userId);
+        return ResponseEntity.ok(Map.of("message", "재고 예약이 해제되었습니다."));
+    }
+}
@@ -0,0 +1,116 @@
+package com.shop.frankit.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 커넥션 풀 앞단의 벌크헤드
+ * 사용 중 + 대기 중인 요청 수를 (풀 크기 + 대기열 깊이)로 제한하여, 대기열이 가득 차면 즉시 실패시킨다.
+ * 커넥션 획득 대기 시간은 풀별 히스토그램(datasource.bulkhead.acquire)으로 기록한다.
+ */
+public class BulkheadDataSource extends DelegatingDataSource {
+
+    private final String poolName;
+    private final Semaphore permits;
+    private final Timer acquireTimer;
+    private final Counter rejectedCounter;
+
+    public BulkheadDataSource(DataSource target, String poolName, int poolSize, int queueDepth,
+        MeterRegistry meterRegistry) {
+        super(target);
+        this.poolName = poolName;
+        this.permits = new Semaphore(poolSize + queueDepth);
+        this.acquireTimer = Timer.builder("datasource.bulkhead.acquire")
+            .description("커넥션 획득 대기 시간")
+            .tag("pool", poolName)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("datasource.bulkhead.rejected")
+            .description("대기열 초과로 거절된 커넥션 요청 수")
+            .tag("pool", poolName)
+            .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!permits.tryAcquire()) {
+            rejectedCounter.increment();
+            throw new SQLTransientConnectionException(poolName + " 커넥션 대기열이 가득 찼습니다");
+        }
+        long start = System.nanoTime();
+        try {
+            Connection connection = obtainTargetDataSource().getConnection();
+            acquireTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return releasingProxy(connection);
+        } catch (SQLException | RuntimeException e) {
+            acquireTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            permits.release();
+            throw e;
+        }
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * close() 시 벌크헤드 허가를 반환하는 커넥션 프록시
+     */
+    private Connection releasingProxy(Connection target) {
+        return (Connection) Proxy.newProxyInstance(
+            ConnectionProxy.class.getClassLoader(),
+            new Class<?>[] {ConnectionProxy.class},
+            new ReleasingInvocationHandler(target));
+    }
+
+    private class ReleasingInvocationHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        ReleasingInvocationHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "getTargetConnection":
+                    return target;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "close":
+                    try {
+                        target.close();
+                    } finally {
+                        if (released.compareAndSet(false, true)) {
+                            permits.release();
+                        }
+                    }
+                    return null;
+                default:
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+            }
+        }
+    }
+}
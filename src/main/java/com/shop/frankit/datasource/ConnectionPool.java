@@ -0,0 +1,20 @@
+package com.shop.frankit.datasource;
+
+/**
+ * 워크로드별로 분리된 커넥션 풀 (벌크헤드)
+ */
+public enum ConnectionPool {
+    AUTH("auth"),                    // 로그인, 토큰 갱신 (Primary)
+    CATALOG_WRITE("catalog-write"),  // 상품 쓰기 및 최근 쓰기 사용자의 읽기 (Primary)
+    CATALOG_READ("catalog-read");    // 상품 readOnly 조회 (Replica)
+
+    private final String poolName;
+
+    ConnectionPool(String poolName) {
+        this.poolName = poolName;
+    }
+
+    public String getPoolName() {
+        return poolName;
+    }
+}
@@ -0,0 +1,56 @@
+package com.shop.frankit.datasource;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 사용자별 마지막 쓰기 시각을 기록하여, 쓰기 직후 일정 시간 동안은
+ * 해당 사용자의 읽기를 Primary로 보내기 위한 추적기 (복제 지연 대응)
+ */
+public class ReadYourWritesTracker {
+
+    // 이 횟수의 쓰기마다 만료된 기록을 정리
+    private static final int PURGE_INTERVAL = 1024;
+
+    private final ConcurrentMap<Long, Long> lastWriteNanos = new ConcurrentHashMap<>();
+    private final long windowNanos;
+    private final AtomicInteger writesSincePurge = new AtomicInteger();
+
+    public ReadYourWritesTracker(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    public void recordWrite(Long userId) {
+        lastWriteNanos.put(userId, System.nanoTime());
+        if (writesSincePurge.incrementAndGet() >= PURGE_INTERVAL) {
+            writesSincePurge.set(0);
+            purgeExpired();
+        }
+    }
+
+    public boolean isWithinWindow(Long userId) {
+        Long writtenAt = lastWriteNanos.get(userId);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - writtenAt < windowNanos) {
+            return true;
+        }
+        lastWriteNanos.remove(userId, writtenAt);
+        return false;
+    }
+
+    /**
+     * 윈도우가 지난 기록 정리
+     */
+    public void purgeExpired() {
+        long now = System.nanoTime();
+        lastWriteNanos.entrySet().removeIf(entry -> now - entry.getValue() >= windowNanos);
+    }
+
+    public int size() {
+        return lastWriteNanos.size();
+    }
+}
@@ -0,0 +1,18 @@
+package com.shop.frankit.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 리포지토리 또는 서비스가 사용할 커넥션 풀의 워크로드 지정
+ * 지정이 없는 리포지토리는 CATALOG로 취급한다. 바깥쪽 호출에서 정해진 워크로드가 우선한다.
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Workload {
+    WorkloadType value();
+}
@@ -0,0 +1,17 @@
+package com.shop.frankit.datasource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * @Workload가 붙은 서비스의 메소드 실행 동안 워크로드 지정
+ */
+@Aspect
+public class WorkloadAspect {
+
+    @Around("@within(workload)")
+    public Object bindWorkload(ProceedingJoinPoint joinPoint, Workload workload) throws Throwable {
+        return WorkloadContext.callWith(workload.value(), joinPoint::proceed);
+    }
+}
@@ -0,0 +1,37 @@
+package com.shop.frankit.datasource;
+
+/**
+ * 현재 스레드의 워크로드 보관, 가장 바깥쪽 호출에서 설정한 값이 유지된다
+ */
+public final class WorkloadContext {
+
+    private static final ThreadLocal<WorkloadType> CURRENT = new ThreadLocal<>();
+
+    private WorkloadContext() {
+    }
+
+    public static WorkloadType current() {
+        WorkloadType workload = CURRENT.get();
+        return workload != null ? workload : WorkloadType.CATALOG;
+    }
+
+    /**
+     * 워크로드가 정해지지 않은 경우에만 설정하고 작업 실행
+     */
+    public static <T> T callWith(WorkloadType workload, ThrowingSupplier<T> task) throws Throwable {
+        if (CURRENT.get() != null) {
+            return task.get();
+        }
+        CURRENT.set(workload);
+        try {
+            return task.get();
+        } finally {
+            CURRENT.remove();
+        }
+    }
+
+    @FunctionalInterface
+    public interface ThrowingSupplier<T> {
+        T get() throws Throwable;
+    }
+}
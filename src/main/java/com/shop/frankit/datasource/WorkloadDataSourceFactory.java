@@ -0,0 +1,49 @@
+package com.shop.frankit.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.EnumMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * 워크로드별 풀(auth, catalog-write, catalog-read)을 벌크헤드와 라우팅 DataSource로 묶음
+ * 기본 DataSource(0번 샤드)와 1번 이후 샤드가 같은 구성으로 만든다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class WorkloadDataSourceFactory {
+
+    private static final int DEFAULT_QUEUE_DEPTH = 20;
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+
+    /**
+     * 풀마다 벌크헤드를 씌우고 워크로드 라우팅 DataSource로 묶음 (벌크헤드 지표는 각 Hikari 풀 이름으로 구분)
+     */
+    public DataSource create(Map<ConnectionPool, HikariDataSource> pools) {
+        Map<ConnectionPool, DataSource> bulkheads = new EnumMap<>(ConnectionPool.class);
+        pools.forEach((pool, dataSource) -> bulkheads.put(pool, bulkhead(pool, dataSource)));
+
+        WorkloadRoutingDataSource routingDataSource =
+            new WorkloadRoutingDataSource(bulkheads, readYourWritesTracker, meterRegistry);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    private DataSource bulkhead(ConnectionPool pool, HikariDataSource dataSource) {
+        int queueDepth = environment.getProperty(
+            "app.datasource.pools." + pool.getPoolName() + ".queue-depth", Integer.class, DEFAULT_QUEUE_DEPTH);
+        String poolName = dataSource.getPoolName() != null ? dataSource.getPoolName() : pool.getPoolName();
+        log.info("{} 풀: 크기={}, 대기열={}, 타임아웃={}ms", poolName,
+            dataSource.getMaximumPoolSize(), queueDepth, dataSource.getConnectionTimeout());
+        return new BulkheadDataSource(dataSource, poolName, dataSource.getMaximumPoolSize(), queueDepth,
+            meterRegistry);
+    }
+}
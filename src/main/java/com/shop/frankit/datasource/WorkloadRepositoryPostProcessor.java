@@ -0,0 +1,28 @@
+package com.shop.frankit.datasource;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+/**
+ * 리포지토리 프록시에 워크로드 지정 인터셉터를 추가
+ * 리포지토리 인터페이스의 @Workload를 읽고, 없으면 CATALOG로 지정한다.
+ */
+public class WorkloadRepositoryPostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory ->
+                factory.addRepositoryProxyPostProcessor((proxyFactory, repositoryInformation) -> {
+                    Workload workload = AnnotationUtils.findAnnotation(
+                        repositoryInformation.getRepositoryInterface(), Workload.class);
+                    WorkloadType type = workload != null ? workload.value() : WorkloadType.CATALOG;
+                    proxyFactory.addAdvice(0, (MethodInterceptor) invocation ->
+                        WorkloadContext.callWith(type, invocation::proceed));
+                }));
+        }
+        return bean;
+    }
+}
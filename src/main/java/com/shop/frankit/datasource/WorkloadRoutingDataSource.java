@@ -0,0 +1,97 @@
+package com.shop.frankit.datasource;
+
+import com.shop.frankit.security.CurrentUser;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 워크로드와 트랜잭션 속성에 따라 커넥션 풀을 선택하는 라우팅 DataSource
+ * - AUTH 워크로드: auth 풀
+ * - CATALOG 쓰기 또는 최근 쓰기 사용자의 읽기: catalog-write 풀 (Primary)
+ * - CATALOG readOnly: catalog-read 풀 (Replica)
+ * 쓰기는 트랜잭션이 커밋된 시점에 기록하므로, 롤백된 쓰기는 읽기를 Primary에 묶지 않고 긴 트랜잭션도 커밋부터 윈도우가 시작된다.
+ * 실제 커넥션 획득 시점에 워크로드와 트랜잭션 속성이 확정되어 있어야 하므로 LazyConnectionDataSourceProxy로 감싸서 사용한다.
+ */
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final Counter authCounter;
+    private final Counter writeCounter;
+    private final Counter readCounter;
+    private final Counter readYourWritesCounter;
+
+    public WorkloadRoutingDataSource(Map<ConnectionPool, DataSource> pools,
+        ReadYourWritesTracker readYourWritesTracker, MeterRegistry meterRegistry) {
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.authCounter = routeCounter(meterRegistry, ConnectionPool.AUTH, "auth");
+        this.writeCounter = routeCounter(meterRegistry, ConnectionPool.CATALOG_WRITE, "write");
+        this.readCounter = routeCounter(meterRegistry, ConnectionPool.CATALOG_READ, "read");
+        this.readYourWritesCounter = routeCounter(meterRegistry, ConnectionPool.CATALOG_WRITE, "read-your-writes");
+        setTargetDataSources(Map.copyOf(pools));
+        setDefaultTargetDataSource(pools.get(ConnectionPool.CATALOG_WRITE));
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (WorkloadContext.current() == WorkloadType.AUTH) {
+            authCounter.increment();
+            return ConnectionPool.AUTH;
+        }
+
+        Long userId = CurrentUser.id();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (userId != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+                recordWriteAfterCommit(userId);
+            }
+            writeCounter.increment();
+            return ConnectionPool.CATALOG_WRITE;
+        }
+
+        // 최근에 쓰기를 한 사용자는 복제 지연 동안 Primary에서 읽음
+        if (userId != null && readYourWritesTracker.isWithinWindow(userId)) {
+            readYourWritesCounter.increment();
+            return ConnectionPool.CATALOG_WRITE;
+        }
+
+        readCounter.increment();
+        return ConnectionPool.CATALOG_READ;
+    }
+
+    // 트랜잭션마다 한 번만 등록 (같은 트랜잭션에서 커넥션을 다시 얻어도 중복 기록하지 않음)
+    private void recordWriteAfterCommit(Long userId) {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof RecordWriteOnCommit recorded && recorded.userId.equals(userId)) {
+                return;
+            }
+        }
+        TransactionSynchronizationManager.registerSynchronization(new RecordWriteOnCommit(userId));
+    }
+
+    private class RecordWriteOnCommit implements TransactionSynchronization {
+
+        private final Long userId;
+
+        RecordWriteOnCommit(Long userId) {
+            this.userId = userId;
+        }
+
+        @Override
+        public void afterCommit() {
+            readYourWritesTracker.recordWrite(userId);
+        }
+    }
+
+    private static Counter routeCounter(MeterRegistry registry, ConnectionPool pool, String reason) {
+        return Counter.builder("datasource.routing")
+            .description("라우팅된 커넥션 요청 수")
+            .tag("pool", pool.getPoolName())
+            .tag("reason", reason)
+            .register(registry);
+    }
+}
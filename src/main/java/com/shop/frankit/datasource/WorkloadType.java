@@ -0,0 +1,6 @@
+package com.shop.frankit.datasource;
+
+public enum WorkloadType {
+    AUTH,    // 인증 관련 (users, refresh_tokens)
+    CATALOG  // 상품 카탈로그 (products, product_options, option_values)
+}
@@ -0,0 +1,22 @@
+package com.shop.frankit.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 장바구니 담기 요청, 옵션은 견적 요청과 같은 형식
+ */
+@Getter @Setter @ToString
+public class CartItemRequest {
+    @NotNull(message = "상품 ID는 필수입니다.")
+    private Long productId;
+    private Map<Long, String> selections = new HashMap<>();
+    private Map<Long, String> inputs = new HashMap<>();
+    @Min(value = 1, message = "수량은 1개 이상이어야 합니다.")
+    private int quantity = 1;
+}
@@ -0,0 +1,12 @@
+package com.shop.frankit.dto;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter @Setter @ToString
+public class CartQuantityRequest {
+    @Min(value = 1, message = "수량은 1개 이상이어야 합니다.")
+    private int quantity = 1;
+}
@@ -0,0 +1,36 @@
+package com.shop.frankit.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.shop.frankit.entity.Money;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 장바구니, 금액은 조회 시점의 가격으로 계산 (total은 구매 가능한 항목의 합계)
+ */
+@Getter @Setter @ToString
+public class CartResponse {
+    private List<Item> items;
+    private Money total;
+
+    /**
+     * 장바구니 항목, 상품이 삭제되었거나 옵션이 바뀌어 구매할 수 없으면 available=false이고 금액은 null
+     */
+    @Getter @Setter @ToString
+    public static class Item {
+        private int itemId;
+        @JsonFormat(shape = JsonFormat.Shape.STRING)
+        private Long productId;
+        private Map<Long, String> selections;
+        private Map<Long, String> inputs;
+        private List<String> selectedValues;
+        private int quantity;
+        private boolean available;
+        private Money unitPrice;
+        private Money shippingFee;
+        private Money total;
+    }
+}
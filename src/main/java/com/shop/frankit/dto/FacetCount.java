@@ -0,0 +1,16 @@
+package com.shop.frankit.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 패싯 구간별 상품 수 (key 예: "10000-30000", "100000-", "free", 판매자 ID)
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class FacetCount {
+    private final String key;
+    private final long count;
+}
@@ -0,0 +1,19 @@
+package com.shop.frankit.dto;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.data.domain.Page;
+
+/**
+ * 패싯 검색 결과
+ * 각 패싯의 개수는 해당 패싯을 제외한 나머지 조건을 적용한 상품 수 (선택을 바꿨을 때의 결과 수)
+ */
+@Getter @Setter @ToString
+public class FacetedSearchResponse {
+    private Page<ProductResponse> products;
+    private List<FacetCount> priceBuckets;
+    private List<FacetCount> shippingFeeBuckets;
+    private List<FacetCount> sellers;
+}
@@ -0,0 +1,26 @@
+package com.shop.frankit.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.shop.frankit.entity.Money;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 저장이 끝난 주문, totalPrice = unitPrice x quantity + shippingFee
+ */
+@Getter @Setter @ToString
+public class OrderResponse {
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private Long orderId;
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private Long productId;
+    private List<String> selectedValues;
+    private Money unitPrice;
+    private int quantity;
+    private Money shippingFee;
+    private Money totalPrice;
+    private LocalDateTime orderedAt;
+}
@@ -0,0 +1,19 @@
+package com.shop.frankit.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 인기 상품 순위 항목, views는 최근 구간의 조회 수 근사값(하한)
+ */
+@Getter @ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class PopularProductResponse {
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private Long productId;
+    private long views;
+}
@@ -0,0 +1,21 @@
+package com.shop.frankit.dto;
+
+import com.shop.frankit.entity.Money;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 가격 변경 예약 요청, price/shippingFee 중 바꿀 값만 입력
+ */
+@Getter @Setter @ToString
+public class PriceChangeRequest {
+    private Money price;
+    private Money shippingFee;
+    @NotNull(message = "적용 시각은 필수입니다.")
+    @Future(message = "적용 시각은 현재 이후여야 합니다.")
+    private LocalDateTime applyAt;
+}
@@ -0,0 +1,24 @@
+package com.shop.frankit.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.shop.frankit.entity.Money;
+import com.shop.frankit.entity.ScheduledPriceChange;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter @Setter @ToString
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PriceChangeResponse {
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private Long id;
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private Long productId;
+    private Money price;
+    private Money shippingFee;
+    private LocalDateTime applyAt;
+    private ScheduledPriceChange.Status status;
+    private LocalDateTime appliedAt;
+}
@@ -0,0 +1,17 @@
+package com.shop.frankit.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 여러 상품 한 번에 조회 요청 (ID가 많아 쿼리 문자열로 보내기 어려운 경우)
+ */
+@Getter @Setter @ToString
+public class ProductBatchRequest {
+    @NotEmpty(message = "조회할 상품 ID를 입력해주세요.")
+    private List<Long> ids;
+    private String fields;  // 생략하면 단건 조회와 같은 전체 필드
+}
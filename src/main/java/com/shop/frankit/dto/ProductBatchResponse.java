@@ -0,0 +1,17 @@
+package com.shop.frankit.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 여러 상품 조회 결과, 상품은 요청한 ID 순서(중복 제외)이며 없는 ID는 missingIds로 알려준다
+ */
+@Getter @Setter @ToString
+public class ProductBatchResponse {
+    private List<ProductResponse> products;
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private List<Long> missingIds;
+}
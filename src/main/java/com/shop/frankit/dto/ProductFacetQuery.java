@@ -0,0 +1,20 @@
+package com.shop.frankit.dto;
+
+import java.math.BigDecimal;
+import java.util.Set;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 패싯 검색 조건, null이거나 비어 있는 항목은 조건에 포함하지 않음
+ */
+@Getter
+@Builder
+@ToString
+public class ProductFacetQuery {
+    private final BigDecimal minPrice;
+    private final BigDecimal maxPrice;
+    private final boolean freeShipping;
+    private final Set<Long> sellerIds;
+}
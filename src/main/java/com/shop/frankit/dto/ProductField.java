@@ -0,0 +1,145 @@
+package com.shop.frankit.dto;
+
+import com.shop.frankit.entity.CompressedText;
+import com.shop.frankit.entity.Money;
+import com.shop.frankit.entity.Product;
+import com.shop.frankit.exception.InvalidRequestException;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 목록 조회 시 선택할 수 있는 상품 필드 (fields= 파라미터)
+ * 선택된 필드만 SELECT 절에 포함되며 엔티티를 로딩하지 않고 ProductResponse에 바로 채운다.
+ */
+public enum ProductField {
+    ID("id", root -> root.get("id"),
+        (dto, value) -> dto.setId((Long) value)),
+    NAME("name", root -> root.get("name"),
+        (dto, value) -> dto.setName((String) value)),
+    DESCRIPTION("description", root -> root.get("descriptionBody"),
+        (dto, value) -> dto.setDescriptionText((CompressedText) value)) {
+        // 압축 컬럼과 마이그레이션 전 기존 컬럼을 함께 조회
+        @Override
+        public List<Selection<?>> selections(Root<Product> root) {
+            return List.of(
+                root.get("descriptionBody").alias(getName()),
+                root.get("description").alias(LEGACY_DESCRIPTION_ALIAS));
+        }
+
+        @Override
+        public void apply(ProductResponse dto, Tuple tuple) {
+            CompressedText body = (CompressedText) tuple.get(getName());
+            if (body != null) {
+                dto.setDescriptionText(body);
+            } else {
+                dto.setDescription((String) tuple.get(LEGACY_DESCRIPTION_ALIAS));
+            }
+        }
+    },
+    PRICE("price", root -> root.get("price"),
+        (dto, value) -> dto.setPrice((Money) value)),
+    SHIPPING_FEE("shippingFee", root -> root.get("shippingFee"),
+        (dto, value) -> dto.setShippingFee((Money) value)),
+    REGISTERED_AT("registeredAt", root -> root.get("registeredAt"),
+        (dto, value) -> dto.setRegisteredAt((LocalDateTime) value)),
+    USER_ID("userId", root -> root.get("user").get("id"),
+        (dto, value) -> dto.setUserId((Long) value)),
+    CREATED_AT("createdAt", root -> root.get("createdAt"),
+        (dto, value) -> dto.setCreatedAt((LocalDateTime) value)),
+    UPDATED_AT("updatedAt", root -> root.get("updatedAt"),
+        (dto, value) -> dto.setUpdatedAt((LocalDateTime) value));
+
+    /**
+     * fields 파라미터가 없을 때 목록 조회에 사용하는 기본 필드 (description 제외)
+     */
+    public static final Set<ProductField> LIST_DEFAULT = Collections.unmodifiableSet(
+        EnumSet.of(ID, NAME, PRICE, SHIPPING_FEE, REGISTERED_AT, USER_ID));
+
+    /**
+     * 단건 조회와 같은 전체 필드
+     */
+    public static final Set<ProductField> ALL = Collections.unmodifiableSet(EnumSet.allOf(ProductField.class));
+
+    private static final String LEGACY_DESCRIPTION_ALIAS = "legacyDescription";
+
+    private final String name;
+    private final Function<Root<Product>, Path<?>> path;
+    private final BiConsumer<ProductResponse, Object> setter;
+
+    ProductField(String name, Function<Root<Product>, Path<?>> path, BiConsumer<ProductResponse, Object> setter) {
+        this.name = name;
+        this.path = path;
+        this.setter = setter;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 이 필드를 위해 SELECT 절에 추가할 컬럼
+     */
+    public List<Selection<?>> selections(Root<Product> root) {
+        return List.of(path.apply(root).alias(name));
+    }
+
+    /**
+     * 조회 결과에서 이 필드 값을 읽어 응답에 채움
+     */
+    public void apply(ProductResponse dto, Tuple tuple) {
+        setter.accept(dto, tuple.get(name));
+    }
+
+    /**
+     * 정렬 기준 필드를 포함한 필드 집합
+     */
+    public static Set<ProductField> withSortFields(Set<ProductField> fields, Sort sort) {
+        if (sort.isUnsorted()) {
+            return fields;
+        }
+        EnumSet<ProductField> result = EnumSet.copyOf(fields);
+        sort.forEach(order -> result.add(from(order.getProperty())));
+        return result;
+    }
+
+    public static ProductField from(String name) {
+        return Arrays.stream(values())
+            .filter(field -> field.name.equals(name))
+            .findFirst()
+            .orElseThrow(() -> InvalidRequestException.unknownField(name));
+    }
+
+    /**
+     * "id,name,price" 형태의 파라미터를 필드 집합으로 변환, id는 항상 포함
+     */
+    public static Set<ProductField> parse(String fields) {
+        return parse(fields, LIST_DEFAULT);
+    }
+
+    /**
+     * 파라미터가 없으면 defaults 사용
+     */
+    public static Set<ProductField> parse(String fields, Set<ProductField> defaults) {
+        if (fields == null || fields.isBlank()) {
+            return defaults;
+        }
+        EnumSet<ProductField> result = EnumSet.of(ID);
+        for (String name : fields.split(",")) {
+            if (!name.isBlank()) {
+                result.add(from(name.trim()));
+            }
+        }
+        return result;
+    }
+}
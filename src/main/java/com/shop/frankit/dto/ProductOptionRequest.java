@@ -1,16 +1,16 @@
 package com.shop.frankit.dto;
 
+import com.shop.frankit.entity.Money;
 import com.shop.frankit.entity.ProductOption;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
-import java.math.BigDecimal;
 import java.util.List;
 
 @Getter @Setter @ToString
 public class ProductOptionRequest {
     private String name;
     private ProductOption.OptionType type;  // INPUT 또는 SELECT
-    private BigDecimal additionalPrice;
+    private Money additionalPrice;
     private List<String> optionValues;  // SELECT 타입인 경우 선택 가능한 값 목록
 }
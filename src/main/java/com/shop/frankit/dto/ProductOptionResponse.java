@@ -1,7 +1,8 @@
 package com.shop.frankit.dto;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.shop.frankit.entity.Money;
 import com.shop.frankit.entity.ProductOption.OptionType;
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import lombok.Getter;
@@ -12,10 +13,12 @@ import lombok.ToString;
 @Setter
 @ToString
 public class ProductOptionResponse {
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
     private Long id;
     private String name;
     private OptionType type;
-    private BigDecimal additionalPrice;
+    private Money additionalPrice;
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
     private Long productId;
     private List<String> optionValues;  // SELECT 타입인 경우 선택 가능한 값 목록
     private LocalDateTime createdAt;
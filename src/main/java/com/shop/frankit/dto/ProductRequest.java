@@ -3,12 +3,12 @@ package com.shop.frankit.dto;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
-import java.math.BigDecimal;
+import com.shop.frankit.entity.Money;
 
 @Getter @Setter @ToString
 public class ProductRequest {
     private String name;
     private String description;
-    private BigDecimal price;
-    private BigDecimal shippingFee;
+    private Money price;
+    private Money shippingFee;
 }
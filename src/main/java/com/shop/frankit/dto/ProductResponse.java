@@ -1,20 +1,37 @@
 package com.shop.frankit.dto;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.shop.frankit.entity.CompressedText;
+import com.shop.frankit.entity.Money;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Getter @Setter @ToString
 public class ProductResponse {
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
     private Long id;
     private String name;
-    private String description;
-    private BigDecimal price;
-    private BigDecimal shippingFee;
+    private CompressedText description;  // 직렬화 시점에 압축 해제
+    private Money price;
+    private Money shippingFee;
+    private Money discountedPrice;  // 할인 적용 가격, 적용되는 할인이 없으면 null
+    private Money discountedShippingFee;  // 무료배송 적용 시 0
     private LocalDateTime registeredAt;
     private Long userId;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    public String getDescription() {
+        return description == null ? null : description.value();
+    }
+
+    public void setDescription(String description) {
+        this.description = CompressedText.of(description);
+    }
+
+    public void setDescriptionText(CompressedText description) {
+        this.description = description;
+    }
 }
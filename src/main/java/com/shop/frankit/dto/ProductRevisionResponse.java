@@ -0,0 +1,43 @@
+package com.shop.frankit.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.shop.frankit.entity.Money;
+import com.shop.frankit.entity.ProductOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 상품 리비전, 목록에서는 바뀐 필드만, 리비전 조회에서는 그 시점의 상품 상태까지 채운다
+ */
+@Getter @Setter @ToString
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ProductRevisionResponse {
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private Long productId;
+    private Integer revision;
+    private List<String> changedFields;
+    private Long userId;
+    private LocalDateTime createdAt;
+
+    // 리비전 조회 시에만
+    private String name;
+    private String description;
+    private Money price;
+    private Money shippingFee;
+    private List<Option> options;
+    private Boolean deleted;
+
+    @Getter @Setter @ToString
+    public static class Option {
+        @JsonFormat(shape = JsonFormat.Shape.STRING)
+        private Long id;
+        private String name;
+        private ProductOption.OptionType type;
+        private Money additionalPrice;
+        private List<String> values;
+    }
+}
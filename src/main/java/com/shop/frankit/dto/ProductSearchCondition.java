@@ -0,0 +1,29 @@
+package com.shop.frankit.dto;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 상품 목록 조회 조건, null인 항목은 조건에 포함하지 않음
+ */
+@Getter
+@Builder
+@ToString
+public class ProductSearchCondition {
+    private final String name;
+    private final Long userId;
+    private final BigDecimal minPrice;
+    private final BigDecimal maxPrice;
+    private final Collection<Long> ids;
+
+    public boolean hasPriceRange() {
+        return minPrice != null || maxPrice != null;
+    }
+
+    public static ProductSearchCondition none() {
+        return builder().build();
+    }
+}
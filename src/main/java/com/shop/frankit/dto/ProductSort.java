@@ -0,0 +1,97 @@
+package com.shop.frankit.dto;
+
+import com.shop.frankit.exception.InvalidRequestException;
+import java.util.Arrays;
+import java.util.Iterator;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 상품 목록에서 허용하는 정렬 기준
+ * 각 정렬은 (정렬 키, id) 복합 인덱스로 처리되며 (Product @Table 인덱스 참고),
+ * 같은 값 안에서는 id를 같은 방향으로 정렬해 인덱스 순서와 일치시킨다.
+ * 가격 범위 조건이 있으면 price 범위 스캔과 순서가 맞는 가격순과 ID순만 허용한다.
+ * (이름순/등록일순은 범위 조건 뒤에 정렬할 인덱스가 없어 filesort 또는 전체 인덱스 스캔이 됨)
+ */
+public enum ProductSort {
+    ID("id", "id", true, true),
+    NAME("name", "name", false, false),
+    PRICE("price", "price", true, true),
+    REGISTERED_AT("registeredAt", "registered_at", true, false);
+
+    private final String property;
+    private final String column;
+    private final boolean sellerScoped;  // 판매자 조건과 함께 쓸 수 있는지 (user_id 선두 인덱스 존재)
+    private final boolean priceRangeScoped;  // 가격 범위 조건과 함께 쓸 수 있는지
+
+    ProductSort(String property, String column, boolean sellerScoped, boolean priceRangeScoped) {
+        this.property = property;
+        this.column = column;
+        this.sellerScoped = sellerScoped;
+        this.priceRangeScoped = priceRangeScoped;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    public boolean isSellerScoped() {
+        return sellerScoped;
+    }
+
+    public boolean isPriceRangeScoped() {
+        return priceRangeScoped;
+    }
+
+    public Sort toSort(Sort.Direction direction) {
+        Sort sort = Sort.by(direction, property);
+        return this == ID ? sort : sort.and(Sort.by(direction, ID.property));
+    }
+
+    /**
+     * "price" 또는 "price,desc" 형태의 정렬 파라미터 변환, 허용되지 않은 정렬이면 예외
+     */
+    public static Sort parse(String sort) {
+        String[] parts = sort.split(",");
+        if (parts.length > 2) {
+            throw InvalidRequestException.unsupportedSort(sort);
+        }
+        Sort.Direction direction = parts.length == 2
+            ? Sort.Direction.fromOptionalString(parts[1].trim()).orElseThrow(() -> InvalidRequestException.unsupportedSort(sort))
+            : Sort.Direction.ASC;
+        return from(parts[0].trim()).toSort(direction);
+    }
+
+    /**
+     * 서비스 계층에 전달된 정렬이 허용된 조합인지 확인
+     * 첫 정렬 기준이 허용 목록에 있고, 뒤에는 같은 방향의 id만 올 수 있다.
+     */
+    public static void validate(Sort sort, boolean sellerFilter, boolean priceFilter) {
+        Iterator<Sort.Order> orders = sort.iterator();
+        if (!orders.hasNext()) {
+            return;
+        }
+        Sort.Order first = orders.next();
+        ProductSort productSort = from(first.getProperty());
+        if (sellerFilter && !productSort.sellerScoped || priceFilter && !productSort.priceRangeScoped) {
+            throw InvalidRequestException.unsupportedSort(first.getProperty());
+        }
+        if (orders.hasNext()) {
+            Sort.Order tieBreaker = orders.next();
+            if (productSort == ID || !ID.property.equals(tieBreaker.getProperty())
+                || tieBreaker.getDirection() != first.getDirection() || orders.hasNext()) {
+                throw InvalidRequestException.unsupportedSort(sort.toString());
+            }
+        }
+    }
+
+    public static ProductSort from(String property) {
+        return Arrays.stream(values())
+            .filter(sort -> sort.property.equals(property))
+            .findFirst()
+            .orElseThrow(() -> InvalidRequestException.unsupportedSort(property));
+    }
+}
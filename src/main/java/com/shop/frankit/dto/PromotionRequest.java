@@ -0,0 +1,28 @@
+package com.shop.frankit.dto;
+
+import com.shop.frankit.entity.Money;
+import com.shop.frankit.entity.Promotion;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 할인 규칙 등록 요청, productId/sellerId가 모두 없으면 전체 상품 대상 (startsAt이 없으면 즉시 시작)
+ */
+@Getter @Setter @ToString
+public class PromotionRequest {
+    @NotBlank(message = "할인 이름은 필수입니다.")
+    private String name;
+    @NotNull(message = "할인 유형은 필수입니다.")
+    private Promotion.Type type;
+    private Long sellerId;
+    private Long productId;
+    private Integer percent;  // PERCENT_OFF (1~100)
+    private Money amount;  // FIXED_OFF 할인액
+    private Money minPrice;  // FIXED_OFF, FREE_SHIPPING 적용 최소 가격
+    private LocalDateTime startsAt;
+    private LocalDateTime endsAt;
+}
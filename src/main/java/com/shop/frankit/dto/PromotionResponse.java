@@ -0,0 +1,27 @@
+package com.shop.frankit.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.shop.frankit.entity.Money;
+import com.shop.frankit.entity.Promotion;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter @Setter @ToString
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PromotionResponse {
+    private Long id;
+    private String name;
+    private Promotion.Type type;
+    private Long sellerId;
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private Long productId;
+    private Integer percent;
+    private Money amount;
+    private Money minPrice;
+    private LocalDateTime startsAt;
+    private LocalDateTime endsAt;
+    private LocalDateTime createdAt;
+}
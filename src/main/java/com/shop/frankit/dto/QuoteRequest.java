@@ -0,0 +1,19 @@
+package com.shop.frankit.dto;
+
+import jakarta.validation.constraints.Min;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 견적 요청, SELECT 옵션은 옵션 ID별 선택 값, INPUT 옵션은 옵션 ID별 입력 내용
+ */
+@Getter @Setter @ToString
+public class QuoteRequest {
+    private Map<Long, String> selections = new HashMap<>();
+    private Map<Long, String> inputs = new HashMap<>();
+    @Min(value = 1, message = "수량은 1개 이상이어야 합니다.")
+    private int quantity = 1;
+}
@@ -0,0 +1,26 @@
+package com.shop.frankit.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.shop.frankit.entity.Money;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 견적 결과, total = unitPrice x quantity + shippingFee
+ * unitPrice와 shippingFee는 할인 적용 후 금액이고, discount는 할인된 금액 합계(배송비 제외)
+ */
+@Getter @Setter @ToString
+public class QuoteResponse {
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private Long productId;
+    private int variantIndex;
+    private List<String> selectedValues;
+    private Money unitPrice;
+    private int quantity;
+    private Money subtotal;
+    private Money discount;
+    private Money shippingFee;
+    private Money total;
+}
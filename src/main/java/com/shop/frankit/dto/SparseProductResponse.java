@@ -0,0 +1,11 @@
+package com.shop.frankit.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 필드를 골라 조회한 목록 항목 (ProductField), 선택되지 않은 필드(null)는 응답에서 생략
+ * 단건 조회, 등록, 수정 응답(ProductResponse)은 null 필드도 그대로 내보낸다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SparseProductResponse extends ProductResponse {
+}
@@ -0,0 +1,16 @@
+package com.shop.frankit.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 재고 입고(양수)/차감(음수) 요청, stockKey를 생략하면 상품 ID (SELECT 옵션이 없는 상품)
+ */
+@Getter @Setter @ToString
+public class StockAdjustRequest {
+    private Long stockKey;
+    @NotNull(message = "변경할 수량을 입력해주세요.")
+    private Long delta;
+}
@@ -0,0 +1,18 @@
+package com.shop.frankit.dto;
+
+import jakarta.validation.constraints.Min;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 재고 예약 요청, SELECT 옵션 ID별 선택 값 (견적 요청과 같은 형식)
+ */
+@Getter @Setter @ToString
+public class StockReservationRequest {
+    private Map<Long, String> selections = new HashMap<>();
+    @Min(value = 1, message = "수량은 1개 이상이어야 합니다.")
+    private int quantity = 1;
+}
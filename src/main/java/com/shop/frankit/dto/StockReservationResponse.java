@@ -0,0 +1,22 @@
+package com.shop.frankit.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import java.time.Instant;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 재고 예약 결과, expiresAt까지 확정하지 않으면 예약이 풀린다
+ */
+@Getter @Setter @ToString
+public class StockReservationResponse {
+    private String reservationId;
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private Long productId;
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private List<Long> stockKeys;
+    private int quantity;
+    private Instant expiresAt;
+}
@@ -0,0 +1,20 @@
+package com.shop.frankit.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 재고 키별 수량, SELECT 옵션이 없는 상품은 상품 ID가 재고 키이고 optionId/value는 비어 있다
+ */
+@Getter @Setter @ToString
+public class StockResponse {
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private Long stockKey;
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private Long optionId;
+    private String value;
+    private long available;  // 지금 예약할 수 있는 수량
+    private long reserved;  // 확정/해제되지 않은 예약 수량
+}
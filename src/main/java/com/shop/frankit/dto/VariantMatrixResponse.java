@@ -0,0 +1,27 @@
+package com.shop.frankit.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 상품의 옵션 조합 목록 (선택 옵션 정의와 요청한 범위의 조합)
+ */
+@Getter @Setter @ToString
+public class VariantMatrixResponse {
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private Long productId;
+    private List<VariantOption> options;
+    private int variantCount;
+    private List<VariantResponse> variants;
+
+    @Getter @Setter @ToString
+    public static class VariantOption {
+        @JsonFormat(shape = JsonFormat.Shape.STRING)
+        private Long optionId;
+        private String name;
+        private List<String> values;
+    }
+}
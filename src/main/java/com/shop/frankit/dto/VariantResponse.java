@@ -0,0 +1,17 @@
+package com.shop.frankit.dto;
+
+import com.shop.frankit.entity.Money;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 옵션 조합 하나, index는 상품 안에서 조합을 가리키는 번호이고 values는 선택 옵션 순서의 값
+ */
+@Getter @Setter @ToString
+public class VariantResponse {
+    private int index;
+    private List<String> values;
+    private Money additionalPrice;
+}
@@ -0,0 +1,16 @@
+package com.shop.frankit.dto;
+
+import jakarta.validation.constraints.NotNull;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 옵션 조합 선택 요청, 선택 옵션 ID별로 값 하나씩
+ */
+@Getter @Setter @ToString
+public class VariantSelectionRequest {
+    @NotNull(message = "옵션 선택 값을 입력해주세요.")
+    private Map<Long, String> selections;
+}
@@ -0,0 +1,157 @@
+package com.shop.frankit.entity;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 큰 텍스트를 압축해서 저장하기 위한 값 타입
+ * 저장 형식: [코덱 헤더 1바이트][본문], 임계값 이상인 텍스트만 DEFLATE로 압축한다.
+ * DB에서 읽은 값은 실제로 문자열이 필요할 때(응답 직렬화 시점) 한 번만 압축 해제된다.
+ */
+public final class CompressedText {
+
+    public static final byte CODEC_RAW = 0;
+    public static final byte CODEC_DEFLATE = 1;
+
+    // 이 크기(UTF-8 바이트) 이상일 때만 압축
+    public static final int COMPRESSION_THRESHOLD = 4 * 1024;
+
+    private volatile String value;
+    private volatile byte[] encoded;
+
+    private CompressedText(String value, byte[] encoded) {
+        this.value = value;
+        this.encoded = encoded;
+    }
+
+    public static CompressedText of(String value) {
+        return value == null ? null : new CompressedText(value, null);
+    }
+
+    public static CompressedText fromEncoded(byte[] encoded) {
+        if (encoded == null || encoded.length == 0) {
+            throw new IllegalArgumentException("압축 텍스트 헤더가 없습니다");
+        }
+        return new CompressedText(null, encoded);
+    }
+
+    /**
+     * 원본 문자열, 최초 호출 시 압축 해제
+     */
+    public String value() {
+        String result = value;
+        if (result == null) {
+            result = decode(encoded);
+            value = result;
+        }
+        return result;
+    }
+
+    /**
+     * 저장용 인코딩 바이트 (헤더 포함), 최초 호출 시 인코딩
+     */
+    public byte[] encoded() {
+        byte[] result = encoded;
+        if (result == null) {
+            result = encode(value);
+            encoded = result;
+        }
+        return result;
+    }
+
+    public boolean isCompressed() {
+        return encoded()[0] == CODEC_DEFLATE;
+    }
+
+    static byte[] encode(String text) {
+        byte[] raw = text.getBytes(StandardCharsets.UTF_8);
+        if (raw.length >= COMPRESSION_THRESHOLD) {
+            byte[] deflated = deflate(raw);
+            if (deflated.length < raw.length) {
+                return withHeader(CODEC_DEFLATE, deflated, deflated.length);
+            }
+        }
+        return withHeader(CODEC_RAW, raw, raw.length);
+    }
+
+    static String decode(byte[] encoded) {
+        return switch (encoded[0]) {
+            case CODEC_RAW -> new String(encoded, 1, encoded.length - 1, StandardCharsets.UTF_8);
+            case CODEC_DEFLATE -> new String(inflate(encoded), StandardCharsets.UTF_8);
+            default -> throw new IllegalStateException("알 수 없는 압축 코덱: " + encoded[0]);
+        };
+    }
+
+    private static byte[] withHeader(byte codec, byte[] body, int length) {
+        byte[] result = new byte[length + 1];
+        result[0] = codec;
+        System.arraycopy(body, 0, result, 1, length);
+        return result;
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 4);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                int n = deflater.deflate(buffer);
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] encoded) {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(encoded, 1, encoded.length - 1);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(encoded.length * 4);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("압축 데이터가 손상되었습니다");
+                }
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("압축 데이터가 손상되었습니다", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CompressedText other)) {
+            return false;
+        }
+        if (value != null && other.value != null) {
+            return value.equals(other.value);
+        }
+        return Arrays.equals(encoded(), other.encoded());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(encoded());
+    }
+
+    @Override
+    public String toString() {
+        return value();
+    }
+}
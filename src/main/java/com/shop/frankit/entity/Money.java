@@ -0,0 +1,120 @@
+package com.shop.frankit.entity;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.shop.frankit.entity.converter.MoneyJsonDeserializer;
+import com.shop.frankit.entity.converter.MoneyJsonSerializer;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 금액 값 타입, 최소 단위(1/100)를 long으로 보관하는 불변 객체
+ * - DB에는 기존과 같은 DECIMAL(38, 2) 컬럼으로 저장 (MoneyConverter)
+ * - JSON에는 기존과 같은 숫자 형식으로 쓴다 (예: 10000.00)
+ * - 덧셈/곱셈은 long 연산이며 범위를 넘으면 ArithmeticException
+ */
+@JsonSerialize(using = MoneyJsonSerializer.class)
+@JsonDeserialize(using = MoneyJsonDeserializer.class)
+public final class Money implements Comparable<Money> {
+
+    public static final int SCALE = 2;
+    public static final Money ZERO = new Money(0);
+
+    private final long minorUnits;
+
+    private Money(long minorUnits) {
+        this.minorUnits = minorUnits;
+    }
+
+    public static Money ofMinor(long minorUnits) {
+        return minorUnits == 0 ? ZERO : new Money(minorUnits);
+    }
+
+    public static Money of(long amount) {
+        return ofMinor(Math.multiplyExact(amount, 100L));
+    }
+
+    /**
+     * 소수 셋째 자리 이하 값이 있으면 ArithmeticException (반올림하지 않음)
+     */
+    public static Money of(BigDecimal amount) {
+        return of(amount, RoundingMode.UNNECESSARY);
+    }
+
+    public static Money of(BigDecimal amount, RoundingMode roundingMode) {
+        return ofMinor(amount.setScale(SCALE, roundingMode).unscaledValue().longValueExact());
+    }
+
+    public long minorUnits() {
+        return minorUnits;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    public Money plus(Money other) {
+        return other.minorUnits == 0 ? this : ofMinor(Math.addExact(minorUnits, other.minorUnits));
+    }
+
+    public Money minus(Money other) {
+        return other.minorUnits == 0 ? this : ofMinor(Math.subtractExact(minorUnits, other.minorUnits));
+    }
+
+    public Money times(long quantity) {
+        return quantity == 1 ? this : ofMinor(Math.multiplyExact(minorUnits, quantity));
+    }
+
+    public boolean isZero() {
+        return minorUnits == 0;
+    }
+
+    public boolean isNegative() {
+        return minorUnits < 0;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof Money other && minorUnits == other.minorUnits);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        char[] buffer = new char[24];
+        return new String(buffer, 0, format(minorUnits, buffer));
+    }
+
+    /**
+     * 최소 단위 금액을 "12345.67" 형태로 버퍼 앞부분에 쓰고 길이를 반환 (버퍼는 24자 이상)
+     */
+    public static int format(long minorUnits, char[] buffer) {
+        int position = buffer.length;
+        // 음수로 계산 (Long.MIN_VALUE는 양수로 바꿀 수 없음), 나머지는 0 이하
+        long remaining = minorUnits > 0 ? -minorUnits : minorUnits;
+        for (int i = 0; i < SCALE; i++) {
+            buffer[--position] = (char) ('0' - remaining % 10);
+            remaining /= 10;
+        }
+        buffer[--position] = '.';
+        do {
+            buffer[--position] = (char) ('0' - remaining % 10);
+            remaining /= 10;
+        } while (remaining < 0);
+        if (minorUnits < 0) {
+            buffer[--position] = '-';
+        }
+        int length = buffer.length - position;
+        System.arraycopy(buffer, position, buffer, 0, length);
+        return length;
+    }
+}
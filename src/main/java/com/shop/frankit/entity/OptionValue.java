@@ -1,11 +1,11 @@
 package com.shop.frankit.entity;
 
+import com.shop.frankit.shard.ShardedId;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -14,12 +14,14 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "option_values")
+@Table(name = "option_values", indexes = {
+    @Index(name = "idx_option_values_product_option_id_id", columnList = "product_option_id, id")
+})
 @Getter
 @NoArgsConstructor
 public class OptionValue extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @ShardedId  // 샤드 번호를 포함한 전역 ID
     private Long id;
 
     @Column(nullable = false)
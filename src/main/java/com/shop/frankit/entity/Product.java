@@ -1,17 +1,19 @@
 package com.shop.frankit.entity;
 
+import com.shop.frankit.entity.converter.CompressedTextConverter;
+import com.shop.frankit.entity.converter.MoneyConverter;
+import com.shop.frankit.shard.ShardedId;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -20,29 +22,44 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "products")
+@Table(name = "products", indexes = {
+    // 목록 정렬용 (정렬 키, id), ProductSort 참고
+    @Index(name = "idx_products_name_id", columnList = "name, id"),
+    @Index(name = "idx_products_price_id", columnList = "price, id"),
+    @Index(name = "idx_products_registered_at_id", columnList = "registered_at, id"),
+    // 판매자별 목록 정렬용 (user_id, 정렬 키, id)
+    @Index(name = "idx_products_user_id_id", columnList = "user_id, id"),
+    @Index(name = "idx_products_user_price_id", columnList = "user_id, price, id"),
+    @Index(name = "idx_products_user_registered_at_id", columnList = "user_id, registered_at, id")
+})
 @Getter
 @NoArgsConstructor
 public class Product extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @ShardedId  // 샤드 번호를 포함한 전역 ID
     private Long id;
 
     @Column(nullable = false)
     @Setter
     private String name;
 
+    // 압축 저장 도입 이전의 원본 컬럼, 마이그레이션 완료 후에는 비어 있음
     @Column(columnDefinition = "TEXT")
-    @Setter
     private String description;
 
-    @Column(nullable = false)
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(name = "description_body", columnDefinition = "LONGBLOB")
+    private CompressedText descriptionBody;
+
+    @Convert(converter = MoneyConverter.class)
+    @Column(nullable = false, precision = 38, scale = 2)
     @Setter
-    private BigDecimal price;
+    private Money price;
 
-    @Column(nullable = false)
+    @Convert(converter = MoneyConverter.class)
+    @Column(nullable = false, precision = 38, scale = 2)
     @Setter
-    private BigDecimal shippingFee;
+    private Money shippingFee;
 
     @Column(nullable = false)
     @Setter
@@ -56,4 +73,27 @@ public class Product extends BaseEntity {
     @OneToMany(mappedBy = "product", cascade = CascadeType.ALL)
     @Setter
     private List<ProductOption> options = new ArrayList<>();
+
+    /**
+     * 상품 설명, 압축 컬럼이 없으면 기존 컬럼 값 사용
+     */
+    public String getDescription() {
+        CompressedText text = getDescriptionText();
+        return text == null ? null : text.value();
+    }
+
+    /**
+     * 압축 해제 전 상태의 상품 설명 (응답 직렬화 시점까지 해제를 미루기 위해 사용)
+     */
+    public CompressedText getDescriptionText() {
+        return descriptionBody != null ? descriptionBody : CompressedText.of(description);
+    }
+
+    /**
+     * 상품 설명은 항상 압축 컬럼에 저장하고 기존 컬럼은 비운다
+     */
+    public void setDescription(String description) {
+        this.descriptionBody = CompressedText.of(description);
+        this.description = null;
+    }
 }
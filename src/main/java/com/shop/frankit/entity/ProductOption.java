@@ -1,19 +1,20 @@
 package com.shop.frankit.entity;
 
+import com.shop.frankit.entity.converter.MoneyConverter;
+import com.shop.frankit.shard.ShardedId;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
-import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.Getter;
@@ -21,12 +22,14 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "product_options")
+@Table(name = "product_options", indexes = {
+    @Index(name = "idx_product_options_product_id_id", columnList = "product_id, id")
+})
 @Getter
 @NoArgsConstructor
 public class ProductOption extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @ShardedId  // 샤드 번호를 포함한 전역 ID
     private Long id;
 
     @Column(nullable = false)
@@ -38,9 +41,10 @@ public class ProductOption extends BaseEntity {
     @Setter
     private OptionType type;
 
-    @Column(nullable = false)
+    @Convert(converter = MoneyConverter.class)
+    @Column(nullable = false, precision = 38, scale = 2)
     @Setter
-    private BigDecimal additionalPrice;
+    private Money additionalPrice;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "product_id")
@@ -0,0 +1,60 @@
+package com.shop.frankit.entity;
+
+import com.shop.frankit.entity.converter.CompressedTextConverter;
+import com.shop.frankit.shard.ShardedId;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 상품 리비전 하나, 추가만 한다
+ * - SNAPSHOT: 그 시점의 전체 상태, DELTA: 이전 리비전과의 변경분
+ * - baseRevision부터 이 리비전까지 순서대로 적용하면 이 리비전의 상태가 된다. (SNAPSHOT이면 자기 자신)
+ * - payload는 JSON이며 큰 경우(설명 전체가 들어간 스냅샷 등) 압축해서 저장한다.
+ */
+@Entity
+@Table(name = "product_revisions", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_product_revisions_product_revision", columnNames = {"product_id", "revision"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class ProductRevision extends BaseEntity {
+
+    public enum Kind { SNAPSHOT, DELTA }
+
+    @Id
+    @ShardedId  // 상품과 같은 샤드 번호를 포함한 전역 ID
+    private Long id;
+
+    @Column(nullable = false)
+    private Long productId;
+
+    @Column(nullable = false)
+    private int revision;
+
+    @Column(nullable = false)
+    private int baseRevision;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Kind kind;
+
+    // 쉼표로 구분한 필드 이름, 목록 조회 시 payload를 풀지 않기 위해 따로 저장
+    @Column(nullable = false)
+    private String changedFields;
+
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(nullable = false, columnDefinition = "LONGBLOB")
+    private CompressedText payload;
+
+    private Long userId;
+}
@@ -0,0 +1,65 @@
+package com.shop.frankit.entity;
+
+import com.shop.frankit.entity.converter.MoneyConverter;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 할인 규칙, 대상은 상품(productId) 또는 판매자(sellerId)이고 둘 다 없으면 전체 상품
+ * - PERCENT_OFF: 가격의 percent% 할인
+ * - FIXED_OFF: 가격이 minPrice 이상이면 amount 할인
+ * - FREE_SHIPPING: 가격이 minPrice 이상이면 배송비 무료 (minPrice가 없으면 항상)
+ */
+@Entity
+@Table(name = "promotions")
+@Getter
+@Setter
+@NoArgsConstructor
+public class Promotion extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Type type;
+
+    private Long sellerId;
+
+    private Long productId;
+
+    private Integer percent;
+
+    @Convert(converter = MoneyConverter.class)
+    @Column(precision = 38, scale = 2)
+    private Money amount;
+
+    @Convert(converter = MoneyConverter.class)
+    @Column(precision = 38, scale = 2)
+    private Money minPrice;
+
+    @Column(nullable = false)
+    private LocalDateTime startsAt;
+
+    // null이면 종료 없음
+    private LocalDateTime endsAt;
+
+    public enum Type {
+        PERCENT_OFF, FIXED_OFF, FREE_SHIPPING
+    }
+}
@@ -5,6 +5,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import java.time.Instant;
 import lombok.AllArgsConstructor;
@@ -16,7 +17,10 @@ import lombok.Setter;
  * RefreshToken 엔티티는 사용자의 refresh token 정보를 저장합니다. 외래 키를 사용하지 않고 email로 User와 연결
  */
 @Entity
-@Table(name = "refresh_tokens")
+@Table(name = "refresh_tokens", indexes = {
+    @Index(name = "idx_refresh_tokens_email", columnList = "email"),
+    @Index(name = "idx_refresh_tokens_expiry_date", columnList = "expiry_date")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,56 @@
+package com.shop.frankit.entity;
+
+import com.shop.frankit.entity.converter.MoneyConverter;
+import com.shop.frankit.shard.ShardedId;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 예약 가격 변경, applyAt에 상품 가격/배송비를 바꾼다 (null인 값은 그대로)
+ * 상품과 같은 샤드에 저장하며 상태는 PENDING에서 APPLIED 또는 CANCELLED로 한 번만 바뀐다.
+ */
+@Entity
+@Table(name = "scheduled_price_changes")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ScheduledPriceChange extends BaseEntity {
+
+    public enum Status { PENDING, APPLIED, CANCELLED }
+
+    @Id
+    @ShardedId  // 상품과 같은 샤드 번호를 포함한 전역 ID
+    private Long id;
+
+    @Column(nullable = false)
+    private Long productId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Convert(converter = MoneyConverter.class)
+    @Column(precision = 38, scale = 2)
+    private Money price;
+
+    @Convert(converter = MoneyConverter.class)
+    @Column(precision = 38, scale = 2)
+    private Money shippingFee;
+
+    @Column(nullable = false)
+    private LocalDateTime applyAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status = Status.PENDING;
+
+    private LocalDateTime appliedAt;
+}
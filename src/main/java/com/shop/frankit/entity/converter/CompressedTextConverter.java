@@ -0,0 +1,24 @@
+package com.shop.frankit.entity.converter;
+
+import com.shop.frankit.entity.CompressedText;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * CompressedText ↔ 바이너리 컬럼 변환, 읽을 때는 압축을 풀지 않고 바이트만 보관
+ */
+@Converter
+@Immutable
+public class CompressedTextConverter implements AttributeConverter<CompressedText, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(CompressedText attribute) {
+        return attribute == null ? null : attribute.encoded();
+    }
+
+    @Override
+    public CompressedText convertToEntityAttribute(byte[] dbData) {
+        return dbData == null ? null : CompressedText.fromEncoded(dbData);
+    }
+}
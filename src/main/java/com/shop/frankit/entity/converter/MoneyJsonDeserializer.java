@@ -0,0 +1,37 @@
+package com.shop.frankit.entity.converter;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.shop.frankit.entity.Money;
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * 숫자 또는 숫자 문자열을 Money로 변환, 소수 셋째 자리 이하가 있으면 요청 오류
+ */
+public class MoneyJsonDeserializer extends StdDeserializer<Money> {
+
+    public MoneyJsonDeserializer() {
+        super(Money.class);
+    }
+
+    @Override
+    public Money deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        try {
+            if (p.currentToken() == JsonToken.VALUE_NUMBER_INT) {
+                return Money.of(p.getLongValue());
+            }
+            if (p.currentToken() == JsonToken.VALUE_NUMBER_FLOAT) {
+                return Money.of(p.getDecimalValue());
+            }
+            if (p.currentToken() == JsonToken.VALUE_STRING) {
+                return Money.of(new BigDecimal(p.getText().trim()));
+            }
+        } catch (ArithmeticException | NumberFormatException e) {
+            return (Money) ctxt.handleWeirdStringValue(Money.class, p.getText(), "금액 형식이 올바르지 않습니다");
+        }
+        return (Money) ctxt.handleUnexpectedToken(Money.class, p);
+    }
+}
@@ -0,0 +1,36 @@
+package com.shop.frankit.entity.converter;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.shop.frankit.entity.Money;
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Money를 BigDecimal을 거치지 않고 소수 둘째 자리 숫자(예: 10000.00)로 직렬화
+ * 바이너리 형식(CBOR 등)에는 10진 소수(가수, 지수)로 쓴다.
+ */
+public class MoneyJsonSerializer extends StdSerializer<Money> {
+
+    public MoneyJsonSerializer() {
+        super(Money.class);
+    }
+
+    @Override
+    public void serialize(Money value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        writeMinorUnits(value.minorUnits(), gen, new char[24]);
+    }
+
+    /**
+     * 최소 단위 금액을 숫자로 쓰기, 텍스트 형식이면 buffer(24자 이상)에 포맷해서 그대로 쓴다
+     */
+    public static void writeMinorUnits(long minorUnits, JsonGenerator gen, char[] buffer) throws IOException {
+        if (gen.canWriteFormattedNumbers()) {
+            gen.writeNumber(buffer, 0, Money.format(minorUnits, buffer));
+        } else {
+            // 바이너리 생성기는 포맷된 숫자를 문자열로 쓰므로 BigDecimal로 전달
+            gen.writeNumber(BigDecimal.valueOf(minorUnits, Money.SCALE));
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.shop.frankit.event;
+
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 가격 변경 예약/취소 이벤트
+ * 트랜잭션 커밋 이후 타이밍 휠에 변경을 등록하거나 빼는 데 사용한다.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class PriceChangeScheduledEvent {
+    private final Long changeId;
+    private final LocalDateTime applyAt;
+    private final boolean cancelled;
+}
@@ -0,0 +1,47 @@
+package com.shop.frankit.event;
+
+import com.shop.frankit.entity.Money;
+import com.shop.frankit.entity.Product;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 상품 등록/수정/삭제 이벤트
+ * 트랜잭션 커밋 이후 카탈로그 스냅샷 같은 읽기 모델을 갱신하는 데 사용한다.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ProductChangedEvent {
+
+    public enum Type { SAVED, DELETED }
+
+    private final Type type;
+    private final Long productId;
+    private final Long userId;
+    private final String name;
+    private final Money price;
+    private final Money shippingFee;
+    private final LocalDateTime registeredAt;
+
+    public static ProductChangedEvent saved(Product product) {
+        return saved(product.getId(), product.getUser().getId(), product.getName(),
+            product.getPrice(), product.getShippingFee(), product.getRegisteredAt());
+    }
+
+    public static ProductChangedEvent saved(Long productId, Long userId, String name,
+        Money price, Money shippingFee, LocalDateTime registeredAt) {
+        return new ProductChangedEvent(Type.SAVED, productId, userId, name, price, shippingFee, registeredAt);
+    }
+
+    public static ProductChangedEvent deleted(Long productId) {
+        return new ProductChangedEvent(Type.DELETED, productId, null, null, null, null, null);
+    }
+
+    public boolean isDeleted() {
+        return type == Type.DELETED;
+    }
+}
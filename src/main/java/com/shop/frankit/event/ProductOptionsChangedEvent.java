@@ -0,0 +1,16 @@
+package com.shop.frankit.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 상품 옵션 등록/수정/삭제 이벤트
+ * 트랜잭션 커밋 이후 옵션 조합 행렬 같은 읽기 모델을 무효화하는 데 사용한다.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class ProductOptionsChangedEvent {
+    private final Long productId;
+}
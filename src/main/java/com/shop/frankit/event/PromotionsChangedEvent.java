@@ -0,0 +1,16 @@
+package com.shop.frankit.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 할인 규칙 등록/삭제 이벤트
+ * 트랜잭션 커밋 이후 할인 조회표를 다시 컴파일하는 데 사용한다.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class PromotionsChangedEvent {
+    private final Long promotionId;
+}
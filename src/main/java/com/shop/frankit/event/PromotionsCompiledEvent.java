@@ -0,0 +1,16 @@
+package com.shop.frankit.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 적용 중인 할인 규칙이 바뀌어 할인 조회표의 버전이 올라간 이벤트 (규칙 변경 또는 시작/종료 시각 도달)
+ * 할인 가격이 포함된 응답 캐시를 비우는 데 사용한다.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class PromotionsCompiledEvent {
+    private final long version;
+}
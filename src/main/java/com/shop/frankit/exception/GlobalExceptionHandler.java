@@ -1,6 +1,7 @@
 package com.shop.frankit.exception;
 
 import com.shop.frankit.dto.common.ApiResponse;
+import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -54,6 +55,18 @@ public class GlobalExceptionHandler {
             .body(ApiResponse.error("Access has been denied", errorDetails));
     }
 
+    // Entity not found exception handling (services throw JPA EntityNotFoundException)
+    @ExceptionHandler(EntityNotFoundException.class)
+    public ResponseEntity<ApiResponse<?>> handleEntityNotFoundException(EntityNotFoundException ex) {
+        log.debug("Entity not found: {}", ex.getMessage());
+
+        ApiResponse.ErrorDetails errorDetails = new ApiResponse.ErrorDetails(
+            "RESOURCE_001", ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+            .body(ApiResponse.error(ex.getMessage(), errorDetails));
+    }
+
     // Validation exception handling
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiResponse<?>> handleValidationExceptions(MethodArgumentNotValidException ex) {
@@ -90,6 +103,10 @@ public class GlobalExceptionHandler {
             return HttpStatus.UNAUTHORIZED;
         } else if (ex instanceof ResourceNotFoundException) {
             return HttpStatus.NOT_FOUND;
+        } else if (ex instanceof StockException) {
+            return HttpStatus.CONFLICT;
+        } else if (ex instanceof OrderException || ex instanceof ServiceUnavailableException) {
+            return HttpStatus.SERVICE_UNAVAILABLE;
         }
         return HttpStatus.BAD_REQUEST;
     }
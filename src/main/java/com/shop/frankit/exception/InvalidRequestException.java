@@ -0,0 +1,39 @@
+package com.shop.frankit.exception;
+
+public class InvalidRequestException extends AppException {
+    public InvalidRequestException(String message) {
+        super(message, "REQUEST_001");
+    }
+
+    public static InvalidRequestException unknownField(String field) {
+        return new InvalidRequestException("지원하지 않는 필드입니다: " + field);
+    }
+
+    public static InvalidRequestException unsupportedSort(String sort) {
+        return new InvalidRequestException("지원하지 않는 정렬입니다: " + sort);
+    }
+
+    public static InvalidRequestException tooManyIds(int max) {
+        return new InvalidRequestException("한 번에 조회할 수 있는 ID는 최대 " + max + "개입니다.");
+    }
+
+    public static InvalidRequestException invalidVariant(String reason) {
+        return new InvalidRequestException("잘못된 옵션 선택입니다. " + reason);
+    }
+
+    public static InvalidRequestException invalidQuantity(int quantity) {
+        return new InvalidRequestException("수량은 1개 이상이어야 합니다: " + quantity);
+    }
+
+    public static InvalidRequestException invalidPromotion(String reason) {
+        return new InvalidRequestException("잘못된 할인 규칙입니다. " + reason);
+    }
+
+    public static InvalidRequestException invalidPriceChange(String reason) {
+        return new InvalidRequestException("잘못된 가격 변경 예약입니다. " + reason);
+    }
+
+    public static InvalidRequestException invalidIdempotencyKey(int maxLength) {
+        return new InvalidRequestException("Idempotency-Key는 1자 이상 " + maxLength + "자 이하여야 합니다.");
+    }
+}
@@ -0,0 +1,23 @@
+package com.shop.frankit.exception;
+
+public class OrderException extends AppException {
+    public OrderException(String message, String errorCode) {
+        super(message, errorCode);
+    }
+
+    public static OrderException queueFull() {
+        return new OrderException("주문이 많아 접수하지 못했습니다. 잠시 후 다시 시도해주세요.", "ORDER_001");
+    }
+
+    public static OrderException writeFailed() {
+        return new OrderException("주문을 저장하지 못했습니다. 잠시 후 다시 시도해주세요.", "ORDER_002");
+    }
+
+    public static OrderException timeout(long orderId) {
+        return new OrderException("주문 저장이 지연되고 있습니다. 주문 ID: " + orderId, "ORDER_003");
+    }
+
+    public static OrderException unavailable() {
+        return new OrderException("주문 접수가 중단되었습니다. 잠시 후 다시 시도해주세요.", "ORDER_004");
+    }
+}
@@ -8,4 +8,8 @@ public class ResourceNotFoundException extends AppException {
     public static ResourceNotFoundException userNotFound(String email) {
         return new ResourceNotFoundException("사용자를 찾을 수 없습니다: " + email);
     }
+
+    public static ResourceNotFoundException cartItemNotFound(int itemId) {
+        return new ResourceNotFoundException("장바구니에 없는 항목입니다: " + itemId);
+    }
 }
@@ -0,0 +1,11 @@
+package com.shop.frankit.exception;
+
+public class ServiceUnavailableException extends AppException {
+    public ServiceUnavailableException(String message) {
+        super(message, "SERVICE_001");
+    }
+
+    public static ServiceUnavailableException facetSearchDisabled() {
+        return new ServiceUnavailableException("패싯 검색을 사용하지 않도록 설정되어 있습니다.");
+    }
+}
@@ -0,0 +1,19 @@
+package com.shop.frankit.exception;
+
+public class StockException extends AppException {
+    public StockException(String message, String errorCode) {
+        super(message, errorCode);
+    }
+
+    public static StockException outOfStock(long stockKey) {
+        return new StockException("재고가 부족합니다. 재고 키: " + stockKey, "STOCK_001");
+    }
+
+    public static StockException reservationNotFound(String reservationId) {
+        return new StockException("만료되었거나 이미 처리된 예약입니다: " + reservationId, "STOCK_002");
+    }
+
+    public static StockException notReady() {
+        return new StockException("재고 정보를 불러오는 중입니다. 잠시 후 다시 시도해주세요.", "STOCK_003");
+    }
+}
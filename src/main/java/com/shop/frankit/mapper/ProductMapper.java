@@ -1,8 +1,14 @@
 package com.shop.frankit.mapper;
 
+import com.shop.frankit.catalog.PricingTable;
 import com.shop.frankit.dto.ProductRequest;
 import com.shop.frankit.dto.ProductResponse;
+import com.shop.frankit.dto.QuoteResponse;
+import com.shop.frankit.entity.Money;
 import com.shop.frankit.entity.Product;
+import com.shop.frankit.promotion.PromotionEngine;
+import com.shop.frankit.promotion.PromotionTable;
+import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 import lombok.extern.slf4j.Slf4j;
@@ -10,8 +16,11 @@ import java.time.LocalDateTime;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class ProductMapper {
 
+    private final PromotionEngine promotionEngine;
+
     // Request → Entity
     public Product toEntity(ProductRequest dto) {
         log.debug("Converting ProductRequest to Product entity: {}", dto);
@@ -39,19 +48,64 @@ public class ProductMapper {
         ProductResponse dto = new ProductResponse();
         dto.setId(product.getId());
         dto.setName(product.getName());
-        dto.setDescription(product.getDescription());
+        dto.setDescriptionText(product.getDescriptionText());
         dto.setPrice(product.getPrice());
         dto.setShippingFee(product.getShippingFee());
         dto.setRegisteredAt(product.getRegisteredAt());
         dto.setUserId(product.getUser().getId());
         dto.setCreatedAt(product.getCreatedAt());
         dto.setUpdatedAt(product.getUpdatedAt());
+        applyPromotions(dto);
         return dto;
     }
 
+    /**
+     * 할인 적용 가격 채우기, 컴파일된 할인 조회표에서 상수 시간에 찾는다
+     * 가격이 없으면(필드 선택 목록) 건너뛰고, 판매자 ID가 없으면 판매자 대상 할인은 빠진다.
+     */
+    public void applyPromotions(ProductResponse dto) {
+        if (dto.getId() == null || dto.getPrice() == null) {
+            return;
+        }
+        PromotionTable.Discount discount = promotionEngine.table()
+            .apply(dto.getId(), dto.getUserId(), dto.getPrice().minorUnits());
+        if (discount == null) {
+            return;
+        }
+        if (!discount.price().equals(dto.getPrice())) {
+            dto.setDiscountedPrice(discount.price());
+        }
+        if (discount.freeShipping() && dto.getShippingFee() != null && !dto.getShippingFee().isZero()) {
+            dto.setDiscountedShippingFee(Money.ZERO);
+        }
+    }
+
     // Page<Entity> → Page<Response>
     public Page<ProductResponse> toDtoPage(Page<Product> productPage) {
         log.debug("Converting Page<Product> to Page<ProductResponse>, total elements: {}", productPage.getTotalElements());
         return productPage.map(this::toDto);
     }
+
+    // 목록 조회 결과에 할인 적용
+    public <T extends Iterable<ProductResponse>> T applyPromotions(T products) {
+        if (!promotionEngine.table().isEmpty()) {
+            products.forEach(this::applyPromotions);
+        }
+        return products;
+    }
+
+    // 견적 → Response
+    public QuoteResponse toQuoteResponse(Long productId, PricingTable.Quote quote) {
+        QuoteResponse dto = new QuoteResponse();
+        dto.setProductId(productId);
+        dto.setVariantIndex(quote.variantIndex());
+        dto.setSelectedValues(quote.selectedValues());
+        dto.setUnitPrice(quote.unitPrice());
+        dto.setQuantity(quote.quantity());
+        dto.setSubtotal(quote.subtotal());
+        dto.setDiscount(quote.discount());
+        dto.setShippingFee(quote.shippingFee());
+        dto.setTotal(quote.total());
+        return dto;
+    }
 }
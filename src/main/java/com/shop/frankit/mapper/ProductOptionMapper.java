@@ -1,7 +1,10 @@
 package com.shop.frankit.mapper;
 
+import com.shop.frankit.catalog.VariantMatrix;
 import com.shop.frankit.dto.ProductOptionRequest;
 import com.shop.frankit.dto.ProductOptionResponse;
+import com.shop.frankit.dto.VariantMatrixResponse;
+import com.shop.frankit.dto.VariantResponse;
 import com.shop.frankit.entity.OptionValue;
 import com.shop.frankit.entity.ProductOption;
 import org.springframework.stereotype.Component;
@@ -68,4 +71,33 @@ public class ProductOptionMapper {
             })
             .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+
+    // 옵션 조합 행렬 → 조합 목록 Response (from부터 count개)
+    public VariantMatrixResponse toVariantMatrixResponse(VariantMatrix matrix, int from, int count) {
+        VariantMatrixResponse dto = new VariantMatrixResponse();
+        dto.setProductId(matrix.productId());
+        List<VariantMatrixResponse.VariantOption> options = new ArrayList<>(matrix.optionCount());
+        for (int i = 0; i < matrix.optionCount(); i++) {
+            VariantMatrixResponse.VariantOption option = new VariantMatrixResponse.VariantOption();
+            option.setOptionId(matrix.optionId(i));
+            option.setName(matrix.optionName(i));
+            option.setValues(matrix.optionValues(i));
+            options.add(option);
+        }
+        dto.setOptions(options);
+        dto.setVariantCount(matrix.size());
+        dto.setVariants(matrix.variants(from, count)
+            .map(variant -> toVariantResponse(matrix, variant))
+            .collect(Collectors.toList()));
+        return dto;
+    }
+
+    // 옵션 조합 → Response
+    public VariantResponse toVariantResponse(VariantMatrix matrix, VariantMatrix.Variant variant) {
+        VariantResponse dto = new VariantResponse();
+        dto.setIndex(variant.index());
+        dto.setValues(variant.values());
+        dto.setAdditionalPrice(matrix.additionalPrice());
+        return dto;
+    }
+}
@@ -0,0 +1,328 @@
+package com.shop.frankit.order;
+
+import com.shop.frankit.datasource.Workload;
+import com.shop.frankit.datasource.WorkloadType;
+import com.shop.frankit.entity.Money;
+import com.shop.frankit.exception.OrderException;
+import com.shop.frankit.shard.ShardRouter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 주문 접수 파이프라인 (그룹 커밋)
+ * - 검증된 주문을 크기가 정해진 대기열(queue-depth)에 넣고, 가득 차면 기다리지 않고 거절한다.
+ * - 저장 스레드 하나가 대기열에서 최대 batch-size개를 모아 샤드별로 한 트랜잭션, 다중 행 INSERT로 저장한다.
+ *   첫 주문이 들어온 뒤 max-batch-delay까지만 다음 주문을 기다리므로, 한가할 때의 지연은 그 이내다.
+ * - 호출자는 자기 주문이 포함된 트랜잭션이 커밋된 뒤에 응답한다. (response-timeout 초과 시 ORDER_003)
+ * - 한 트랜잭션에 묶인 주문은 함께 성공하거나 함께 실패한다.
+ * - 멱등 키가 있는 주문은 같은 사용자의 같은 키로 주문 하나만 저장한다. 저장 대기 중인 주문이 있으면 그 결과를 함께 기다리고,
+ *   다른 인스턴스가 먼저 저장했으면 INSERT를 건너뛰고 저장된 주문으로 완료한다. (묶인 다른 주문은 영향 없음)
+ */
+@Slf4j
+@Component
+@Workload(WorkloadType.CATALOG)
+public class OrderIntake {
+
+    private static final int INSERT_CHUNK_SIZE = 500;
+    private static final String COLUMNS = "id, user_id, product_id, options, quantity, "
+        + "unit_price, shipping_fee, total_price, reservation_id, idempotency_key, ordered_at";
+    private static final String INSERT_PREFIX = "INSERT INTO orders (" + COLUMNS + ") VALUES ";
+    private static final String INSERT_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    // 멱등 키가 이미 저장된 행은 건너뜀 (저장 뒤 확인해서 저장된 주문으로 완료)
+    private static final String INSERT_SUFFIX = " ON DUPLICATE KEY UPDATE idempotency_key = idempotency_key";
+    private static final int INSERT_COLUMNS = 11;
+    private static final String SELECT_BY_IDEMPOTENCY_KEY = "SELECT " + COLUMNS
+        + " FROM orders WHERE user_id = ? AND idempotency_key = ?";
+    private static final long POLL_MILLIS = 100;
+
+    private record PendingOrder(PlacedOrder order, CompletableFuture<PlacedOrder> durable, long enqueuedAt) {
+    }
+
+    private record IdempotencyKey(long userId, String key) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<PendingOrder> queue;
+    private final int batchSize;
+    private final long maxBatchDelayNanos;
+    private final long responseTimeoutMillis;
+    private final Thread writer;
+    private final ConcurrentMap<IdempotencyKey, PendingOrder> inFlight = new ConcurrentHashMap<>();
+
+    private final DistributionSummary batchSizeSummary;
+    private final Timer commitTimer;
+    private final Timer latencyTimer;
+    private final Counter rejectedCounter;
+
+    private volatile boolean accepting = true;
+
+    public OrderIntake(JdbcTemplate jdbcTemplate, ShardRouter shardRouter,
+        PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+        @Value("${app.orders.batch-size:256}") int batchSize,
+        @Value("${app.orders.max-batch-delay:5ms}") Duration maxBatchDelay,
+        @Value("${app.orders.queue-depth:10000}") int queueDepth,
+        @Value("${app.orders.response-timeout:5s}") Duration responseTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.shardRouter = shardRouter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(queueDepth);
+        this.batchSize = batchSize;
+        this.maxBatchDelayNanos = maxBatchDelay.toNanos();
+        this.responseTimeoutMillis = responseTimeout.toMillis();
+        this.writer = Thread.ofPlatform().name("order-writer").daemon().unstarted(this::writeLoop);
+
+        Gauge.builder("order.intake.queue", queue, BlockingQueue::size)
+            .description("저장을 기다리는 주문 수")
+            .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("order.intake.batch.size")
+            .description("한 번에 저장한 주문 수")
+            .register(meterRegistry);
+        this.commitTimer = Timer.builder("order.intake.commit")
+            .description("샤드별 주문 저장 트랜잭션 시간")
+            .register(meterRegistry);
+        this.latencyTimer = Timer.builder("order.intake.latency")
+            .description("주문 접수부터 커밋까지의 시간")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("order.intake.rejected")
+            .description("대기열 초과로 거절된 주문 수")
+            .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!writer.isAlive()) {
+            writer.start();
+            log.info("Order writer started: batchSize={}, queueDepth={}", batchSize, queue.remainingCapacity());
+        }
+    }
+
+    /**
+     * 주문을 대기열에 넣음, 반환된 future는 주문이 커밋되면 완료된다
+     * 같은 멱등 키의 주문이 저장을 기다리고 있거나 이미 저장되어 있으면, future는 그 주문으로 완료된다. (반환된 주문의 ID가 다름)
+     */
+    public CompletableFuture<PlacedOrder> submit(PlacedOrder order) {
+        if (!accepting) {
+            throw OrderException.unavailable();
+        }
+        PendingOrder pending = new PendingOrder(order, new CompletableFuture<>(), System.nanoTime());
+        IdempotencyKey key = order.idempotencyKey() == null ? null
+            : new IdempotencyKey(order.userId(), order.idempotencyKey());
+        if (key != null) {
+            PendingOrder earlier = inFlight.putIfAbsent(key, pending);
+            if (earlier != null) {
+                log.info("Order {} joined pending order {} with the same idempotency key", order.id(),
+                    earlier.order().id());
+                return earlier.durable();
+            }
+            pending.durable().whenComplete((saved, failure) -> inFlight.remove(key, pending));
+        }
+        if (!queue.offer(pending)) {
+            rejectedCounter.increment();
+            log.warn("Order queue is full, rejected order: {}", order.id());
+            OrderException rejected = OrderException.queueFull();
+            pending.durable().completeExceptionally(rejected);
+            throw rejected;
+        }
+        return pending.durable();
+    }
+
+    /**
+     * 같은 사용자가 같은 멱등 키로 저장한 주문 (주문이 저장되는 샤드에서 조회)
+     */
+    public Optional<PlacedOrder> findByIdempotencyKey(long userId, String idempotencyKey, int shard) {
+        return shardRouter.onShard(shard, () -> jdbcTemplate.query(SELECT_BY_IDEMPOTENCY_KEY,
+            (rs, rowNum) -> new PlacedOrder(rs.getLong("id"), rs.getLong("user_id"), rs.getLong("product_id"),
+                rs.getString("options"), rs.getInt("quantity"), Money.of(rs.getBigDecimal("unit_price")),
+                Money.of(rs.getBigDecimal("shipping_fee")), Money.of(rs.getBigDecimal("total_price")),
+                rs.getString("reservation_id"), rs.getString("idempotency_key"),
+                rs.getTimestamp("ordered_at").toLocalDateTime()),
+            userId, idempotencyKey).stream().findFirst());
+    }
+
+    /**
+     * 주문이 커밋될 때까지 최대 response-timeout 동안 기다림
+     */
+    public PlacedOrder await(long orderId, CompletableFuture<PlacedOrder> durable) {
+        try {
+            return durable.get(responseTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Order {} was not committed within {} ms", orderId, responseTimeoutMillis);
+            throw OrderException.timeout(orderId);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw OrderException.timeout(orderId);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * 접수를 멈추고 대기열에 남은 주문을 저장한 뒤 종료
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        accepting = false;
+        if (writer.isAlive()) {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        List<PendingOrder> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (PendingOrder pending : remaining) {
+            pending.durable().completeExceptionally(OrderException.unavailable());
+        }
+        if (!remaining.isEmpty()) {
+            log.warn("Order writer stopped with {} unsaved orders", remaining.size());
+        }
+    }
+
+    private void writeLoop() {
+        List<PendingOrder> batch = new ArrayList<>(batchSize);
+        while (accepting || !queue.isEmpty()) {
+            try {
+                PendingOrder first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                // 밀려 있으면 바로 채우고, 아니면 첫 주문 기준 max-batch-delay까지만 더 기다림
+                long deadline = first.enqueuedAt() + maxBatchDelayNanos;
+                while (batch.size() < batchSize) {
+                    if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    long wait = deadline - System.nanoTime();
+                    PendingOrder next = wait > 0 ? queue.poll(wait, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Order writer failed", e);
+                batch.forEach(pending -> pending.durable().completeExceptionally(OrderException.writeFailed()));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<PendingOrder> batch) {
+        batchSizeSummary.record(batch.size());
+        Map<Integer, List<PendingOrder>> byShard = new HashMap<>();
+        for (PendingOrder pending : batch) {
+            byShard.computeIfAbsent(shardOf(pending.order().id()), shard -> new ArrayList<>()).add(pending);
+        }
+        byShard.forEach((shard, orders) -> {
+            long start = System.nanoTime();
+            Map<PendingOrder, PlacedOrder> duplicates;
+            try {
+                duplicates = shardRouter.onShard(shard, () -> transactionTemplate.execute(status -> {
+                    insert(orders);
+                    return findDuplicates(orders, shard);
+                }));
+            } catch (RuntimeException e) {
+                log.error("Failed to save {} orders on shard {}", orders.size(), shard, e);
+                orders.forEach(pending -> pending.durable().completeExceptionally(OrderException.writeFailed()));
+                return;
+            }
+            long committedAt = System.nanoTime();
+            commitTimer.record(committedAt - start, TimeUnit.NANOSECONDS);
+            for (PendingOrder pending : orders) {
+                latencyTimer.record(committedAt - pending.enqueuedAt(), TimeUnit.NANOSECONDS);
+                pending.durable().complete(duplicates.getOrDefault(pending, pending.order()));
+            }
+        });
+        log.debug("Saved {} orders on {} shards", batch.size(), byShard.size());
+    }
+
+    private void insert(List<PendingOrder> orders) {
+        for (int from = 0; from < orders.size(); from += INSERT_CHUNK_SIZE) {
+            List<PendingOrder> chunk = orders.subList(from, Math.min(from + INSERT_CHUNK_SIZE, orders.size()));
+            StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+            Object[] args = new Object[chunk.size() * INSERT_COLUMNS];
+            for (int i = 0; i < chunk.size(); i++) {
+                PlacedOrder order = chunk.get(i).order();
+                sql.append(i == 0 ? "" : ", ").append(INSERT_ROW);
+                int column = i * INSERT_COLUMNS;
+                args[column] = order.id();
+                args[column + 1] = order.userId();
+                args[column + 2] = order.productId();
+                args[column + 3] = order.options();
+                args[column + 4] = order.quantity();
+                args[column + 5] = order.unitPrice().toBigDecimal();
+                args[column + 6] = order.shippingFee().toBigDecimal();
+                args[column + 7] = order.totalPrice().toBigDecimal();
+                args[column + 8] = order.reservationId();
+                args[column + 9] = order.idempotencyKey();
+                args[column + 10] = Timestamp.valueOf(order.orderedAt());
+            }
+            jdbcTemplate.update(sql.append(INSERT_SUFFIX).toString(), args);
+        }
+    }
+
+    // 멱등 키가 있는데 저장되지 않은 주문(다른 인스턴스가 같은 키로 먼저 저장)과 먼저 저장된 주문
+    private Map<PendingOrder, PlacedOrder> findDuplicates(List<PendingOrder> orders, int shard) {
+        List<PendingOrder> keyed = orders.stream().filter(pending -> pending.order().idempotencyKey() != null).toList();
+        if (keyed.isEmpty()) {
+            return Map.of();
+        }
+        Set<Long> saved = new HashSet<>(jdbcTemplate.queryForList(
+            "SELECT id FROM orders WHERE id IN (" + "?, ".repeat(keyed.size() - 1) + "?)", Long.class,
+            keyed.stream().map(pending -> pending.order().id()).toArray()));
+        Map<PendingOrder, PlacedOrder> duplicates = new HashMap<>();
+        for (PendingOrder pending : keyed) {
+            PlacedOrder order = pending.order();
+            if (!saved.contains(order.id())) {
+                findByIdempotencyKey(order.userId(), order.idempotencyKey(), shard).ifPresent(existing -> {
+                    log.info("Order {} was already saved as {} with the same idempotency key",
+                        order.id(), existing.id());
+                    duplicates.put(pending, existing);
+                });
+            }
+        }
+        return duplicates;
+    }
+
+    private int shardOf(long orderId) {
+        return shardRouter.isSharded() ? shardRouter.shardOfId(orderId) : 0;
+    }
+}
@@ -0,0 +1,14 @@
+package com.shop.frankit.order;
+
+import com.shop.frankit.entity.Money;
+import java.time.LocalDateTime;
+
+/**
+ * 검증과 가격 계산을 마친 주문 한 건 (orders 테이블의 한 행)
+ * options: 선택/입력한 옵션 JSON, reservationId: 재고 예약 ID (재고 엔진을 쓰지 않으면 null)
+ * idempotencyKey: 클라이언트가 보낸 멱등 키 (없으면 null), 같은 사용자의 같은 키로는 주문 하나만 저장된다
+ */
+public record PlacedOrder(long id, long userId, long productId, String options, int quantity,
+                          Money unitPrice, Money shippingFee, Money totalPrice, String reservationId,
+                          String idempotencyKey, LocalDateTime orderedAt) {
+}
@@ -0,0 +1,274 @@
+package com.shop.frankit.price;
+
+import com.shop.frankit.datasource.Workload;
+import com.shop.frankit.datasource.WorkloadType;
+import com.shop.frankit.entity.Money;
+import com.shop.frankit.entity.Product;
+import com.shop.frankit.event.PriceChangeScheduledEvent;
+import com.shop.frankit.event.ProductChangedEvent;
+import com.shop.frankit.revision.ProductRevisionLog;
+import com.shop.frankit.shard.ShardRouter;
+import com.shop.frankit.support.HierarchicalTimingWheel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 예약 가격 변경 적용
+ * - horizon 안에 적용할 PENDING 변경만 load-interval마다 읽어 타이밍 휠에 등록하고, 시각이 되면 모아서 적용한다.
+ *   (DB를 매초 조회하지 않으며, tick은 전용 스케줄러에서 돌아 늦어도 tick 간격 이내에 적용)
+ * - 적용은 샤드별로 최대 500건씩 한 트랜잭션에서 상품 UPDATE와 상태 변경(PENDING → APPLIED)을 함께 한다.
+ *   변경 행을 FOR UPDATE로 잠그고 PENDING인 것만 적용하므로, 재시작이나 여러 인스턴스가 같은 변경을 등록해도 한 번만 반영된다.
+ * - 재시작으로 놓친 변경은 시작할 때 읽어 바로 적용한다. (apply_at이 지난 PENDING 변경)
+ * - 적용한 변경은 같은 트랜잭션에서 예약한 판매자의 상품 리비전으로 남기고,
+ *   커밋 후 ProductChangedEvent로 캐시와 읽기 모델을 갱신한다.
+ */
+@Slf4j
+@Component
+@Workload(WorkloadType.CATALOG)
+public class PriceChangeScheduler {
+
+    private static final String LOAD_SQL =
+        "SELECT id, apply_at FROM scheduled_price_changes WHERE status = 'PENDING' AND apply_at < ?";
+    private static final int APPLY_CHUNK_SIZE = 500;
+
+    private record Due(long changeId, long applyAt) {
+    }
+
+    private record Change(long id, long productId, long userId) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final ProductRevisionLog productRevisionLog;
+    private final long horizonMillis;
+    private final HierarchicalTimingWheel wheel;
+    private final ZoneId zone = ZoneId.systemDefault();
+    private final Map<Long, HierarchicalTimingWheel.Timeout> scheduled = new ConcurrentHashMap<>();
+    private final Queue<Due> due = new ConcurrentLinkedQueue<>();
+
+    private final Counter appliedCounter;
+    private final Timer lagTimer;
+
+    public PriceChangeScheduler(JdbcTemplate jdbcTemplate, ShardRouter shardRouter,
+        PlatformTransactionManager transactionManager, ApplicationEventPublisher eventPublisher,
+        EntityManager entityManager, ProductRevisionLog productRevisionLog, MeterRegistry meterRegistry,
+        @Value("${app.price-changes.horizon:1h}") Duration horizon,
+        @Value("${app.price-changes.tick:100}") long tickMillis,
+        @Value("${app.price-changes.wheel-size:512}") int wheelSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.shardRouter = shardRouter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
+        this.productRevisionLog = productRevisionLog;
+        this.horizonMillis = horizon.toMillis();
+        this.wheel = new HierarchicalTimingWheel(tickMillis, wheelSize, System.currentTimeMillis());
+
+        Gauge.builder("price.changes.scheduled", scheduled, Map::size)
+            .description("타이밍 휠에 등록된 가격 변경 수")
+            .register(meterRegistry);
+        this.appliedCounter = Counter.builder("price.changes.applied")
+            .description("적용한 가격 변경 수")
+            .register(meterRegistry);
+        this.lagTimer = Timer.builder("price.changes.lag")
+            .description("예약 시각부터 적용 커밋까지의 지연")
+            .register(meterRegistry);
+    }
+
+    /**
+     * horizon 안에 적용할 변경을 모든 샤드에서 읽어 등록 (이미 등록된 변경은 건너뜀)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.price-changes.load-interval:300000}",
+        fixedDelayString = "${app.price-changes.load-interval:300000}")
+    public void load() {
+        long until = System.currentTimeMillis() + horizonMillis;
+        int before = scheduled.size();
+        for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+            shardRouter.onShard(shard, () -> {
+                jdbcTemplate.query(LOAD_SQL, rs -> {
+                    schedule(rs.getLong(1), rs.getTimestamp(2).getTime());
+                }, new Timestamp(until));
+                return null;
+            });
+        }
+        log.debug("Loaded scheduled price changes: {} new, {} scheduled", scheduled.size() - before, scheduled.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPriceChangeScheduled(PriceChangeScheduledEvent event) {
+        if (event.isCancelled()) {
+            HierarchicalTimingWheel.Timeout timeout = scheduled.remove(event.getChangeId());
+            if (timeout != null) {
+                timeout.cancel();
+            }
+            return;
+        }
+        schedule(event.getChangeId(), event.getApplyAt().atZone(zone).toInstant().toEpochMilli());
+    }
+
+    /**
+     * 시각이 된 변경을 적용
+     */
+    @Scheduled(fixedDelayString = "${app.price-changes.tick:100}", scheduler = "timingWheelScheduler")
+    public void tick() {
+        wheel.advance(System.currentTimeMillis());
+        if (due.isEmpty()) {
+            return;
+        }
+        List<Due> batch = new ArrayList<>();
+        Due next;
+        while ((next = due.poll()) != null) {
+            batch.add(next);
+        }
+        apply(batch);
+    }
+
+    // horizon 밖의 변경은 다음 load에서 등록
+    private void schedule(long changeId, long applyAt) {
+        if (applyAt >= System.currentTimeMillis() + horizonMillis) {
+            return;
+        }
+        scheduled.computeIfAbsent(changeId, id -> wheel.schedule(applyAt, () -> due.add(new Due(id, applyAt))));
+    }
+
+    private void apply(List<Due> batch) {
+        Map<Integer, List<Due>> byShard = new HashMap<>();
+        for (Due change : batch) {
+            byShard.computeIfAbsent(shardOf(change.changeId()), shard -> new ArrayList<>()).add(change);
+        }
+        byShard.forEach((shard, changes) -> {
+            for (int from = 0; from < changes.size(); from += APPLY_CHUNK_SIZE) {
+                List<Due> chunk = changes.subList(from, Math.min(from + APPLY_CHUNK_SIZE, changes.size()));
+                List<Long> ids = chunk.stream().map(Due::changeId).toList();
+                try {
+                    Integer applied = shardRouter.onShard(shard, () -> transactionTemplate.execute(status -> applyChunk(ids)));
+                    long now = System.currentTimeMillis();
+                    chunk.forEach(change -> lagTimer.record(now - change.applyAt(), TimeUnit.MILLISECONDS));
+                    appliedCounter.increment(applied);
+                } catch (RuntimeException e) {
+                    // 롤백되어 PENDING으로 남으므로 다음 load에서 다시 등록
+                    log.warn("Failed to apply {} price changes on shard {}, retrying next load", ids.size(), shard, e);
+                } finally {
+                    ids.forEach(scheduled::remove);
+                }
+            }
+        });
+    }
+
+    /**
+     * 한 트랜잭션에서 PENDING 변경을 상품에 반영하고 APPLIED로 바꿈, 반영한 변경 수를 반환
+     */
+    private int applyChunk(List<Long> ids) {
+        List<Change> changes = jdbcTemplate.query(
+            "SELECT c.id, c.product_id, c.user_id FROM scheduled_price_changes c JOIN products p ON p.id = c.product_id "
+                + "WHERE c.id IN (" + placeholders(ids.size()) + ") AND c.status = 'PENDING' "
+                + "ORDER BY c.apply_at, c.id FOR UPDATE",
+            (rs, row) -> new Change(rs.getLong(1), rs.getLong(2), rs.getLong(3)), ids.toArray());
+        if (changes.isEmpty()) {
+            return 0;
+        }
+
+        // 한 UPDATE에서 상품 하나에 변경 하나만 조인되도록 나눔 (같은 상품의 변경은 예약 시각 순서대로)
+        // 변경마다 리비전을 남기므로 같은 상품의 여러 변경도 이력에 각각 남는다
+        List<List<Change>> rounds = rounds(changes);
+        for (int round = 0; round < rounds.size(); round++) {
+            List<Long> roundIds = rounds.get(round).stream().map(Change::id).toList();
+            jdbcTemplate.update(
+                "UPDATE products p JOIN scheduled_price_changes c ON c.product_id = p.id "
+                    + "SET p.price = COALESCE(c.price, p.price), p.shipping_fee = COALESCE(c.shipping_fee, p.shipping_fee), "
+                    + "p.updated_at = NOW(6) WHERE c.id IN (" + placeholders(roundIds.size()) + ")",
+                roundIds.toArray());
+            for (Change change : rounds.get(round)) {
+                appendRevision(change, round > 0);
+            }
+        }
+        List<Long> changeIds = changes.stream().map(Change::id).toList();
+        jdbcTemplate.update(
+            "UPDATE scheduled_price_changes SET status = 'APPLIED', applied_at = NOW(6), updated_at = NOW(6) "
+                + "WHERE id IN (" + placeholders(changeIds.size()) + ")",
+            changeIds.toArray());
+
+        // 트랜잭션 안에서 발행하므로 리스너(AFTER_COMMIT)는 커밋 후에 실행된다
+        Set<Long> productIds = new LinkedHashSet<>();
+        changes.forEach(change -> productIds.add(change.productId()));
+        jdbcTemplate.query(
+            "SELECT id, user_id, name, price, shipping_fee, registered_at FROM products "
+                + "WHERE id IN (" + placeholders(productIds.size()) + ")",
+            rs -> {
+                eventPublisher.publishEvent(ProductChangedEvent.saved(rs.getLong(1), rs.getLong(2), rs.getString(3),
+                    money(rs.getBigDecimal(4)), money(rs.getBigDecimal(5)), rs.getTimestamp(6).toLocalDateTime()));
+            }, productIds.toArray());
+        log.info("Applied {} scheduled price changes to {} products", changes.size(), productIds.size());
+        return changes.size();
+    }
+
+    /**
+     * UPDATE로 바뀐 상품을 읽어 리비전 추가, 앞 라운드에서 읽은 상품은 UPDATE 결과로 다시 읽음
+     */
+    private void appendRevision(Change change, boolean reload) {
+        Product product = entityManager.find(Product.class, change.productId());
+        if (reload) {
+            entityManager.refresh(product);
+        }
+        productRevisionLog.append(product, change.userId());
+    }
+
+    private static List<List<Change>> rounds(List<Change> changes) {
+        List<List<Change>> rounds = new ArrayList<>();
+        Map<Long, Integer> nextRound = new HashMap<>();
+        for (Change change : changes) {
+            int round = nextRound.merge(change.productId(), 1, Integer::sum) - 1;
+            if (round == rounds.size()) {
+                rounds.add(new ArrayList<>());
+            }
+            rounds.get(round).add(change);
+        }
+        return rounds;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private static Money money(BigDecimal value) {
+        return value == null ? null : Money.of(value);
+    }
+
+    private int shardOf(long changeId) {
+        return shardRouter.isSharded() ? shardRouter.shardOfId(changeId) : 0;
+    }
+}
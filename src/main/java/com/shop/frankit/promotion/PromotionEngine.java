@@ -0,0 +1,115 @@
+package com.shop.frankit.promotion;
+
+import com.shop.frankit.datasource.Workload;
+import com.shop.frankit.datasource.WorkloadType;
+import com.shop.frankit.event.PromotionsChangedEvent;
+import com.shop.frankit.event.PromotionsCompiledEvent;
+import com.shop.frankit.repository.PromotionRepository;
+import com.shop.frankit.shard.ShardRouter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 할인 규칙 조회표 관리
+ * - 종료되지 않은 규칙을 메모리에 두고, 규칙이 바뀌거나 시작/종료 시각이 되면 조회표를 다시 컴파일한다.
+ * - 조회할 때는 조회표의 validUntil과 현재 시각만 비교하므로 요청마다 규칙의 기간을 확인하지 않는다.
+ * - 다른 인스턴스에서 바뀐 규칙은 reload-interval마다 다시 읽어 반영한다.
+ */
+@Slf4j
+@Component
+@Workload(WorkloadType.CATALOG)
+public class PromotionEngine {
+
+    private static final int PROMOTION_SHARD = 0;
+
+    private final PromotionRepository promotionRepository;
+    private final ShardRouter shardRouter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    private volatile List<PromotionRule> rules = List.of();
+    private volatile PromotionTable table;
+    private Set<PromotionRule> activeRules = Set.of();
+    private long version;
+
+    public PromotionEngine(PromotionRepository promotionRepository, ShardRouter shardRouter,
+        ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry) {
+        this.promotionRepository = promotionRepository;
+        this.shardRouter = shardRouter;
+        this.eventPublisher = eventPublisher;
+        this.table = PromotionTable.compile(rules, System.currentTimeMillis(), version);
+        Gauge.builder("promotion.rules.active", this, engine -> engine.table().activeRules())
+            .description("현재 적용 중인 할인 규칙 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 현재 시각의 조회표, 규칙 시작/종료 시각이 지났으면 다시 컴파일
+     */
+    public PromotionTable table() {
+        PromotionTable current = table;
+        if (System.currentTimeMillis() < current.validUntil()) {
+            return current;
+        }
+        synchronized (this) {
+            if (System.currentTimeMillis() >= table.validUntil()) {
+                compile();
+            }
+            return table;
+        }
+    }
+
+    /**
+     * 종료되지 않은 규칙을 DB에서 다시 읽어 컴파일
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.promotions.reload-interval:60000}",
+        fixedDelayString = "${app.promotions.reload-interval:60000}")
+    public void reload() {
+        List<PromotionRule> loaded = shardRouter.onShard(PROMOTION_SHARD, () ->
+            promotionRepository.findByEndsAtIsNullOrEndsAtAfter(LocalDateTime.now()).stream()
+                .map(promotion -> PromotionRule.of(promotion, zone))
+                .toList());
+        synchronized (this) {
+            rules = loaded;
+            compile();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPromotionsChanged(PromotionsChangedEvent event) {
+        reload();
+    }
+
+    // 활성 규칙이 그대로이면 버전을 올리지 않음 (버전이 바뀌면 응답 캐시를 비우므로)
+    private void compile() {
+        long now = System.currentTimeMillis();
+        Set<PromotionRule> active = rules.stream()
+            .filter(rule -> rule.isActiveAt(now))
+            .collect(Collectors.toSet());
+        boolean changed = !active.equals(activeRules);
+        if (changed) {
+            version++;
+            activeRules = active;
+        }
+        table = PromotionTable.compile(rules, now, version);
+        log.debug("Compiled promotions: version={}, activeRules={}, validUntil={}",
+            version, active.size(), table.validUntil());
+        if (changed) {
+            eventPublisher.publishEvent(new PromotionsCompiledEvent(version));
+        }
+    }
+}
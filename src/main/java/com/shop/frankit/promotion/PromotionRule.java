@@ -0,0 +1,36 @@
+package com.shop.frankit.promotion;
+
+import com.shop.frankit.entity.Money;
+import com.shop.frankit.entity.Promotion;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 컴파일용 할인 규칙, 불변 (금액은 최소 단위, 시각은 epoch ms)
+ * minPrice가 없으면 0, endsAt이 없으면 Long.MAX_VALUE
+ */
+public record PromotionRule(long id, Promotion.Type type, Long sellerId, Long productId, int percent,
+                            long amount, long minPrice, long startsAt, long endsAt) {
+
+    public static PromotionRule of(Promotion promotion, ZoneId zone) {
+        return new PromotionRule(promotion.getId(), promotion.getType(), promotion.getSellerId(),
+            promotion.getProductId(),
+            promotion.getPercent() == null ? 0 : promotion.getPercent(),
+            minor(promotion.getAmount()),
+            minor(promotion.getMinPrice()),
+            millis(promotion.getStartsAt(), zone, Long.MIN_VALUE),
+            millis(promotion.getEndsAt(), zone, Long.MAX_VALUE));
+    }
+
+    boolean isActiveAt(long now) {
+        return startsAt <= now && now < endsAt;
+    }
+
+    private static long minor(Money money) {
+        return money == null ? 0 : money.minorUnits();
+    }
+
+    private static long millis(LocalDateTime time, ZoneId zone, long absent) {
+        return time == null ? absent : time.atZone(zone).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,173 @@
+package com.shop.frankit.promotion;
+
+import com.shop.frankit.entity.Money;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 특정 시각에 활성인 할인 규칙을 컴파일한 조회표, 불변
+ * - 규칙은 상품별/판매자별/전체 대상으로 나누어 대상마다 결정 하나로 합친다.
+ *   (할인율은 최댓값, 정액 할인은 최소 가격 순 구간별 최댓값, 무료배송은 가장 낮은 기준 가격)
+ * - 조회는 해시 조회 세 번과 짧은 구간 배열의 이진 탐색뿐이며 규칙 수와 무관하다.
+ * - 할인은 중복 적용하지 않고 적용 가능한 것 중 가장 큰 할인 하나를 쓴다. 무료배송은 할인과 별도로 적용한다.
+ * - validUntil은 다음으로 규칙이 시작/종료되는 시각이며, 그 전까지는 조회 시각과 무관하게 결과가 같다.
+ */
+public final class PromotionTable {
+
+    /**
+     * 할인 적용 결과, 적용할 할인이 없으면 price는 원래 가격
+     */
+    public record Discount(Money price, boolean freeShipping) {
+    }
+
+    private static final class Decision {
+        private int percent;
+        private long[] fixedMinPrices = new long[0];
+        private long[] fixedAmounts = new long[0];  // 최소 가격이 fixedMinPrices[i] 이하인 규칙 중 가장 큰 할인액
+        private long freeShippingFrom = Long.MAX_VALUE;
+
+        private long discount(long price) {
+            // price x percent / 100 (버림), 큰 금액에서도 넘치지 않도록 나누어 계산
+            long best = price / 100 * percent + price % 100 * percent / 100;
+            int tier = lastAtMost(fixedMinPrices, price);
+            if (tier >= 0) {
+                best = Math.max(best, fixedAmounts[tier]);
+            }
+            return Math.min(best, price);
+        }
+    }
+
+    private static final Decision NONE = new Decision();
+
+    private final long version;
+    private final long validUntil;
+    private final int activeRules;
+    private final Map<Long, Decision> byProduct;
+    private final Map<Long, Decision> bySeller;
+    private final Decision global;
+
+    private PromotionTable(long version, long validUntil, int activeRules, Map<Long, Decision> byProduct,
+        Map<Long, Decision> bySeller, Decision global) {
+        this.version = version;
+        this.validUntil = validUntil;
+        this.activeRules = activeRules;
+        this.byProduct = byProduct;
+        this.bySeller = bySeller;
+        this.global = global;
+    }
+
+    /**
+     * now(epoch ms)에 활성인 규칙으로 조회표 생성
+     */
+    public static PromotionTable compile(List<PromotionRule> rules, long now, long version) {
+        Map<Long, List<PromotionRule>> productRules = new HashMap<>();
+        Map<Long, List<PromotionRule>> sellerRules = new HashMap<>();
+        List<PromotionRule> globalRules = new ArrayList<>();
+        long validUntil = Long.MAX_VALUE;
+        int active = 0;
+        for (PromotionRule rule : rules) {
+            if (rule.startsAt() > now) {
+                validUntil = Math.min(validUntil, rule.startsAt());
+                continue;
+            }
+            if (rule.endsAt() <= now) {
+                continue;
+            }
+            validUntil = Math.min(validUntil, rule.endsAt());
+            active++;
+            if (rule.productId() != null) {
+                productRules.computeIfAbsent(rule.productId(), id -> new ArrayList<>()).add(rule);
+            } else if (rule.sellerId() != null) {
+                sellerRules.computeIfAbsent(rule.sellerId(), id -> new ArrayList<>()).add(rule);
+            } else {
+                globalRules.add(rule);
+            }
+        }
+        return new PromotionTable(version, validUntil, active, decisions(productRules), decisions(sellerRules),
+            globalRules.isEmpty() ? NONE : decision(globalRules));
+    }
+
+    public long version() {
+        return version;
+    }
+
+    /**
+     * 이 조회표를 그대로 쓸 수 있는 마지막 시각 (이 시각부터는 다시 컴파일해야 함)
+     */
+    public long validUntil() {
+        return validUntil;
+    }
+
+    public int activeRules() {
+        return activeRules;
+    }
+
+    public boolean isEmpty() {
+        return activeRules == 0;
+    }
+
+    /**
+     * 상품 가격(최소 단위)에 적용할 할인, 적용할 할인이 없으면 null
+     * sellerId를 모르면 null (판매자 대상 규칙은 건너뜀)
+     */
+    public Discount apply(long productId, Long sellerId, long price) {
+        if (activeRules == 0) {
+            return null;
+        }
+        Decision product = byProduct.getOrDefault(productId, NONE);
+        Decision seller = sellerId == null ? NONE : bySeller.getOrDefault(sellerId, NONE);
+        long discount = Math.max(global.discount(price), Math.max(product.discount(price), seller.discount(price)));
+        long freeShippingFrom = Math.min(global.freeShippingFrom,
+            Math.min(product.freeShippingFrom, seller.freeShippingFrom));
+        boolean freeShipping = price >= freeShippingFrom;
+        if (discount == 0 && !freeShipping) {
+            return null;
+        }
+        return new Discount(Money.ofMinor(price - discount), freeShipping);
+    }
+
+    // sorted에서 value 이하인 마지막 위치, 없으면 -1
+    private static int lastAtMost(long[] sorted, long value) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low - 1;
+    }
+
+    private static Map<Long, Decision> decisions(Map<Long, List<PromotionRule>> rules) {
+        Map<Long, Decision> decisions = new HashMap<>(rules.size() * 4 / 3 + 1);
+        rules.forEach((key, targetRules) -> decisions.put(key, decision(targetRules)));
+        return decisions;
+    }
+
+    private static Decision decision(List<PromotionRule> rules) {
+        Decision decision = new Decision();
+        List<PromotionRule> fixed = new ArrayList<>();
+        for (PromotionRule rule : rules) {
+            switch (rule.type()) {
+                case PERCENT_OFF -> decision.percent = Math.max(decision.percent, Math.min(100, rule.percent()));
+                case FIXED_OFF -> fixed.add(rule);
+                case FREE_SHIPPING -> decision.freeShippingFrom = Math.min(decision.freeShippingFrom, rule.minPrice());
+            }
+        }
+        fixed.sort((a, b) -> Long.compare(a.minPrice(), b.minPrice()));
+        decision.fixedMinPrices = new long[fixed.size()];
+        decision.fixedAmounts = new long[fixed.size()];
+        long best = 0;
+        for (int i = 0; i < fixed.size(); i++) {
+            best = Math.max(best, fixed.get(i).amount());
+            decision.fixedMinPrices[i] = fixed.get(i).minPrice();
+            decision.fixedAmounts[i] = best;
+        }
+        return decision;
+    }
+}
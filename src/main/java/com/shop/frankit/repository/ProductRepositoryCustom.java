@@ -0,0 +1,15 @@
+package com.shop.frankit.repository;
+
+import com.shop.frankit.dto.ProductField;
+import com.shop.frankit.dto.ProductResponse;
+import com.shop.frankit.dto.ProductSearchCondition;
+import java.util.Set;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface ProductRepositoryCustom {
+    /**
+     * 요청된 필드만 SELECT 하는 상품 목록 조회 (엔티티 로딩 없음)
+     */
+    Page<ProductResponse> findProjected(Set<ProductField> fields, ProductSearchCondition condition, Pageable pageable);
+}
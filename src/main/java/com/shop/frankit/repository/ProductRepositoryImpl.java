@@ -0,0 +1,101 @@
+package com.shop.frankit.repository;
+
+import com.shop.frankit.dto.ProductField;
+import com.shop.frankit.dto.ProductResponse;
+import com.shop.frankit.dto.ProductSearchCondition;
+import com.shop.frankit.dto.SparseProductResponse;
+import com.shop.frankit.entity.Money;
+import com.shop.frankit.entity.Product;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+public class ProductRepositoryImpl implements ProductRepositoryCustom {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<ProductResponse> findProjected(Set<ProductField> fields, ProductSearchCondition condition, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        // 컨텐츠 조회: 선택된 컬럼만 Tuple로 조회
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Product> root = query.from(Product.class);
+        List<ProductField> selected = new ArrayList<>(fields);
+        List<Selection<?>> selections = new ArrayList<>(selected.size() + 1);
+        for (ProductField field : selected) {
+            selections.addAll(field.selections(root));
+        }
+        query.multiselect(selections)
+            .where(predicates(cb, root, condition))
+            .orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+
+        List<ProductResponse> content = typedQuery.getResultList().stream()
+            .map(tuple -> {
+                ProductResponse dto = new SparseProductResponse();
+                for (ProductField field : selected) {
+                    field.apply(dto, tuple);
+                }
+                return dto;
+            })
+            .toList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(condition));
+    }
+
+    private long count(ProductSearchCondition condition) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Product> root = query.from(Product.class);
+        query.select(cb.count(root)).where(predicates(cb, root, condition));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private Predicate[] predicates(CriteriaBuilder cb, Root<Product> root, ProductSearchCondition condition) {
+        List<Predicate> predicates = new ArrayList<>(5);
+        if (condition.getName() != null) {
+            predicates.add(cb.like(root.get("name"), "%" + escapeLike(condition.getName()) + "%", LIKE_ESCAPE));
+        }
+        if (condition.getUserId() != null) {
+            predicates.add(cb.equal(root.get("user").get("id"), condition.getUserId()));
+        }
+        if (condition.getMinPrice() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(root.<Money>get("price"), Money.of(condition.getMinPrice(), RoundingMode.CEILING)));
+        }
+        if (condition.getMaxPrice() != null) {
+            predicates.add(cb.lessThanOrEqualTo(root.<Money>get("price"), Money.of(condition.getMaxPrice(), RoundingMode.FLOOR)));
+        }
+        if (condition.getIds() != null) {
+            predicates.add(root.get("id").in(condition.getIds()));
+        }
+        return predicates.toArray(new Predicate[0]);
+    }
+
+    // 검색어의 %, _ 를 와일드카드가 아닌 글자로 검색 (findByNameContaining과 동일)
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
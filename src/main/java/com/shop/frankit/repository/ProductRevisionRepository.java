@@ -0,0 +1,36 @@
+package com.shop.frankit.repository;
+
+import com.shop.frankit.entity.ProductRevision;
+import jakarta.persistence.LockModeType;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ProductRevisionRepository extends JpaRepository<ProductRevision, Long> {
+
+    // 리비전 목록 (최신순)
+    Page<ProductRevision> findByProductIdOrderByRevisionDesc(Long productId, Pageable pageable);
+
+    Optional<ProductRevision> findByProductIdAndRevision(Long productId, int revision);
+
+    // 스냅샷부터 특정 리비전까지, 적용 순서
+    List<ProductRevision> findByProductIdAndRevisionBetweenOrderByRevisionAsc(Long productId, int from, int to);
+
+    // 리비전 추가용, 마지막 리비전을 잠가서 같은 상품의 추가를 직렬화
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<ProductRevision> findTopByProductIdOrderByRevisionDesc(Long productId);
+
+    // 리비전 추가용, 잠금 읽기라 트랜잭션 시작 이후에 커밋된 리비전도 보인다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM ProductRevision r WHERE r.productId = :productId "
+        + "AND r.revision BETWEEN :from AND :to ORDER BY r.revision")
+    List<ProductRevision> findChainForUpdate(@Param("productId") Long productId, @Param("from") int from,
+        @Param("to") int to);
+}
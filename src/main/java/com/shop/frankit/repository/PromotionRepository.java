@@ -0,0 +1,14 @@
+package com.shop.frankit.repository;
+
+import com.shop.frankit.entity.Promotion;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PromotionRepository extends JpaRepository<Promotion, Long> {
+
+    // 종료되지 않은 규칙 (진행 중 + 예정)
+    List<Promotion> findByEndsAtIsNullOrEndsAtAfter(LocalDateTime now);
+}
@@ -1,12 +1,15 @@
 package com.shop.frankit.repository;
 
 import com.shop.frankit.entity.RefreshToken;
+import com.shop.frankit.datasource.Workload;
+import com.shop.frankit.datasource.WorkloadType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
+@Workload(WorkloadType.AUTH)
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
     Optional<RefreshToken> findByToken(String token);
     Optional<RefreshToken> findByEmail(String email);
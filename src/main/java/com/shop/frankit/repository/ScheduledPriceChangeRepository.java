@@ -0,0 +1,28 @@
+package com.shop.frankit.repository;
+
+import com.shop.frankit.entity.ScheduledPriceChange;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ScheduledPriceChangeRepository extends JpaRepository<ScheduledPriceChange, Long> {
+
+    List<ScheduledPriceChange> findByProductIdAndStatusOrderByApplyAtAscIdAsc(Long productId,
+        ScheduledPriceChange.Status status);
+
+    // 아직 적용되지 않은 경우에만 취소 (적용과 경합하면 먼저 커밋된 쪽만 반영)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ScheduledPriceChange c SET c.status = com.shop.frankit.entity.ScheduledPriceChange.Status.CANCELLED "
+        + "WHERE c.id = :id AND c.status = com.shop.frankit.entity.ScheduledPriceChange.Status.PENDING")
+    int cancelIfPending(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE ScheduledPriceChange c SET c.status = com.shop.frankit.entity.ScheduledPriceChange.Status.CANCELLED "
+        + "WHERE c.productId = :productId "
+        + "AND c.status = com.shop.frankit.entity.ScheduledPriceChange.Status.PENDING")
+    int cancelPendingByProductId(@Param("productId") Long productId);
+}
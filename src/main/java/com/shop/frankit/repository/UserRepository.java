@@ -1,12 +1,15 @@
 package com.shop.frankit.repository;
 
 import com.shop.frankit.entity.User;
+import com.shop.frankit.datasource.Workload;
+import com.shop.frankit.datasource.WorkloadType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
+@Workload(WorkloadType.AUTH)
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     Boolean existsByEmail(String email);
@@ -0,0 +1,134 @@
+package com.shop.frankit.revision;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shop.frankit.entity.CompressedText;
+import com.shop.frankit.entity.Product;
+import com.shop.frankit.entity.ProductRevision;
+import com.shop.frankit.repository.ProductOptionRepository;
+import com.shop.frankit.repository.ProductRevisionRepository;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 상품/옵션 리비전 기록
+ * - 상품이나 옵션을 바꾸는 트랜잭션 안에서 바뀐 후의 상태를 이전 리비전과 비교해 변경분만 추가한다. (바뀐 것이 없으면 추가하지 않음)
+ * - 변경분이 snapshot-interval개 이어지면 전체 상태를 스냅샷으로 저장하므로, 어떤 리비전이든
+ *   스냅샷 하나와 최대 snapshot-interval - 1개의 변경분으로 복원된다.
+ * - 기능 도입 전에 등록된 상품은 처음 바뀔 때의 상태가 첫 리비전(스냅샷)이 된다.
+ */
+@Slf4j
+@Component
+public class ProductRevisionLog {
+
+    private final ProductRevisionRepository revisionRepository;
+    private final ProductOptionRepository productOptionRepository;
+    private final ObjectMapper objectMapper;
+    private final int snapshotInterval;
+
+    public ProductRevisionLog(ProductRevisionRepository revisionRepository,
+        ProductOptionRepository productOptionRepository, ObjectMapper objectMapper,
+        @Value("${app.revisions.snapshot-interval:20}") int snapshotInterval) {
+        if (snapshotInterval < 1) {
+            throw new IllegalArgumentException("스냅샷 간격은 1 이상이어야 합니다: " + snapshotInterval);
+        }
+        this.revisionRepository = revisionRepository;
+        this.productOptionRepository = productOptionRepository;
+        this.objectMapper = objectMapper;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    /**
+     * 상품과 옵션의 현재 상태를 리비전으로 추가
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(Product product, Long userId) {
+        append(product.getId(), ProductState.of(product, productOptionRepository.findByProductId(product.getId())), userId);
+    }
+
+    /**
+     * 상품 삭제를 리비전으로 추가 (삭제 직전 상태 + 삭제 표시)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendDeleted(Product product, Long userId) {
+        append(product.getId(),
+            ProductState.of(product, productOptionRepository.findByProductId(product.getId())).asDeleted(), userId);
+    }
+
+    /**
+     * 리비전의 상태, 스냅샷부터 변경분을 순서대로 적용
+     */
+    public ProductState stateOf(ProductRevision target) {
+        return replay(revisionRepository.findByProductIdAndRevisionBetweenOrderByRevisionAsc(
+            target.getProductId(), target.getBaseRevision(), target.getRevision()));
+    }
+
+    private void append(Long productId, ProductState state, Long userId) {
+        // 마지막 리비전을 잠근 뒤 잠금 읽기로 복원하므로 동시에 추가해도 같은 이전 상태를 보지 않음
+        Optional<ProductRevision> latest = revisionRepository.findTopByProductIdOrderByRevisionDesc(productId);
+        RevisionPayload delta;
+        if (latest.isEmpty()) {
+            delta = RevisionPayload.snapshot(state);
+        } else {
+            ProductRevision last = latest.get();
+            ProductState previous = replay(revisionRepository.findChainForUpdate(productId, last.getBaseRevision(),
+                last.getRevision()));
+            delta = RevisionPayload.delta(previous, state);
+            if (delta == null) {
+                return;
+            }
+        }
+
+        int revision = latest.map(last -> last.getRevision() + 1).orElse(1);
+        boolean snapshot = latest.isEmpty() || revision - latest.get().getBaseRevision() >= snapshotInterval;
+        ProductRevision row = new ProductRevision();
+        row.setProductId(productId);
+        row.setRevision(revision);
+        row.setBaseRevision(snapshot ? revision : latest.get().getBaseRevision());
+        row.setKind(snapshot ? ProductRevision.Kind.SNAPSHOT : ProductRevision.Kind.DELTA);
+        row.setChangedFields(String.join(",", delta.changedFields()));
+        row.setPayload(CompressedText.of(serialize(snapshot ? RevisionPayload.snapshot(state) : delta)));
+        row.setUserId(userId);
+        revisionRepository.save(row);
+        log.debug("Product revision appended: productId={}, revision={}, kind={}, fields={}",
+            productId, revision, row.getKind(), row.getChangedFields());
+    }
+
+    private ProductState replay(List<ProductRevision> chain) {
+        ProductState state = null;
+        for (ProductRevision revision : chain) {
+            RevisionPayload payload = deserialize(revision.getPayload());
+            if (revision.getKind() == ProductRevision.Kind.SNAPSHOT) {
+                state = payload.toState();
+            } else if (state == null) {
+                throw new IllegalStateException("스냅샷 없이 시작하는 리비전입니다. 상품 ID: "
+                    + revision.getProductId() + ", 리비전: " + revision.getRevision());
+            } else {
+                state = payload.applyTo(state);
+            }
+        }
+        return state;
+    }
+
+    private String serialize(RevisionPayload payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private RevisionPayload deserialize(CompressedText payload) {
+        try {
+            return objectMapper.readValue(payload.value(), RevisionPayload.class);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
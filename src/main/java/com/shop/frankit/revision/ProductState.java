@@ -0,0 +1,48 @@
+package com.shop.frankit.revision;
+
+import com.shop.frankit.entity.Money;
+import com.shop.frankit.entity.OptionValue;
+import com.shop.frankit.entity.Product;
+import com.shop.frankit.entity.ProductOption;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 한 리비전의 상품 전체 상태 (상품 필드 + 옵션 ID별 옵션), 불변
+ */
+public record ProductState(String name, String description, Money price, Money shippingFee,
+                           Map<Long, OptionState> options, boolean deleted) {
+
+    public record OptionState(String name, ProductOption.OptionType type, Money additionalPrice, List<String> values) {
+
+        static OptionState of(ProductOption option) {
+            List<String> values = option.getOptionValues() == null ? List.of() : option.getOptionValues().stream()
+                .sorted(Comparator.comparing(OptionValue::getId, Comparator.nullsLast(Comparator.naturalOrder())))
+                .map(OptionValue::getValue)
+                .toList();
+            return new OptionState(option.getName(), option.getType(), option.getAdditionalPrice(), values);
+        }
+    }
+
+    // 설명이 없으면 빈 문자열 (변경분을 항상 TextDelta로 표현)
+    public ProductState {
+        description = description == null ? "" : description;
+        options = Collections.unmodifiableMap(new TreeMap<>(options));
+    }
+
+    public static ProductState of(Product product, List<ProductOption> options) {
+        Map<Long, OptionState> optionStates = new TreeMap<>();
+        for (ProductOption option : options) {
+            optionStates.put(option.getId(), OptionState.of(option));
+        }
+        return new ProductState(product.getName(), product.getDescription(), product.getPrice(),
+            product.getShippingFee(), optionStates, false);
+    }
+
+    public ProductState asDeleted() {
+        return new ProductState(name, description, price, shippingFee, options, true);
+    }
+}
@@ -0,0 +1,152 @@
+package com.shop.frankit.revision;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.shop.frankit.entity.Money;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 리비전에 저장하는 내용 (JSON)
+ * - 스냅샷: 모든 필드와 옵션, description은 전체 텍스트
+ * - 변경분: 바뀐 필드만, description은 이전 리비전과의 차이(descriptionDelta), 옵션은 바뀐 옵션 전체와 삭제된 옵션 ID
+ */
+@Getter @Setter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class RevisionPayload {
+
+    private String name;
+    private String description;
+    private TextDelta descriptionDelta;
+    private Money price;
+    private Money shippingFee;
+    private Map<Long, ProductState.OptionState> options;
+    private List<Long> removedOptions;
+    private Boolean deleted;
+
+    public static RevisionPayload snapshot(ProductState state) {
+        RevisionPayload payload = new RevisionPayload();
+        payload.name = state.name();
+        payload.description = state.description();
+        payload.price = state.price();
+        payload.shippingFee = state.shippingFee();
+        payload.options = state.options().isEmpty() ? null : new TreeMap<>(state.options());
+        payload.deleted = state.deleted() ? Boolean.TRUE : null;
+        return payload;
+    }
+
+    /**
+     * from에서 to로의 변경분, 바뀐 것이 없으면 null
+     */
+    public static RevisionPayload delta(ProductState from, ProductState to) {
+        RevisionPayload payload = new RevisionPayload();
+        boolean changed = false;
+        if (!Objects.equals(from.name(), to.name())) {
+            payload.name = to.name();
+            changed = true;
+        }
+        if (!Objects.equals(from.description(), to.description())) {
+            payload.descriptionDelta = TextDelta.between(from.description(), to.description());
+            changed = true;
+        }
+        if (!Objects.equals(from.price(), to.price())) {
+            payload.price = to.price();
+            changed = true;
+        }
+        if (!Objects.equals(from.shippingFee(), to.shippingFee())) {
+            payload.shippingFee = to.shippingFee();
+            changed = true;
+        }
+        Map<Long, ProductState.OptionState> options = new TreeMap<>();
+        to.options().forEach((id, option) -> {
+            if (!option.equals(from.options().get(id))) {
+                options.put(id, option);
+            }
+        });
+        List<Long> removed = new ArrayList<>();
+        from.options().keySet().forEach(id -> {
+            if (!to.options().containsKey(id)) {
+                removed.add(id);
+            }
+        });
+        if (!options.isEmpty()) {
+            payload.options = options;
+            changed = true;
+        }
+        if (!removed.isEmpty()) {
+            payload.removedOptions = removed;
+            changed = true;
+        }
+        if (from.deleted() != to.deleted()) {
+            payload.deleted = to.deleted();
+            changed = true;
+        }
+        return changed ? payload : null;
+    }
+
+    /**
+     * 스냅샷으로 만든 상태
+     */
+    public ProductState toState() {
+        return new ProductState(name, description, price, shippingFee,
+            options == null ? Map.of() : options, Boolean.TRUE.equals(deleted));
+    }
+
+    /**
+     * 이전 리비전 상태에 변경분을 적용한 상태
+     */
+    public ProductState applyTo(ProductState base) {
+        String nextDescription = base.description();
+        if (description != null) {
+            nextDescription = description;
+        } else if (descriptionDelta != null) {
+            nextDescription = descriptionDelta.applyTo(base.description());
+        }
+        Map<Long, ProductState.OptionState> nextOptions = new TreeMap<>(base.options());
+        if (removedOptions != null) {
+            removedOptions.forEach(nextOptions::remove);
+        }
+        if (options != null) {
+            nextOptions.putAll(options);
+        }
+        return new ProductState(
+            name != null ? name : base.name(),
+            nextDescription,
+            price != null ? price : base.price(),
+            shippingFee != null ? shippingFee : base.shippingFee(),
+            nextOptions,
+            deleted != null ? deleted : base.deleted());
+    }
+
+    /**
+     * 바뀐 필드 이름 (리비전 목록 표시용)
+     */
+    @JsonIgnore
+    public List<String> changedFields() {
+        List<String> fields = new ArrayList<>();
+        if (name != null) {
+            fields.add("name");
+        }
+        if (description != null || descriptionDelta != null) {
+            fields.add("description");
+        }
+        if (price != null) {
+            fields.add("price");
+        }
+        if (shippingFee != null) {
+            fields.add("shippingFee");
+        }
+        if (options != null || removedOptions != null) {
+            fields.add("options");
+        }
+        if (deleted != null) {
+            fields.add("deleted");
+        }
+        return fields;
+    }
+}
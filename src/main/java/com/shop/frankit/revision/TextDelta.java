@@ -0,0 +1,33 @@
+package com.shop.frankit.revision;
+
+/**
+ * 두 문자열의 차이, 앞뒤 공통 부분의 길이와 그 사이를 대신할 텍스트로 표현한다
+ * 한 곳을 고친 설명은 고친 부분만 저장하며, 여러 곳을 고치면 처음과 마지막 변경 사이가 모두 text에 들어간다.
+ */
+public record TextDelta(int prefix, int suffix, String text) {
+
+    public static TextDelta between(String from, String to) {
+        int max = Math.min(from.length(), to.length());
+        int prefix = 0;
+        while (prefix < max && from.charAt(prefix) == to.charAt(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < max - prefix
+            && from.charAt(from.length() - 1 - suffix) == to.charAt(to.length() - 1 - suffix)) {
+            suffix++;
+        }
+        // 서로게이트 쌍을 나누지 않음 (text만 따로 JSON에 쓰므로)
+        if (prefix > 0 && Character.isHighSurrogate(from.charAt(prefix - 1))) {
+            prefix--;
+        }
+        if (suffix > 0 && Character.isLowSurrogate(from.charAt(from.length() - suffix))) {
+            suffix--;
+        }
+        return new TextDelta(prefix, suffix, to.substring(prefix, to.length() - suffix));
+    }
+
+    public String applyTo(String base) {
+        return base.substring(0, prefix) + text + base.substring(base.length() - suffix);
+    }
+}
@@ -1,5 +1,7 @@
 package com.shop.frankit.service;
 
+import com.shop.frankit.datasource.Workload;
+import com.shop.frankit.datasource.WorkloadType;
 import com.shop.frankit.dto.auth.LoginRequest;
 import com.shop.frankit.dto.auth.TokenResponse;
 import com.shop.frankit.entity.RefreshToken;
@@ -19,6 +21,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
+@Workload(WorkloadType.AUTH)
 @RequiredArgsConstructor
 public class AuthService {
 
@@ -0,0 +1,110 @@
+package com.shop.frankit.service;
+
+import com.shop.frankit.cart.CartItem;
+import com.shop.frankit.cart.CartStore;
+import com.shop.frankit.catalog.PricingTable;
+import com.shop.frankit.catalog.PricingTableCache;
+import com.shop.frankit.datasource.Workload;
+import com.shop.frankit.datasource.WorkloadType;
+import com.shop.frankit.dto.CartItemRequest;
+import com.shop.frankit.dto.CartResponse;
+import com.shop.frankit.entity.Money;
+import com.shop.frankit.exception.InvalidRequestException;
+import com.shop.frankit.exception.ResourceNotFoundException;
+import com.shop.frankit.promotion.PromotionEngine;
+import com.shop.frankit.promotion.PromotionTable;
+import jakarta.persistence.EntityNotFoundException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 장바구니 조회/변경 (메모리 CartStore 기준, DB에는 write-behind로 반영)
+ * 담을 때 옵션을 검증하고, 금액은 조회할 때마다 캐시된 가격 계산표로 다시 계산한다.
+ */
+@Slf4j
+@Service
+@Workload(WorkloadType.CATALOG)
+@RequiredArgsConstructor
+public class CartService {
+
+    private final CartStore cartStore;
+    private final PricingTableCache pricingTableCache;
+    private final ProductOptionService productOptionService;
+    private final PromotionEngine promotionEngine;
+
+    public CartResponse findByUserId(Long userId) {
+        return toResponse(cartStore.items(userId));
+    }
+
+    public CartResponse addItem(Long userId, CartItemRequest request) {
+        Map<Long, String> selections = request.getSelections() == null ? Map.of() : request.getSelections();
+        Map<Long, String> inputs = request.getInputs() == null ? Map.of() : request.getInputs();
+        // 잘못된 옵션이면 InvalidRequestException
+        pricing(request.getProductId()).quote(selections, inputs, request.getQuantity(), promotionEngine.table());
+        CartItem item = cartStore.add(userId, request.getProductId(), selections, inputs, request.getQuantity());
+        log.info("Cart item added: userId={}, itemId={}, productId={}", userId, item.id(), item.productId());
+        return findByUserId(userId);
+    }
+
+    public CartResponse updateQuantity(Long userId, int itemId, int quantity) {
+        if (quantity < 1) {
+            throw InvalidRequestException.invalidQuantity(quantity);
+        }
+        if (cartStore.setQuantity(userId, itemId, quantity) == null) {
+            throw ResourceNotFoundException.cartItemNotFound(itemId);
+        }
+        return findByUserId(userId);
+    }
+
+    public CartResponse removeItem(Long userId, int itemId) {
+        if (!cartStore.remove(userId, itemId)) {
+            throw ResourceNotFoundException.cartItemNotFound(itemId);
+        }
+        return findByUserId(userId);
+    }
+
+    public void clear(Long userId) {
+        cartStore.clear(userId);
+        log.info("Cart cleared: userId={}", userId);
+    }
+
+    private PricingTable pricing(Long productId) {
+        return pricingTableCache.get(productId, () -> productOptionService.buildPricingTable(productId));
+    }
+
+    private CartResponse toResponse(List<CartItem> items) {
+        List<CartResponse.Item> lines = new ArrayList<>(items.size());
+        Money total = Money.ZERO;
+        PromotionTable promotions = promotionEngine.table();
+        for (CartItem item : items) {
+            CartResponse.Item line = new CartResponse.Item();
+            line.setItemId(item.id());
+            line.setProductId(item.productId());
+            line.setSelections(item.selections());
+            line.setInputs(item.inputs());
+            line.setQuantity(item.quantity());
+            try {
+                PricingTable.Quote quote = pricing(item.productId())
+                    .quote(item.selections(), item.inputs(), item.quantity(), promotions);
+                line.setAvailable(true);
+                line.setSelectedValues(quote.selectedValues());
+                line.setUnitPrice(quote.unitPrice());
+                line.setShippingFee(quote.shippingFee());
+                line.setTotal(quote.total());
+                total = total.plus(quote.total());
+            } catch (EntityNotFoundException | InvalidRequestException e) {
+                // 담은 뒤 상품이 삭제되었거나 옵션이 바뀜
+                line.setAvailable(false);
+            }
+            lines.add(line);
+        }
+        CartResponse response = new CartResponse();
+        response.setItems(lines);
+        response.setTotal(total);
+        return response;
+    }
+}
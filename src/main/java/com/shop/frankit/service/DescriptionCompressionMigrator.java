@@ -0,0 +1,77 @@
+package com.shop.frankit.service;
+
+import com.shop.frankit.entity.CompressedText;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 기존 TEXT 컬럼(products.description)에 남아 있는 상품 설명을
+ * 압축 컬럼(products.description_body)으로 배치 단위로 옮기는 백그라운드 작업
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.product.description-migration.enabled", havingValue = "true", matchIfMissing = true)
+public class DescriptionCompressionMigrator {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.product.description-migration.batch-size:500}")
+    private int batchSize;
+
+    private volatile boolean completed;
+
+    /**
+     * 남은 행이 없을 때까지 배치를 반복, 모두 옮기면 이후 실행은 건너뜀
+     */
+    @Scheduled(initialDelayString = "${app.product.description-migration.initial-delay:30000}",
+        fixedDelayString = "${app.product.description-migration.interval:60000}")
+    public void migrate() {
+        if (completed) {
+            return;
+        }
+        int total = 0;
+        int migrated;
+        do {
+            migrated = migrateBatch();
+            total += migrated;
+        } while (migrated == batchSize);
+
+        if (total > 0) {
+            log.info("Migrated {} product descriptions to compressed storage", total);
+        } else {
+            completed = true;
+            log.info("Product description migration completed");
+        }
+    }
+
+    /**
+     * 한 배치를 하나의 트랜잭션으로 처리, 처리한 행 수 반환
+     */
+    int migrateBatch() {
+        Integer count = transactionTemplate.execute(status -> {
+            List<Object[]> rows = jdbcTemplate.query(
+                "SELECT id, description FROM products WHERE description IS NOT NULL LIMIT ? FOR UPDATE",
+                (rs, rowNum) -> new Object[] {
+                    CompressedText.of(rs.getString("description")).encoded(),
+                    rs.getLong("id")
+                },
+                batchSize);
+            if (rows.isEmpty()) {
+                return 0;
+            }
+            jdbcTemplate.batchUpdate(
+                "UPDATE products SET description_body = ?, description = NULL WHERE id = ?", rows);
+            return rows.size();
+        });
+        return count == null ? 0 : count;
+    }
+}
@@ -0,0 +1,140 @@
+package com.shop.frankit.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shop.frankit.catalog.PricingTable;
+import com.shop.frankit.catalog.PricingTableCache;
+import com.shop.frankit.datasource.Workload;
+import com.shop.frankit.datasource.WorkloadType;
+import com.shop.frankit.dto.OrderRequest;
+import com.shop.frankit.dto.OrderResponse;
+import com.shop.frankit.exception.InvalidRequestException;
+import com.shop.frankit.order.OrderIntake;
+import com.shop.frankit.order.PlacedOrder;
+import com.shop.frankit.promotion.PromotionEngine;
+import com.shop.frankit.shard.GlobalIdGenerator;
+import com.shop.frankit.shard.ShardRouter;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 주문 접수
+ * - 상품/옵션 검증과 금액 계산은 캐시된 가격 계산표와 현재 할인 조회표로 하고, 저장은 OrderIntake가 모아서 한다.
+ * - 재고 엔진을 사용하면 접수 전에 재고를 예약하고, 주문이 커밋되면 확정/실패하면 해제한다.
+ * - 멱등 키(Idempotency-Key)로 다시 들어온 주문은 새로 만들지 않고 먼저 접수된 주문을 반환한다. (응답 대기 시간 초과 후 재시도)
+ */
+@Slf4j
+@Service
+@Workload(WorkloadType.CATALOG)
+@RequiredArgsConstructor
+public class OrderService {
+
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 64;
+
+    private final OrderIntake orderIntake;
+    private final PricingTableCache pricingTableCache;
+    private final ProductOptionService productOptionService;
+    private final PromotionEngine promotionEngine;
+    private final StockService stockService;
+    private final ShardRouter shardRouter;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 주문 접수, 주문이 DB에 커밋된 뒤 반환
+     * idempotencyKey: 클라이언트가 재시도에 같은 값을 보내는 키 (없으면 null)
+     */
+    public OrderResponse place(OrderRequest request, Long userId, String idempotencyKey) {
+        if (idempotencyKey != null
+            && (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH)) {
+            throw InvalidRequestException.invalidIdempotencyKey(MAX_IDEMPOTENCY_KEY_LENGTH);
+        }
+        Long productId = request.getProductId();
+        Map<Long, String> selections = request.getSelections() == null ? Map.of() : request.getSelections();
+        Map<Long, String> inputs = request.getInputs() == null ? Map.of() : request.getInputs();
+        PricingTable pricing = pricingTableCache.get(productId, () -> productOptionService.buildPricingTable(productId));
+        PricingTable.Quote quote = pricing.quote(selections, inputs, request.getQuantity(), promotionEngine.table());
+        if (idempotencyKey != null) {
+            Optional<PlacedOrder> saved = orderIntake.findByIdempotencyKey(userId, idempotencyKey, shardOf(productId));
+            if (saved.isPresent()) {
+                log.info("Order already placed with idempotency key: id={}", saved.get().id());
+                return toResponse(saved.get(), quote.selectedValues());
+            }
+        }
+
+        String reservationId = stockService.isEnabled()
+            ? stockService.reserve(productId, selections, quote.quantity(), userId).getReservationId()
+            : null;
+        PlacedOrder order = new PlacedOrder(GlobalIdGenerator.nextId(shardOf(productId)), userId, productId,
+            options(selections, inputs), quote.quantity(), quote.unitPrice(), quote.shippingFee(), quote.total(),
+            reservationId, idempotencyKey, LocalDateTime.now());
+
+        CompletableFuture<PlacedOrder> durable;
+        try {
+            durable = orderIntake.submit(order);
+        } catch (RuntimeException e) {
+            settleReservation(order, false);
+            throw e;
+        }
+        if (reservationId != null) {
+            // 응답 대기 시간을 넘겨도 저장 결과에 맞춰 재고를 처리하도록 저장 스레드에서 확정/해제
+            // (같은 멱등 키의 다른 주문으로 완료되면 이 주문은 저장되지 않았으므로 해제)
+            durable.whenComplete((saved, failure) ->
+                settleReservation(order, failure == null && saved.id() == order.id()));
+        }
+        PlacedOrder saved = orderIntake.await(order.id(), durable);
+        log.info("Order placed: id={}, productId={}, quantity={}", saved.id(), productId, saved.quantity());
+        return toResponse(saved, quote.selectedValues());
+    }
+
+    private void settleReservation(PlacedOrder order, boolean committed) {
+        if (order.reservationId() == null) {
+            return;
+        }
+        try {
+            if (committed) {
+                stockService.commit(order.reservationId(), order.userId());
+            } else {
+                stockService.release(order.reservationId(), order.userId());
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to {} stock reservation {} of order {}",
+                committed ? "commit" : "release", order.reservationId(), order.id(), e);
+        }
+    }
+
+    private String options(Map<Long, String> selections, Map<Long, String> inputs) {
+        Map<String, Map<Long, String>> options = new LinkedHashMap<>();
+        options.put("selections", selections);
+        options.put("inputs", inputs);
+        try {
+            return objectMapper.writeValueAsString(options);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private int shardOf(Long productId) {
+        return shardRouter.isSharded() ? shardRouter.shardOfId(productId) : 0;
+    }
+
+    private static OrderResponse toResponse(PlacedOrder order, List<String> selectedValues) {
+        OrderResponse response = new OrderResponse();
+        response.setOrderId(order.id());
+        response.setProductId(order.productId());
+        response.setSelectedValues(selectedValues);
+        response.setUnitPrice(order.unitPrice());
+        response.setQuantity(order.quantity());
+        response.setShippingFee(order.shippingFee());
+        response.setTotalPrice(order.totalPrice());
+        response.setOrderedAt(order.orderedAt());
+        return response;
+    }
+}
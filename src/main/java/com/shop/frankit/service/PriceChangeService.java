@@ -0,0 +1,122 @@
+package com.shop.frankit.service;
+
+import com.shop.frankit.datasource.Workload;
+import com.shop.frankit.datasource.WorkloadType;
+import com.shop.frankit.dto.PriceChangeRequest;
+import com.shop.frankit.dto.PriceChangeResponse;
+import com.shop.frankit.entity.Product;
+import com.shop.frankit.entity.ScheduledPriceChange;
+import com.shop.frankit.event.PriceChangeScheduledEvent;
+import com.shop.frankit.exception.InvalidRequestException;
+import com.shop.frankit.repository.ProductRepository;
+import com.shop.frankit.repository.ScheduledPriceChangeRepository;
+import com.shop.frankit.shard.ShardKey;
+import jakarta.persistence.EntityNotFoundException;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 상품 가격/배송비 변경 예약 (상품 판매자만 가능)
+ * 예약은 상품과 같은 샤드에 저장하고, 적용은 PriceChangeScheduler가 예약 시각에 한다.
+ */
+@Slf4j
+@Service
+@Workload(WorkloadType.CATALOG)
+@RequiredArgsConstructor
+public class PriceChangeService {
+
+    private final ScheduledPriceChangeRepository scheduledPriceChangeRepository;
+    private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 적용 대기 중인 변경 목록, 예약 시각 순서
+     */
+    @Transactional(readOnly = true)
+    public List<PriceChangeResponse> findPending(@ShardKey(ShardKey.Source.PRODUCT_ID) Long productId, Long userId) {
+        log.info("Finding pending price changes: productId={}", productId);
+        checkOwner(productId, userId);
+        return scheduledPriceChangeRepository
+            .findByProductIdAndStatusOrderByApplyAtAscIdAsc(productId, ScheduledPriceChange.Status.PENDING).stream()
+            .map(PriceChangeService::toResponse)
+            .toList();
+    }
+
+    @Transactional
+    public PriceChangeResponse schedule(@ShardKey(ShardKey.Source.PRODUCT_ID) Long productId,
+        PriceChangeRequest request, Long userId) {
+        log.info("Scheduling price change: productId={}, request={}", productId, request);
+        checkOwner(productId, userId);
+        if (request.getPrice() == null && request.getShippingFee() == null) {
+            throw InvalidRequestException.invalidPriceChange("바꿀 가격이나 배송비를 입력해주세요.");
+        }
+        if ((request.getPrice() != null && request.getPrice().isNegative())
+            || (request.getShippingFee() != null && request.getShippingFee().isNegative())) {
+            throw InvalidRequestException.invalidPriceChange("가격과 배송비는 0 이상이어야 합니다.");
+        }
+        if (!request.getApplyAt().isAfter(LocalDateTime.now())) {
+            throw InvalidRequestException.invalidPriceChange("적용 시각은 현재 이후여야 합니다.");
+        }
+
+        ScheduledPriceChange change = new ScheduledPriceChange();
+        change.setProductId(productId);
+        change.setUserId(userId);
+        change.setPrice(request.getPrice());
+        change.setShippingFee(request.getShippingFee());
+        change.setApplyAt(request.getApplyAt());
+        ScheduledPriceChange saved = scheduledPriceChangeRepository.save(change);
+        eventPublisher.publishEvent(new PriceChangeScheduledEvent(saved.getId(), saved.getApplyAt(), false));
+        log.info("Price change scheduled with id: {}", saved.getId());
+        return toResponse(saved);
+    }
+
+    /**
+     * 예약 취소, 이미 적용되었거나 취소된 예약이면 InvalidRequestException
+     */
+    @Transactional
+    public void cancel(@ShardKey(ShardKey.Source.PRODUCT_ID) Long productId, Long changeId, Long userId) {
+        log.info("Cancelling price change: productId={}, changeId={}", productId, changeId);
+        checkOwner(productId, userId);
+        ScheduledPriceChange change = scheduledPriceChangeRepository.findById(changeId)
+            .filter(found -> found.getProductId().equals(productId))
+            .orElseThrow(() -> {
+                log.error("Price change not found with id: {}", changeId);
+                return new EntityNotFoundException("가격 변경 예약을 찾을 수 없습니다. ID: " + changeId);
+            });
+        if (scheduledPriceChangeRepository.cancelIfPending(change.getId()) == 0) {
+            throw InvalidRequestException.invalidPriceChange("이미 적용되었거나 취소된 예약입니다.");
+        }
+        eventPublisher.publishEvent(new PriceChangeScheduledEvent(changeId, change.getApplyAt(), true));
+    }
+
+    private void checkOwner(Long productId, Long userId) {
+        Product product = productRepository.findById(productId)
+            .orElseThrow(() -> {
+                log.error("Product not found with id: {}", productId);
+                return new EntityNotFoundException("상품을 찾을 수 없습니다. ID: " + productId);
+            });
+        if (!product.getUser().getId().equals(userId)) {
+            log.warn("User {} attempted to change price of product {} owned by user {}",
+                userId, productId, product.getUser().getId());
+            throw new AccessDeniedException("이 상품의 가격을 변경할 권한이 없습니다.");
+        }
+    }
+
+    private static PriceChangeResponse toResponse(ScheduledPriceChange change) {
+        PriceChangeResponse response = new PriceChangeResponse();
+        response.setId(change.getId());
+        response.setProductId(change.getProductId());
+        response.setPrice(change.getPrice());
+        response.setShippingFee(change.getShippingFee());
+        response.setApplyAt(change.getApplyAt());
+        response.setStatus(change.getStatus());
+        response.setAppliedAt(change.getAppliedAt());
+        return response;
+    }
+}
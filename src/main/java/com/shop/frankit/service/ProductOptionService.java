@@ -1,16 +1,26 @@
 package com.shop.frankit.service;
 
+import com.shop.frankit.catalog.HotProductRead;
+import com.shop.frankit.catalog.PricingTable;
+import com.shop.frankit.catalog.VariantMatrix;
+import com.shop.frankit.datasource.Workload;
+import com.shop.frankit.datasource.WorkloadType;
 import com.shop.frankit.dto.ProductOptionRequest;
 import com.shop.frankit.dto.ProductOptionResponse;
 import com.shop.frankit.entity.OptionValue;
 import com.shop.frankit.entity.Product;
 import com.shop.frankit.entity.ProductOption;
+import com.shop.frankit.event.ProductOptionsChangedEvent;
 import com.shop.frankit.mapper.ProductOptionMapper;
 import com.shop.frankit.repository.OptionValueRepository;
 import com.shop.frankit.repository.ProductOptionRepository;
 import com.shop.frankit.repository.ProductRepository;
+import com.shop.frankit.revision.ProductRevisionLog;
+import com.shop.frankit.shard.ShardKey;
+import com.shop.frankit.support.Coalesced;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.extern.slf4j.Slf4j;
@@ -20,6 +30,7 @@ import java.util.List;
 
 @Slf4j
 @Service
+@Workload(WorkloadType.CATALOG)
 @RequiredArgsConstructor
 public class ProductOptionService {
 
@@ -27,23 +38,57 @@ public class ProductOptionService {
     private final ProductRepository productRepository;
     private final OptionValueRepository optionValueRepository;
     private final ProductOptionMapper productOptionMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProductRevisionLog productRevisionLog;
 
     /**
-     * 특정 상품의 모든 옵션 조회
+     * 특정 상품의 모든 옵션 조회, 같은 상품의 동시 조회는 한 번만 실행
      */
+    @HotProductRead
+    @Coalesced
     @Transactional(readOnly = true)
-    public List<ProductOptionResponse> findByProductId(Long productId) {
+    public List<ProductOptionResponse> findByProductId(@ShardKey(ShardKey.Source.PRODUCT_ID) Long productId) {
         log.info("Finding all options for product: {}", productId);
         List<ProductOption> options = productOptionRepository.findByProductId(productId);
         log.debug("Found {} options for product {}", options.size(), productId);
         return productOptionMapper.toDtoList(options);
     }
 
+    /**
+     * 특정 상품의 SELECT 옵션 조합 행렬 생성 (VariantMatrixCache에서 캐시)
+     */
+    @Transactional(readOnly = true)
+    public VariantMatrix buildVariantMatrix(@ShardKey(ShardKey.Source.PRODUCT_ID) Long productId) {
+        log.info("Building variant matrix for product: {}", productId);
+        if (!productRepository.existsById(productId)) {
+            log.error("Product not found with id: {}", productId);
+            throw new EntityNotFoundException("상품을 찾을 수 없습니다. ID: " + productId);
+        }
+        VariantMatrix matrix = VariantMatrix.of(productId, productOptionRepository.findByProductId(productId));
+        log.debug("Built variant matrix for product {}: {} options, {} variants",
+            productId, matrix.optionCount(), matrix.size());
+        return matrix;
+    }
+
+    /**
+     * 특정 상품의 가격 계산표 생성 (PricingTableCache에서 캐시)
+     */
+    @Transactional(readOnly = true)
+    public PricingTable buildPricingTable(@ShardKey(ShardKey.Source.PRODUCT_ID) Long productId) {
+        log.info("Building pricing table for product: {}", productId);
+        Product product = productRepository.findById(productId)
+            .orElseThrow(() -> {
+                log.error("Product not found with id: {}", productId);
+                return new EntityNotFoundException("상품을 찾을 수 없습니다. ID: " + productId);
+            });
+        return PricingTable.of(product, productOptionRepository.findByProductId(productId));
+    }
+
     /**
      * 특정 상품의 특정 옵션 조회
      */
     @Transactional(readOnly = true)
-    public ProductOptionResponse findByIdAndProductId(Long id, Long productId) {
+    public ProductOptionResponse findByIdAndProductId(Long id, @ShardKey(ShardKey.Source.PRODUCT_ID) Long productId) {
         log.info("Finding option {} for product {}", id, productId);
         ProductOption option = productOptionRepository.findByIdAndProductId(id, productId)
             .orElseThrow(() -> {
@@ -57,7 +102,7 @@ public class ProductOptionService {
      * 새 상품 옵션 등록
      */
     @Transactional
-    public ProductOptionResponse create(ProductOptionRequest request, Long productId, Long userId) {
+    public ProductOptionResponse create(ProductOptionRequest request, @ShardKey(ShardKey.Source.PRODUCT_ID) Long productId, Long userId) {
         log.info("Creating new option for product: {}", productId);
 
         // 상품 조회
@@ -88,6 +133,7 @@ public class ProductOptionService {
         // 저장
         ProductOption savedOption = productOptionRepository.save(option);
         log.info("Option created successfully with id: {}", savedOption.getId());
+        eventPublisher.publishEvent(new ProductOptionsChangedEvent(productId));
 
         // SELECT 타입인 경우 옵션 값 저장
         if (savedOption.getType() == ProductOption.OptionType.SELECT && request.getOptionValues() != null) {
@@ -96,6 +142,7 @@ public class ProductOptionService {
             savedOption.setOptionValues(optionValues);
             log.debug("Saved {} option values for option {}", optionValues.size(), savedOption.getId());
         }
+        productRevisionLog.append(product, userId);
 
         return productOptionMapper.toDto(savedOption);
     }
@@ -104,7 +151,7 @@ public class ProductOptionService {
      * 상품 옵션 수정
      */
     @Transactional
-    public ProductOptionResponse update(Long id, ProductOptionRequest request, Long productId, Long userId) {
+    public ProductOptionResponse update(Long id, ProductOptionRequest request, @ShardKey(ShardKey.Source.PRODUCT_ID) Long productId, Long userId) {
         log.info("Updating option {} for product {}", id, productId);
 
         // 상품 조회
@@ -150,6 +197,8 @@ public class ProductOptionService {
         // 저장
         ProductOption updatedOption = productOptionRepository.save(option);
         log.info("Option updated successfully: {}", updatedOption.getId());
+        productRevisionLog.append(product, userId);
+        eventPublisher.publishEvent(new ProductOptionsChangedEvent(productId));
 
         return productOptionMapper.toDto(updatedOption);
     }
@@ -158,7 +207,7 @@ public class ProductOptionService {
      * 상품 옵션 삭제
      */
     @Transactional
-    public void delete(Long id, Long productId, Long userId) {
+    public void delete(Long id, @ShardKey(ShardKey.Source.PRODUCT_ID) Long productId, Long userId) {
         log.info("Deleting option {} for product {}", id, productId);
 
         // 상품 조회
@@ -185,5 +234,7 @@ public class ProductOptionService {
         // 삭제 (외래 키 제약 조건으로 인해 옵션 값도 자동 삭제됨)
         productOptionRepository.delete(option);
         log.info("Option deleted successfully: {}", id);
+        productRevisionLog.append(product, userId);
+        eventPublisher.publishEvent(new ProductOptionsChangedEvent(productId));
     }
 }
\ No newline at end of file
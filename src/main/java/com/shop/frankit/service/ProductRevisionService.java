@@ -0,0 +1,85 @@
+package com.shop.frankit.service;
+
+import com.shop.frankit.datasource.Workload;
+import com.shop.frankit.datasource.WorkloadType;
+import com.shop.frankit.dto.ProductRevisionResponse;
+import com.shop.frankit.entity.ProductRevision;
+import com.shop.frankit.repository.ProductRevisionRepository;
+import com.shop.frankit.revision.ProductRevisionLog;
+import com.shop.frankit.revision.ProductState;
+import com.shop.frankit.shard.ShardKey;
+import jakarta.persistence.EntityNotFoundException;
+import java.util.Arrays;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 상품 변경 이력 조회, 삭제된 상품의 이력도 조회할 수 있다
+ */
+@Slf4j
+@Service
+@Workload(WorkloadType.CATALOG)
+@RequiredArgsConstructor
+public class ProductRevisionService {
+
+    private final ProductRevisionRepository productRevisionRepository;
+    private final ProductRevisionLog productRevisionLog;
+
+    /**
+     * 리비전 목록 (최신순), 리비전 내용은 풀지 않는다
+     */
+    @Transactional(readOnly = true)
+    public Page<ProductRevisionResponse> findRevisions(@ShardKey(ShardKey.Source.PRODUCT_ID) Long productId,
+        Pageable pageable) {
+        log.info("Finding revisions of product: {}, page={}, size={}", productId, pageable.getPageNumber(), pageable.getPageSize());
+        return productRevisionRepository.findByProductIdOrderByRevisionDesc(productId, pageable)
+            .map(ProductRevisionService::toResponse);
+    }
+
+    /**
+     * 특정 리비전의 상품 상태, 가장 가까운 스냅샷부터 변경분을 적용해 복원
+     */
+    @Transactional(readOnly = true)
+    public ProductRevisionResponse findRevision(@ShardKey(ShardKey.Source.PRODUCT_ID) Long productId, int revision) {
+        log.info("Finding revision {} of product: {}", revision, productId);
+        ProductRevision target = productRevisionRepository.findByProductIdAndRevision(productId, revision)
+            .orElseThrow(() -> {
+                log.error("Revision not found: productId={}, revision={}", productId, revision);
+                return new EntityNotFoundException("상품 리비전을 찾을 수 없습니다. 상품 ID: " + productId + ", 리비전: " + revision);
+            });
+        ProductState state = productRevisionLog.stateOf(target);
+
+        ProductRevisionResponse response = toResponse(target);
+        response.setName(state.name());
+        response.setDescription(state.description());
+        response.setPrice(state.price());
+        response.setShippingFee(state.shippingFee());
+        response.setOptions(state.options().entrySet().stream().map(entry -> {
+            ProductRevisionResponse.Option option = new ProductRevisionResponse.Option();
+            option.setId(entry.getKey());
+            option.setName(entry.getValue().name());
+            option.setType(entry.getValue().type());
+            option.setAdditionalPrice(entry.getValue().additionalPrice());
+            option.setValues(entry.getValue().values());
+            return option;
+        }).toList());
+        response.setDeleted(state.deleted());
+        return response;
+    }
+
+    private static ProductRevisionResponse toResponse(ProductRevision revision) {
+        ProductRevisionResponse response = new ProductRevisionResponse();
+        response.setProductId(revision.getProductId());
+        response.setRevision(revision.getRevision());
+        response.setChangedFields(revision.getChangedFields().isEmpty()
+            ? List.of() : Arrays.asList(revision.getChangedFields().split(",")));
+        response.setUserId(revision.getUserId());
+        response.setCreatedAt(revision.getCreatedAt());
+        return response;
+    }
+}
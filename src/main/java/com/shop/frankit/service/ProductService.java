@@ -1,47 +1,106 @@
 package com.shop.frankit.service;
 
+import com.shop.frankit.catalog.FacetResult;
+import com.shop.frankit.catalog.HotProductRead;
+import com.shop.frankit.catalog.ProductFacetIndex;
+import com.shop.frankit.datasource.Workload;
+import com.shop.frankit.datasource.WorkloadType;
+import com.shop.frankit.dto.FacetedSearchResponse;
+import com.shop.frankit.dto.ProductBatchResponse;
+import com.shop.frankit.dto.ProductFacetQuery;
+import com.shop.frankit.dto.ProductField;
 import com.shop.frankit.dto.ProductRequest;
 import com.shop.frankit.dto.ProductResponse;
+import com.shop.frankit.dto.ProductSearchCondition;
+import com.shop.frankit.dto.ProductSort;
 import com.shop.frankit.entity.Product;
-import com.shop.frankit.entity.User;
+import com.shop.frankit.event.ProductChangedEvent;
+import com.shop.frankit.exception.InvalidRequestException;
 import com.shop.frankit.mapper.ProductMapper;
 import com.shop.frankit.repository.ProductRepository;
+import com.shop.frankit.repository.ScheduledPriceChangeRepository;
 import com.shop.frankit.repository.UserRepository;
+import com.shop.frankit.revision.ProductRevisionLog;
+import com.shop.frankit.shard.ShardKey;
+import com.shop.frankit.shard.ShardRouter;
+import com.shop.frankit.shard.ShardedQueryExecutor;
+import com.shop.frankit.support.Coalesced;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.extern.slf4j.Slf4j;
  import jakarta.persistence.EntityNotFoundException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
+@Workload(WorkloadType.CATALOG)
 @RequiredArgsConstructor
 public class ProductService {
 
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
+    private final UserService userService;
     private final ProductMapper productMapper;
+    private final ShardRouter shardRouter;
+    private final ShardedQueryExecutor shardedQueryExecutor;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProductFacetIndex productFacetIndex;
+    private final ScheduledPriceChangeRepository scheduledPriceChangeRepository;
+    private final ProductRevisionLog productRevisionLog;
+
+    @Value("${app.catalog.batch-max-ids:100}")
+    private int batchMaxIds;
 
     /**
-     * 모든 상품을 페이징하여 조회
+     * 모든 상품을 페이징하여 조회 (목록 기본 필드)
      */
     @Transactional(readOnly = true)
     public Page<ProductResponse> findAll(Pageable pageable) {
-        log.info("Finding all products with pagination: page={}, size={}", pageable.getPageNumber(), pageable.getPageSize());
-        Page<Product> productPage = productRepository.findAll(pageable);
+        return findAll(pageable, ProductField.LIST_DEFAULT);
+    }
+
+    /**
+     * 모든 상품을 페이징하여 조회, 요청된 필드만 조회
+     */
+    @Transactional(readOnly = true)
+    public Page<ProductResponse> findAll(Pageable pageable, Set<ProductField> fields) {
+        return findAll(pageable, fields, ProductSearchCondition.none());
+    }
+
+    /**
+     * 조건에 맞는 상품을 페이징하여 조회, 요청된 필드만 조회
+     */
+    @Transactional(readOnly = true)
+    public Page<ProductResponse> findAll(Pageable pageable, Set<ProductField> fields, ProductSearchCondition condition) {
+        log.info("Finding all products with pagination: page={}, size={}, fields={}, condition={}", pageable.getPageNumber(), pageable.getPageSize(), fields, condition);
+        ProductSort.validate(pageable.getSort(), condition.getUserId() != null, condition.hasPriceRange());
+        Set<ProductField> selected = selectedFields(fields, pageable);
+        Page<ProductResponse> productPage = shardedQueryExecutor.findPage(pageable,
+            shardPageable -> productRepository.findProjected(selected, condition, shardPageable));
         log.debug("Found {} products", productPage.getTotalElements());
-        return productMapper.toDtoPage(productPage);
+        return productMapper.applyPromotions(productPage);
     }
 
     /**
-     * 특정 ID의 상품 조회
+     * 특정 ID의 상품 조회, 같은 상품의 동시 조회는 한 번만 실행
      */
+    @HotProductRead
+    @Coalesced
     @Transactional(readOnly = true)
-    public ProductResponse findById(Long id) {
+    public ProductResponse findById(@ShardKey(ShardKey.Source.PRODUCT_ID) Long id) {
         log.info("Finding product by id: {}", id);
         Product product = productRepository.findById(id)
             .orElseThrow(() -> {
@@ -53,41 +112,66 @@ public class ProductService {
     }
 
     /**
-     * 특정 사용자의 상품 목록 조회
+     * 여러 상품을 한 번의 IN 쿼리로 조회, 요청 순서를 유지하고 없는 ID는 따로 반환
+     */
+    @Transactional(readOnly = true)
+    public ProductBatchResponse findByIds(List<Long> ids, Set<ProductField> fields) {
+        log.info("Finding products by ids: count={}, fields={}", ids.size(), fields);
+        if (ids.size() > batchMaxIds) {
+            log.warn("Too many ids requested: {} (max {})", ids.size(), batchMaxIds);
+            throw InvalidRequestException.tooManyIds(batchMaxIds);
+        }
+        List<Long> distinctIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+        List<ProductResponse> products = findByIdsInOrder(distinctIds, fields);
+
+        Set<Long> foundIds = products.stream().map(ProductResponse::getId).collect(Collectors.toSet());
+        ProductBatchResponse response = new ProductBatchResponse();
+        response.setProducts(products);
+        response.setMissingIds(distinctIds.stream().filter(id -> !foundIds.contains(id)).toList());
+        log.debug("Found {} of {} requested products", products.size(), distinctIds.size());
+        return response;
+    }
+
+    /**
+     * 특정 사용자의 상품 목록 조회 (목록 기본 필드)
      */
     @Transactional(readOnly = true)
     public Page<ProductResponse> findByUser(Long userId, Pageable pageable) {
+        return findByUser(userId, pageable, ProductField.LIST_DEFAULT);
+    }
+
+    /**
+     * 특정 사용자의 상품 목록 조회, 요청된 필드만 조회
+     */
+    @Transactional(readOnly = true)
+    public Page<ProductResponse> findByUser(@ShardKey(ShardKey.Source.USER_ID) Long userId, Pageable pageable, Set<ProductField> fields) {
         log.info("Finding products by user id: {}, page={}, size={}", userId, pageable.getPageNumber(), pageable.getPageSize());
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> {
-                log.error("User not found with id: {}", userId);
-                return new EntityNotFoundException("사용자를 찾을 수 없습니다. ID: " + userId);
-            });
-        Page<Product> productPage = productRepository.findByUser(user, pageable);
+        checkUserExists(userId);
+        ProductSort.validate(pageable.getSort(), true, false);
+        Page<ProductResponse> productPage = productRepository.findProjected(fields,
+            ProductSearchCondition.builder().userId(userId).build(), pageable);
         log.debug("Found {} products for user: {}", productPage.getTotalElements(), userId);
-        return productMapper.toDtoPage(productPage);
+        return productMapper.applyPromotions(productPage);
     }
 
     /**
      * 새 상품 등록
      */
     @Transactional
-    public ProductResponse create(ProductRequest requestDto, Long userId) {
+    public ProductResponse create(ProductRequest requestDto, @ShardKey(ShardKey.Source.USER_ID) Long userId) {
         log.info("Creating new product for user: {}", userId);
         log.debug("Product request: {}", requestDto);
 
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> {
-                log.error("User not found with id: {}", userId);
-                return new EntityNotFoundException("사용자를 찾을 수 없습니다. ID: " + userId);
-            });
+        checkUserExists(userId);
 
-        // DTO → Entity 변환
+        // DTO → Entity 변환 (사용자는 다른 샤드에 있을 수 있으므로 ID 참조만 설정)
         Product product = productMapper.toEntity(requestDto);
-        product.setUser(user);
+        product.setUser(userRepository.getReferenceById(userId));
 
         // 저장
         Product savedProduct = productRepository.save(product);
+        productRevisionLog.append(savedProduct, userId);
+        eventPublisher.publishEvent(ProductChangedEvent.saved(savedProduct));
         log.info("Product created successfully with id: {}", savedProduct.getId());
 
         // Entity → DTO 변환 후 반환
@@ -98,7 +182,7 @@ public class ProductService {
      * 상품 정보 수정
      */
     @Transactional
-    public ProductResponse update(Long id, ProductRequest requestDto, Long userId) {
+    public ProductResponse update(@ShardKey(ShardKey.Source.PRODUCT_ID) Long id, ProductRequest requestDto, Long userId) {
         log.info("Updating product with id: {} for user: {}", id, userId);
         log.debug("Product update request: {}", requestDto);
 
@@ -119,6 +203,8 @@ public class ProductService {
 
         // 저장
         Product updatedProduct = productRepository.save(product);
+        productRevisionLog.append(updatedProduct, userId);
+        eventPublisher.publishEvent(ProductChangedEvent.saved(updatedProduct));
         log.info("Product updated successfully: {}", updatedProduct.getId());
 
         // Entity → DTO 변환 후 반환
@@ -129,7 +215,7 @@ public class ProductService {
      * 상품 삭제
      */
     @Transactional
-    public void delete(Long id, Long userId) {
+    public void delete(@ShardKey(ShardKey.Source.PRODUCT_ID) Long id, Long userId) {
         log.info("Deleting product with id: {} for user: {}", id, userId);
 
         Product product = productRepository.findById(id)
@@ -144,18 +230,84 @@ public class ProductService {
             throw new AccessDeniedException("이 상품을 삭제할 권한이 없습니다.");
         }
 
+        scheduledPriceChangeRepository.cancelPendingByProductId(id);
+        productRevisionLog.appendDeleted(product, userId);
         productRepository.delete(product);
+        eventPublisher.publishEvent(ProductChangedEvent.deleted(id));
         log.info("Product deleted successfully: {}", id);
     }
 
     /**
-     * 상품 이름으로 검색
+     * 상품 이름으로 검색 (목록 기본 필드)
      */
     @Transactional(readOnly = true)
     public Page<ProductResponse> searchByName(String name, Pageable pageable) {
+        return searchByName(name, pageable, ProductField.LIST_DEFAULT);
+    }
+
+    /**
+     * 상품 이름으로 검색, 요청된 필드만 조회
+     */
+    @Transactional(readOnly = true)
+    public Page<ProductResponse> searchByName(String name, Pageable pageable, Set<ProductField> fields) {
         log.info("Searching products by name containing: '{}', page={}, size={}", name, pageable.getPageNumber(), pageable.getPageSize());
-        Page<Product> productPage = productRepository.findByNameContaining(name, pageable);
+        ProductSort.validate(pageable.getSort(), false, false);
+        Set<ProductField> selected = selectedFields(fields, pageable);
+        Page<ProductResponse> productPage = shardedQueryExecutor.findPage(pageable,
+            shardPageable -> productRepository.findProjected(selected,
+                ProductSearchCondition.builder().name(name).build(), shardPageable));
         log.debug("Found {} products matching search criteria", productPage.getTotalElements());
-        return productMapper.toDtoPage(productPage);
+        return productMapper.applyPromotions(productPage);
+    }
+
+    /**
+     * 패싯 검색: 조건과 패싯별 개수는 비트맵 인덱스에서 계산하고, 결과 페이지의 상품만 DB에서 조회
+     * 결과는 인덱스의 문서 순서(상품 ID 순)로 반환
+     */
+    @Transactional(readOnly = true)
+    public FacetedSearchResponse searchFaceted(ProductFacetQuery query, Pageable pageable, Set<ProductField> fields) {
+        log.info("Faceted product search: query={}, page={}, size={}", query, pageable.getPageNumber(), pageable.getPageSize());
+        FacetResult result = productFacetIndex.search(query, pageable);
+
+        FacetedSearchResponse response = new FacetedSearchResponse();
+        response.setProducts(new PageImpl<>(findByIdsInOrder(result.getProductIds(), fields), pageable, result.getTotal()));
+        response.setPriceBuckets(result.getPriceBuckets());
+        response.setShippingFeeBuckets(result.getShippingFeeBuckets());
+        response.setSellers(result.getSellers());
+        log.debug("Found {} products matching facets", result.getTotal());
+        return response;
+    }
+
+    /**
+     * ID 목록의 상품을 한 번의 IN 쿼리로 조회하여 요청 순서대로 정렬, 없는 ID는 제외
+     */
+    private List<ProductResponse> findByIdsInOrder(List<Long> ids, Set<ProductField> fields) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        ProductSearchCondition condition = ProductSearchCondition.builder().ids(ids).build();
+        Map<Long, ProductResponse> found = shardedQueryExecutor.findPage(Pageable.unpaged(),
+                shardPageable -> productRepository.findProjected(fields, condition, shardPageable))
+            .stream()
+            .collect(Collectors.toMap(ProductResponse::getId, Function.identity()));
+        return productMapper.applyPromotions(ids.stream().map(found::get).filter(Objects::nonNull).toList());
+    }
+
+    /**
+     * 여러 샤드 결과를 병합하려면 정렬 기준 필드가 결과에 포함되어야 함
+     */
+    private Set<ProductField> selectedFields(Set<ProductField> fields, Pageable pageable) {
+        return shardRouter.isSharded() ? ProductField.withSortFields(fields, pageable.getSort()) : fields;
+    }
+
+    // 사용자는 0번 샤드에만 있으므로 샤딩하면 판매자 샤드의 트랜잭션과 별도로 0번 샤드에서 확인
+    private void checkUserExists(Long userId) {
+        boolean exists = shardRouter.isSharded()
+            ? shardRouter.onShard(0, () -> userService.existsById(userId))
+            : userRepository.existsById(userId);
+        if (!exists) {
+            log.error("User not found with id: {}", userId);
+            throw new EntityNotFoundException("사용자를 찾을 수 없습니다. ID: " + userId);
+        }
     }
 }
@@ -0,0 +1,116 @@
+package com.shop.frankit.service;
+
+import com.shop.frankit.datasource.Workload;
+import com.shop.frankit.datasource.WorkloadType;
+import com.shop.frankit.dto.PromotionRequest;
+import com.shop.frankit.dto.PromotionResponse;
+import com.shop.frankit.entity.Promotion;
+import com.shop.frankit.event.PromotionsChangedEvent;
+import com.shop.frankit.exception.InvalidRequestException;
+import com.shop.frankit.repository.PromotionRepository;
+import jakarta.persistence.EntityNotFoundException;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 할인 규칙 관리 (관리자), 변경은 커밋 후 PromotionEngine이 조회표를 다시 컴파일하여 반영한다
+ */
+@Slf4j
+@Service
+@Workload(WorkloadType.CATALOG)
+@RequiredArgsConstructor
+public class PromotionService {
+
+    private final PromotionRepository promotionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 종료되지 않은 할인 규칙 목록 (진행 중 + 예정)
+     */
+    @Transactional(readOnly = true)
+    public List<PromotionResponse> findCurrent() {
+        return promotionRepository.findByEndsAtIsNullOrEndsAtAfter(LocalDateTime.now()).stream()
+            .map(PromotionService::toResponse)
+            .toList();
+    }
+
+    @Transactional
+    public PromotionResponse create(PromotionRequest request) {
+        log.info("Creating promotion: {}", request);
+        validate(request);
+        Promotion promotion = new Promotion();
+        promotion.setName(request.getName());
+        promotion.setType(request.getType());
+        promotion.setSellerId(request.getSellerId());
+        promotion.setProductId(request.getProductId());
+        promotion.setPercent(request.getPercent());
+        promotion.setAmount(request.getAmount());
+        promotion.setMinPrice(request.getMinPrice());
+        promotion.setStartsAt(request.getStartsAt() == null ? LocalDateTime.now() : request.getStartsAt());
+        promotion.setEndsAt(request.getEndsAt());
+        Promotion saved = promotionRepository.save(promotion);
+        eventPublisher.publishEvent(new PromotionsChangedEvent(saved.getId()));
+        log.info("Promotion created with id: {}", saved.getId());
+        return toResponse(saved);
+    }
+
+    @Transactional
+    public void delete(Long id) {
+        log.info("Deleting promotion: {}", id);
+        Promotion promotion = promotionRepository.findById(id)
+            .orElseThrow(() -> {
+                log.error("Promotion not found with id: {}", id);
+                return new EntityNotFoundException("할인 규칙을 찾을 수 없습니다. ID: " + id);
+            });
+        promotionRepository.delete(promotion);
+        eventPublisher.publishEvent(new PromotionsChangedEvent(id));
+    }
+
+    private static void validate(PromotionRequest request) {
+        switch (request.getType()) {
+            case PERCENT_OFF -> {
+                if (request.getPercent() == null || request.getPercent() < 1 || request.getPercent() > 100) {
+                    throw InvalidRequestException.invalidPromotion("할인율은 1~100 사이여야 합니다.");
+                }
+            }
+            case FIXED_OFF -> {
+                if (request.getAmount() == null || request.getAmount().isNegative() || request.getAmount().isZero()) {
+                    throw InvalidRequestException.invalidPromotion("할인액은 0보다 커야 합니다.");
+                }
+            }
+            case FREE_SHIPPING -> {
+            }
+        }
+        if (request.getMinPrice() != null && request.getMinPrice().isNegative()) {
+            throw InvalidRequestException.invalidPromotion("최소 가격은 0 이상이어야 합니다.");
+        }
+        if (request.getProductId() != null && request.getSellerId() != null) {
+            throw InvalidRequestException.invalidPromotion("상품과 판매자 중 하나만 지정해주세요.");
+        }
+        if (request.getStartsAt() != null && request.getEndsAt() != null
+            && !request.getEndsAt().isAfter(request.getStartsAt())) {
+            throw InvalidRequestException.invalidPromotion("종료 시각은 시작 시각 이후여야 합니다.");
+        }
+    }
+
+    private static PromotionResponse toResponse(Promotion promotion) {
+        PromotionResponse response = new PromotionResponse();
+        response.setId(promotion.getId());
+        response.setName(promotion.getName());
+        response.setType(promotion.getType());
+        response.setSellerId(promotion.getSellerId());
+        response.setProductId(promotion.getProductId());
+        response.setPercent(promotion.getPercent());
+        response.setAmount(promotion.getAmount());
+        response.setMinPrice(promotion.getMinPrice());
+        response.setStartsAt(promotion.getStartsAt());
+        response.setEndsAt(promotion.getEndsAt());
+        response.setCreatedAt(promotion.getCreatedAt());
+        return response;
+    }
+}
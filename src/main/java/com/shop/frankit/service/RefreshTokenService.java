@@ -1,5 +1,7 @@
 package com.shop.frankit.service;
 
+import com.shop.frankit.datasource.Workload;
+import com.shop.frankit.datasource.WorkloadType;
 import com.shop.frankit.entity.RefreshToken;
 import com.shop.frankit.exception.AuthException;
 import com.shop.frankit.repository.RefreshTokenRepository;
@@ -15,6 +17,7 @@ import java.util.UUID;
 
 @Slf4j
 @Service
+@Workload(WorkloadType.AUTH)
 @RequiredArgsConstructor
 public class RefreshTokenService {
 
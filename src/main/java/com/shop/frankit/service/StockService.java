@@ -0,0 +1,151 @@
+package com.shop.frankit.service;
+
+import com.shop.frankit.catalog.VariantMatrix;
+import com.shop.frankit.catalog.VariantMatrixCache;
+import com.shop.frankit.datasource.Workload;
+import com.shop.frankit.datasource.WorkloadType;
+import com.shop.frankit.dto.StockReservationResponse;
+import com.shop.frankit.dto.StockResponse;
+import com.shop.frankit.entity.Product;
+import com.shop.frankit.exception.InvalidRequestException;
+import com.shop.frankit.repository.ProductRepository;
+import com.shop.frankit.shard.ShardKey;
+import com.shop.frankit.stock.StockEngine;
+import com.shop.frankit.stock.StockReservation;
+import jakarta.persistence.EntityNotFoundException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 재고 조회/입고/예약
+ * 재고 키는 SELECT 옵션의 옵션 값 ID이고, SELECT 옵션이 없는 상품은 상품 ID 하나다.
+ */
+@Slf4j
+@Service
+@Workload(WorkloadType.CATALOG)
+@RequiredArgsConstructor
+public class StockService {
+
+    private final StockEngine stockEngine;
+    private final ProductRepository productRepository;
+    private final ProductOptionService productOptionService;
+    private final VariantMatrixCache variantMatrixCache;
+
+    public boolean isEnabled() {
+        return stockEngine.isEnabled();
+    }
+
+    /**
+     * 상품의 재고 키별 수량 (DB 조회 없이 메모리 장부 기준)
+     */
+    public List<StockResponse> findByProductId(Long productId) {
+        VariantMatrix matrix = variantMatrix(productId);
+        List<StockResponse> stocks = new ArrayList<>();
+        if (matrix.optionCount() == 0) {
+            stocks.add(toResponse(productId, null, null));
+            return stocks;
+        }
+        for (int option = 0; option < matrix.optionCount(); option++) {
+            List<String> values = matrix.optionValues(option);
+            for (int value = 0; value < values.size(); value++) {
+                stocks.add(toResponse(matrix.valueId(option, value), matrix.optionId(option), values.get(value)));
+            }
+        }
+        return stocks;
+    }
+
+    /**
+     * 재고 입고/차감 (상품 판매자만 가능), DB에는 write-behind로 반영된다
+     */
+    @Transactional(readOnly = true)
+    public StockResponse adjust(@ShardKey(ShardKey.Source.PRODUCT_ID) Long productId, Long stockKey, long delta, Long userId) {
+        log.info("Adjusting stock: productId={}, stockKey={}, delta={}", productId, stockKey, delta);
+        Product product = productRepository.findById(productId)
+            .orElseThrow(() -> {
+                log.error("Product not found with id: {}", productId);
+                return new EntityNotFoundException("상품을 찾을 수 없습니다. ID: " + productId);
+            });
+
+        // 상품 소유자 확인
+        if (!product.getUser().getId().equals(userId)) {
+            log.warn("User {} attempted to adjust stock of product {} owned by user {}",
+                userId, productId, product.getUser().getId());
+            throw new AccessDeniedException("이 상품의 재고를 변경할 권한이 없습니다.");
+        }
+
+        long key = stockKey == null ? productId : stockKey;
+        StockResponse target = findByProductId(productId).stream()
+            .filter(stock -> stock.getStockKey() == key)
+            .findFirst()
+            .orElseThrow(() -> new InvalidRequestException("이 상품의 재고 키가 아닙니다: " + key));
+        stockEngine.adjust(key, productId, delta);
+        return toResponse(key, target.getOptionId(), target.getValue());
+    }
+
+    /**
+     * 선택한 옵션 조합의 재고 예약, 조합을 이루는 옵션 값마다 quantity만큼 줄인다
+     */
+    public StockReservationResponse reserve(Long productId, Map<Long, String> selections, int quantity, Long userId) {
+        if (quantity < 1) {
+            throw InvalidRequestException.invalidQuantity(quantity);
+        }
+        long[] stockKeys = stockKeys(productId, selections);
+        StockReservation reservation = stockEngine.reserve(userId, productId, stockKeys, quantity);
+        log.info("Stock reserved: id={}, productId={}, quantity={}", reservation.getId(), productId, quantity);
+        return toResponse(reservation);
+    }
+
+    /**
+     * 선택한 옵션 조합의 재고 키
+     */
+    public long[] stockKeys(Long productId, Map<Long, String> selections) {
+        VariantMatrix matrix = variantMatrix(productId);
+        return matrix.optionCount() == 0
+            ? new long[]{productId}
+            : matrix.valueIds(matrix.resolve(selections));
+    }
+
+    public StockReservationResponse commit(String reservationId, Long userId) {
+        StockReservation reservation = stockEngine.commit(reservationId, userId);
+        log.info("Stock reservation committed: {}", reservationId);
+        return toResponse(reservation);
+    }
+
+    public StockReservationResponse release(String reservationId, Long userId) {
+        StockReservation reservation = stockEngine.release(reservationId, userId);
+        log.info("Stock reservation released: {}", reservationId);
+        return toResponse(reservation);
+    }
+
+    private VariantMatrix variantMatrix(Long productId) {
+        return variantMatrixCache.get(productId, () -> productOptionService.buildVariantMatrix(productId));
+    }
+
+    private StockResponse toResponse(long stockKey, Long optionId, String value) {
+        StockResponse response = new StockResponse();
+        response.setStockKey(stockKey);
+        response.setOptionId(optionId);
+        response.setValue(value);
+        response.setAvailable(stockEngine.available(stockKey));
+        response.setReserved(stockEngine.reserved(stockKey));
+        return response;
+    }
+
+    private static StockReservationResponse toResponse(StockReservation reservation) {
+        StockReservationResponse response = new StockReservationResponse();
+        response.setReservationId(reservation.getId());
+        response.setProductId(reservation.getProductId());
+        response.setStockKeys(Arrays.stream(reservation.getStockKeys()).boxed().toList());
+        response.setQuantity(reservation.getQuantity());
+        response.setExpiresAt(Instant.ofEpochMilli(reservation.getExpiresAt()));
+        return response;
+    }
+}
@@ -1,5 +1,7 @@
 package com.shop.frankit.service;
 
+import com.shop.frankit.datasource.Workload;
+import com.shop.frankit.datasource.WorkloadType;
 import com.shop.frankit.dto.UserDTO;
 import com.shop.frankit.entity.User;
 import com.shop.frankit.exception.ResourceNotFoundException;
@@ -13,9 +15,11 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@Workload(WorkloadType.AUTH)
 @RequiredArgsConstructor
 @Slf4j
 public class UserService implements UserDetailsService {
@@ -77,6 +81,15 @@ public class UserService implements UserDetailsService {
             });
     }
 
+    /**
+     * 사용자 존재 여부, 호출 중인 트랜잭션과 별도의 트랜잭션에서 확인
+     * 사용자는 0번 샤드에만 있으므로 다른 샤드의 트랜잭션 안에서는 0번 샤드를 지정해 호출한다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public boolean existsById(Long userId) {
+        return userRepository.existsById(userId);
+    }
+
     /**
      * User 엔티티를 UserDTO로 변환
      */
@@ -0,0 +1,103 @@
+package com.shop.frankit.shard;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 샤드 간 충돌 없는 전역 ID 생성기
+ * 구성 (63비트): [타임스탬프 41비트][샤드 7비트][워커 5비트][시퀀스 10비트]
+ * - 샤드 번호가 ID에 포함되므로 ID만으로 데이터가 있는 샤드를 알 수 있다.
+ * - 워커 ID는 애플리케이션 인스턴스마다 달라야 하며, WorkerIdLease가 DB 임대로 중복을 막고 설정한다.
+ *   임대를 잃으면 revoke()로 ID 발급을 멈춘다.
+ * - 시계가 뒤로 가거나 밀리초당 시퀀스를 다 쓰면 논리 시계를 앞당겨 중복을 막는다.
+ * - 전역 ID 도입 이전의 AUTO_INCREMENT ID는 LEGACY_ID_LIMIT보다 작으며 모두 0번 샤드에 있다.
+ */
+public final class GlobalIdGenerator {
+
+    // 2025-01-01T00:00:00Z
+    public static final long EPOCH_MILLIS = 1735689600000L;
+
+    static final int SEQUENCE_BITS = 10;
+    static final int WORKER_BITS = 5;
+    static final int SHARD_BITS = 7;
+
+    public static final int MAX_SHARDS = 1 << SHARD_BITS;
+    public static final int MAX_WORKERS = 1 << WORKER_BITS;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int WORKER_SHIFT = SEQUENCE_BITS;
+    private static final int SHARD_SHIFT = SEQUENCE_BITS + WORKER_BITS;
+    private static final int TIMESTAMP_SHIFT = SEQUENCE_BITS + WORKER_BITS + SHARD_BITS;
+
+    // EPOCH_MILLIS + 1일 이전 타임스탬프의 ID는 생성하지 않으므로 이보다 작은 ID는 기존 순차 ID
+    public static final long LEGACY_ID_LIMIT = TimeUnit.DAYS.toMillis(1) << TIMESTAMP_SHIFT;
+
+    private static volatile int workerId;
+    private static volatile boolean revoked;
+
+    private static long lastTimestamp = -1L;
+    private static long sequence;
+
+    private GlobalIdGenerator() {
+    }
+
+    public static void configure(int worker) {
+        if (worker < 0 || worker >= MAX_WORKERS) {
+            throw new IllegalArgumentException("워커 ID 범위를 벗어났습니다: " + worker);
+        }
+        workerId = worker;
+        revoked = false;
+    }
+
+    /**
+     * 워커 ID 임대를 잃었을 때 호출, 다시 configure 하기 전까지 nextId는 예외
+     */
+    public static void revoke() {
+        revoked = true;
+    }
+
+    public static synchronized long nextId(int shard) {
+        if (shard < 0 || shard >= MAX_SHARDS) {
+            throw new IllegalArgumentException("샤드 번호 범위를 벗어났습니다: " + shard);
+        }
+        if (revoked) {
+            throw new IllegalStateException("워커 ID " + workerId + "의 임대를 잃어 전역 ID를 발급할 수 없습니다.");
+        }
+        long timestamp = Math.max(System.currentTimeMillis() - EPOCH_MILLIS, lastTimestamp);
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                // 이번 밀리초의 시퀀스 소진, 다음 밀리초를 미리 사용
+                timestamp++;
+            }
+        } else {
+            sequence = 0;
+        }
+        lastTimestamp = timestamp;
+
+        return (timestamp << TIMESTAMP_SHIFT)
+            | ((long) shard << SHARD_SHIFT)
+            | ((long) workerId << WORKER_SHIFT)
+            | sequence;
+    }
+
+    /**
+     * ID에 포함된 생성 시각 (epoch 밀리초, 전역 ID 도입 이전의 순차 ID는 EPOCH_MILLIS 근처)
+     */
+    public static long creationMillisOf(long id) {
+        return (id >>> TIMESTAMP_SHIFT) + EPOCH_MILLIS;
+    }
+
+    /**
+     * ID에 포함된 샤드 번호 (전역 ID 도입 이전의 순차 ID는 0번 샤드)
+     */
+    public static int shardOf(long id) {
+        if (isLegacy(id)) {
+            return 0;
+        }
+        return (int) ((id >>> SHARD_SHIFT) & (MAX_SHARDS - 1));
+    }
+
+    public static boolean isLegacy(long id) {
+        return id < LEGACY_ID_LIMIT;
+    }
+}
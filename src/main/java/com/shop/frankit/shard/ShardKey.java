@@ -0,0 +1,24 @@
+package com.shop.frankit.shard;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 서비스 메소드에서 샤드를 결정하는 파라미터 지정
+ * 메소드 실행 동안 해당 값으로 계산한 샤드가 ShardContext에 설정된다.
+ */
+@Documented
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ShardKey {
+
+    Source value();
+
+    enum Source {
+        USER_ID,    // 판매자 ID 해시
+        PRODUCT_ID  // 상품 ID에 포함된 샤드 번호
+    }
+}
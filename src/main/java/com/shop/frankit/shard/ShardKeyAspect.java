@@ -0,0 +1,41 @@
+package com.shop.frankit.shard;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+
+/**
+ * @ShardKey 파라미터가 있는 서비스 메소드를 해당 샤드에서 실행
+ */
+@Aspect
+@RequiredArgsConstructor
+public class ShardKeyAspect {
+
+    private final ShardRouter shardRouter;
+
+    @Around("execution(* com.shop.frankit.service..*.*(.., @com.shop.frankit.shard.ShardKey (*), ..))")
+    public Object routeToShard(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Annotation[][] parameterAnnotations = method.getParameterAnnotations();
+        Object[] args = joinPoint.getArgs();
+
+        for (int i = 0; i < parameterAnnotations.length; i++) {
+            for (Annotation annotation : parameterAnnotations[i]) {
+                if (annotation instanceof ShardKey shardKey && args[i] != null) {
+                    Long key = (Long) args[i];
+                    int shard = shardKey.value() == ShardKey.Source.USER_ID
+                        ? shardRouter.shardForUser(key)
+                        : shardRouter.shardOfId(key);
+                    try (ShardContext.Scope ignored = ShardContext.open(shard)) {
+                        return joinPoint.proceed();
+                    }
+                }
+            }
+        }
+        return joinPoint.proceed();
+    }
+}
@@ -0,0 +1,60 @@
+package com.shop.frankit.shard;
+
+import com.shop.frankit.exception.InvalidRequestException;
+import java.util.function.Supplier;
+
+/**
+ * 상품 카탈로그 샤드 배치 규칙
+ * - 판매자(user_id)의 상품, 옵션, 옵션 값은 모두 해당 판매자의 샤드에 저장된다.
+ * - 상품 ID에는 샤드 번호가 포함되어 있어 ID만으로 샤드를 찾는다.
+ */
+public class ShardRouter {
+
+    private final int shardCount;
+
+    public ShardRouter(int shardCount) {
+        if (shardCount < 1 || shardCount > GlobalIdGenerator.MAX_SHARDS) {
+            throw new IllegalArgumentException("샤드 수 범위를 벗어났습니다: " + shardCount);
+        }
+        this.shardCount = shardCount;
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    public boolean isSharded() {
+        return shardCount > 1;
+    }
+
+    public int shardForUser(Long userId) {
+        return Math.floorMod(mix(userId), shardCount);
+    }
+
+    /**
+     * ID가 속한 샤드 (샤딩하지 않거나 전역 ID 도입 이전의 순차 ID면 0번 샤드)
+     */
+    public int shardOfId(Long id) {
+        if (!isSharded()) {
+            return 0;
+        }
+        int shard = GlobalIdGenerator.shardOf(id);
+        if (shard >= shardCount) {
+            throw new InvalidRequestException("존재하지 않는 샤드의 ID입니다: " + id);
+        }
+        return shard;
+    }
+
+    public <T> T onShard(int shard, Supplier<T> task) {
+        return ShardContext.callOn(shard, task);
+    }
+
+    // 연속된 사용자 ID가 고르게 분산되도록 비트 섞기 (SplitMix64 finalizer)
+    private static int mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        z = z ^ (z >>> 31);
+        return (int) (z ^ (z >>> 32));
+    }
+}
@@ -0,0 +1,16 @@
+package com.shop.frankit.shard;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * 샤딩 사용 시 현재 샤드 번호를 포함하는 전역 ID로, 미사용 시 AUTO_INCREMENT로 식별자를 생성 (ShardedIdGenerator)
+ */
+@IdGeneratorType(ShardedIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface ShardedId {
+}
@@ -0,0 +1,47 @@
+package com.shop.frankit.shard;
+
+import static org.hibernate.generator.EventTypeSets.INSERT_ONLY;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.GeneratorCreationContext;
+import org.hibernate.id.IdentityGenerator;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+
+/**
+ * Hibernate 식별자 생성기
+ * - 샤딩 사용 시: 현재 스레드의 샤드 번호로 전역 ID를 발급 (INSERT 전에 생성)
+ * - 샤딩 미사용 시: DB의 AUTO_INCREMENT(IDENTITY)를 그대로 사용
+ * 샤딩 여부는 SessionFactory 생성 시 Hibernate 설정(SHARDING_ENABLED, ShardingConfig에서 지정)으로 정해진다.
+ */
+public class ShardedIdGenerator extends IdentityGenerator implements BeforeExecutionGenerator {
+
+    public static final String SHARDING_ENABLED = "frankit.sharding.enabled";
+
+    private final boolean sharded;
+
+    public ShardedIdGenerator(ShardedId config, Member member, GeneratorCreationContext context) {
+        this.sharded = ConfigurationHelper.getBoolean(SHARDING_ENABLED,
+            context.getServiceRegistry().requireService(ConfigurationService.class).getSettings(), false);
+    }
+
+    @Override
+    public boolean generatedOnExecution() {
+        return !sharded;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+        EventType eventType) {
+        return GlobalIdGenerator.nextId(ShardContext.current());
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return INSERT_ONLY;
+    }
+}
@@ -0,0 +1,137 @@
+package com.shop.frankit.shard;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 여러 샤드에 같은 페이지 쿼리를 병렬로 실행하고 정렬 순서대로 병합 (scatter-gather)
+ * 각 샤드에서 (offset + size)개를 가져와 k-way 병합한 뒤 요청 페이지 구간만 잘라낸다.
+ */
+@Slf4j
+public class ShardedQueryExecutor {
+
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ExecutorService executor;
+
+    public ShardedQueryExecutor(ShardRouter shardRouter, TransactionTemplate readOnlyTransaction,
+        ExecutorService executor) {
+        this.shardRouter = shardRouter;
+        this.readOnlyTransaction = readOnlyTransaction;
+        this.executor = executor;
+    }
+
+    /**
+     * 샤드가 하나면 현재 스레드에서 그대로 실행
+     */
+    public <T> Page<T> findPage(Pageable pageable, Function<Pageable, Page<T>> query) {
+        if (!shardRouter.isSharded()) {
+            return query.apply(pageable);
+        }
+
+        Pageable shardPageable = pageable.isPaged()
+            ? PageRequest.of(0, (int) (pageable.getOffset() + pageable.getPageSize()), pageable.getSort())
+            : pageable;
+
+        List<CompletableFuture<Page<T>>> futures = new ArrayList<>(shardRouter.shardCount());
+        for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+            int target = shard;
+            futures.add(CompletableFuture.supplyAsync(() -> shardRouter.onShard(target,
+                () -> readOnlyTransaction.execute(status -> query.apply(shardPageable))), executor));
+        }
+
+        List<Page<T>> shardPages = new ArrayList<>(futures.size());
+        try {
+            for (CompletableFuture<Page<T>> future : futures) {
+                shardPages.add(future.join());
+            }
+        } catch (CompletionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw e.getCause() instanceof RuntimeException runtime ? runtime : e;
+        }
+        return merge(shardPages, pageable, comparatorFor(pageable.getSort()));
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    static <T> Page<T> merge(List<Page<T>> shardPages, Pageable pageable, Comparator<T> comparator) {
+        long total = 0;
+        PriorityQueue<Cursor<T>> heads = new PriorityQueue<>((a, b) -> comparator.compare(a.current(), b.current()));
+        for (Page<T> page : shardPages) {
+            total += page.getTotalElements();
+            if (page.hasContent()) {
+                heads.add(new Cursor<>(page.getContent()));
+            }
+        }
+
+        long skip = pageable.isPaged() ? pageable.getOffset() : 0;
+        int limit = pageable.isPaged() ? pageable.getPageSize() : Integer.MAX_VALUE;
+        List<T> content = new ArrayList<>(Math.min(limit, 1024));
+        while (!heads.isEmpty() && content.size() < limit) {
+            Cursor<T> head = heads.poll();
+            if (skip > 0) {
+                skip--;
+            } else {
+                content.add(head.current());
+            }
+            if (head.advance()) {
+                heads.add(head);
+            }
+        }
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * Sort 정의에 따른 결과 객체 비교기 (정렬 속성을 getter로 읽음)
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <T> Comparator<T> comparatorFor(Sort sort) {
+        Comparator<T> result = (a, b) -> 0;
+        for (Sort.Order order : sort) {
+            String property = order.getProperty();
+            Comparator<T> byProperty = (a, b) -> {
+                Comparable left = (Comparable) new BeanWrapperImpl(a).getPropertyValue(property);
+                Comparable right = (Comparable) new BeanWrapperImpl(b).getPropertyValue(property);
+                if (left == null || right == null) {
+                    return left == right ? 0 : (left == null ? -1 : 1);
+                }
+                return left.compareTo(right);
+            };
+            result = result.thenComparing(order.isDescending() ? byProperty.reversed() : byProperty);
+        }
+        return result;
+    }
+
+    private static final class Cursor<T> {
+        private final List<T> items;
+        private int index;
+
+        Cursor(List<T> items) {
+            this.items = items;
+        }
+
+        T current() {
+            return items.get(index);
+        }
+
+        boolean advance() {
+            return ++index < items.size();
+        }
+    }
+}
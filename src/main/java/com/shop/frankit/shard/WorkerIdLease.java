@@ -0,0 +1,122 @@
+package com.shop.frankit.shard;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * 전역 ID 워커 번호 임대 (0번 샤드의 id_worker_leases)
+ * - 기동 시 설정된 워커 ID를 임대하고, 다른 인스턴스가 쓰고 있으면 기동을 실패시킨다.
+ *   워커 ID가 설정되지 않았으면(샤딩 미사용 시에만 허용) 비어 있는 번호를 임대한다.
+ * - 임대는 ttl의 1/3마다 갱신하고, 다른 인스턴스에 넘어갔거나 ttl 동안 갱신하지 못하면 ID 발급을 멈춘다.
+ * - 정상 종료 시 임대를 반납한다.
+ */
+@Slf4j
+public class WorkerIdLease {
+
+    private static final int LEASE_SHARD = 0;
+    // 만료된 임대는 가져오고, 내 임대는 갱신 (owner를 먼저 바꾸므로 renewed_at 조건은 바뀐 owner로 판단)
+    private static final String CLAIM_SQL = "INSERT INTO id_worker_leases (worker_id, owner, renewed_at) "
+        + "VALUES (?, ?, NOW(6)) ON DUPLICATE KEY UPDATE "
+        + "owner = IF(owner = VALUES(owner) OR renewed_at < NOW(6) - INTERVAL ? SECOND, VALUES(owner), owner), "
+        + "renewed_at = IF(owner = VALUES(owner), NOW(6), renewed_at)";
+    private static final String OWNER_SQL = "SELECT owner FROM id_worker_leases WHERE worker_id = ?";
+    private static final String RELEASE_SQL = "DELETE FROM id_worker_leases WHERE worker_id = ? AND owner = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardRouter shardRouter;
+    private final Integer configuredWorkerId;
+    private final Duration ttl;
+    private final String owner;
+
+    private volatile int workerId = -1;
+    private volatile long renewedAt;
+
+    public WorkerIdLease(JdbcTemplate jdbcTemplate, ShardRouter shardRouter, Integer configuredWorkerId, Duration ttl) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.shardRouter = shardRouter;
+        this.configuredWorkerId = configuredWorkerId;
+        this.ttl = ttl;
+        this.owner = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID();
+    }
+
+    @PostConstruct
+    public void acquire() {
+        if (configuredWorkerId != null) {
+            if (configuredWorkerId < 0 || configuredWorkerId >= GlobalIdGenerator.MAX_WORKERS) {
+                throw new IllegalArgumentException("워커 ID 범위를 벗어났습니다: " + configuredWorkerId);
+            }
+            if (!claim(configuredWorkerId)) {
+                throw new IllegalStateException("워커 ID " + configuredWorkerId
+                    + "는 다른 인스턴스가 사용 중입니다. app.sharding.worker-id를 인스턴스마다 다르게 설정하세요.");
+            }
+            workerId = configuredWorkerId;
+        } else {
+            for (int candidate = 0; candidate < GlobalIdGenerator.MAX_WORKERS && workerId < 0; candidate++) {
+                if (claim(candidate)) {
+                    workerId = candidate;
+                }
+            }
+            if (workerId < 0) {
+                throw new IllegalStateException("비어 있는 워커 ID가 없습니다. (최대 " + GlobalIdGenerator.MAX_WORKERS + "개)");
+            }
+        }
+        renewedAt = System.nanoTime();
+        GlobalIdGenerator.configure(workerId);
+        log.info("전역 ID 워커 ID 임대: {} ({})", workerId, owner);
+    }
+
+    @Scheduled(initialDelayString = "#{${app.sharding.worker-lease-ttl:60000} / 3}",
+        fixedDelayString = "#{${app.sharding.worker-lease-ttl:60000} / 3}")
+    public void renew() {
+        if (workerId < 0) {
+            return;
+        }
+        try {
+            if (claim(workerId)) {
+                renewedAt = System.nanoTime();
+                // 갱신 실패로 멈췄다가 다시 임대한 경우 발급 재개
+                GlobalIdGenerator.configure(workerId);
+                return;
+            }
+            log.error("워커 ID {} 임대를 다른 인스턴스가 가져갔습니다. 전역 ID 발급을 멈춥니다.", workerId);
+            GlobalIdGenerator.revoke();
+        } catch (DataAccessException e) {
+            if (System.nanoTime() - renewedAt >= ttl.toNanos()) {
+                log.error("워커 ID {} 임대를 {} 동안 갱신하지 못했습니다. 전역 ID 발급을 멈춥니다.", workerId, ttl, e);
+                GlobalIdGenerator.revoke();
+            } else {
+                log.warn("워커 ID {} 임대 갱신 실패, 다음 주기에 재시도", workerId, e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void release() {
+        if (workerId < 0) {
+            return;
+        }
+        try {
+            shardRouter.onShard(LEASE_SHARD, () -> jdbcTemplate.update(RELEASE_SQL, workerId, owner));
+        } catch (DataAccessException e) {
+            log.warn("워커 ID {} 임대 반납 실패, {} 뒤에 만료됨", workerId, ttl, e);
+        }
+    }
+
+    public int workerId() {
+        return workerId;
+    }
+
+    private boolean claim(int candidate) {
+        return shardRouter.onShard(LEASE_SHARD, () -> {
+            jdbcTemplate.update(CLAIM_SQL, candidate, owner, ttl.toSeconds());
+            return owner.equals(jdbcTemplate.queryForObject(OWNER_SQL, String.class, candidate));
+        });
+    }
+}
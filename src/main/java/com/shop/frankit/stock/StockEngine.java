@@ -0,0 +1,194 @@
+package com.shop.frankit.stock;
+
+import com.shop.frankit.datasource.Workload;
+import com.shop.frankit.datasource.WorkloadType;
+import com.shop.frankit.exception.StockException;
+import com.shop.frankit.shard.ShardRouter;
+import com.shop.frankit.support.HierarchicalTimingWheel;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고 예약 엔진 (app.stock.enabled=true 일 때만 동작)
+ * - 예약/확정/해제는 메모리 장부(StockLedger)에서 CAS로 처리하고, 확정/입고로 생긴 변경분만 flush-interval마다
+ *   샤드별로 한 번의 upsert로 DB(stocks)에 더한다. (한 행을 잠그는 UPDATE로 주문이 줄 서지 않음)
+ * - 확정되지 않은 예약은 reservation-ttl 후 타이밍 휠에서 만료된다.
+ * - 시작할 때 DB 수량으로 장부를 맞추며, 그 전에는 예약을 받지 않는다.
+ * - 재고는 이 인스턴스의 메모리가 기준이므로 재고 API는 한 인스턴스(또는 상품별로 고정된 인스턴스)에서만 처리해야 한다.
+ */
+@Slf4j
+@Component
+@Workload(WorkloadType.CATALOG)
+public class StockEngine {
+
+    private static final String LOAD_SQL = "SELECT stock_key, product_id, quantity FROM stocks";
+    private static final int UPSERT_CHUNK_SIZE = 500;
+    private static final String UPSERT_PREFIX = "INSERT INTO stocks (stock_key, product_id, quantity, updated_at) VALUES ";
+    private static final String UPSERT_ROW = "(?, ?, ?, NOW(6))";
+    private static final String UPSERT_SUFFIX =
+        " ON DUPLICATE KEY UPDATE quantity = quantity + VALUES(quantity), updated_at = VALUES(updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardRouter shardRouter;
+    private final boolean enabled;
+    private final long reservationTtlMillis;
+    private final HierarchicalTimingWheel wheel;
+    private final StockLedger ledger;
+
+    private volatile boolean ready;
+
+    public StockEngine(JdbcTemplate jdbcTemplate, ShardRouter shardRouter, MeterRegistry meterRegistry,
+        @Value("${app.stock.enabled:false}") boolean enabled,
+        @Value("${app.stock.reservation-ttl:10m}") Duration reservationTtl,
+        @Value("${app.stock.tick:100}") long tickMillis,
+        @Value("${app.stock.wheel-size:512}") int wheelSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.shardRouter = shardRouter;
+        this.enabled = enabled;
+        this.reservationTtlMillis = reservationTtl.toMillis();
+        this.wheel = new HierarchicalTimingWheel(tickMillis, wheelSize, System.currentTimeMillis());
+        this.ledger = new StockLedger(wheel);
+        Gauge.builder("stock.reservations.active", ledger, StockLedger::activeReservations)
+            .description("확정/해제/만료되지 않은 재고 예약 수")
+            .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * DB 수량으로 장부를 맞춤 (재시작 시 복구)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void reconcile() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        int[] count = {0};
+        for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+            shardRouter.onShard(shard, () -> {
+                jdbcTemplate.query(LOAD_SQL, rs -> {
+                    ledger.reconcile(rs.getLong(1), rs.getLong(2), rs.getLong(3));
+                    count[0]++;
+                });
+                return null;
+            });
+        }
+        ready = true;
+        log.info("Stock ledger reconciled: {} stock keys in {} ms", count[0], System.currentTimeMillis() - start);
+    }
+
+    public StockReservation reserve(Long userId, Long productId, long[] stockKeys, int quantity) {
+        checkReady();
+        return ledger.reserve(userId, productId, stockKeys, quantity, System.currentTimeMillis() + reservationTtlMillis);
+    }
+
+    public StockReservation commit(String reservationId, Long userId) {
+        checkReady();
+        return ledger.commit(reservationId, userId);
+    }
+
+    public StockReservation release(String reservationId, Long userId) {
+        checkReady();
+        return ledger.release(reservationId, userId);
+    }
+
+    public void adjust(long stockKey, long productId, long delta) {
+        checkReady();
+        ledger.adjust(stockKey, productId, delta);
+    }
+
+    public long available(long stockKey) {
+        return ledger.available(stockKey);
+    }
+
+    public long reserved(long stockKey) {
+        return ledger.reserved(stockKey);
+    }
+
+    /**
+     * 만료된 예약 처리
+     */
+    @Scheduled(fixedDelayString = "${app.stock.tick:100}", scheduler = "timingWheelScheduler")
+    public void tick() {
+        if (enabled) {
+            wheel.advance(System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * 쌓인 재고 변경분을 DB에 반영 (write-behind)
+     */
+    @Scheduled(initialDelayString = "${app.stock.flush-interval:1000}",
+        fixedDelayString = "${app.stock.flush-interval:1000}")
+    public synchronized void flush() {
+        if (!enabled || !ready) {
+            return;
+        }
+        List<StockLedger.Delta> deltas = ledger.drainDeltas();
+        if (deltas.isEmpty()) {
+            return;
+        }
+        Map<Integer, List<StockLedger.Delta>> byShard = new HashMap<>();
+        for (StockLedger.Delta delta : deltas) {
+            byShard.computeIfAbsent(shardOf(delta.productId()), shard -> new ArrayList<>()).add(delta);
+        }
+        byShard.forEach((shard, rows) -> shardRouter.onShard(shard, () -> {
+            upsert(shard, rows);
+            return null;
+        }));
+        log.debug("Flushed {} stock changes", deltas.size());
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 실패한 문장의 변경분만 되돌려서 다음 flush에 다시 반영 (문장 단위로 원자적이라 중복 반영 없음)
+    private void upsert(int shard, List<StockLedger.Delta> rows) {
+        for (int from = 0; from < rows.size(); from += UPSERT_CHUNK_SIZE) {
+            List<StockLedger.Delta> chunk = rows.subList(from, Math.min(from + UPSERT_CHUNK_SIZE, rows.size()));
+            StringBuilder sql = new StringBuilder(UPSERT_PREFIX);
+            Object[] args = new Object[chunk.size() * 3];
+            for (int i = 0; i < chunk.size(); i++) {
+                StockLedger.Delta delta = chunk.get(i);
+                sql.append(i == 0 ? "" : ", ").append(UPSERT_ROW);
+                args[i * 3] = delta.stockKey();
+                args[i * 3 + 1] = delta.productId();
+                args[i * 3 + 2] = delta.quantity();
+            }
+            try {
+                jdbcTemplate.update(sql.append(UPSERT_SUFFIX).toString(), args);
+            } catch (RuntimeException e) {
+                log.warn("Failed to flush {} stock changes on shard {}, retrying next flush", chunk.size(), shard, e);
+                ledger.restoreDeltas(chunk);
+            }
+        }
+    }
+
+    private void checkReady() {
+        if (!enabled || !ready) {
+            throw StockException.notReady();
+        }
+    }
+
+    private int shardOf(long productId) {
+        return shardRouter.isSharded() ? shardRouter.shardOfId(productId) : 0;
+    }
+}
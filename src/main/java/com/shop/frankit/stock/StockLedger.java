@@ -0,0 +1,194 @@
+package com.shop.frankit.stock;
+
+import com.shop.frankit.exception.StockException;
+import com.shop.frankit.support.HierarchicalTimingWheel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.access.AccessDeniedException;
+
+/**
+ * 메모리 재고 장부, 락 없이 CAS로 예약/확정/해제한다
+ * - 재고 키(옵션 값 또는 상품)마다 칸을 따로 두어, 다른 키끼리는 경합하지 않고 같은 키만 CAS로 경합한다.
+ * - 예약은 판매 가능 수량(available)만 줄이고, 확정되면 DB에 반영할 변경분(unflushed)을 쌓는다.
+ * - 확정되지 않은 예약은 타이밍 휠에서 만료되어 판매 가능 수량으로 돌아간다.
+ */
+@Slf4j
+class StockLedger {
+
+    /**
+     * DB에 더할 재고 변경분
+     */
+    record Delta(long stockKey, long productId, long quantity) {
+    }
+
+    private static final class Cell {
+        private final long productId;
+        private final AtomicLong available = new AtomicLong();
+        private final AtomicLong reserved = new AtomicLong();
+        private final AtomicLong unflushed = new AtomicLong();
+
+        private Cell(long productId) {
+            this.productId = productId;
+        }
+
+        private boolean tryTake(long quantity) {
+            long current = available.get();
+            while (current >= quantity) {
+                long witness = available.compareAndExchange(current, current - quantity);
+                if (witness == current) {
+                    return true;
+                }
+                current = witness;
+            }
+            return false;
+        }
+    }
+
+    private final HierarchicalTimingWheel wheel;
+    private final Map<Long, Cell> cells = new ConcurrentHashMap<>();
+    private final Map<String, StockReservation> reservations = new ConcurrentHashMap<>();
+
+    StockLedger(HierarchicalTimingWheel wheel) {
+        this.wheel = wheel;
+    }
+
+    /**
+     * DB 수량으로 판매 가능 수량을 맞춤 (아직 반영하지 않은 변경분과 진행 중인 예약은 빼고 계산)
+     */
+    void reconcile(long stockKey, long productId, long databaseQuantity) {
+        Cell cell = cells.computeIfAbsent(stockKey, key -> new Cell(productId));
+        cell.available.set(databaseQuantity + cell.unflushed.get() - cell.reserved.get());
+    }
+
+    long available(long stockKey) {
+        Cell cell = cells.get(stockKey);
+        return cell == null ? 0 : cell.available.get();
+    }
+
+    long reserved(long stockKey) {
+        Cell cell = cells.get(stockKey);
+        return cell == null ? 0 : cell.reserved.get();
+    }
+
+    int activeReservations() {
+        return reservations.size();
+    }
+
+    /**
+     * 모든 재고 키에서 quantity만큼 예약, 하나라도 부족하면 앞서 줄인 수량을 되돌리고 StockException
+     */
+    StockReservation reserve(Long userId, Long productId, long[] stockKeys, int quantity, long expiresAt) {
+        for (int i = 0; i < stockKeys.length; i++) {
+            Cell cell = cells.get(stockKeys[i]);
+            if (cell == null || !cell.tryTake(quantity)) {
+                for (int j = 0; j < i; j++) {
+                    cells.get(stockKeys[j]).available.addAndGet(quantity);
+                }
+                throw StockException.outOfStock(stockKeys[i]);
+            }
+        }
+        for (long stockKey : stockKeys) {
+            cells.get(stockKey).reserved.addAndGet(quantity);
+        }
+
+        StockReservation reservation = new StockReservation(UUID.randomUUID().toString(), userId, productId,
+            stockKeys.clone(), quantity, expiresAt);
+        reservations.put(reservation.getId(), reservation);
+        reservation.expiry(wheel.schedule(expiresAt, () -> expire(reservation)));
+        return reservation;
+    }
+
+    /**
+     * 예약 확정, 예약 수량이 DB 재고에서 빠지도록 변경분을 쌓음
+     */
+    StockReservation commit(String reservationId, Long userId) {
+        StockReservation reservation = finish(reservationId, userId, StockReservation.COMMITTED);
+        for (long stockKey : reservation.getStockKeys()) {
+            Cell cell = cells.get(stockKey);
+            cell.reserved.addAndGet(-reservation.getQuantity());
+            cell.unflushed.addAndGet(-reservation.getQuantity());
+        }
+        return reservation;
+    }
+
+    /**
+     * 예약 해제, 예약 수량을 판매 가능 수량으로 돌려놓음
+     */
+    StockReservation release(String reservationId, Long userId) {
+        StockReservation reservation = finish(reservationId, userId, StockReservation.RELEASED);
+        restore(reservation);
+        return reservation;
+    }
+
+    /**
+     * 재고 입고/차감, 차감은 판매 가능 수량 이내에서만 가능
+     */
+    void adjust(long stockKey, long productId, long delta) {
+        Cell cell = cells.computeIfAbsent(stockKey, key -> new Cell(productId));
+        if (delta < 0 && !cell.tryTake(-delta)) {
+            throw StockException.outOfStock(stockKey);
+        }
+        if (delta > 0) {
+            cell.available.addAndGet(delta);
+        }
+        cell.unflushed.addAndGet(delta);
+    }
+
+    /**
+     * DB에 반영할 변경분을 꺼냄, 반영에 실패하면 restoreDeltas로 되돌린다
+     */
+    List<Delta> drainDeltas() {
+        List<Delta> deltas = new ArrayList<>();
+        cells.forEach((stockKey, cell) -> {
+            long quantity = cell.unflushed.getAndSet(0);
+            if (quantity != 0) {
+                deltas.add(new Delta(stockKey, cell.productId, quantity));
+            }
+        });
+        return deltas;
+    }
+
+    void restoreDeltas(List<Delta> deltas) {
+        for (Delta delta : deltas) {
+            cells.computeIfAbsent(delta.stockKey(), key -> new Cell(delta.productId()))
+                .unflushed.addAndGet(delta.quantity());
+        }
+    }
+
+    private StockReservation finish(String reservationId, Long userId, int to) {
+        StockReservation reservation = reservations.get(reservationId);
+        if (reservation == null) {
+            throw StockException.reservationNotFound(reservationId);
+        }
+        if (!reservation.getUserId().equals(userId)) {
+            throw new AccessDeniedException("이 예약을 처리할 권한이 없습니다.");
+        }
+        if (!reservation.finish(to)) {
+            throw StockException.reservationNotFound(reservationId);
+        }
+        reservations.remove(reservationId);
+        reservation.cancelExpiry();
+        return reservation;
+    }
+
+    private void expire(StockReservation reservation) {
+        if (reservation.finish(StockReservation.RELEASED)) {
+            reservations.remove(reservation.getId());
+            restore(reservation);
+            log.debug("Stock reservation expired: {}", reservation.getId());
+        }
+    }
+
+    private void restore(StockReservation reservation) {
+        for (long stockKey : reservation.getStockKeys()) {
+            Cell cell = cells.get(stockKey);
+            cell.reserved.addAndGet(-reservation.getQuantity());
+            cell.available.addAndGet(reservation.getQuantity());
+        }
+    }
+}
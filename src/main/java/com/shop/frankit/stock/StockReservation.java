@@ -0,0 +1,57 @@
+package com.shop.frankit.stock;
+
+import com.shop.frankit.support.HierarchicalTimingWheel;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * 재고 예약 하나, 확정(commit)/해제(release)/만료 중 처음 일어난 것 하나만 반영된다
+ */
+@Getter
+public final class StockReservation {
+
+    static final int PENDING = 0;
+    static final int COMMITTED = 1;
+    static final int RELEASED = 2;
+
+    private final String id;
+    private final Long userId;
+    private final Long productId;
+    private final long[] stockKeys;
+    private final int quantity;
+    private final long expiresAt;  // epoch ms
+
+    @Getter(AccessLevel.NONE)
+    private final AtomicInteger state = new AtomicInteger(PENDING);
+    @Getter(AccessLevel.NONE)
+    private volatile HierarchicalTimingWheel.Timeout expiry;
+
+    StockReservation(String id, Long userId, Long productId, long[] stockKeys, int quantity, long expiresAt) {
+        this.id = id;
+        this.userId = userId;
+        this.productId = productId;
+        this.stockKeys = stockKeys;
+        this.quantity = quantity;
+        this.expiresAt = expiresAt;
+    }
+
+    public long[] getStockKeys() {
+        return stockKeys.clone();
+    }
+
+    boolean finish(int to) {
+        return state.compareAndSet(PENDING, to);
+    }
+
+    void expiry(HierarchicalTimingWheel.Timeout expiry) {
+        this.expiry = expiry;
+    }
+
+    void cancelExpiry() {
+        HierarchicalTimingWheel.Timeout timeout = expiry;
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.shop.frankit.support;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 같은 인자로 동시에 들어온 조회를 한 번만 실행하고 결과를 공유 (CoalescedAspect)
+ * 결과 객체를 여러 요청이 함께 쓰므로 호출한 쪽에서 수정하지 않는 조회 메소드에만 사용한다.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Coalesced {
+}
@@ -0,0 +1,87 @@
+package com.shop.frankit.support;
+
+import com.shop.frankit.datasource.ReadYourWritesTracker;
+import com.shop.frankit.security.CurrentUser;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * @Coalesced 메소드의 동시 호출을 메소드와 인자 기준으로 합침
+ * - 트랜잭션 시작 전에 합치도록 트랜잭션보다 바깥에서 실행한다. (기다리는 요청이 커넥션을 잡고 있지 않음)
+ * - 이미 트랜잭션 안에서 호출되면 자기 트랜잭션의 변경을 봐야 하므로 합치지 않는다.
+ * - 최근에 쓰기를 한 사용자(ReadYourWritesTracker)는 Primary에서 읽어야 하므로 합치지 않는다.
+ *   (Replica에서 읽는 다른 요청이나 커밋 전에 시작된 요청의 결과를 받지 않도록)
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class CoalescedAspect {
+
+    private final MeterRegistry meterRegistry;
+    private final Duration maxWait;
+    private final ReadYourWritesTracker readYourWritesTracker;  // 워크로드 라우팅 미사용 시 null
+    private final Map<Method, SingleFlight<List<Object>, Object>> flights = new ConcurrentHashMap<>();
+
+    @Autowired
+    public CoalescedAspect(MeterRegistry meterRegistry,
+        @Value("${app.coalescing.max-wait:2s}") Duration maxWait,
+        ObjectProvider<ReadYourWritesTracker> readYourWritesTracker) {
+        this(meterRegistry, maxWait, readYourWritesTracker.getIfAvailable());
+    }
+
+    public CoalescedAspect(MeterRegistry meterRegistry, Duration maxWait,
+        ReadYourWritesTracker readYourWritesTracker) {
+        this.meterRegistry = meterRegistry;
+        this.maxWait = maxWait;
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Around("@annotation(com.shop.frankit.support.Coalesced)")
+    public Object coalesce(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive() || readsOwnWrites()) {
+            return joinPoint.proceed();
+        }
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        return flights.computeIfAbsent(method, this::newFlight)
+            .execute(Arrays.asList(joinPoint.getArgs()), joinPoint::proceed);
+    }
+
+    private boolean readsOwnWrites() {
+        if (readYourWritesTracker == null) {
+            return false;
+        }
+        Long userId = CurrentUser.id();
+        return userId != null && readYourWritesTracker.isWithinWindow(userId);
+    }
+
+    private SingleFlight<List<Object>, Object> newFlight(Method method) {
+        SingleFlight<List<Object>, Object> flight = new SingleFlight<>(maxWait);
+        String name = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        FunctionCounter.builder("read.coalesced", flight, SingleFlight::coalescedCount)
+            .description("다른 요청의 조회 결과를 공유한 요청 수")
+            .tag("method", name)
+            .register(meterRegistry);
+        FunctionCounter.builder("read.coalesced.timeout", flight, SingleFlight::timedOutCount)
+            .description("기다리다가 직접 조회한 요청 수")
+            .tag("method", name)
+            .register(meterRegistry);
+        return flight;
+    }
+}
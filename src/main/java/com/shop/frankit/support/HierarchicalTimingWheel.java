@@ -0,0 +1,165 @@
+package com.shop.frankit.support;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 계층형 타이밍 휠, 예약 작업의 등록/취소를 O(1)에 처리한다
+ * - 0단계 휠은 tickMillis 간격의 슬롯 wheelSize개이고, 다음 단계의 한 칸은 아래 단계 휠 한 바퀴다.
+ *   먼 시각의 작업은 위 단계에 두었다가 시간이 다가오면 아래 단계로 내려보낸다. (필요한 단계는 그때 만든다)
+ * - advance(now)를 호출한 스레드에서 기한이 지난 작업을 실행하므로, 실행 시각 오차는 advance 호출 간격 이내다.
+ * - 취소된 작업은 바로 지우지 않고 슬롯을 비울 때 버린다.
+ */
+@Slf4j
+public class HierarchicalTimingWheel {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final List<Level> levels = new ArrayList<>();
+
+    private long currentTime;  // 아직 처리하지 않은 0단계 칸의 시작 시각 (tickMillis 단위로 맞춤)
+    private int pending;
+
+    /**
+     * 등록된 작업, cancel()로 실행을 취소할 수 있다
+     */
+    public static final class Timeout {
+        private final long deadline;
+        private final Runnable task;
+        private volatile boolean cancelled;
+
+        private Timeout(long deadline, Runnable task) {
+            this.deadline = deadline;
+            this.task = task;
+        }
+
+        public long deadline() {
+            return deadline;
+        }
+
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+    private static final class Level {
+        private final long tick;
+        private final ArrayDeque<Timeout>[] slots;
+
+        @SuppressWarnings("unchecked")
+        private Level(long tick, int wheelSize) {
+            this.tick = tick;
+            this.slots = new ArrayDeque[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                slots[i] = new ArrayDeque<>();
+            }
+        }
+
+        private ArrayDeque<Timeout> slot(long time) {
+            return slots[(int) Math.floorMod(time / tick, (long) slots.length)];
+        }
+    }
+
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, long now) {
+        if (tickMillis <= 0 || wheelSize < 2) {
+            throw new IllegalArgumentException("타이밍 휠 설정이 올바르지 않습니다.");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.currentTime = now - Math.floorMod(now, tickMillis);
+        this.levels.add(new Level(tickMillis, wheelSize));
+    }
+
+    /**
+     * deadline(epoch ms) 이후의 advance에서 task 실행, 이미 지난 시각이면 다음 advance에서 실행
+     */
+    public synchronized Timeout schedule(long deadline, Runnable task) {
+        Timeout timeout = new Timeout(deadline, task);
+        place(timeout);
+        pending++;
+        return timeout;
+    }
+
+    /**
+     * 실행 대기 중인 작업 수 (취소됐지만 아직 슬롯에 남은 작업 포함)
+     */
+    public synchronized int pending() {
+        return pending;
+    }
+
+    /**
+     * now까지 기한이 된 작업을 실행, 작업의 예외는 로그만 남기고 다음 작업을 계속 실행한다
+     */
+    public void advance(long now) {
+        List<Timeout> due = new ArrayList<>();
+        synchronized (this) {
+            if (pending == 0) {
+                // 비어 있으면 칸을 하나씩 지나갈 필요 없이 시각만 맞춤
+                currentTime = Math.max(currentTime, now - Math.floorMod(now, tickMillis));
+            }
+            while (pending > 0 && currentTime + tickMillis <= now) {
+                cascade(currentTime);
+                ArrayDeque<Timeout> slot = levels.get(0).slot(currentTime);
+                pending -= slot.size();
+                due.addAll(slot);
+                slot.clear();
+                currentTime += tickMillis;
+            }
+        }
+        for (Timeout timeout : due) {
+            if (timeout.cancelled) {
+                continue;
+            }
+            try {
+                timeout.task.run();
+            } catch (RuntimeException e) {
+                log.error("Timing wheel task failed: deadline={}", timeout.deadline, e);
+            }
+        }
+    }
+
+    // time에 시작하는 위 단계 칸의 작업을 아래 단계로 내림 (높은 단계부터)
+    private void cascade(long time) {
+        for (int i = levels.size() - 1; i >= 1; i--) {
+            Level level = levels.get(i);
+            if (time % level.tick != 0) {
+                continue;
+            }
+            ArrayDeque<Timeout> slot = level.slot(time);
+            if (slot.isEmpty()) {
+                continue;
+            }
+            List<Timeout> moved = new ArrayList<>(slot);
+            slot.clear();
+            for (Timeout timeout : moved) {
+                if (timeout.cancelled) {
+                    pending--;
+                } else {
+                    place(timeout);
+                }
+            }
+        }
+    }
+
+    private void place(Timeout timeout) {
+        long deadline = Math.max(timeout.deadline, currentTime);
+        for (int i = 0; ; i++) {
+            if (i == levels.size()) {
+                Level top = levels.get(i - 1);
+                levels.add(new Level(Math.multiplyExact(top.tick, (long) wheelSize), wheelSize));
+            }
+            Level level = levels.get(i);
+            long start = currentTime - Math.floorMod(currentTime, level.tick);
+            if (deadline < start + level.tick * wheelSize) {
+                level.slot(deadline).add(timeout);
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.shop.frankit.support;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 같은 키에 대한 동시 조회를 하나로 합치는 실행기
+ * - 먼저 들어온 호출만 실제로 조회하고, 진행 중에 들어온 호출은 그 결과(또는 예외)를 함께 받는다.
+ * - 기다리는 호출은 maxWait까지만 기다리고, 넘으면 직접 조회한다.
+ * - 결과는 캐시하지 않으며, 조회가 끝나면 다음 호출은 새로 조회한다.
+ */
+public class SingleFlight<K, V> {
+
+    @FunctionalInterface
+    public interface Loader<V> {
+        V load() throws Throwable;
+    }
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+    private final long maxWaitNanos;
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+
+    public SingleFlight(Duration maxWait) {
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    public V execute(K key, Loader<V> loader) throws Throwable {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = calls.putIfAbsent(key, call);
+        if (inFlight != null) {
+            coalesced.increment();
+            try {
+                return inFlight.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+            } catch (ExecutionException e) {
+                throw e.getCause();
+            } catch (TimeoutException e) {
+                timedOut.increment();
+                return loader.load();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw e;
+            }
+        }
+
+        try {
+            V value = loader.load();
+            call.complete(value);
+            return value;
+        } catch (Throwable e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            calls.remove(key, call);
+        }
+    }
+
+    /**
+     * 다른 호출의 결과를 받은(받으려고 기다린) 호출 수
+     */
+    public long coalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * 기다리다가 직접 조회한 호출 수
+     */
+    public long timedOutCount() {
+        return timedOut.sum();
+    }
+}
@@ -0,0 +1,3 @@
+-- 사용자(users)는 0번 샤드에만 저장하므로 1번 이후 샤드의 상품은 같은 샤드의 users를 참조할 수 없음
+-- 판매자 존재 여부는 상품 등록 시 ProductService가 0번 샤드에서 확인
+ALTER TABLE products DROP FOREIGN KEY IF EXISTS fk_products_user;
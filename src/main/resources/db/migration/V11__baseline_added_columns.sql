@@ -0,0 +1,5 @@
+-- ddl-auto: update로 만들어진 기존 DB에는 V1의 CREATE TABLE IF NOT EXISTS가 적용되지 않으므로
+-- 기준 빌드 이후 기존 테이블에 추가된 컬럼은 여기서 추가 (새 DB에는 V1에 이미 있음)
+
+-- 상품 설명 압축 컬럼 (Product.descriptionBody)
+ALTER TABLE products ADD COLUMN IF NOT EXISTS description_body LONGBLOB AFTER description;
@@ -0,0 +1,17 @@
+-- V10은 V1이 만든 제약 조건 이름(fk_products_user)만 지우므로, ddl-auto로 만들어진 DB의
+-- Hibernate 생성 이름(FK...) 외래 키는 남는다. products.user_id의 외래 키를 이름과 무관하게 모두 지움
+SET @drop_products_user_fk = (
+    SELECT CONCAT('ALTER TABLE products ',
+                  GROUP_CONCAT(DISTINCT CONCAT('DROP FOREIGN KEY `', CONSTRAINT_NAME, '`') SEPARATOR ', '))
+    FROM information_schema.KEY_COLUMN_USAGE
+    WHERE TABLE_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'products'
+      AND COLUMN_NAME = 'user_id'
+      AND REFERENCED_TABLE_NAME IS NOT NULL
+);
+
+-- 지울 외래 키가 없으면 아무것도 하지 않음
+SET @drop_products_user_fk = IFNULL(@drop_products_user_fk, 'DO 0');
+PREPARE drop_products_user_fk FROM @drop_products_user_fk;
+EXECUTE drop_products_user_fk;
+DEALLOCATE PREPARE drop_products_user_fk;
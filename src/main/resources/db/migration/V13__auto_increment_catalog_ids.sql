@@ -0,0 +1,12 @@
+-- 샤딩을 사용하지 않으면 상품/옵션/옵션 값/리비전/가격 변경 예약 ID는 AUTO_INCREMENT로 생성 (ShardedIdGenerator)
+-- 샤딩을 사용하면 애플리케이션이 전역 ID를 넣으므로 AUTO_INCREMENT는 쓰이지 않음
+-- 다른 테이블이 참조하는 컬럼이므로 외래 키 검사를 잠시 끄고 변경 (컬럼 타입은 그대로)
+SET FOREIGN_KEY_CHECKS = 0;
+
+ALTER TABLE products MODIFY COLUMN id BIGINT NOT NULL AUTO_INCREMENT;
+ALTER TABLE product_options MODIFY COLUMN id BIGINT NOT NULL AUTO_INCREMENT;
+ALTER TABLE option_values MODIFY COLUMN id BIGINT NOT NULL AUTO_INCREMENT;
+ALTER TABLE product_revisions MODIFY COLUMN id BIGINT NOT NULL AUTO_INCREMENT;
+ALTER TABLE scheduled_price_changes MODIFY COLUMN id BIGINT NOT NULL AUTO_INCREMENT;
+
+SET FOREIGN_KEY_CHECKS = 1;
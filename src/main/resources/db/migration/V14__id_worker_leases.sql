@@ -0,0 +1,8 @@
+-- 전역 ID 워커 번호 임대 (WorkerIdLease), 0번 샤드의 테이블만 사용
+-- 인스턴스마다 워커 번호 하나를 임대하고 주기적으로 renewed_at을 갱신, 만료된 임대는 다른 인스턴스가 가져갈 수 있음
+CREATE TABLE IF NOT EXISTS id_worker_leases (
+    worker_id   INT          NOT NULL,
+    owner       VARCHAR(255) NOT NULL,
+    renewed_at  DATETIME(6)  NOT NULL,
+    PRIMARY KEY (worker_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,6 @@
+-- 주문 멱등 키 (클라이언트가 Idempotency-Key 헤더로 보냄)
+-- 응답 대기 시간 초과(ORDER_003) 뒤 같은 키로 다시 요청하면 새 주문을 만들지 않고 저장된 주문을 돌려준다.
+-- 키가 없는 주문(NULL)은 제약을 받지 않음
+ALTER TABLE orders ADD COLUMN IF NOT EXISTS idempotency_key VARCHAR(64) NULL AFTER reservation_id;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_orders_user_id_idempotency_key ON orders (user_id, idempotency_key);
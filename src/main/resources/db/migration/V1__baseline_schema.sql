@@ -0,0 +1,62 @@
+-- 기본 스키마 (ddl-auto: update로 만들어진 기존 DB와 동일한 구조)
+-- 기존 DB는 baseline(0) 이후 이 스크립트가 실행되므로 IF NOT EXISTS로 작성
+
+CREATE TABLE IF NOT EXISTS users (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    email       VARCHAR(255) NOT NULL,
+    password    VARCHAR(255) NOT NULL,
+    role        VARCHAR(255) NOT NULL,
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    token        VARCHAR(255) NOT NULL,
+    email        VARCHAR(255) NOT NULL,
+    expiry_date  TIMESTAMP(6) NOT NULL,
+    created_at   DATETIME(6),
+    updated_at   DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_refresh_tokens_token UNIQUE (token)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 상품/옵션 ID는 애플리케이션에서 생성하는 전역 ID (@ShardedId)
+CREATE TABLE IF NOT EXISTS products (
+    id                BIGINT         NOT NULL,
+    name              VARCHAR(255)   NOT NULL,
+    description       TEXT,
+    description_body  LONGBLOB,
+    price             DECIMAL(38, 2) NOT NULL,
+    shipping_fee      DECIMAL(38, 2) NOT NULL,
+    registered_at     DATETIME(6)    NOT NULL,
+    user_id           BIGINT         NOT NULL,
+    created_at        DATETIME(6),
+    updated_at        DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_products_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS product_options (
+    id                BIGINT                   NOT NULL,
+    name              VARCHAR(255)             NOT NULL,
+    type              ENUM ('INPUT', 'SELECT') NOT NULL,
+    additional_price  DECIMAL(38, 2)           NOT NULL,
+    product_id        BIGINT,
+    created_at        DATETIME(6),
+    updated_at        DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_product_options_product FOREIGN KEY (product_id) REFERENCES products (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS option_values (
+    id                 BIGINT       NOT NULL,
+    value              VARCHAR(255) NOT NULL,
+    product_option_id  BIGINT,
+    created_at         DATETIME(6),
+    updated_at         DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_option_values_product_option FOREIGN KEY (product_option_id) REFERENCES product_options (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,21 @@
+-- 리포지토리 조회 메서드별 인덱스
+
+-- RefreshTokenRepository.findByEmail / deleteByEmail
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_email ON refresh_tokens (email);
+-- 만료 토큰 정리 (expiry_date < now)
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_expiry_date ON refresh_tokens (expiry_date);
+
+-- 상품 목록 정렬 (정렬 키, id), ProductSort 참고
+CREATE INDEX IF NOT EXISTS idx_products_name_id ON products (name, id);
+CREATE INDEX IF NOT EXISTS idx_products_price_id ON products (price, id);
+CREATE INDEX IF NOT EXISTS idx_products_registered_at_id ON products (registered_at, id);
+-- ProductService.findByUser 정렬 (user_id, 정렬 키, id)
+CREATE INDEX IF NOT EXISTS idx_products_user_id_id ON products (user_id, id);
+CREATE INDEX IF NOT EXISTS idx_products_user_price_id ON products (user_id, price, id);
+CREATE INDEX IF NOT EXISTS idx_products_user_registered_at_id ON products (user_id, registered_at, id);
+
+-- ProductOptionRepository.findByProductId (등록 순)
+CREATE INDEX IF NOT EXISTS idx_product_options_product_id_id ON product_options (product_id, id);
+
+-- OptionValueRepository.findByProductOptionId / deleteByProductOptionId (등록 순)
+CREATE INDEX IF NOT EXISTS idx_option_values_product_option_id_id ON option_values (product_option_id, id);
@@ -0,0 +1,8 @@
+-- 상품별 누적 조회 수 (ProductViewCounter가 주기적으로 한 번에 upsert)
+-- 상품과 같은 샤드에 저장되며, 상품 삭제와 무관하게 남는 집계 데이터라 FK는 두지 않음
+CREATE TABLE IF NOT EXISTS product_view_counts (
+    product_id  BIGINT       NOT NULL,
+    view_count  BIGINT       NOT NULL,
+    updated_at  DATETIME(6)  NOT NULL,
+    PRIMARY KEY (product_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,11 @@
+-- 재고 수량 (StockEngine이 메모리에서 예약/확정하고 변경분을 주기적으로 반영)
+-- stock_key: 옵션 값(option_values) ID, SELECT 옵션이 없는 상품은 상품 ID (둘 다 전역 ID라 겹치지 않음)
+CREATE TABLE IF NOT EXISTS stocks (
+    stock_key   BIGINT       NOT NULL,
+    product_id  BIGINT       NOT NULL,
+    quantity    BIGINT       NOT NULL,
+    updated_at  DATETIME(6)  NOT NULL,
+    PRIMARY KEY (stock_key)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE INDEX IF NOT EXISTS idx_stocks_product_id ON stocks (product_id);
@@ -0,0 +1,19 @@
+-- 주문 (OrderIntake가 여러 주문을 모아 한 트랜잭션으로 저장)
+-- 주문은 상품과 같은 샤드에 저장하며, ID는 애플리케이션에서 생성하는 전역 ID
+-- 일괄 저장 속도를 위해 외래 키는 두지 않음 (상품/옵션은 저장 전에 검증)
+CREATE TABLE IF NOT EXISTS orders (
+    id              BIGINT         NOT NULL,
+    user_id         BIGINT         NOT NULL,
+    product_id      BIGINT         NOT NULL,
+    options         TEXT,
+    quantity        INT            NOT NULL,
+    unit_price      DECIMAL(38, 2) NOT NULL,
+    shipping_fee    DECIMAL(38, 2) NOT NULL,
+    total_price     DECIMAL(38, 2) NOT NULL,
+    reservation_id  VARCHAR(36),
+    ordered_at      DATETIME(6)    NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE INDEX IF NOT EXISTS idx_orders_user_id_id ON orders (user_id, id);
+CREATE INDEX IF NOT EXISTS idx_orders_product_id ON orders (product_id);
@@ -0,0 +1,9 @@
+-- 장바구니 (CartStore가 메모리에서 변경하고 변경된 장바구니를 주기적으로 덮어씀)
+-- 사용자 데이터이므로 샤딩과 무관하게 0번 샤드(기본 DataSource)에 저장
+-- items: 장바구니 항목 JSON 배열
+CREATE TABLE IF NOT EXISTS carts (
+    user_id     BIGINT       NOT NULL,
+    items       TEXT         NOT NULL,
+    updated_at  DATETIME(6)  NOT NULL,
+    PRIMARY KEY (user_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,20 @@
+-- 할인 규칙 (PromotionEngine이 활성 규칙을 상품/판매자별 조회표로 컴파일)
+-- 설정 데이터이므로 샤딩과 무관하게 0번 샤드(기본 DataSource)에 저장
+-- seller_id, product_id가 모두 NULL이면 전체 상품 대상
+CREATE TABLE IF NOT EXISTS promotions (
+    id          BIGINT                                          NOT NULL AUTO_INCREMENT,
+    name        VARCHAR(255)                                    NOT NULL,
+    type        ENUM ('PERCENT_OFF', 'FIXED_OFF', 'FREE_SHIPPING') NOT NULL,
+    seller_id   BIGINT,
+    product_id  BIGINT,
+    percent     INT,
+    amount      DECIMAL(38, 2),
+    min_price   DECIMAL(38, 2),
+    starts_at   DATETIME(6)                                     NOT NULL,
+    ends_at     DATETIME(6),
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE INDEX IF NOT EXISTS idx_promotions_ends_at ON promotions (ends_at);
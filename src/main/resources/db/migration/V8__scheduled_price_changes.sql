@@ -0,0 +1,20 @@
+-- 예약 가격 변경 (PriceChangeScheduler가 apply_at에 상품 가격/배송비에 반영)
+-- 상품과 같은 샤드에 저장하므로 상품 UPDATE와 상태 변경(PENDING → APPLIED)이 한 트랜잭션에서 일어난다
+-- price/shipping_fee가 NULL이면 그 값은 바꾸지 않음
+CREATE TABLE IF NOT EXISTS scheduled_price_changes (
+    id            BIGINT                                   NOT NULL,
+    product_id    BIGINT                                   NOT NULL,
+    user_id       BIGINT                                   NOT NULL,
+    price         DECIMAL(38, 2),
+    shipping_fee  DECIMAL(38, 2),
+    apply_at      DATETIME(6)                              NOT NULL,
+    status        ENUM ('PENDING', 'APPLIED', 'CANCELLED') NOT NULL,
+    applied_at    DATETIME(6),
+    created_at    DATETIME(6),
+    updated_at    DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 다가오는 변경 적재용 (status = 'PENDING' AND apply_at < ?)
+CREATE INDEX IF NOT EXISTS idx_scheduled_price_changes_status_apply_at ON scheduled_price_changes (status, apply_at);
+CREATE INDEX IF NOT EXISTS idx_scheduled_price_changes_product_id ON scheduled_price_changes (product_id);
@@ -0,0 +1,17 @@
+-- 상품 리비전 기록 (추가만 하고 고치지 않음), 상품 변경과 같은 트랜잭션에서 상품과 같은 샤드에 저장
+-- payload는 스냅샷(전체 상태) 또는 이전 리비전과의 변경분이며, base_revision은 복원을 시작할 스냅샷 리비전
+-- 상품이 삭제되어도 기록은 남기므로 외래 키는 두지 않음
+CREATE TABLE IF NOT EXISTS product_revisions (
+    id              BIGINT                     NOT NULL,
+    product_id      BIGINT                     NOT NULL,
+    revision        INT                        NOT NULL,
+    base_revision   INT                        NOT NULL,
+    kind            ENUM ('SNAPSHOT', 'DELTA') NOT NULL,
+    changed_fields  VARCHAR(255)               NOT NULL,
+    payload         LONGBLOB                   NOT NULL,
+    user_id         BIGINT,
+    created_at      DATETIME(6),
+    updated_at      DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_product_revisions_product_revision UNIQUE (product_id, revision)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,65 @@
+package com.shop.frankit.cart;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@Slf4j
+public class CartTest {
+
+    @Test
+    @DisplayName("같은 상품/옵션을 담으면 수량이 합쳐지고 다른 옵션은 새 항목이 됨")
+    void testMergeSameChoice() {
+        Cart cart = new Cart(1L, List.of());
+        CartItem red = cart.add(10L, Map.of(100L, "빨강"), Map.of(), 1);
+        CartItem merged = cart.add(10L, Map.of(100L, "빨강"), Map.of(), 2);
+        CartItem blue = cart.add(10L, Map.of(100L, "파랑"), Map.of(), 1);
+
+        assertEquals(red.id(), merged.id());
+        assertEquals(3, merged.quantity());
+        assertNotEquals(red.id(), blue.id());
+        assertEquals(2, cart.items().size());
+        log.info("장바구니 항목 합치기 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("변경이 있으면 DB에 쓴 버전보다 앞서고, 쓴 뒤에는 깨끗한 상태가 됨")
+    void testVersionTracksFlush() {
+        Cart cart = new Cart(1L, List.of());
+        assertTrue(cart.isClean());
+
+        cart.add(10L, Map.of(), Map.of(), 1);
+        long written = cart.version();
+        cart.setQuantity(1, 5);
+        assertFalse(cart.isClean());
+
+        // 쓰는 동안 생긴 변경은 다음 flush 대상으로 남음
+        cart.flushed(written);
+        assertFalse(cart.isClean());
+        cart.flushed(cart.version());
+        assertTrue(cart.isClean());
+
+        // 바뀌지 않는 요청은 버전을 올리지 않음
+        assertNull(cart.setQuantity(99, 1));
+        assertFalse(cart.remove(99));
+        assertTrue(cart.isClean());
+        log.info("장바구니 버전 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("DB에서 읽어온 장바구니는 기존 항목 다음 번호부터 새 항목을 만듦")
+    void testLoadedCartContinuesItemIds() {
+        Cart cart = new Cart(1L, List.of(
+            new CartItem(3, 10L, Map.of(), Map.of(), 1),
+            new CartItem(7, 11L, Map.of(), Map.of(), 2)));
+
+        assertEquals(8, cart.add(12L, Map.of(), Map.of(200L, "각인"), 1).id());
+        assertTrue(cart.remove(3));
+        assertEquals(List.of(7, 8), cart.items().stream().map(CartItem::id).toList());
+        log.info("장바구니 복구 테스트 통과");
+    }
+}
@@ -0,0 +1,38 @@
+package com.shop.frankit.catalog;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.shop.frankit.shard.GlobalIdGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@Slf4j
+public class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 ID는 항상 있음으로, 없는 ID는 오탐률 이내로만 있음으로 판단")
+    void testMembership() {
+        BloomFilter filter = BloomFilter.create(100_000, 0.01);
+        long[] ids = new long[100_000];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = GlobalIdGenerator.nextId(i % 3);
+            filter.put(ids[i]);
+        }
+        for (long id : ids) {
+            assertTrue(filter.mightContain(id));
+        }
+
+        // 순차 ID(전역 ID 이전)와 임의의 값
+        int falsePositives = 0;
+        for (long id = 1; id <= 100_000; id++) {
+            if (filter.mightContain(id) || filter.mightContain(id * 0x9E3779B97F4A7C15L)) {
+                falsePositives++;
+            }
+        }
+        double rate = falsePositives / 100_000.0;
+        log.info("블룸 필터 크기: {} KB, 오탐률(두 종류 합): {}", filter.sizeInBytes() / 1024, rate);
+        assertTrue(rate < 0.03, "오탐률이 너무 높음: " + rate);
+        log.info("블룸 필터 테스트 통과");
+    }
+}
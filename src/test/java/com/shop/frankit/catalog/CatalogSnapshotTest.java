@@ -0,0 +1,144 @@
+package com.shop.frankit.catalog;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shop.frankit.dto.ProductField;
+import com.shop.frankit.dto.ProductResponse;
+import com.shop.frankit.entity.Money;
+import com.shop.frankit.event.ProductChangedEvent;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@Slf4j
+public class CatalogSnapshotTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 3, 1, 9, 30, 0);
+
+    private List<ProductResponse> products;
+    private CatalogSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        products = new ArrayList<>();
+        CatalogSnapshot.Builder builder = CatalogSnapshot.builder();
+        for (long id = 1; id <= 30; id++) {
+            ProductResponse product = product(id, "상품 " + (char) ('A' + id % 7),
+                Money.of(id % 9 * 1000 + 500),
+                BASE_TIME.plusHours(id).plusNanos(id % 3 * 120_000_000L));
+            products.add(product);
+            builder.add(product.getId(), product.getUserId(), product.getName(),
+                product.getPrice(), product.getShippingFee(), product.getRegisteredAt());
+        }
+        snapshot = builder.build();
+    }
+
+    @Test
+    @DisplayName("가격 범위와 정렬 기준으로 페이지 조회")
+    void testPageWithPriceFilter() {
+        Pageable pageable = PageRequest.of(1, 4, Sort.by(Sort.Direction.DESC, "price"));
+        CatalogPage page = snapshot.page(CatalogSort.PRICE, Sort.Direction.DESC, 200_000, 700_000,
+            pageable, ProductField.LIST_DEFAULT);
+
+        List<ProductResponse> matching = products.stream()
+            .filter(p -> p.getPrice().compareTo(Money.of(2000)) >= 0
+                && p.getPrice().compareTo(Money.of(7000)) <= 0)
+            .sorted(Comparator.comparing(ProductResponse::getPrice).thenComparing(ProductResponse::getId).reversed())
+            .toList();
+
+        assertEquals(matching.size(), page.getTotalElements());
+        assertEquals(ids(matching.subList(4, 8)), ids(page));
+
+        // 가격 외 정렬에서도 같은 필터 결과
+        CatalogPage byName = snapshot.page(CatalogSort.NAME, Sort.Direction.ASC, 200_000, 700_000,
+            PageRequest.of(0, 100), ProductField.LIST_DEFAULT);
+        assertEquals(matching.size(), byName.getTotalElements());
+        log.info("가격 필터 페이지 조회 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("변경 반영 시 새 스냅샷만 바뀌고 기존 스냅샷은 유지")
+    void testApplyChanges() {
+        ProductResponse updated = products.get(0);
+        CatalogSnapshot next = snapshot.apply(List.of(
+            ProductChangedEvent.saved(updated.getId(), updated.getUserId(), "새 이름",
+                Money.of(99999), updated.getShippingFee(), updated.getRegisteredAt()),
+            ProductChangedEvent.deleted(2L),
+            ProductChangedEvent.saved(100L, 7L, "추가 상품", Money.ofMinor(150), Money.ZERO, BASE_TIME)));
+
+        assertEquals(30, snapshot.size());
+        assertEquals(30, next.size());
+
+        Pageable pageable = PageRequest.of(0, 100);
+        CatalogPage byPrice = next.page(CatalogSort.PRICE, Sort.Direction.ASC, Long.MIN_VALUE, Long.MAX_VALUE,
+            pageable, ProductField.LIST_DEFAULT);
+        assertEquals(100L, byPrice.idAt(0));
+        assertEquals(updated.getId(), byPrice.idAt(byPrice.getNumberOfElements() - 1));
+
+        CatalogPage byId = next.page(CatalogSort.ID, Sort.Direction.ASC, Long.MIN_VALUE, Long.MAX_VALUE,
+            pageable, ProductField.LIST_DEFAULT);
+        List<Long> expectedIds = LongStream.rangeClosed(1, 30).filter(id -> id != 2).boxed().collect(Collectors.toList());
+        expectedIds.add(100L);
+        assertEquals(expectedIds, ids(byId));
+
+        CatalogPage previous = snapshot.page(CatalogSort.ID, Sort.Direction.ASC, Long.MIN_VALUE, Long.MAX_VALUE,
+            pageable, ProductField.LIST_DEFAULT);
+        assertEquals(2L, previous.idAt(1));
+        log.info("변경 반영 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("카탈로그 응답의 상품 JSON이 ProductResponse 직렬화 결과와 같음")
+    void testSerializationMatchesProductResponse() throws Exception {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        CatalogPage page = snapshot.page(CatalogSort.ID, Sort.Direction.ASC, Long.MIN_VALUE, Long.MAX_VALUE,
+            PageRequest.of(0, 5), ProductField.LIST_DEFAULT);
+
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(page));
+        for (int i = 0; i < 5; i++) {
+            JsonNode expected = objectMapper.readTree(objectMapper.writeValueAsString(products.get(i)));
+            assertEquals(expected, json.get("content").get(i));
+        }
+        // 전역 ID는 JavaScript에서 잘리지 않도록 문자열
+        assertEquals(String.valueOf(products.get(0).getId()), json.get("content").get(0).get("id").textValue());
+        assertEquals(30, json.get("page").get("totalElements").asLong());
+        assertEquals(6, json.get("page").get("totalPages").asInt());
+        log.info("카탈로그 직렬화 테스트 통과");
+    }
+
+    private static ProductResponse product(long id, String name, Money price, LocalDateTime registeredAt) {
+        ProductResponse product = new ProductResponse();
+        product.setId(id);
+        product.setName(name);
+        product.setPrice(price);
+        product.setShippingFee(Money.of(2500));
+        product.setRegisteredAt(registeredAt);
+        product.setUserId(id % 4 + 1);
+        return product;
+    }
+
+    private static List<Long> ids(List<ProductResponse> products) {
+        return products.stream().map(ProductResponse::getId).toList();
+    }
+
+    private static List<Long> ids(CatalogPage page) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < page.getNumberOfElements(); i++) {
+            ids.add(page.idAt(i));
+        }
+        return ids;
+    }
+}
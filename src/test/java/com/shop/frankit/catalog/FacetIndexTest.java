@@ -0,0 +1,81 @@
+package com.shop.frankit.catalog;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.shop.frankit.dto.FacetCount;
+import com.shop.frankit.entity.Money;
+import com.shop.frankit.event.ProductChangedEvent;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@Slf4j
+public class FacetIndexTest {
+
+    private FacetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        FacetBuckets priceBuckets = new FacetBuckets(
+            List.of(new BigDecimal("10000"), new BigDecimal("30000"), new BigDecimal("50000")), false);
+        FacetBuckets shippingFeeBuckets = new FacetBuckets(List.of(new BigDecimal("3000")), true);
+        index = new FacetIndex(priceBuckets, shippingFeeBuckets);
+
+        // 상품 ID, 판매자, 가격, 배송비 (최소 단위)
+        index.upsert(1, 10, 500_000, 0);
+        index.upsert(2, 10, 1_500_000, 250_000);
+        index.upsert(3, 20, 2_900_000, 0);
+        index.upsert(4, 20, 4_000_000, 300_000);
+        index.upsert(5, 30, 6_000_000, 0);
+        index.upsert(6, 30, 3_000_000, 250_000);
+    }
+
+    @Test
+    @DisplayName("가격 범위, 무료배송, 판매자 조건의 교집합과 패싯별 개수")
+    void testSearchWithFacets() {
+        FacetResult result = index.search(1_000_000, 4_000_000, true, Set.of(10L, 20L), 0, 10);
+
+        assertEquals(List.of(3L), result.getProductIds());
+        assertEquals(1, result.getTotal());
+
+        // 가격 패싯은 무료배송 + 판매자 조건만 적용: 상품 1, 3
+        Map<String, Long> price = toMap(result.getPriceBuckets());
+        assertEquals(Map.of("0-10000", 1L, "10000-30000", 1L, "30000-50000", 0L, "50000-", 0L), price);
+
+        // 배송비 패싯은 가격 + 판매자 조건만 적용: 상품 2, 3, 4
+        Map<String, Long> shipping = toMap(result.getShippingFeeBuckets());
+        assertEquals(Map.of("free", 1L, "0-3000", 1L, "3000-", 1L), shipping);
+
+        // 판매자 패싯은 가격 + 무료배송 조건만 적용: 상품 3
+        assertEquals(Map.of("10", 0L, "20", 1L), toMap(result.getSellers()));
+        log.info("패싯 검색 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("상품 변경과 삭제가 비트맵에 바로 반영")
+    void testIncrementalUpdates() {
+        index.apply(ProductChangedEvent.saved(1L, 10L, "상품", Money.of(70000), Money.ZERO, LocalDateTime.now()));
+        index.apply(ProductChangedEvent.deleted(5L));
+
+        FacetResult result = index.search(5_000_000, Long.MAX_VALUE, false, Set.of(), 0, 10);
+        assertEquals(List.of(1L), result.getProductIds());
+        assertEquals(5, index.size());
+        assertEquals(1L, toMap(result.getPriceBuckets()).get("50000-"));
+
+        FacetResult page = index.search(Long.MIN_VALUE, Long.MAX_VALUE, false, null, 2, 2);
+        assertEquals(5, page.getTotal());
+        assertEquals(List.of(3L, 4L), page.getProductIds());
+        log.info("패싯 인덱스 갱신 테스트 통과");
+    }
+
+    private static Map<String, Long> toMap(List<FacetCount> counts) {
+        return counts.stream().collect(Collectors.toMap(FacetCount::getKey, FacetCount::getCount));
+    }
+}
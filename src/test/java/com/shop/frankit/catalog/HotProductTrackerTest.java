@@ -0,0 +1,69 @@
+package com.shop.frankit.catalog;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Random;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@Slf4j
+public class HotProductTrackerTest {
+
+    @Test
+    @DisplayName("Count-Min 추정값은 실제 횟수 이상이고 절반으로 줄어듦")
+    void testSketchEstimates() {
+        CountMinSketch sketch = new CountMinSketch(1024, 4);
+        for (long id = 1; id <= 5_000; id++) {
+            sketch.increment(id);
+        }
+        for (int i = 0; i < 100; i++) {
+            sketch.increment(42L);
+        }
+        long estimate = sketch.estimate(42L);
+        assertTrue(estimate >= 101);
+        assertTrue(estimate < 150, "충돌 오차가 너무 큼: " + estimate);
+
+        sketch.decay();
+        assertTrue(sketch.estimate(42L) >= 50 && sketch.estimate(42L) <= estimate / 2);
+        log.info("Count-Min 스케치 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("치우친 조회에서 자주 조회된 상품만 핫셋에 남음")
+    void testSkewedTraffic() {
+        HotProductTracker tracker = new HotProductTracker(new SimpleMeterRegistry(), true, 3, 20, 4096, 4);
+        Random random = new Random(7);
+        for (int i = 0; i < 20_000; i++) {
+            long id = i % 10 < 6 ? 1 + i % 3 : 1_000 + random.nextInt(10_000);  // 60%는 상품 1~3
+            tracker.record(id);
+        }
+
+        List<HotProductTracker.HotProduct> hotSet = tracker.hotSet();
+        assertEquals(3, hotSet.size());
+        assertTrue(hotSet.stream().allMatch(product -> product.productId() <= 3));
+        assertTrue(hotSet.get(0).estimate() >= hotSet.get(2).estimate());
+        log.info("핫셋 탐지 테스트 통과: {}", hotSet);
+    }
+
+    @Test
+    @DisplayName("조회가 끊긴 상품은 decay 후 핫셋에서 빠지고 새 상품으로 바뀜")
+    void testDecayFollowsShift() {
+        HotProductTracker tracker = new HotProductTracker(new SimpleMeterRegistry(), true, 1, 10, 1024, 4);
+        for (int i = 0; i < 15; i++) {
+            tracker.record(1L);
+        }
+        assertTrue(tracker.isHot(1L));
+
+        tracker.decay();
+        assertFalse(tracker.isHot(1L));
+        for (int i = 0; i < 10; i++) {
+            tracker.record(2L);
+        }
+        assertTrue(tracker.isHot(2L));
+        assertEquals(1, tracker.hotSet().size());
+        log.info("핫셋 decay 테스트 통과");
+    }
+}
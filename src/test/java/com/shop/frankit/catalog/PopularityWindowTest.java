@@ -0,0 +1,70 @@
+package com.shop.frankit.catalog;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@Slf4j
+public class PopularityWindowTest {
+
+    private static final long BUCKET = 60_000;
+    private static final long T0 = 1_750_000_000_000L - 1_750_000_000_000L % BUCKET;
+
+    @Test
+    @DisplayName("윈도우 안의 구간 조회 수를 합산해서 순위 계산")
+    void testTopAcrossBuckets() {
+        PopularityWindow window = new PopularityWindow(BUCKET, 3, 10, T0);
+        record(window, 1L, 5, T0);
+        record(window, 2L, 3, T0);
+        record(window, 2L, 4, T0 + BUCKET);
+        record(window, 3L, 1, T0 + 2 * BUCKET);
+
+        List<long[]> top = window.top(10, T0 + 2 * BUCKET);
+        assertEquals(3, top.size());
+        assertArrayEquals(new long[]{2L, 7}, top.get(0));
+        assertArrayEquals(new long[]{1L, 5}, top.get(1));
+        assertArrayEquals(new long[]{3L, 1}, top.get(2));
+
+        assertEquals(1, window.top(1, T0 + 2 * BUCKET).size());
+        log.info("구간 합산 순위 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("윈도우를 벗어난 구간은 순위에서 제외")
+    void testOldBucketsExpire() {
+        PopularityWindow window = new PopularityWindow(BUCKET, 2, 10, T0);
+        record(window, 1L, 10, T0);
+        record(window, 2L, 2, T0 + BUCKET);
+
+        List<long[]> top = window.top(10, T0 + 2 * BUCKET);
+        assertEquals(1, top.size());
+        assertArrayEquals(new long[]{2L, 2}, top.get(0));
+
+        assertTrue(window.top(10, T0 + 10 * BUCKET).isEmpty());
+        log.info("윈도우 만료 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("지난 구간은 상위 후보만 남김")
+    void testClosedBucketKeepsCandidates() {
+        PopularityWindow window = new PopularityWindow(BUCKET, 5, 2, T0);
+        for (long id = 1; id <= 5; id++) {
+            record(window, id, (int) id, T0);
+        }
+
+        List<long[]> top = window.top(10, T0 + BUCKET);
+        assertEquals(2, top.size());
+        assertArrayEquals(new long[]{5L, 5}, top.get(0));
+        assertArrayEquals(new long[]{4L, 4}, top.get(1));
+        log.info("구간 요약 테스트 통과");
+    }
+
+    private static void record(PopularityWindow window, long id, int times, long now) {
+        for (int i = 0; i < times; i++) {
+            window.record(id, now);
+        }
+    }
+}
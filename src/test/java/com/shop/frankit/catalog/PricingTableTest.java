@@ -0,0 +1,119 @@
+package com.shop.frankit.catalog;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.shop.frankit.entity.Money;
+import com.shop.frankit.entity.OptionValue;
+import com.shop.frankit.entity.Product;
+import com.shop.frankit.entity.ProductOption;
+import com.shop.frankit.entity.Promotion;
+import com.shop.frankit.exception.InvalidRequestException;
+import com.shop.frankit.promotion.PromotionRule;
+import com.shop.frankit.promotion.PromotionTable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@Slf4j
+public class PricingTableTest {
+
+    private static final PromotionTable NO_PROMOTIONS = PromotionTable.compile(List.of(), 0, 0);
+
+    private long nextId = 1;
+
+    @Test
+    @DisplayName("상품 가격, 선택 옵션, 입력 옵션, 수량, 배송비로 합계 계산")
+    void testQuote() {
+        ProductOption color = option("색상", ProductOption.OptionType.SELECT, 1000, "빨강", "파랑");
+        ProductOption engraving = option("각인", ProductOption.OptionType.INPUT, 3000);
+        PricingTable pricing = PricingTable.of(product(15000, 2500), List.of(color, engraving));
+
+        PricingTable.Quote quote = pricing.quote(Map.of(color.getId(), "파랑"), Map.of(engraving.getId(), "홍길동"), 2,
+            NO_PROMOTIONS);
+        assertEquals(1, quote.variantIndex());
+        assertEquals(List.of("파랑"), quote.selectedValues());
+        assertEquals(Money.of(19000), quote.unitPrice());
+        assertEquals(Money.of(38000), quote.subtotal());
+        assertEquals(Money.of(2500), quote.shippingFee());
+        assertEquals(Money.ZERO, quote.discount());
+        assertEquals(Money.of(40500), quote.total());
+
+        // 입력하지 않은 INPUT 옵션은 추가 금액 없음
+        PricingTable.Quote plain = pricing.quote(Map.of(color.getId(), "빨강"), Map.of(engraving.getId(), " "), 1,
+            NO_PROMOTIONS);
+        assertEquals(Money.of(16000), plain.unitPrice());
+        assertEquals(Money.of(18500), plain.total());
+        log.info("견적 계산 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("옵션 선택이 잘못되면 InvalidRequestException")
+    void testInvalidQuote() {
+        ProductOption color = option("색상", ProductOption.OptionType.SELECT, 0, "빨강");
+        ProductOption engraving = option("각인", ProductOption.OptionType.INPUT, 3000);
+        PricingTable pricing = PricingTable.of(product(15000, 0), List.of(color, engraving));
+
+        assertThrows(InvalidRequestException.class, () -> pricing.quote(Map.of(), Map.of(), 1, NO_PROMOTIONS));
+        assertThrows(InvalidRequestException.class,
+            () -> pricing.quote(Map.of(color.getId(), "빨강"), Map.of(color.getId(), "텍스트"), 1, NO_PROMOTIONS));
+        assertThrows(InvalidRequestException.class, () -> pricing.quote(Map.of(color.getId(), "빨강"), Map.of(), 0, NO_PROMOTIONS));
+        log.info("잘못된 견적 요청 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("적용 중인 할인은 상품 가격에 적용하고 무료배송이면 배송비를 빼서 합계 계산")
+    void testQuoteWithPromotions() {
+        ProductOption color = option("색상", ProductOption.OptionType.SELECT, 1000, "빨강", "파랑");
+        Product product = product(15000, 2500);
+        PricingTable pricing = PricingTable.of(product, List.of(color));
+        long now = System.currentTimeMillis();
+        PromotionTable promotions = PromotionTable.compile(List.of(
+            new PromotionRule(1, Promotion.Type.PERCENT_OFF, null, product.getId(), 10, 0, 0, now - 1000, now + 60_000),
+            new PromotionRule(2, Promotion.Type.FREE_SHIPPING, null, product.getId(), 0, 0,
+                Money.of(10000).minorUnits(), now - 1000, now + 60_000)
+        ), now, 1);
+
+        // 상품 가격 15000원의 10%만 할인하고 옵션 추가 금액은 그대로
+        PricingTable.Quote quote = pricing.quote(Map.of(color.getId(), "빨강"), Map.of(), 2, promotions);
+        assertEquals(Money.of(14500), quote.unitPrice());
+        assertEquals(Money.of(29000), quote.subtotal());
+        assertEquals(Money.of(3000), quote.discount());
+        assertEquals(Money.ZERO, quote.shippingFee());
+        assertEquals(Money.of(29000), quote.total());
+
+        // 할인이 끝난 조회표로는 정가
+        PromotionTable ended = PromotionTable.compile(List.of(), now + 60_000, 2);
+        assertEquals(Money.of(34500), pricing.quote(Map.of(color.getId(), "빨강"), Map.of(), 2, ended).total());
+        log.info("할인 적용 견적 테스트 통과");
+    }
+
+    private Product product(long price, long shippingFee) {
+        Product product = new Product();
+        ReflectionTestUtils.setField(product, "id", nextId++);
+        product.setName("테스트 상품");
+        product.setPrice(Money.of(price));
+        product.setShippingFee(Money.of(shippingFee));
+        return product;
+    }
+
+    private ProductOption option(String name, ProductOption.OptionType type, long additionalPrice, String... values) {
+        ProductOption option = new ProductOption();
+        ReflectionTestUtils.setField(option, "id", nextId++);
+        option.setName(name);
+        option.setType(type);
+        option.setAdditionalPrice(Money.of(additionalPrice));
+        List<OptionValue> optionValues = new ArrayList<>();
+        for (String value : values) {
+            OptionValue optionValue = new OptionValue();
+            ReflectionTestUtils.setField(optionValue, "id", nextId++);
+            optionValue.setValue(value);
+            optionValues.add(optionValue);
+        }
+        option.setOptionValues(optionValues);
+        return option;
+    }
+}
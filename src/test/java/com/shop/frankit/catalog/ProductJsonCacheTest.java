@@ -0,0 +1,128 @@
+package com.shop.frankit.catalog;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shop.frankit.dto.ProductResponse;
+import com.shop.frankit.entity.Money;
+import com.shop.frankit.event.ProductChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@Slf4j
+public class ProductJsonCacheTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final AtomicInteger loads = new AtomicInteger();
+    private ProductJsonCache cache;
+
+    @BeforeEach
+    void setUp() {
+        HotProductTracker tracker = new HotProductTracker(new SimpleMeterRegistry(), false, 16, 1, 1024, 4);
+        cache = new ProductJsonCache(objectMapper, new SimpleMeterRegistry(), tracker, true, 2, Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("캐시된 바이트는 ProductResponse 직렬화 결과와 같고, gzip 압축본도 같은 내용")
+    void testCachedBytesMatchSerialization() throws Exception {
+        ProductResponse product = product(1L, "상품");
+        byte[] expected = objectMapper.writeValueAsBytes(product);
+
+        assertArrayEquals(expected, bytes(cache.get(1L, false, () -> load(product))));
+        OffHeapJson gzipped = cache.get(1L, true, () -> load(product));
+        assertTrue(gzipped.gzipped());
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes(gzipped)))) {
+            assertArrayEquals(expected, in.readAllBytes());
+        }
+        assertEquals(1, loads.get());
+        log.info("오프힙 응답 캐시 직렬화 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("상품 변경 이벤트로 무효화되고, 최대 개수를 넘으면 오래된 항목부터 제거")
+    void testInvalidationAndEviction() {
+        cache.get(1L, false, () -> load(product(1L, "상품 1")));
+        cache.onProductChanged(ProductChangedEvent.deleted(1L));
+        cache.get(1L, false, () -> load(product(1L, "상품 1")));
+        assertEquals(2, loads.get());
+
+        cache.get(2L, false, () -> load(product(2L, "상품 2")));
+        cache.get(3L, false, () -> load(product(3L, "상품 3")));
+        cache.get(3L, false, () -> load(product(3L, "상품 3")));
+        cache.get(1L, false, () -> load(product(1L, "상품 1")));
+        assertEquals(5, loads.get());
+        log.info("오프힙 응답 캐시 무효화 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("핫셋 상품은 한 번씩 조회되는 상품이 몰려도 캐시에서 밀려나지 않음")
+    void testHotProductIsPinned() {
+        HotProductTracker tracker = new HotProductTracker(new SimpleMeterRegistry(), true, 1, 3, 1024, 4);
+        ProductJsonCache pinningCache = new ProductJsonCache(objectMapper, new SimpleMeterRegistry(), tracker,
+            true, 2, Duration.ofMinutes(1));
+        for (int i = 0; i < 3; i++) {
+            tracker.record(1L);
+        }
+        pinningCache.get(1L, false, () -> load(product(1L, "상품 1")));
+        for (long id = 100; id < 110; id++) {
+            long scanned = id;
+            pinningCache.get(scanned, false, () -> load(product(scanned, "상품 " + scanned)));
+        }
+        pinningCache.get(1L, false, () -> load(product(1L, "상품 1")));
+        assertEquals(11, loads.get());
+
+        // 핫셋에서 빠지면 고정 영역에서 정리
+        tracker.decay();
+        assertFalse(tracker.isHot(1L));
+        pinningCache.releaseCooledEntries();
+        pinningCache.get(1L, false, () -> load(product(1L, "상품 1")));
+        assertEquals(12, loads.get());
+        log.info("핫셋 고정 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding 헤더 해석")
+    void testAcceptsGzip() {
+        assertTrue(ProductJsonCache.acceptsGzip("gzip, deflate, br"));
+        assertTrue(ProductJsonCache.acceptsGzip("br;q=1.0, gzip;q=0.8"));
+        assertTrue(ProductJsonCache.acceptsGzip("*"));
+        assertFalse(ProductJsonCache.acceptsGzip("gzip;q=0"));
+        assertFalse(ProductJsonCache.acceptsGzip("identity"));
+        assertFalse(ProductJsonCache.acceptsGzip(null));
+        log.info("Accept-Encoding 해석 테스트 통과");
+    }
+
+    private ProductResponse load(ProductResponse product) {
+        loads.incrementAndGet();
+        return product;
+    }
+
+    private static byte[] bytes(OffHeapJson body) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+        assertEquals(body.length(), out.size());
+        return out.toByteArray();
+    }
+
+    private static ProductResponse product(long id, String name) {
+        ProductResponse product = new ProductResponse();
+        product.setId(id);
+        product.setName(name);
+        product.setDescription("설명 ".repeat(100));
+        product.setPrice(Money.of(12000));
+        product.setShippingFee(Money.ZERO);
+        product.setRegisteredAt(LocalDateTime.of(2025, 3, 1, 9, 30));
+        product.setUserId(1L);
+        return product;
+    }
+}
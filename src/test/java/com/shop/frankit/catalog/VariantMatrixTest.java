@@ -0,0 +1,98 @@
+package com.shop.frankit.catalog;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.shop.frankit.entity.Money;
+import com.shop.frankit.entity.OptionValue;
+import com.shop.frankit.entity.ProductOption;
+import com.shop.frankit.exception.InvalidRequestException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@Slf4j
+public class VariantMatrixTest {
+
+    private long nextId = 1;
+
+    @Test
+    @DisplayName("조합 번호는 옵션 순서의 사전순이고 번호와 선택 값이 서로 변환됨")
+    void testEncodeAndResolve() {
+        ProductOption color = option("색상", ProductOption.OptionType.SELECT, 1000, "빨강", "파랑");
+        ProductOption size = option("사이즈", ProductOption.OptionType.SELECT, 0, "S", "M", "L");
+        ProductOption engraving = option("각인", ProductOption.OptionType.INPUT, 5000);
+        VariantMatrix matrix = VariantMatrix.of(1L, List.of(size, engraving, color));
+
+        assertEquals(2, matrix.optionCount());
+        assertEquals("색상", matrix.optionName(0));
+        assertEquals(6, matrix.size());
+        assertEquals(Money.of(1000), matrix.additionalPrice());
+        assertEquals(List.of("빨강", "S"), matrix.variant(0).values());
+        assertEquals(List.of("빨강", "L"), matrix.variant(2).values());
+        assertEquals(List.of("파랑", "M"), matrix.variant(4).values());
+        assertEquals(1, matrix.valueIndex(4, 1));
+
+        Set<List<String>> seen = new HashSet<>();
+        matrix.variants(0, 100).forEach(variant -> {
+            assertTrue(seen.add(variant.values()));
+            assertEquals(variant.index(), matrix.resolve(Map.of(
+                color.getId(), variant.values().get(0),
+                size.getId(), variant.values().get(1))));
+        });
+        assertEquals(6, seen.size());
+        assertEquals(List.of(3, 4), matrix.variants(3, 2).map(VariantMatrix.Variant::index).toList());
+        assertEquals(0, matrix.variants(6, 10).count());
+        log.info("옵션 조합 변환 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("잘못된 선택은 InvalidRequestException")
+    void testInvalidSelection() {
+        ProductOption color = option("색상", ProductOption.OptionType.SELECT, 0, "빨강", "파랑");
+        ProductOption size = option("사이즈", ProductOption.OptionType.SELECT, 0, "S", "M");
+        VariantMatrix matrix = VariantMatrix.of(1L, List.of(color, size));
+
+        assertThrows(InvalidRequestException.class, () -> matrix.resolve(Map.of(color.getId(), "빨강")));
+        assertThrows(InvalidRequestException.class,
+            () -> matrix.resolve(Map.of(color.getId(), "초록", size.getId(), "S")));
+        assertThrows(InvalidRequestException.class,
+            () -> matrix.resolve(Map.of(color.getId(), "빨강", 999L, "S")));
+        assertThrows(InvalidRequestException.class, () -> matrix.variant(4));
+        log.info("잘못된 옵션 선택 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("선택 옵션이 없으면 빈 선택 하나만 있음")
+    void testNoSelectOptions() {
+        VariantMatrix matrix = VariantMatrix.of(1L, List.of(option("각인", ProductOption.OptionType.INPUT, 0)));
+
+        assertEquals(1, matrix.size());
+        assertEquals(List.of(), matrix.variant(0).values());
+        assertEquals(0, matrix.resolve(Map.of()));
+        log.info("선택 옵션 없는 상품 테스트 통과");
+    }
+
+    private ProductOption option(String name, ProductOption.OptionType type, long additionalPrice, String... values) {
+        ProductOption option = new ProductOption();
+        ReflectionTestUtils.setField(option, "id", nextId++);
+        option.setName(name);
+        option.setType(type);
+        option.setAdditionalPrice(Money.of(additionalPrice));
+        List<OptionValue> optionValues = new ArrayList<>();
+        for (String value : values) {
+            OptionValue optionValue = new OptionValue();
+            ReflectionTestUtils.setField(optionValue, "id", nextId++);
+            optionValue.setValue(value);
+            optionValue.setProductOption(option);
+            optionValues.add(optionValue);
+        }
+        option.setOptionValues(optionValues);
+        return option;
+    }
+}
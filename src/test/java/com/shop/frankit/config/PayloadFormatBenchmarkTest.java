@@ -0,0 +1,132 @@
+package com.shop.frankit.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.shop.frankit.dto.ProductResponse;
+import com.shop.frankit.entity.Money;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * 상품 목록 페이지의 응답 형식별 크기와 인코딩/디코딩 시간 비교
+ * 기존 JSON(PageImpl 그대로), 간결한 페이지 JSON(PagedModel), 같은 구조의 CBOR
+ * 시간 측정은 benchmark 태그로 분리되어 기본 test에서 빠진다. (./gradlew benchmark로 실행)
+ */
+@Slf4j
+public class PayloadFormatBenchmarkTest {
+
+    private static final int ITERATIONS = 2_000;
+
+    private final ObjectMapper jsonMapper = Jackson2ObjectMapperBuilder.json()
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+    // WebConfig의 CBOR 컨버터와 같은 방식으로 생성
+    private final ObjectMapper cborMapper = Jackson2ObjectMapperBuilder.json()
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .factory(new CBORFactory())
+        .build();
+
+    record Envelope(List<ProductResponse> content, PagedModel.PageMetadata page) {
+    }
+
+    @Test
+    @DisplayName("CBOR 페이지 응답이 JSON보다 작고 같은 값으로 디코딩됨")
+    void testCompareFormats() throws Exception {
+        Page<ProductResponse> page = page();
+        PagedModel<ProductResponse> lean = new PagedModel<>(page);
+
+        byte[] legacyJson = jsonMapper.writeValueAsBytes(page);
+        byte[] leanJson = jsonMapper.writeValueAsBytes(lean);
+        byte[] cbor = cborMapper.writeValueAsBytes(lean);
+
+        Envelope fromJson = jsonMapper.readValue(leanJson, Envelope.class);
+        Envelope fromCbor = cborMapper.readValue(cbor, Envelope.class);
+        assertEquals(fromJson.page(), fromCbor.page());
+        assertEquals(12_345, fromCbor.page().totalElements());
+        for (int i = 0; i < page.getNumberOfElements(); i++) {
+            ProductResponse expected = page.getContent().get(i);
+            ProductResponse actual = fromCbor.content().get(i);
+            assertEquals(expected.getId(), actual.getId());
+            assertEquals(expected.getName(), actual.getName());
+            assertEquals(expected.getPrice(), actual.getPrice());
+            assertEquals(expected.getShippingFee(), actual.getShippingFee());
+            assertEquals(expected.getRegisteredAt(), actual.getRegisteredAt());
+        }
+        assertTrue(cbor.length < leanJson.length);
+        assertTrue(leanJson.length < legacyJson.length);
+
+        log.info("응답 크기: 기존 JSON={} bytes, 간결한 JSON={} bytes, CBOR={} bytes",
+            legacyJson.length, leanJson.length, cbor.length);
+        log.info("응답 형식 비교 테스트 통과");
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("응답 형식별 페이지 인코딩/디코딩 시간 측정")
+    void benchmarkFormats() throws Exception {
+        PagedModel<ProductResponse> lean = new PagedModel<>(page());
+        byte[] leanJson = jsonMapper.writeValueAsBytes(lean);
+        byte[] cbor = cborMapper.writeValueAsBytes(lean);
+
+        log.info("인코딩(페이지당): JSON={} us, CBOR={} us",
+            encodeMicros(jsonMapper, lean), encodeMicros(cborMapper, lean));
+        log.info("디코딩(페이지당): JSON={} us, CBOR={} us",
+            decodeMicros(jsonMapper, leanJson), decodeMicros(cborMapper, cbor));
+    }
+
+    private static double encodeMicros(ObjectMapper mapper, Object value) throws Exception {
+        for (int i = 0; i < ITERATIONS; i++) {
+            mapper.writeValueAsBytes(value);  // 워밍업
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            mapper.writeValueAsBytes(value);
+        }
+        return (System.nanoTime() - start) / 1_000.0 / ITERATIONS;
+    }
+
+    private static double decodeMicros(ObjectMapper mapper, byte[] payload) throws Exception {
+        for (int i = 0; i < ITERATIONS; i++) {
+            mapper.readValue(payload, Envelope.class);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            mapper.readValue(payload, Envelope.class);
+        }
+        return (System.nanoTime() - start) / 1_000.0 / ITERATIONS;
+    }
+
+    private static Page<ProductResponse> page() {
+        return new PageImpl<>(products(100), PageRequest.of(3, 100, Sort.by(Sort.Direction.DESC, "price")), 12_345);
+    }
+
+    private static List<ProductResponse> products(int count) {
+        LocalDateTime base = LocalDateTime.of(2025, 3, 1, 9, 30);
+        List<ProductResponse> products = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            ProductResponse product = new ProductResponse();
+            product.setId(id << 22 | 7);
+            product.setName("상품 " + id);
+            product.setPrice(Money.ofMinor(id * 137_350));
+            product.setShippingFee(id % 3 == 0 ? Money.ZERO : Money.of(2500));
+            product.setRegisteredAt(base.plusMinutes(id * 17));
+            product.setUserId(id % 13 + 1);
+            products.add(product);
+        }
+        return products;
+    }
+}
@@ -0,0 +1,152 @@
+package com.shop.frankit.datasource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.shop.frankit.security.UserDetailsImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 임베디드 H2 DB를 auth / catalog-write(Primary) / catalog-read(Replica) 풀로 사용하는 라우팅 테스트
+ */
+@Slf4j
+public class WorkloadRoutingDataSourceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+    private SimpleMeterRegistry meterRegistry;
+    private BulkheadDataSource bulkhead;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        bulkhead = new BulkheadDataSource(embedded("auth"), "auth", 1, 0, meterRegistry);
+        Map<ConnectionPool, DataSource> pools = new EnumMap<>(ConnectionPool.class);
+        pools.put(ConnectionPool.AUTH, bulkhead);
+        pools.put(ConnectionPool.CATALOG_WRITE, embedded("primary"));
+        pools.put(ConnectionPool.CATALOG_READ, embedded("replica"));
+
+        WorkloadRoutingDataSource routing = new WorkloadRoutingDataSource(
+            pools, new ReadYourWritesTracker(Duration.ofSeconds(5)), meterRegistry);
+        routing.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private DataSource embedded(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+        template.execute("DELETE FROM node");
+        template.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+    private String currentNode(TransactionTemplate transaction) {
+        return transaction.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private void login(Long userId) {
+        UserDetailsImpl user = new UserDetailsImpl(userId, "user" + userId + "@example.com", "password", "USER");
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션은 Replica, 쓰기 트랜잭션은 Primary로 라우팅")
+    void testRoutingByTransactionType() {
+        // 프록시 초기화 시 기본 커넥션 속성 확인을 위한 획득이 있으므로 증가분으로 검증
+        double writesBefore = meterRegistry.get("datasource.routing").tag("reason", "write").counter().count();
+
+        assertEquals("replica", currentNode(readOnlyTransaction));
+        assertEquals("primary", currentNode(writeTransaction));
+
+        assertEquals(1.0, meterRegistry.get("datasource.routing").tag("pool", "catalog-read").counter().count());
+        assertEquals(writesBefore + 1,
+            meterRegistry.get("datasource.routing").tag("reason", "write").counter().count());
+        log.info("트랜잭션 유형별 라우팅 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("쓰기 직후 같은 사용자의 읽기는 Primary로 라우팅")
+    void testReadYourWrites() {
+        login(1L);
+        assertEquals("replica", currentNode(readOnlyTransaction));
+
+        // 쓰기 발생 후 윈도우 동안은 Primary에서 읽음
+        currentNode(writeTransaction);
+        assertEquals("primary", currentNode(readOnlyTransaction));
+
+        // 다른 사용자는 영향 없음
+        login(2L);
+        assertEquals("replica", currentNode(readOnlyTransaction));
+        log.info("Read-your-writes 라우팅 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("롤백된 쓰기는 읽기를 Primary로 보내지 않음")
+    void testRolledBackWriteKeepsReplicaReads() {
+        login(1L);
+        writeTransaction.executeWithoutResult(status -> {
+            assertEquals("primary", jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+            status.setRollbackOnly();
+        });
+        assertEquals("replica", currentNode(readOnlyTransaction));
+        log.info("롤백된 쓰기 라우팅 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("AUTH 워크로드는 auth 풀로 라우팅")
+    void testAuthWorkloadRouting() throws Throwable {
+        String node = WorkloadContext.callWith(WorkloadType.AUTH, () -> currentNode(readOnlyTransaction));
+        assertEquals("auth", node);
+
+        // 바깥쪽에서 정해진 워크로드가 유지됨
+        String nested = WorkloadContext.callWith(WorkloadType.CATALOG,
+            () -> WorkloadContext.callWith(WorkloadType.AUTH, () -> currentNode(writeTransaction)));
+        assertEquals("primary", nested);
+        log.info("워크로드 라우팅 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("벌크헤드 대기열이 가득 차면 즉시 거절")
+    void testBulkheadRejectsWhenFull() throws Exception {
+        try (Connection held = bulkhead.getConnection()) {
+            assertEquals(0, bulkhead.availablePermits());
+            assertThrows(SQLTransientConnectionException.class, bulkhead::getConnection);
+        }
+        assertEquals(1, bulkhead.availablePermits());
+        assertEquals(1.0, meterRegistry.get("datasource.bulkhead.rejected").tag("pool", "auth").counter().count());
+        assertEquals(1, meterRegistry.get("datasource.bulkhead.acquire").tag("pool", "auth").timer().count());
+        log.info("벌크헤드 거절 테스트 통과");
+    }
+}
@@ -0,0 +1,54 @@
+package com.shop.frankit.entity;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@Slf4j
+public class MoneyTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("최소 단위 long 연산과 BigDecimal 변환")
+    void testArithmetic() {
+        Money price = Money.of(new BigDecimal("12500.50"));
+
+        assertEquals(1_250_050L, price.minorUnits());
+        assertEquals(Money.ofMinor(3_750_150L), price.times(3));
+        assertEquals(Money.of(12500), price.minus(Money.ofMinor(50)));
+        assertEquals(0, new BigDecimal("12503.00").compareTo(price.plus(Money.ofMinor(250)).toBigDecimal()));
+        assertEquals(Money.ofMinor(1), Money.of(new BigDecimal("0.005"), RoundingMode.HALF_UP));
+        assertThrows(ArithmeticException.class, () -> Money.of(new BigDecimal("0.005")));
+        assertThrows(ArithmeticException.class, () -> Money.ofMinor(Long.MAX_VALUE).plus(Money.ofMinor(1)));
+        log.info("금액 연산 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("문자열 형식은 항상 소수 둘째 자리까지")
+    void testFormat() {
+        assertEquals("0.00", Money.ZERO.toString());
+        assertEquals("0.05", Money.ofMinor(5).toString());
+        assertEquals("-12.30", Money.ofMinor(-1230).toString());
+        assertEquals("92233720368547758.07", Money.ofMinor(Long.MAX_VALUE).toString());
+        assertEquals("-92233720368547758.08", Money.ofMinor(Long.MIN_VALUE).toString());
+        log.info("금액 형식 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("JSON 숫자/문자열 입력과 숫자 출력")
+    void testJson() throws Exception {
+        assertEquals("10000.00", objectMapper.writeValueAsString(Money.of(10000)));
+        assertEquals(Money.of(10000), objectMapper.readValue("10000", Money.class));
+        assertEquals(Money.ofMinor(1_000_050), objectMapper.readValue("10000.5", Money.class));
+        assertEquals(Money.ofMinor(150), objectMapper.readValue("\"1.50\"", Money.class));
+        assertThrows(InvalidFormatException.class, () -> objectMapper.readValue("1.234", Money.class));
+        log.info("금액 JSON 테스트 통과");
+    }
+}
@@ -0,0 +1,107 @@
+package com.shop.frankit.promotion;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.shop.frankit.entity.Money;
+import com.shop.frankit.entity.Promotion;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@Slf4j
+public class PromotionTableTest {
+
+    private static final long NOW = 1_000_000L;
+    private static final long SELLER = 7L;
+
+    private long nextId = 1;
+
+    @Test
+    @DisplayName("할인율과 구간별 정액 할인 중 가장 큰 할인 하나만 적용")
+    void testBestDiscountWins() {
+        PromotionTable table = PromotionTable.compile(List.of(
+            percentOff(SELLER, null, 10),
+            fixedOff(null, null, 3000, 20000),
+            fixedOff(null, null, 1000, 5000)
+        ), NOW, 1);
+
+        // 10000원: 10%(1000원) vs 5000원 이상 1000원 → 1000원
+        assertEquals(Money.of(9000), table.apply(1L, SELLER, Money.of(10000).minorUnits()).price());
+        // 25000원: 10%(2500원) vs 20000원 이상 3000원 → 3000원
+        assertEquals(Money.of(22000), table.apply(1L, SELLER, Money.of(25000).minorUnits()).price());
+        // 판매자를 모르면 판매자 대상 할인율은 건너뜀
+        assertEquals(Money.of(9000), table.apply(1L, null, Money.of(10000).minorUnits()).price());
+        assertNull(table.apply(1L, null, Money.of(4500).minorUnits()));
+        // 할인액은 가격을 넘지 않음
+        PromotionTable big = PromotionTable.compile(List.of(fixedOff(null, 5L, 10000, 0)), NOW, 1);
+        assertEquals(Money.ZERO, big.apply(5L, null, Money.of(3000).minorUnits()).price());
+
+        log.info("최대 할인 적용 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("기준 가격 이상이면 무료배송, 할인과 별도로 적용")
+    void testFreeShipping() {
+        PromotionTable table = PromotionTable.compile(List.of(
+            freeShipping(null, 3L, 30000),
+            percentOff(null, 3L, 5)
+        ), NOW, 1);
+
+        PromotionTable.Discount below = table.apply(3L, null, Money.of(20000).minorUnits());
+        assertFalse(below.freeShipping());
+        assertEquals(Money.of(19000), below.price());
+
+        PromotionTable.Discount above = table.apply(3L, null, Money.of(30000).minorUnits());
+        assertTrue(above.freeShipping());
+        assertEquals(Money.of(28500), above.price());
+
+        // 다른 상품에는 적용하지 않음
+        assertNull(table.apply(4L, null, Money.of(30000).minorUnits()));
+
+        log.info("무료배송 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("활성 기간 밖의 규칙은 적용하지 않고, 다음 시작/종료 시각까지만 유효")
+    void testActivationWindow() {
+        PromotionRule ending = new PromotionRule(nextId++, Promotion.Type.PERCENT_OFF, null, 1L, 10, 0, 0,
+            NOW - 100, NOW + 500);
+        PromotionRule upcoming = new PromotionRule(nextId++, Promotion.Type.PERCENT_OFF, null, 1L, 50, 0, 0,
+            NOW + 200, Long.MAX_VALUE);
+        PromotionRule expired = new PromotionRule(nextId++, Promotion.Type.PERCENT_OFF, null, 1L, 90, 0, 0,
+            NOW - 1000, NOW);
+
+        PromotionTable table = PromotionTable.compile(List.of(ending, upcoming, expired), NOW, 1);
+        assertEquals(1, table.activeRules());
+        assertEquals(NOW + 200, table.validUntil());
+        assertEquals(Money.of(9000), table.apply(1L, null, Money.of(10000).minorUnits()).price());
+
+        PromotionTable later = PromotionTable.compile(List.of(ending, upcoming, expired), NOW + 200, 2);
+        assertEquals(2, later.activeRules());
+        assertEquals(NOW + 500, later.validUntil());
+        assertEquals(Money.of(5000), later.apply(1L, null, Money.of(10000).minorUnits()).price());
+
+        PromotionTable empty = PromotionTable.compile(List.of(), NOW, 3);
+        assertTrue(empty.isEmpty());
+        assertEquals(Long.MAX_VALUE, empty.validUntil());
+        assertNull(empty.apply(1L, SELLER, Money.of(10000).minorUnits()));
+
+        log.info("활성 기간 테스트 통과");
+    }
+
+    private PromotionRule percentOff(Long sellerId, Long productId, int percent) {
+        return new PromotionRule(nextId++, Promotion.Type.PERCENT_OFF, sellerId, productId, percent, 0, 0,
+            NOW - 1, Long.MAX_VALUE);
+    }
+
+    private PromotionRule fixedOff(Long sellerId, Long productId, long amount, long minPrice) {
+        return new PromotionRule(nextId++, Promotion.Type.FIXED_OFF, sellerId, productId, 0,
+            Money.of(amount).minorUnits(), Money.of(minPrice).minorUnits(), NOW - 1, Long.MAX_VALUE);
+    }
+
+    private PromotionRule freeShipping(Long sellerId, Long productId, long minPrice) {
+        return new PromotionRule(nextId++, Promotion.Type.FREE_SHIPPING, sellerId, productId, 0, 0,
+            Money.of(minPrice).minorUnits(), NOW - 1, Long.MAX_VALUE);
+    }
+}
@@ -0,0 +1,96 @@
+package com.shop.frankit.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.shop.frankit.FrankitApplication;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * ddl-auto: update 시절의 기준 빌드가 만든 스키마에서 애플리케이션이 기동되는지 확인
+ * 별도 데이터베이스에 기준 빌드의 DDL(Hibernate 생성)을 적용한 뒤 local 프로필로 기동해서 Flyway와 스키마 검증을 거친다.
+ */
+@Slf4j
+public class BaselineSchemaMigrationTest {
+
+    private static final String SERVER_URL = "jdbc:mariadb://localhost:3306/";
+    private static final String USERNAME = "frankitadmin";
+    private static final String PASSWORD = "frankitpw";
+
+    // 기준 빌드(ddl-auto: update)가 만든 DDL, 제약 조건 이름은 Hibernate가 생성한 형식
+    private static final List<String> BASELINE_DDL = List.of(
+        "create table users (id bigint not null auto_increment, created_at datetime(6), updated_at datetime(6), "
+            + "email varchar(255) not null, password varchar(255) not null, role varchar(255) not null, "
+            + "primary key (id)) engine=InnoDB",
+        "create table refresh_tokens (id bigint not null auto_increment, created_at datetime(6), "
+            + "updated_at datetime(6), email varchar(255) not null, expiry_date datetime(6) not null, "
+            + "token varchar(255) not null, primary key (id)) engine=InnoDB",
+        "create table products (id bigint not null auto_increment, created_at datetime(6), updated_at datetime(6), "
+            + "description TEXT, name varchar(255) not null, price decimal(38,2) not null, "
+            + "registered_at datetime(6) not null, shipping_fee decimal(38,2) not null, user_id bigint not null, "
+            + "primary key (id)) engine=InnoDB",
+        "create table product_options (id bigint not null auto_increment, created_at datetime(6), "
+            + "updated_at datetime(6), additional_price decimal(38,2) not null, name varchar(255) not null, "
+            + "type enum ('INPUT','SELECT') not null, product_id bigint, primary key (id)) engine=InnoDB",
+        "create table option_values (id bigint not null auto_increment, created_at datetime(6), "
+            + "updated_at datetime(6), value varchar(255) not null, product_option_id bigint, "
+            + "primary key (id)) engine=InnoDB",
+        "alter table users add constraint UK6dotkott2kjsp8vw4d0m25fb7 unique (email)",
+        "alter table refresh_tokens add constraint UKghpmfn23vmxfu3spu3lfg4r2d unique (token)",
+        "alter table products add constraint FKdb050tk37qryv15hd932626th foreign key (user_id) references users (id)",
+        "alter table product_options add constraint FKaa3x8eb9bgvn3dn1pqqs6vdad "
+            + "foreign key (product_id) references products (id)",
+        "alter table option_values add constraint FK8n47i7x9c5kq6kq0gh8b2xgfi "
+            + "foreign key (product_option_id) references product_options (id)");
+
+    private JdbcTemplate server;
+    private String database;
+
+    @BeforeEach
+    void setUp() {
+        server = new JdbcTemplate(new DriverManagerDataSource(SERVER_URL, USERNAME, PASSWORD));
+        database = "frankit_baseline_" + System.currentTimeMillis();
+        server.execute("CREATE DATABASE " + database);
+        JdbcTemplate baseline = new JdbcTemplate(
+            new DriverManagerDataSource(SERVER_URL + database, USERNAME, PASSWORD));
+        BASELINE_DDL.forEach(baseline::execute);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.execute("DROP DATABASE IF EXISTS " + database);
+    }
+
+    @Test
+    @DisplayName("기준 빌드 스키마에 마이그레이션을 적용하면 스키마 검증을 통과하고 이후 변경(컬럼 추가, 외래 키 제거)이 반영됨")
+    void testBootOnBaselineSchema() {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(FrankitApplication.class)
+            .web(WebApplicationType.NONE)
+            .profiles("local")
+            .properties("spring.datasource.url=" + SERVER_URL + database)
+            .run()) {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+            assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.COLUMNS "
+                + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'products' AND COLUMN_NAME = 'description_body'",
+                Integer.class));
+            // Hibernate가 이름 붙인 상품-사용자 외래 키도 지워짐 (0번 이외 샤드의 상품은 users를 참조할 수 없음)
+            assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.KEY_COLUMN_USAGE "
+                + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'products' AND COLUMN_NAME = 'user_id' "
+                + "AND REFERENCED_TABLE_NAME IS NOT NULL", Integer.class));
+            // 기준 버전(0)과 V1부터의 마이그레이션이 모두 적용됨
+            assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM flyway_schema_history WHERE success = 0", Integer.class));
+        }
+        log.info("기준 스키마 마이그레이션 테스트 통과");
+    }
+}
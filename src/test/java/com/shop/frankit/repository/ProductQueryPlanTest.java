@@ -0,0 +1,180 @@
+package com.shop.frankit.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.shop.frankit.dto.ProductField;
+import com.shop.frankit.dto.ProductSearchCondition;
+import com.shop.frankit.dto.ProductSort;
+import com.shop.frankit.entity.User;
+import com.shop.frankit.exception.InvalidRequestException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 허용된 정렬/필터 조합이 모두 인덱스 순서로 처리되는지 (filesort 없음) EXPLAIN으로 확인
+ * ProductRepository.findProjected가 실제로 실행한 SQL(StatementInspector로 수집)을 EXPLAIN한다.
+ */
+@Slf4j
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+    + "com.shop.frankit.repository.ProductQueryPlanTest$CapturedSql")
+@ActiveProfiles("local")
+@Transactional
+public class ProductQueryPlanTest {
+
+    private static final int PAGE_SIZE = 10;
+    private static final BigDecimal MIN_PRICE = new BigDecimal("1000");
+    private static final BigDecimal MAX_PRICE = new BigDecimal("3000");
+
+    /**
+     * 현재 스레드에서 실행된 SQL 수집
+     */
+    public static class CapturedSql implements StatementInspector {
+
+        private static final ThreadLocal<List<String>> STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.get().add(sql);
+            return sql;
+        }
+
+        static List<String> drain() {
+            List<String> statements = new ArrayList<>(STATEMENTS.get());
+            STATEMENTS.get().clear();
+            return statements;
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User seller;
+
+    @BeforeEach
+    void setUp() {
+        seller = new User();
+        seller.setEmail("plan" + System.currentTimeMillis() + "@example.com");
+        seller.setPassword("password");
+        seller.setRole("USER");
+        userRepository.saveAndFlush(seller);
+
+        // 정렬 비용이 인덱스 스캔보다 커지도록 상품을 충분히 등록
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 300; i++) {
+            jdbcTemplate.update("INSERT INTO products (name, price, shipping_fee, registered_at, user_id, created_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?)",
+                "플랜 상품 " + i, new BigDecimal(i * 100 % 7000), BigDecimal.ZERO,
+                now.minusMinutes(i), seller.getId(), now);
+        }
+    }
+
+    @Test
+    @DisplayName("전체 목록의 모든 허용 정렬이 인덱스를 사용")
+    void testListSortsUseIndex() {
+        for (ProductSort sort : ProductSort.values()) {
+            for (Sort.Direction direction : Sort.Direction.values()) {
+                assertIndexOrdered(listQuery(ProductSearchCondition.none(), sort, direction), PAGE_SIZE);
+            }
+        }
+        log.info("전체 목록 정렬 실행 계획 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("판매자 목록의 허용 정렬이 인덱스를 사용")
+    void testSellerSortsUseIndex() {
+        ProductSearchCondition condition = ProductSearchCondition.builder().userId(seller.getId()).build();
+        for (ProductSort sort : ProductSort.values()) {
+            if (sort.isSellerScoped()) {
+                assertIndexOrdered(listQuery(condition, sort, Sort.Direction.DESC), seller.getId(), PAGE_SIZE);
+            }
+        }
+        log.info("판매자 목록 정렬 실행 계획 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("가격 범위 조건은 가격순 정렬이면 인덱스 순서로, ID순 정렬이면 인덱스로 처리하고 나머지 정렬은 거부")
+    void testPriceRangeUsesIndex() {
+        ProductSearchCondition condition = ProductSearchCondition.builder()
+            .minPrice(MIN_PRICE)
+            .maxPrice(MAX_PRICE)
+            .build();
+        for (Sort.Direction direction : Sort.Direction.values()) {
+            assertIndexOrdered(listQuery(condition, ProductSort.PRICE, direction), MIN_PRICE, MAX_PRICE, PAGE_SIZE);
+            // ID순은 PK 순서 스캔 또는 가격 범위 스캔 중 옵티마이저가 고름 (어느 쪽이든 전체 테이블 스캔은 아님)
+            assertIndexUsed(listQuery(condition, ProductSort.ID, direction), MIN_PRICE, MAX_PRICE, PAGE_SIZE);
+        }
+        for (ProductSort sort : ProductSort.values()) {
+            if (!sort.isPriceRangeScoped()) {
+                assertThrows(InvalidRequestException.class,
+                    () -> ProductSort.validate(sort.toSort(Sort.Direction.ASC), false, true));
+            }
+        }
+        log.info("가격 범위 실행 계획 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("허용되지 않은 정렬은 거부")
+    void testUnsupportedSortRejected() {
+        assertThrows(InvalidRequestException.class, () -> ProductSort.parse("description"));
+        assertThrows(InvalidRequestException.class, () -> ProductSort.parse("shippingFee,desc"));
+        assertThrows(InvalidRequestException.class, () -> ProductSort.parse("price,sideways"));
+        assertThrows(InvalidRequestException.class, () -> ProductSort.validate(Sort.by("name"), true, false));
+        assertEquals(Sort.by(Sort.Direction.DESC, "price", "id"), ProductSort.parse("price,desc"));
+        log.info("정렬 허용 목록 테스트 통과");
+    }
+
+    // findProjected가 실행한 목록 조회 SQL (개수 조회 제외)
+    private String listQuery(ProductSearchCondition condition, ProductSort sort, Sort.Direction direction) {
+        CapturedSql.drain();
+        productRepository.findProjected(ProductField.LIST_DEFAULT, condition,
+            PageRequest.of(0, PAGE_SIZE, sort.toSort(direction)));
+        List<String> queries = CapturedSql.drain().stream()
+            .filter(sql -> sql.toLowerCase().contains(" order by "))
+            .toList();
+        assertEquals(1, queries.size(), "목록 조회 SQL을 찾지 못함: " + queries);
+        return queries.get(0);
+    }
+
+    private void assertIndexOrdered(String sql, Object... args) {
+        for (Map<String, Object> row : explain(sql, args)) {
+            String extra = String.valueOf(row.get("Extra"));
+            assertNotNull(row.get("key"), "인덱스를 사용하지 않음: " + sql);
+            assertFalse(extra.contains("filesort"), "filesort 발생: " + sql);
+        }
+    }
+
+    private void assertIndexUsed(String sql, Object... args) {
+        for (Map<String, Object> row : explain(sql, args)) {
+            assertNotNull(row.get("key"), "인덱스를 사용하지 않음: " + sql);
+            assertNotEquals("ALL", row.get("type"), "전체 테이블 스캔: " + sql);
+        }
+    }
+
+    private List<Map<String, Object>> explain(String sql, Object... args) {
+        assertEquals(sql.chars().filter(c -> c == '?').count(), args.length, "바인딩 인자 수가 다름: " + sql);
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, args);
+        plan.forEach(row -> log.debug("{} -> key={}, extra={}", sql, row.get("key"), row.get("Extra")));
+        return plan;
+    }
+}
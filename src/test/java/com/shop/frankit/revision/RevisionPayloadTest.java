@@ -0,0 +1,71 @@
+package com.shop.frankit.revision;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.shop.frankit.entity.Money;
+import com.shop.frankit.entity.ProductOption;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@Slf4j
+public class RevisionPayloadTest {
+
+    @Test
+    @DisplayName("설명 변경은 바뀐 부분만 저장하고 그대로 복원됨")
+    void testTextDelta() {
+        String before = "가".repeat(5000) + " 빨강 " + "나".repeat(5000);
+        String after = "가".repeat(5000) + " 파랑 🙂 " + "나".repeat(5000);
+
+        TextDelta delta = TextDelta.between(before, after);
+        assertEquals(5001, delta.prefix());
+        assertEquals(5001, delta.suffix());
+        assertEquals("파랑 🙂", delta.text());
+        assertEquals(after, delta.applyTo(before));
+
+        // 서로게이트 쌍은 나누지 않음
+        TextDelta emoji = TextDelta.between("a😀b", "a😁b");
+        assertEquals("😁", emoji.text());
+        assertEquals("a😁b", emoji.applyTo("a😀b"));
+
+        assertEquals("", TextDelta.between("같음", "같음").text());
+        assertEquals("새 설명", TextDelta.between("", "새 설명").applyTo(""));
+        log.info("설명 차이 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("변경분에는 바뀐 필드와 옵션만 들어가고, 이전 상태에 적용하면 새 상태가 됨")
+    void testDeltaRoundTrip() {
+        ProductState.OptionState color = new ProductState.OptionState("색상", ProductOption.OptionType.SELECT,
+            Money.of(1000), List.of("빨강", "파랑"));
+        ProductState.OptionState size = new ProductState.OptionState("사이즈", ProductOption.OptionType.SELECT,
+            Money.ZERO, List.of("S", "M"));
+        ProductState before = new ProductState("상품", "설명입니다", Money.of(10000), Money.of(2500),
+            Map.of(1L, color, 2L, size), false);
+        ProductState after = new ProductState("상품", "설명입니다!", Money.of(9000), Money.of(2500),
+            Map.of(1L, new ProductState.OptionState("색상", ProductOption.OptionType.SELECT, Money.of(1000),
+                List.of("빨강", "파랑", "초록"))), false);
+
+        RevisionPayload delta = RevisionPayload.delta(before, after);
+        assertNotNull(delta);
+        assertNull(delta.getName());
+        assertNull(delta.getShippingFee());
+        assertEquals(Money.of(9000), delta.getPrice());
+        assertEquals("!", delta.getDescriptionDelta().text());
+        assertEquals(List.of(1L), List.copyOf(delta.getOptions().keySet()));
+        assertEquals(List.of(2L), delta.getRemovedOptions());
+        assertEquals(List.of("description", "price", "options"), delta.changedFields());
+        assertEquals(after, delta.applyTo(before));
+
+        assertNull(RevisionPayload.delta(after, after));
+        assertEquals(after, RevisionPayload.snapshot(after).toState());
+
+        ProductState deleted = after.asDeleted();
+        RevisionPayload deletion = RevisionPayload.delta(after, deleted);
+        assertEquals(List.of("deleted"), deletion.changedFields());
+        assertTrue(deletion.applyTo(after).deleted());
+        log.info("리비전 변경분 테스트 통과");
+    }
+}
@@ -0,0 +1,127 @@
+package com.shop.frankit.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shop.frankit.cart.CartItem;
+import com.shop.frankit.cart.CartStore;
+import com.shop.frankit.shard.ShardRouter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 장바구니 저장소 테스트, 크기와 유휴 시간을 작게 잡은 저장소를 직접 만들어 사용
+ */
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("local")
+@Transactional
+public class CartStoreTest {
+
+    private static final TypeReference<List<CartItem>> ITEMS_TYPE = new TypeReference<>() {
+    };
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private SimpleMeterRegistry meterRegistry;
+    private long userId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // carts는 사용자 FK가 없으므로 다른 테스트와 겹치지 않는 ID를 사용
+        userId = System.currentTimeMillis() * 1000;
+    }
+
+    private CartStore store(int maxEntries, Duration idleTimeout) {
+        return new CartStore(jdbcTemplate, shardRouter, objectMapper, meterRegistry, maxEntries, idleTimeout);
+    }
+
+    private double storeSize() {
+        return meterRegistry.get("cart.store.size").gauge().value();
+    }
+
+    private List<CartItem> storedItems(long userId) throws Exception {
+        String items = jdbcTemplate.queryForObject("SELECT items FROM carts WHERE user_id = ?", String.class, userId);
+        return objectMapper.readValue(items, ITEMS_TYPE);
+    }
+
+    @Test
+    @DisplayName("한 주기 안의 여러 변경은 마지막 상태 하나로 DB에 쓰고, 변경이 없으면 다시 쓰지 않음")
+    void testCoalescedFlush() throws Exception {
+        CartStore cartStore = store(100, Duration.ofMinutes(30));
+        CartItem item = cartStore.add(userId, 10L, Map.of(), Map.of(), 1);
+        cartStore.setQuantity(userId, item.id(), 2);
+        cartStore.setQuantity(userId, item.id(), 5);
+        CartItem removed = cartStore.add(userId, 20L, Map.of(), Map.of(), 1);
+        assertTrue(cartStore.remove(userId, removed.id()));
+        // flush 전에는 DB에 쓰지 않음
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM carts WHERE user_id = ?", Integer.class, userId));
+
+        cartStore.flush();
+
+        List<CartItem> stored = storedItems(userId);
+        assertEquals(1, stored.size());
+        assertEquals(5, stored.get(0).quantity());
+
+        // 변경이 없으면 flush가 DB를 덮어쓰지 않음
+        jdbcTemplate.update("UPDATE carts SET items = '[]' WHERE user_id = ?", userId);
+        cartStore.flush();
+        assertTrue(storedItems(userId).isEmpty());
+        log.info("장바구니 flush 합치기 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("DB에 쓰지 않은 장바구니는 내보내지 않고, 내보낸 장바구니는 다음 사용 시 DB에서 다시 읽음")
+    void testEvictOnlyFlushedCarts() {
+        CartStore cartStore = store(100, Duration.ZERO);
+        cartStore.add(userId, 10L, Map.of(100L, "빨강"), Map.of(), 3);
+
+        cartStore.evictIdle();
+        assertEquals(1, storeSize());
+
+        cartStore.flush();
+        cartStore.evictIdle();
+        assertEquals(0, storeSize());
+
+        List<CartItem> reloaded = cartStore.items(userId);
+        assertEquals(1, storeSize());
+        assertEquals(1, reloaded.size());
+        assertEquals(10L, reloaded.get(0).productId());
+        assertEquals("빨강", reloaded.get(0).selections().get(100L));
+        assertEquals(3, reloaded.get(0).quantity());
+        log.info("장바구니 내보내기 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("max-entries를 넘으면 오래 사용하지 않은 장바구니부터 90%까지 내보냄")
+    void testTrimToMaxEntries() {
+        CartStore cartStore = store(10, Duration.ofMinutes(30));
+        for (int i = 0; i < 11; i++) {
+            cartStore.items(userId + i);
+        }
+
+        assertEquals(9, storeSize());
+        log.info("장바구니 최대 개수 테스트 통과");
+    }
+}
@@ -0,0 +1,186 @@
+package com.shop.frankit.service;
+
+import com.shop.frankit.dto.OrderRequest;
+import com.shop.frankit.dto.OrderResponse;
+import com.shop.frankit.dto.ProductOptionRequest;
+import com.shop.frankit.dto.ProductRequest;
+import com.shop.frankit.dto.ProductResponse;
+import com.shop.frankit.entity.Money;
+import com.shop.frankit.entity.ProductOption;
+import com.shop.frankit.entity.User;
+import com.shop.frankit.exception.InvalidRequestException;
+import com.shop.frankit.repository.UserRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("local")
+@Transactional
+public class OrderServiceTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductOptionService productOptionService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User testUser;
+    private ProductResponse testProduct;
+    private Long colorOptionId;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User();
+        testUser.setEmail("test" + System.currentTimeMillis() + "@example.com");
+        testUser.setPassword("password");
+        testUser.setRole("USER");
+        userRepository.save(testUser);
+
+        ProductRequest productRequest = new ProductRequest();
+        productRequest.setName("주문 테스트 상품");
+        productRequest.setDescription("주문 테스트 상품 설명");
+        productRequest.setPrice(Money.of(10000));
+        productRequest.setShippingFee(Money.of(2500));
+        testProduct = productService.create(productRequest, testUser.getId());
+
+        ProductOptionRequest optionRequest = new ProductOptionRequest();
+        optionRequest.setName("색상");
+        optionRequest.setType(ProductOption.OptionType.SELECT);
+        optionRequest.setAdditionalPrice(Money.of(1000));
+        optionRequest.setOptionValues(List.of("빨강", "파랑"));
+        colorOptionId = productOptionService.create(optionRequest, testProduct.getId(), testUser.getId()).getId();
+        log.info("테스트 상품이 생성되었습니다. ID: {}", testProduct.getId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 주문은 저장 스레드가 별도 트랜잭션으로 커밋하므로 테스트 롤백과 별개로 지움
+        TransactionTemplate cleanup = new TransactionTemplate(transactionManager);
+        cleanup.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        cleanup.executeWithoutResult(status ->
+            jdbcTemplate.update("DELETE FROM orders WHERE product_id = ?", testProduct.getId()));
+    }
+
+    @Test
+    @DisplayName("주문은 가격 계산표로 금액을 계산하고 커밋된 뒤 반환됨")
+    void testPlaceOrder() {
+        OrderResponse order = orderService.place(orderRequest("파랑", 2), testUser.getId(), null);
+
+        assertNotNull(order.getOrderId());
+        assertEquals(List.of("파랑"), order.getSelectedValues());
+        assertEquals(Money.of(11000), order.getUnitPrice());
+        assertEquals(Money.of(24500), order.getTotalPrice());
+        log.info("주문 접수 테스트 통과: {}", order);
+    }
+
+    @Test
+    @DisplayName("잘못된 옵션 값의 주문은 대기열에 들어가기 전에 거절됨")
+    void testRejectInvalidOption() {
+        assertThrows(InvalidRequestException.class,
+            () -> orderService.place(orderRequest("초록", 1), testUser.getId(), null));
+        log.info("잘못된 주문 거절 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 주문은 여러 건씩 묶어서 저장됨")
+    void testGroupCommit() throws Exception {
+        // 가격 계산표를 캐시해 두면 다른 스레드에서도 커밋 전 상품을 DB 조회 없이 검증
+        orderService.place(orderRequest("빨강", 1), testUser.getId(), null);
+        DistributionSummary batches = meterRegistry.get("order.intake.batch.size").summary();
+        long batchesBefore = batches.count();
+        double ordersBefore = batches.totalAmount();
+
+        int orderCount = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        List<Future<OrderResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < orderCount; i++) {
+            futures.add(executor.submit(() -> orderService.place(orderRequest("빨강", 1), testUser.getId(), null)));
+        }
+        for (Future<OrderResponse> future : futures) {
+            assertNotNull(future.get().getOrderId());
+        }
+        executor.shutdown();
+
+        long batchCount = batches.count() - batchesBefore;
+        assertEquals(orderCount, batches.totalAmount() - ordersBefore, 0.0);
+        assertTrue(batchCount < orderCount, "주문이 묶이지 않음: " + batchCount + "번 저장");
+        log.info("주문 그룹 커밋 테스트 통과: {}건을 {}번에 저장", orderCount, batchCount);
+    }
+
+    @Test
+    @DisplayName("같은 멱등 키로 다시 들어온 주문은 새로 저장하지 않고 먼저 접수된 주문을 반환")
+    void testIdempotentRetry() throws Exception {
+        String idempotencyKey = "retry-" + System.nanoTime();
+        OrderResponse first = orderService.place(orderRequest("파랑", 1), testUser.getId(), idempotencyKey);
+        OrderResponse retried = orderService.place(orderRequest("파랑", 1), testUser.getId(), idempotencyKey);
+        assertEquals(first.getOrderId(), retried.getOrderId());
+
+        // 동시에 들어온 재시도도 주문 하나로 합쳐짐
+        String concurrentKey = "concurrent-" + System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<OrderResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit(
+                () -> orderService.place(orderRequest("빨강", 1), testUser.getId(), concurrentKey)));
+        }
+        Long orderId = futures.get(0).get().getOrderId();
+        for (Future<OrderResponse> future : futures) {
+            assertEquals(orderId, future.get().getOrderId());
+        }
+        executor.shutdown();
+
+        TransactionTemplate committed = new TransactionTemplate(transactionManager);
+        committed.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        assertEquals(2, committed.execute(status -> jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM orders WHERE product_id = ?", Integer.class, testProduct.getId())));
+        assertThrows(InvalidRequestException.class,
+            () -> orderService.place(orderRequest("파랑", 1), testUser.getId(), " "));
+        log.info("멱등 키 주문 테스트 통과");
+    }
+
+    private OrderRequest orderRequest(String color, int quantity) {
+        OrderRequest request = new OrderRequest();
+        request.setProductId(testProduct.getId());
+        request.setSelections(Map.of(colorOptionId, color));
+        request.setQuantity(quantity);
+        return request;
+    }
+}
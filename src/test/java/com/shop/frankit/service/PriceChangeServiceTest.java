@@ -0,0 +1,181 @@
+package com.shop.frankit.service;
+
+import com.shop.frankit.dto.PriceChangeRequest;
+import com.shop.frankit.dto.PriceChangeResponse;
+import com.shop.frankit.dto.ProductRequest;
+import com.shop.frankit.dto.ProductResponse;
+import com.shop.frankit.dto.ProductRevisionResponse;
+import com.shop.frankit.entity.Money;
+import com.shop.frankit.entity.User;
+import com.shop.frankit.event.PriceChangeScheduledEvent;
+import com.shop.frankit.exception.InvalidRequestException;
+import com.shop.frankit.price.PriceChangeScheduler;
+import com.shop.frankit.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("local")
+@Transactional
+public class PriceChangeServiceTest {
+
+    @Autowired
+    private PriceChangeService priceChangeService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private PriceChangeScheduler priceChangeScheduler;
+
+    @Autowired
+    private ProductRevisionService productRevisionService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User testUser;
+    private ProductResponse testProduct;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User();
+        testUser.setEmail("test" + System.currentTimeMillis() + "@example.com");
+        testUser.setPassword("password");
+        testUser.setRole("USER");
+        userRepository.save(testUser);
+
+        ProductRequest productRequest = new ProductRequest();
+        productRequest.setName("가격 예약 테스트 상품");
+        productRequest.setDescription("가격 예약 테스트 상품 설명");
+        productRequest.setPrice(Money.of(10000));
+        productRequest.setShippingFee(Money.of(2500));
+        testProduct = productService.create(productRequest, testUser.getId());
+        log.info("테스트 상품이 생성되었습니다. ID: {}", testProduct.getId());
+    }
+
+    @Test
+    @DisplayName("바꿀 값이 없거나 판매자가 아니면 예약 실패")
+    void testRejectInvalidSchedule() {
+        PriceChangeRequest empty = request(null, LocalDateTime.now().plusHours(1));
+        assertThrows(InvalidRequestException.class,
+            () -> priceChangeService.schedule(testProduct.getId(), empty, testUser.getId()));
+
+        PriceChangeRequest request = request(Money.of(8000), LocalDateTime.now().plusHours(1));
+        assertThrows(AccessDeniedException.class,
+            () -> priceChangeService.schedule(testProduct.getId(), request, testUser.getId() + 1));
+        log.info("잘못된 예약 거절 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("예약 취소는 적용 전에 한 번만 가능")
+    void testCancel() {
+        PriceChangeResponse change = priceChangeService.schedule(testProduct.getId(),
+            request(Money.of(8000), LocalDateTime.now().plusHours(1)), testUser.getId());
+        assertEquals(1, priceChangeService.findPending(testProduct.getId(), testUser.getId()).size());
+
+        priceChangeService.cancel(testProduct.getId(), change.getId(), testUser.getId());
+        assertTrue(priceChangeService.findPending(testProduct.getId(), testUser.getId()).isEmpty());
+        assertThrows(InvalidRequestException.class,
+            () -> priceChangeService.cancel(testProduct.getId(), change.getId(), testUser.getId()));
+        log.info("예약 취소 테스트 통과");
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("예약 시각에 가격이 바뀌고, 같은 변경을 다시 등록해도 한 번만 적용됨")
+    void testApplyOnce() throws Exception {
+        // 적용은 별도 트랜잭션에서 일어나므로 상품과 예약을 커밋하고 마지막에 지움
+        try {
+            Counter applied = meterRegistry.get("price.changes.applied").counter();
+            double appliedBefore = applied.count();
+            PriceChangeResponse change = priceChangeService.schedule(testProduct.getId(),
+                request(Money.of(7000), LocalDateTime.now().plusSeconds(1)), testUser.getId());
+
+            assertEquals("APPLIED", awaitStatus(change.getId(), "APPLIED"));
+            assertEquals(0, new BigDecimal("7000.00").compareTo(jdbcTemplate.queryForObject(
+                "SELECT price FROM products WHERE id = ?", BigDecimal.class, testProduct.getId())));
+            assertEquals(0, new BigDecimal("2500.00").compareTo(jdbcTemplate.queryForObject(
+                "SELECT shipping_fee FROM products WHERE id = ?", BigDecimal.class, testProduct.getId())));
+
+            // 재시작 후 다시 등록된 경우와 같음, 이미 APPLIED이므로 반영하지 않음
+            priceChangeScheduler.onPriceChangeScheduled(
+                new PriceChangeScheduledEvent(change.getId(), change.getApplyAt(), false));
+            Thread.sleep(500);
+            assertEquals(1, applied.count() - appliedBefore, 0.0);
+            log.info("예약 가격 적용 테스트 통과");
+        } finally {
+            jdbcTemplate.update("DELETE FROM scheduled_price_changes WHERE product_id = ?", testProduct.getId());
+            productService.delete(testProduct.getId(), testUser.getId());
+            jdbcTemplate.update("DELETE FROM product_revisions WHERE product_id = ?", testProduct.getId());
+            userRepository.delete(testUser);
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("적용된 예약 변경은 예약한 판매자의 리비전으로 이력에 남음")
+    void testAppliedChangeInHistory() throws Exception {
+        try {
+            PriceChangeResponse change = priceChangeService.schedule(testProduct.getId(),
+                request(Money.of(6000), LocalDateTime.now().plusSeconds(1)), testUser.getId());
+            assertEquals("APPLIED", awaitStatus(change.getId(), "APPLIED"));
+
+            List<ProductRevisionResponse> history = productRevisionService.findRevisions(testProduct.getId(),
+                PageRequest.of(0, 10)).getContent();
+            assertEquals(2, history.size());
+            assertEquals(List.of("price"), history.get(0).getChangedFields());
+            assertEquals(testUser.getId(), history.get(0).getUserId());
+            assertEquals(Money.of(6000), productRevisionService.findRevision(testProduct.getId(), 2).getPrice());
+            assertEquals(Money.of(10000), productRevisionService.findRevision(testProduct.getId(), 1).getPrice());
+            log.info("예약 변경 이력 테스트 통과");
+        } finally {
+            jdbcTemplate.update("DELETE FROM scheduled_price_changes WHERE product_id = ?", testProduct.getId());
+            productService.delete(testProduct.getId(), testUser.getId());
+            jdbcTemplate.update("DELETE FROM product_revisions WHERE product_id = ?", testProduct.getId());
+            userRepository.delete(testUser);
+        }
+    }
+
+    private String awaitStatus(Long changeId, String expected) throws InterruptedException {
+        String status = null;
+        for (int i = 0; i < 50 && !expected.equals(status); i++) {
+            Thread.sleep(100);
+            status = jdbcTemplate.queryForObject(
+                "SELECT status FROM scheduled_price_changes WHERE id = ?", String.class, changeId);
+        }
+        return status;
+    }
+
+    private static PriceChangeRequest request(Money price, LocalDateTime applyAt) {
+        PriceChangeRequest request = new PriceChangeRequest();
+        request.setPrice(price);
+        request.setApplyAt(applyAt);
+        return request;
+    }
+}
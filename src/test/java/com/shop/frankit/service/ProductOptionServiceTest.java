@@ -4,6 +4,7 @@ import com.shop.frankit.dto.ProductOptionRequest;
 import com.shop.frankit.dto.ProductOptionResponse;
 import com.shop.frankit.dto.ProductRequest;
 import com.shop.frankit.dto.ProductResponse;
+import com.shop.frankit.entity.Money;
 import com.shop.frankit.entity.ProductOption;
 import com.shop.frankit.entity.User;
 import com.shop.frankit.repository.UserRepository;
@@ -17,7 +18,6 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.extern.slf4j.Slf4j;
 
-import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
 
@@ -55,8 +55,8 @@ public class ProductOptionServiceTest {
         ProductRequest productRequest = new ProductRequest();
         productRequest.setName("테스트 상품");
         productRequest.setDescription("테스트 상품 설명");
-        productRequest.setPrice(new BigDecimal("10000"));
-        productRequest.setShippingFee(new BigDecimal("2500"));
+        productRequest.setPrice(Money.of(10000));
+        productRequest.setShippingFee(Money.of(2500));
 
         testProduct = productService.create(productRequest, testUser.getId());
         log.info("테스트 상품이 생성되었습니다. ID: {}", testProduct.getId());
@@ -71,7 +71,7 @@ public class ProductOptionServiceTest {
         ProductOptionRequest inputRequest = new ProductOptionRequest();
         inputRequest.setName("각인 텍스트");
         inputRequest.setType(ProductOption.OptionType.INPUT);
-        inputRequest.setAdditionalPrice(new BigDecimal("5000"));
+        inputRequest.setAdditionalPrice(Money.of(5000));
 
         // 옵션 생성
         ProductOptionResponse inputOption = productOptionService.create(inputRequest, testProduct.getId(), testUser.getId());
@@ -80,14 +80,14 @@ public class ProductOptionServiceTest {
         assertNotNull(inputOption);
         assertEquals("각인 텍스트", inputOption.getName());
         assertEquals(ProductOption.OptionType.INPUT, inputOption.getType());
-        assertEquals(0, new BigDecimal("5000").compareTo(inputOption.getAdditionalPrice()));
+        assertEquals(Money.of(5000), inputOption.getAdditionalPrice());
         assertEquals(testProduct.getId(), inputOption.getProductId());
 
         // 선택 타입 옵션 생성 요청
         ProductOptionRequest selectRequest = new ProductOptionRequest();
         selectRequest.setName("색상");
         selectRequest.setType(ProductOption.OptionType.SELECT);
-        selectRequest.setAdditionalPrice(new BigDecimal("3000"));
+        selectRequest.setAdditionalPrice(Money.of(3000));
         selectRequest.setOptionValues(Arrays.asList("빨강", "파랑", "검정"));
 
         // 옵션 생성
@@ -97,7 +97,7 @@ public class ProductOptionServiceTest {
         assertNotNull(selectOption);
         assertEquals("색상", selectOption.getName());
         assertEquals(ProductOption.OptionType.SELECT, selectOption.getType());
-        assertEquals(0, new BigDecimal("3000").compareTo(selectOption.getAdditionalPrice()));
+        assertEquals(Money.of(3000), selectOption.getAdditionalPrice());
         assertEquals(testProduct.getId(), selectOption.getProductId());
         assertNotNull(selectOption.getOptionValues());
         assertEquals(3, selectOption.getOptionValues().size());
@@ -117,13 +117,13 @@ public class ProductOptionServiceTest {
         ProductOptionRequest request1 = new ProductOptionRequest();
         request1.setName("사이즈");
         request1.setType(ProductOption.OptionType.SELECT);
-        request1.setAdditionalPrice(new BigDecimal("2000"));
+        request1.setAdditionalPrice(Money.of(2000));
         request1.setOptionValues(Arrays.asList("S", "M", "L"));
 
         ProductOptionRequest request2 = new ProductOptionRequest();
         request2.setName("메시지");
         request2.setType(ProductOption.OptionType.INPUT);
-        request2.setAdditionalPrice(new BigDecimal("1000"));
+        request2.setAdditionalPrice(Money.of(1000));
 
         ProductOptionResponse option1 = productOptionService.create(request1, testProduct.getId(), testUser.getId());
         ProductOptionResponse option2 = productOptionService.create(request2, testProduct.getId(), testUser.getId());
@@ -156,7 +156,7 @@ public class ProductOptionServiceTest {
         ProductOptionRequest createRequest = new ProductOptionRequest();
         createRequest.setName("사이즈");
         createRequest.setType(ProductOption.OptionType.SELECT);
-        createRequest.setAdditionalPrice(new BigDecimal("2000"));
+        createRequest.setAdditionalPrice(Money.of(2000));
         createRequest.setOptionValues(Arrays.asList("S", "M", "L"));
 
         ProductOptionResponse createdOption = productOptionService.create(
@@ -166,7 +166,7 @@ public class ProductOptionServiceTest {
         ProductOptionRequest updateRequest = new ProductOptionRequest();
         updateRequest.setName("업데이트된 사이즈");
         updateRequest.setType(ProductOption.OptionType.SELECT);
-        updateRequest.setAdditionalPrice(new BigDecimal("2500"));
+        updateRequest.setAdditionalPrice(Money.of(2500));
         updateRequest.setOptionValues(Arrays.asList("XS", "S", "M", "L", "XL"));
 
         // 옵션 수정
@@ -177,7 +177,7 @@ public class ProductOptionServiceTest {
         assertNotNull(updatedOption);
         assertEquals(createdOption.getId(), updatedOption.getId());
         assertEquals("업데이트된 사이즈", updatedOption.getName());
-        assertEquals(0, new BigDecimal("2500").compareTo(updatedOption.getAdditionalPrice()));
+        assertEquals(Money.of(2500), updatedOption.getAdditionalPrice());
         assertEquals(5, updatedOption.getOptionValues().size());
         assertTrue(updatedOption.getOptionValues().contains("XS"));
         assertTrue(updatedOption.getOptionValues().contains("XL"));
@@ -194,7 +194,7 @@ public class ProductOptionServiceTest {
         ProductOptionRequest request = new ProductOptionRequest();
         request.setName("사이즈");
         request.setType(ProductOption.OptionType.SELECT);
-        request.setAdditionalPrice(new BigDecimal("2000"));
+        request.setAdditionalPrice(Money.of(2000));
         request.setOptionValues(Arrays.asList("S", "M", "L"));
 
         ProductOptionResponse option = productOptionService.create(
@@ -221,7 +221,7 @@ public class ProductOptionServiceTest {
             ProductOptionRequest request = new ProductOptionRequest();
             request.setName("옵션 " + (i + 1));
             request.setType(ProductOption.OptionType.INPUT);
-            request.setAdditionalPrice(new BigDecimal("1000"));
+            request.setAdditionalPrice(Money.of(1000));
 
             productOptionService.create(request, testProduct.getId(), testUser.getId());
         }
@@ -230,7 +230,7 @@ public class ProductOptionServiceTest {
         ProductOptionRequest request = new ProductOptionRequest();
         request.setName("옵션 4");
         request.setType(ProductOption.OptionType.INPUT);
-        request.setAdditionalPrice(new BigDecimal("1000"));
+        request.setAdditionalPrice(Money.of(1000));
 
         assertThrows(IllegalStateException.class, () -> {
             productOptionService.create(request, testProduct.getId(), testUser.getId());
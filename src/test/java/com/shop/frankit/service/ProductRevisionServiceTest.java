@@ -0,0 +1,141 @@
+package com.shop.frankit.service;
+
+import com.shop.frankit.dto.ProductOptionRequest;
+import com.shop.frankit.dto.ProductRequest;
+import com.shop.frankit.dto.ProductResponse;
+import com.shop.frankit.dto.ProductRevisionResponse;
+import com.shop.frankit.entity.Money;
+import com.shop.frankit.entity.ProductOption;
+import com.shop.frankit.entity.User;
+import com.shop.frankit.repository.UserRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("local")
+@Transactional
+public class ProductRevisionServiceTest {
+
+    @Autowired
+    private ProductRevisionService productRevisionService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductOptionService productOptionService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User testUser;
+    private ProductResponse testProduct;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User();
+        testUser.setEmail("test" + System.currentTimeMillis() + "@example.com");
+        testUser.setPassword("password");
+        testUser.setRole("USER");
+        userRepository.save(testUser);
+
+        testProduct = productService.create(productRequest(10000, "처음 설명"), testUser.getId());
+        log.info("테스트 상품이 생성되었습니다. ID: {}", testProduct.getId());
+    }
+
+    @Test
+    @DisplayName("상품과 옵션 변경마다 바뀐 필드만 리비전으로 남음")
+    void testRevisionPerChange() {
+        productService.update(testProduct.getId(), productRequest(9000, "처음 설명"), testUser.getId());
+        // 바뀐 것이 없으면 리비전을 추가하지 않음
+        productService.update(testProduct.getId(), productRequest(9000, "처음 설명"), testUser.getId());
+
+        ProductOptionRequest optionRequest = new ProductOptionRequest();
+        optionRequest.setName("색상");
+        optionRequest.setType(ProductOption.OptionType.SELECT);
+        optionRequest.setAdditionalPrice(Money.of(1000));
+        optionRequest.setOptionValues(List.of("빨강", "파랑"));
+        productOptionService.create(optionRequest, testProduct.getId(), testUser.getId());
+
+        Page<ProductRevisionResponse> history = productRevisionService.findRevisions(testProduct.getId(),
+            PageRequest.of(0, 10));
+        assertEquals(3, history.getTotalElements());
+        List<ProductRevisionResponse> revisions = history.getContent();
+        assertEquals(List.of("options"), revisions.get(0).getChangedFields());
+        assertEquals(List.of("price"), revisions.get(1).getChangedFields());
+        assertEquals(1, revisions.get(2).getRevision());
+
+        ProductRevisionResponse latest = productRevisionService.findRevision(testProduct.getId(), 3);
+        assertEquals(Money.of(9000), latest.getPrice());
+        assertEquals(List.of("빨강", "파랑"), latest.getOptions().get(0).getValues());
+        assertEquals(Money.of(10000), productRevisionService.findRevision(testProduct.getId(), 1).getPrice());
+        log.info("변경별 리비전 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("스냅샷 간격을 넘어도 모든 리비전을 그대로 복원")
+    void testRestoreAcrossSnapshots() {
+        String description = "긴 설명 ".repeat(2000);
+        for (int i = 1; i <= 45; i++) {
+            description = description + i;
+            productService.update(testProduct.getId(), productRequest(10000 + i, description), testUser.getId());
+        }
+
+        for (int revision : new int[]{2, 20, 21, 22, 41, 46}) {
+            ProductRevisionResponse restored = productRevisionService.findRevision(testProduct.getId(), revision);
+            assertEquals(Money.of(10000 + revision - 1), restored.getPrice());
+            assertTrue(restored.getDescription().endsWith(String.valueOf(revision - 1)));
+        }
+
+        // 변경분에는 설명 전체가 아닌 차이만 저장
+        Long snapshots = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM product_revisions WHERE product_id = ? AND kind = 'SNAPSHOT'",
+            Long.class, testProduct.getId());
+        Long largestDelta = jdbcTemplate.queryForObject(
+            "SELECT MAX(LENGTH(payload)) FROM product_revisions WHERE product_id = ? AND kind = 'DELTA'",
+            Long.class, testProduct.getId());
+        assertEquals(3, snapshots);
+        assertTrue(largestDelta < 200, "변경분 크기: " + largestDelta);
+        log.info("스냅샷 복원 테스트 통과: 스냅샷 {}개, 최대 변경분 {}바이트", snapshots, largestDelta);
+    }
+
+    @Test
+    @DisplayName("삭제된 상품의 이력도 조회됨")
+    void testHistoryAfterDelete() {
+        productService.delete(testProduct.getId(), testUser.getId());
+
+        ProductRevisionResponse deleted = productRevisionService.findRevision(testProduct.getId(), 2);
+        assertTrue(deleted.getDeleted());
+        assertEquals(List.of("deleted"), deleted.getChangedFields());
+        assertThrows(EntityNotFoundException.class,
+            () -> productRevisionService.findRevision(testProduct.getId(), 3));
+        log.info("삭제 후 이력 테스트 통과");
+    }
+
+    private static ProductRequest productRequest(long price, String description) {
+        ProductRequest request = new ProductRequest();
+        request.setName("이력 테스트 상품");
+        request.setDescription(description);
+        request.setPrice(Money.of(price));
+        request.setShippingFee(Money.of(2500));
+        return request;
+    }
+}
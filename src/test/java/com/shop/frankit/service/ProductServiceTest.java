@@ -1,12 +1,19 @@
 package com.shop.frankit.service;
 
 import static org.junit.jupiter.api.Assertions.*;
+import com.shop.frankit.dto.ProductBatchResponse;
+import com.shop.frankit.dto.ProductField;
 import com.shop.frankit.dto.ProductRequest;
 import com.shop.frankit.dto.ProductResponse;
+import com.shop.frankit.entity.Money;
+import com.shop.frankit.entity.Product;
 import com.shop.frankit.entity.User;
+import com.shop.frankit.exception.InvalidRequestException;
 import com.shop.frankit.repository.ProductRepository;
 import com.shop.frankit.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
+import java.util.List;
+import java.util.stream.LongStream;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,7 +24,6 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
-import java.math.BigDecimal;
 
 @Slf4j
 @SpringBootTest
@@ -50,8 +56,8 @@ public class ProductServiceTest {
         productRequest = new ProductRequest();
         productRequest.setName("테스트 상품");
         productRequest.setDescription("테스트 상품 설명");
-        productRequest.setPrice(new BigDecimal("10000"));
-        productRequest.setShippingFee(new BigDecimal("2500"));
+        productRequest.setPrice(Money.of(10000));
+        productRequest.setShippingFee(Money.of(2500));
         log.info("테스트 상품 요청이 준비되었습니다");
     }
 
@@ -67,6 +73,8 @@ public class ProductServiceTest {
         assertEquals("테스트 상품", response.getName());
         assertEquals(testUser.getId(), response.getUserId());
         assertNotNull(response.getRegisteredAt());
+        // 샤딩 미사용(local) 시 상품 ID는 AUTO_INCREMENT
+        assertEquals(response.getId() + 1, productService.create(productRequest, testUser.getId()).getId());
         log.info("상품 생성 테스트 통과, 생성된 상품 ID: {}", response.getId());
     }
 
@@ -85,7 +93,7 @@ public class ProductServiceTest {
         assertNotNull(foundResponse);
         assertEquals(savedResponse.getId(), foundResponse.getId());
         assertEquals("테스트 상품", foundResponse.getName());
-        assertEquals(0, new BigDecimal("10000").compareTo(foundResponse.getPrice()));
+        assertEquals(Money.of(10000), foundResponse.getPrice());
         log.info("상품 조회 테스트 통과");
     }
 
@@ -101,8 +109,8 @@ public class ProductServiceTest {
         ProductRequest updateRequest = new ProductRequest();
         updateRequest.setName("수정된 상품");
         updateRequest.setDescription("수정된 설명");
-        updateRequest.setPrice(new BigDecimal("15000"));
-        updateRequest.setShippingFee(new BigDecimal("0"));
+        updateRequest.setPrice(Money.of(15000));
+        updateRequest.setShippingFee(Money.of(0));
 
         // 상품 수정
         ProductResponse updatedResponse = productService.update(savedResponse.getId(), updateRequest, testUser.getId());
@@ -110,8 +118,8 @@ public class ProductServiceTest {
         // 검증
         assertEquals("수정된 상품", updatedResponse.getName());
         assertEquals("수정된 설명", updatedResponse.getDescription());
-        assertEquals(0, new BigDecimal("15000").compareTo(updatedResponse.getPrice()));
-        assertEquals(0, new BigDecimal("0").compareTo(updatedResponse.getShippingFee()));
+        assertEquals(Money.of(15000), updatedResponse.getPrice());
+        assertEquals(Money.of(0), updatedResponse.getShippingFee());
         log.info("상품 수정 테스트 통과");
     }
 
@@ -125,8 +133,8 @@ public class ProductServiceTest {
             ProductRequest newRequest = new ProductRequest();
             newRequest.setName("테스트 상품 " + (i + 1));
             newRequest.setDescription("테스트 상품 설명 " + (i + 1));
-            newRequest.setPrice(new BigDecimal("1000" + i));
-            newRequest.setShippingFee(new BigDecimal("200" + i));
+            newRequest.setPrice(Money.of(10000 + i));
+            newRequest.setShippingFee(Money.of(2000 + i));
 
             productService.create(newRequest, testUser.getId());
             log.debug("{}번 상품 생성 완료", i + 1);
@@ -148,6 +156,35 @@ public class ProductServiceTest {
             productPage.getTotalElements());
     }
 
+    @Test
+    @DisplayName("상품 목록 필드 선택 조회 테스트")
+    void testFindAllProductsWithFields() {
+        log.info("상품 목록 필드 선택 조회 테스트 시작");
+        productService.create(productRequest, testUser.getId());
+
+        PageRequest pageRequest = PageRequest.of(0, 10);
+
+        // 기본 목록 필드에는 설명이 포함되지 않음
+        Page<ProductResponse> defaultPage = productService.findByUser(testUser.getId(), pageRequest);
+        assertEquals(1, defaultPage.getTotalElements());
+        ProductResponse lean = defaultPage.getContent().get(0);
+        assertEquals("테스트 상품", lean.getName());
+        assertEquals(testUser.getId(), lean.getUserId());
+        assertNull(lean.getDescription());
+
+        // 요청한 필드만 채워짐
+        Page<ProductResponse> sparsePage = productService.findByUser(testUser.getId(), pageRequest,
+            ProductField.parse("name,description"));
+        ProductResponse sparse = sparsePage.getContent().get(0);
+        assertNotNull(sparse.getId());
+        assertEquals("테스트 상품 설명", sparse.getDescription());
+        assertNull(sparse.getPrice());
+
+        // 지원하지 않는 필드는 거부
+        assertThrows(InvalidRequestException.class, () -> ProductField.parse("password"));
+        log.info("상품 목록 필드 선택 조회 테스트 통과");
+    }
+
     @Test
     @DisplayName("상품 이름 기반 검색 기능 테스트")
     void testSearchProductsByName() {
@@ -159,8 +196,8 @@ public class ProductServiceTest {
             ProductRequest newRequest = new ProductRequest();
             newRequest.setName(name);
             newRequest.setDescription(name + " 상세 설명");
-            newRequest.setPrice(new BigDecimal("10000"));
-            newRequest.setShippingFee(new BigDecimal("2500"));
+            newRequest.setPrice(Money.of(10000));
+            newRequest.setShippingFee(Money.of(2500));
 
             productService.create(newRequest, testUser.getId());
             log.debug("이름이 '{}'인 상품 생성 완료", name);
@@ -200,6 +237,66 @@ public class ProductServiceTest {
             searchKeyword2, iphoneResults.getTotalElements());
     }
 
+    @Test
+    @DisplayName("상품 이름 검색어의 %, _ 는 글자 그대로 검색")
+    void testSearchByNameEscapesWildcards() {
+        String prefix = "검색" + System.nanoTime();
+        for (String name : new String[]{prefix + "_100%", prefix + "x1000"}) {
+            ProductRequest newRequest = new ProductRequest();
+            newRequest.setName(name);
+            newRequest.setDescription(name + " 상세 설명");
+            newRequest.setPrice(Money.of(10000));
+            newRequest.setShippingFee(Money.of(2500));
+            productService.create(newRequest, testUser.getId());
+        }
+
+        // 이스케이프하지 않으면 _ 가 x와, % 가 0과 일치하여 두 상품이 모두 검색됨
+        Page<ProductResponse> results = productService.searchByName(prefix + "_100%", PageRequest.of(0, 10));
+        assertEquals(1, results.getTotalElements());
+        assertEquals(prefix + "_100%", results.getContent().get(0).getName());
+        log.info("검색어 와일드카드 이스케이프 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("여러 상품 ID 조회 시 요청 순서 유지와 없는 ID 반환")
+    void testFindByIds() {
+        log.info("여러 상품 조회 테스트 시작");
+        ProductResponse first = productService.create(productRequest, testUser.getId());
+        ProductResponse second = productService.create(productRequest, testUser.getId());
+        Long missingId = second.getId() + 1_000_000L;
+
+        ProductBatchResponse response = productService.findByIds(
+            List.of(second.getId(), missingId, first.getId(), second.getId()), ProductField.ALL);
+
+        assertEquals(List.of(second.getId(), first.getId()),
+            response.getProducts().stream().map(ProductResponse::getId).toList());
+        assertEquals(List.of(missingId), response.getMissingIds());
+        assertEquals("테스트 상품 설명", response.getProducts().get(0).getDescription());
+
+        // 최대 개수 초과는 거부
+        List<Long> tooMany = LongStream.rangeClosed(1, 101).boxed().toList();
+        assertThrows(InvalidRequestException.class, () -> productService.findByIds(tooMany, ProductField.ALL));
+        log.info("여러 상품 조회 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("큰 상품 설명 압축 저장 테스트")
+    void testLargeDescriptionIsCompressed() {
+        log.info("상품 설명 압축 저장 테스트 시작");
+        String largeDescription = "<p>상세 설명 HTML</p>".repeat(2000);
+        productRequest.setDescription(largeDescription);
+
+        ProductResponse savedResponse = productService.create(productRequest, testUser.getId());
+        productRepository.flush();
+
+        // 저장된 값은 압축되어 있고 조회 시 원문과 동일
+        Product product = productRepository.findById(savedResponse.getId()).orElseThrow();
+        assertTrue(product.getDescriptionText().isCompressed());
+        assertTrue(product.getDescriptionText().encoded().length < largeDescription.length());
+        assertEquals(largeDescription, productService.findById(savedResponse.getId()).getDescription());
+        log.info("상품 설명 압축 저장 테스트 통과");
+    }
+
     @Test
     @DisplayName("상품 삭제 기능 테스트")
     void testDeleteProduct() {
@@ -0,0 +1,77 @@
+package com.shop.frankit.service;
+
+import com.shop.frankit.shard.GlobalIdGenerator;
+import com.shop.frankit.shard.ShardRouter;
+import com.shop.frankit.shard.WorkerIdLease;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 전역 ID 워커 번호 임대 테스트, 애플리케이션이 임대한 워커 ID와 겹치는 임대를 직접 만들어 확인
+ */
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("local")
+@Transactional
+public class WorkerIdLeaseTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private WorkerIdLease applicationLease;
+
+    @AfterEach
+    void tearDown() {
+        // 테스트에서 만든 임대가 전역 ID 생성기의 워커 ID를 바꾸므로 되돌림
+        GlobalIdGenerator.configure(applicationLease.workerId());
+    }
+
+    private WorkerIdLease lease(Integer workerId) {
+        return new WorkerIdLease(jdbcTemplate, shardRouter, workerId, Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 사용 중인 워커 ID를 설정하면 기동(임대)이 실패함")
+    void testConfiguredWorkerIdClash() {
+        WorkerIdLease clashing = lease(applicationLease.workerId());
+
+        assertThrows(IllegalStateException.class, clashing::acquire);
+        assertEquals(-1, clashing.workerId());
+        log.info("워커 ID 중복 임대 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("워커 ID를 설정하지 않으면 사용 중이지 않은 번호를 임대하고, 다른 인스턴스가 가져가면 ID 발급을 멈춤")
+    void testFreeWorkerIdAndRevoke() {
+        WorkerIdLease lease = lease(null);
+        try {
+            lease.acquire();
+            assertNotEquals(applicationLease.workerId(), lease.workerId());
+            assertTrue(lease.workerId() >= 0 && lease.workerId() < GlobalIdGenerator.MAX_WORKERS);
+
+            jdbcTemplate.update("UPDATE id_worker_leases SET owner = 'other' WHERE worker_id = ?", lease.workerId());
+            lease.renew();
+
+            assertThrows(IllegalStateException.class, () -> GlobalIdGenerator.nextId(0));
+        } finally {
+            // owner를 바꿨으므로 release()로는 지워지지 않음
+            jdbcTemplate.update("DELETE FROM id_worker_leases WHERE worker_id = ? AND owner = 'other'", lease.workerId());
+        }
+        log.info("빈 워커 ID 임대 테스트 통과");
+    }
+}
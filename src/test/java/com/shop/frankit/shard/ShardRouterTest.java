@@ -0,0 +1,45 @@
+package com.shop.frankit.shard;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.shop.frankit.exception.InvalidRequestException;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@Slf4j
+public class ShardRouterTest {
+
+    private static final long LEGACY_ID = 40000L;
+
+    @Test
+    @DisplayName("전역 ID 도입 이전의 순차 ID는 0번 샤드")
+    void testLegacyIdOnShardZero() {
+        // 40000은 샤드 비트가 0이 아니지만 기존 AUTO_INCREMENT ID
+        assertTrue(GlobalIdGenerator.isLegacy(LEGACY_ID));
+        assertEquals(0, GlobalIdGenerator.shardOf(LEGACY_ID));
+        assertEquals(0, new ShardRouter(4).shardOfId(LEGACY_ID));
+        assertEquals(0, new ShardRouter(1).shardOfId(LEGACY_ID));
+        assertEquals(0, new ShardRouter(4).shardOfId(GlobalIdGenerator.LEGACY_ID_LIMIT - 1));
+
+        log.info("순차 ID 샤드 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("전역 ID는 생성한 샤드로 라우팅")
+    void testGlobalIdRouting() {
+        ShardRouter router = new ShardRouter(4);
+        for (int shard = 0; shard < 4; shard++) {
+            long id = GlobalIdGenerator.nextId(shard);
+            assertFalse(GlobalIdGenerator.isLegacy(id));
+            assertEquals(shard, router.shardOfId(id));
+        }
+
+        // 샤드 수보다 큰 샤드 번호는 거부, 샤딩하지 않으면 항상 0번 샤드
+        long outOfRange = GlobalIdGenerator.nextId(5);
+        assertThrows(InvalidRequestException.class, () -> router.shardOfId(outOfRange));
+        assertEquals(0, new ShardRouter(1).shardOfId(outOfRange));
+
+        log.info("전역 ID 샤드 테스트 통과");
+    }
+}
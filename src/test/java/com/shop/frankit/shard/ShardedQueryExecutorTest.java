@@ -0,0 +1,139 @@
+package com.shop.frankit.shard;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.shop.frankit.dto.ProductResponse;
+import com.shop.frankit.entity.Money;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 세 개의 임베디드 H2 DB를 샤드로 사용하는 샤드 배치 및 scatter-gather 테스트
+ */
+@Slf4j
+public class ShardedQueryExecutorTest {
+
+    private static final int SHARD_COUNT = 3;
+
+    private static final RowMapper<ProductResponse> ROW_MAPPER = (rs, rowNum) -> {
+        ProductResponse product = new ProductResponse();
+        product.setId(rs.getLong("id"));
+        product.setUserId(rs.getLong("user_id"));
+        product.setName(rs.getString("name"));
+        product.setPrice(Money.of(rs.getBigDecimal("price")));
+        return product;
+    };
+
+    private List<DataSource> shards;
+    private ShardRouter shardRouter;
+    private JdbcTemplate jdbcTemplate;
+    private ShardedQueryExecutor executor;
+    private ExecutorService threads;
+    private List<ProductResponse> inserted;
+
+    @BeforeEach
+    void setUp() {
+        shards = new ArrayList<>();
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            DataSource shard = new DriverManagerDataSource("jdbc:h2:mem:shard" + i + ";DB_CLOSE_DELAY=-1", "sa", "");
+            JdbcTemplate template = new JdbcTemplate(shard);
+            template.execute("CREATE TABLE IF NOT EXISTS products "
+                + "(id BIGINT PRIMARY KEY, user_id BIGINT, name VARCHAR(255), price DECIMAL(38, 2))");
+            template.execute("DELETE FROM products");
+            shards.add(shard);
+        }
+
+        ShardRoutingDataSource routing = new ShardRoutingDataSource(shards);
+        routing.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        readOnlyTransaction.setReadOnly(true);
+        shardRouter = new ShardRouter(SHARD_COUNT);
+        threads = Executors.newFixedThreadPool(SHARD_COUNT);
+        executor = new ShardedQueryExecutor(shardRouter, readOnlyTransaction, threads);
+
+        // 판매자 10명이 각각 3개씩 상품 등록
+        inserted = new ArrayList<>();
+        for (long userId = 1; userId <= 10; userId++) {
+            for (int i = 0; i < 3; i++) {
+                int shard = shardRouter.shardForUser(userId);
+                ProductResponse product = new ProductResponse();
+                product.setId(GlobalIdGenerator.nextId(shard));
+                product.setUserId(userId);
+                product.setName("상품 " + userId + "-" + i);
+                product.setPrice(Money.of((userId * 3 + i) % 7 * 1000));
+                shardRouter.onShard(shard, () -> jdbcTemplate.update(
+                    "INSERT INTO products (id, user_id, name, price) VALUES (?, ?, ?, ?)",
+                    product.getId(), product.getUserId(), product.getName(), product.getPrice().toBigDecimal()));
+                inserted.add(product);
+            }
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        threads.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("판매자의 상품은 한 샤드에 저장되고 ID로 샤드를 찾을 수 있음")
+    void testPlacementByUserId() {
+        Set<Long> ids = new HashSet<>();
+        for (ProductResponse product : inserted) {
+            assertTrue(ids.add(product.getId()), "전역 ID는 중복되지 않아야 함");
+            int shard = shardRouter.shardOfId(product.getId());
+            assertEquals(shardRouter.shardForUser(product.getUserId()), shard);
+
+            Integer count = new JdbcTemplate(shards.get(shard)).queryForObject(
+                "SELECT COUNT(*) FROM products WHERE id = ?", Integer.class, product.getId());
+            assertEquals(1, count);
+        }
+        log.info("샤드 배치 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("여러 샤드의 정렬된 페이지를 병합")
+    void testScatterGatherMergesSortedPages() {
+        Sort sort = Sort.by(Sort.Order.desc("price"), Sort.Order.asc("id"));
+        Pageable pageable = PageRequest.of(1, 7, sort);
+
+        Page<ProductResponse> page = executor.findPage(pageable, shardPageable -> {
+            List<ProductResponse> rows = jdbcTemplate.query(
+                "SELECT id, user_id, name, price FROM products ORDER BY price DESC, id ASC LIMIT ? OFFSET ?",
+                ROW_MAPPER, shardPageable.getPageSize(), shardPageable.getOffset());
+            Long total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM products", Long.class);
+            return new PageImpl<>(rows, shardPageable, total);
+        });
+
+        Comparator<ProductResponse> comparator = ShardedQueryExecutor.comparatorFor(sort);
+        List<Long> expected = inserted.stream().sorted(comparator).skip(7).limit(7).map(ProductResponse::getId).toList();
+
+        assertEquals(inserted.size(), page.getTotalElements());
+        assertEquals(expected, page.getContent().stream().map(ProductResponse::getId).toList());
+        log.info("scatter-gather 병합 테스트 통과");
+    }
+}
@@ -0,0 +1,142 @@
+package com.shop.frankit.stock;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.shop.frankit.exception.StockException;
+import com.shop.frankit.support.HierarchicalTimingWheel;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.access.AccessDeniedException;
+
+@Slf4j
+public class StockLedgerTest {
+
+    private final HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(10, 16, 0);
+    private final StockLedger ledger = new StockLedger(wheel);
+
+    @Test
+    @DisplayName("예약은 판매 가능 수량만 줄이고 확정된 수량만 변경분으로 쌓임")
+    void testReserveCommitRelease() {
+        ledger.reconcile(11L, 1L, 10);
+
+        StockReservation committed = ledger.reserve(100L, 1L, new long[]{11L}, 3, 1_000);
+        StockReservation released = ledger.reserve(100L, 1L, new long[]{11L}, 2, 1_000);
+        assertEquals(5, ledger.available(11L));
+        assertEquals(5, ledger.reserved(11L));
+
+        ledger.commit(committed.getId(), 100L);
+        ledger.release(released.getId(), 100L);
+        assertEquals(7, ledger.available(11L));
+        assertEquals(0, ledger.reserved(11L));
+        assertEquals(0, ledger.activeReservations());
+        assertEquals(List.of(new StockLedger.Delta(11L, 1L, -3)), ledger.drainDeltas());
+
+        // 이미 끝난 예약은 다시 처리할 수 없음
+        assertThrows(StockException.class, () -> ledger.release(committed.getId(), 100L));
+        log.info("재고 예약/확정/해제 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("조합 중 하나라도 부족하면 아무 재고도 줄지 않음")
+    void testAllOrNothing() {
+        ledger.reconcile(11L, 1L, 5);
+        ledger.reconcile(12L, 1L, 1);
+
+        assertThrows(StockException.class, () -> ledger.reserve(100L, 1L, new long[]{11L, 12L}, 2, 1_000));
+        assertThrows(StockException.class, () -> ledger.reserve(100L, 1L, new long[]{11L, 99L}, 1, 1_000));
+        assertEquals(5, ledger.available(11L));
+        assertEquals(1, ledger.available(12L));
+        assertEquals(0, ledger.reserved(11L));
+        log.info("재고 전부 아니면 전무 예약 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("확정하지 않은 예약은 만료 시각이 지나면 풀리고, 만료 후 확정은 실패")
+    void testExpiry() {
+        ledger.reconcile(11L, 1L, 4);
+        StockReservation reservation = ledger.reserve(100L, 1L, new long[]{11L}, 4, 500);
+
+        wheel.advance(400);
+        assertEquals(0, ledger.available(11L));
+        wheel.advance(600);
+        assertEquals(4, ledger.available(11L));
+        assertEquals(0, ledger.reserved(11L));
+        assertThrows(StockException.class, () -> ledger.commit(reservation.getId(), 100L));
+        log.info("재고 예약 만료 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 예약은 처리할 수 없음")
+    void testOwnerCheck() {
+        ledger.reconcile(11L, 1L, 4);
+        StockReservation reservation = ledger.reserve(100L, 1L, new long[]{11L}, 1, 1_000);
+
+        assertThrows(AccessDeniedException.class, () -> ledger.commit(reservation.getId(), 200L));
+        assertEquals(1, ledger.reserved(11L));
+        log.info("재고 예약 소유자 확인 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("동시 예약에서도 재고보다 많이 팔리지 않음")
+    void testConcurrentReserveNeverOversells() throws InterruptedException {
+        ledger.reconcile(11L, 1L, 1_000);
+        ledger.reconcile(12L, 1L, 300);
+        int threads = 8;
+        AtomicInteger succeeded = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 200; i++) {
+                    try {
+                        StockReservation reservation = ledger.reserve(100L, 1L, new long[]{11L, 12L}, 1, 1_000);
+                        ledger.commit(reservation.getId(), 100L);
+                        succeeded.incrementAndGet();
+                    } catch (StockException e) {
+                        // 품절
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(300, succeeded.get());
+        assertEquals(700, ledger.available(11L));
+        assertEquals(0, ledger.available(12L));
+        log.info("동시 재고 예약 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("입고/차감 변경분을 꺼냈다가 반영 실패 시 되돌림")
+    void testAdjustAndRestoreDeltas() {
+        ledger.adjust(11L, 1L, 10);
+        ledger.adjust(11L, 1L, -4);
+        assertThrows(StockException.class, () -> ledger.adjust(11L, 1L, -7));
+        assertEquals(6, ledger.available(11L));
+
+        List<StockLedger.Delta> deltas = ledger.drainDeltas();
+        assertEquals(List.of(new StockLedger.Delta(11L, 1L, 6)), deltas);
+        assertTrue(ledger.drainDeltas().isEmpty());
+
+        ledger.restoreDeltas(deltas);
+        ledger.adjust(11L, 1L, 1);
+        assertEquals(List.of(new StockLedger.Delta(11L, 1L, 7)), ledger.drainDeltas());
+
+        // DB에 아직 반영되지 않은 변경분은 재조정 때 유지됨
+        ledger.adjust(11L, 1L, 2);
+        ledger.reconcile(11L, 1L, 7);
+        assertEquals(9, ledger.available(11L));
+        log.info("재고 변경분 반영 테스트 통과");
+    }
+}
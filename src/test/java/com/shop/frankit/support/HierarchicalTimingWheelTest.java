@@ -0,0 +1,73 @@
+package com.shop.frankit.support;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@Slf4j
+public class HierarchicalTimingWheelTest {
+
+    @Test
+    @DisplayName("기한이 지난 작업만 기한 순서대로 실행됨")
+    void testRunsDueTasksInOrder() {
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(10, 8, 0);
+        List<Long> fired = new ArrayList<>();
+        for (long deadline : new long[]{55, 15, 35}) {
+            wheel.schedule(deadline, () -> fired.add(deadline));
+        }
+
+        wheel.advance(30);
+        assertEquals(List.of(15L), fired);
+        wheel.advance(60);
+        assertEquals(List.of(15L, 35L, 55L), fired);
+        assertEquals(0, wheel.pending());
+        log.info("타이밍 휠 실행 순서 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("휠 한 바퀴보다 먼 작업은 위 단계에서 내려와 제때 실행됨")
+    void testFarFutureCascade() {
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(10, 4, 0);
+        Random random = new Random(11);
+        List<long[]> fired = new ArrayList<>();  // {deadline, 실행된 시각}
+        long[] now = {0};
+        for (int i = 0; i < 500; i++) {
+            long deadline = random.nextInt(50_000);
+            wheel.schedule(deadline, () -> fired.add(new long[]{deadline, now[0]}));
+        }
+
+        while (now[0] < 51_000) {
+            now[0] += 1 + random.nextInt(30);
+            wheel.advance(now[0]);
+        }
+        assertEquals(500, fired.size());
+        for (long[] task : fired) {
+            assertTrue(task[1] >= task[0], "기한 전에 실행됨: " + task[0]);
+            assertTrue(task[1] - task[0] < 40, "너무 늦게 실행됨: " + task[0]);
+        }
+        log.info("타이밍 휠 단계 이동 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("취소한 작업은 실행되지 않고 작업 예외는 다른 작업을 막지 않음")
+    void testCancelAndFailure() {
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(10, 8, 0);
+        List<String> fired = new ArrayList<>();
+        HierarchicalTimingWheel.Timeout cancelled = wheel.schedule(20, () -> fired.add("cancelled"));
+        wheel.schedule(20, () -> {
+            throw new IllegalStateException("실패");
+        });
+        wheel.schedule(20, () -> fired.add("ok"));
+
+        cancelled.cancel();
+        assertTrue(cancelled.isCancelled());
+        wheel.advance(100);
+        assertEquals(List.of("ok"), fired);
+        log.info("타이밍 휠 취소 테스트 통과");
+    }
+}
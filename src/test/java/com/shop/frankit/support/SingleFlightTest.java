@@ -0,0 +1,185 @@
+package com.shop.frankit.support;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.shop.frankit.datasource.ReadYourWritesTracker;
+import com.shop.frankit.security.UserDetailsImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+@Slf4j
+public class SingleFlightTest {
+
+    private static final int THREADS = 8;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 같은 키의 조회는 한 번만 실행되고 결과를 공유")
+    void testConcurrentCallsShareOneLoad() throws Exception {
+        SingleFlight<Long, String> flight = new SingleFlight<>(Duration.ofSeconds(5));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = submitAll(() -> flight.execute(1L, () -> {
+            loads.incrementAndGet();
+            release.await();
+            return "상품 1";
+        }));
+        waitUntil(() -> flight.coalescedCount() == THREADS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertEquals("상품 1", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+
+        // 끝난 뒤의 호출은 새로 조회
+        assertEquals("상품 1", flight.execute(1L, () -> {
+            loads.incrementAndGet();
+            return "상품 1";
+        }));
+        assertEquals(2, loads.get());
+        log.info("조회 합치기 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("먼저 시작된 조회의 예외는 기다리던 호출에도 전달")
+    void testFailureIsShared() throws Exception {
+        SingleFlight<Long, String> flight = new SingleFlight<>(Duration.ofSeconds(5));
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = submitAll(() -> flight.execute(1L, () -> {
+            release.await();
+            throw new IllegalStateException("조회 실패");
+        }));
+        waitUntil(() -> flight.coalescedCount() == THREADS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            Exception e = assertThrows(Exception.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, e.getCause());
+        }
+        log.info("조회 실패 공유 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("최대 대기 시간을 넘으면 직접 조회")
+    void testWaitIsBounded() throws Throwable {
+        SingleFlight<Long, String> flight = new SingleFlight<>(Duration.ofMillis(50));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> slow = executor.submit(() -> {
+            try {
+                return flight.execute(1L, () -> {
+                    started.countDown();
+                    release.await();
+                    return "느린 조회";
+                });
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertEquals("직접 조회", flight.execute(1L, () -> "직접 조회"));
+        assertEquals(1, flight.timedOutCount());
+        release.countDown();
+        assertEquals("느린 조회", slow.get(5, TimeUnit.SECONDS));
+        log.info("최대 대기 시간 테스트 통과");
+    }
+
+    @Test
+    @DisplayName("최근에 쓰기를 한 사용자의 조회는 진행 중인 다른 요청의 조회에 합치지 않음")
+    void testReadYourWritesBypassesCoalescing() throws Exception {
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofSeconds(5));
+        CoalescedAspect aspect = new CoalescedAspect(new SimpleMeterRegistry(), Duration.ofSeconds(5), tracker);
+        ProductLoader target = new ProductLoader();
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.addAspect(aspect);
+        ProductLoader loader = proxyFactory.getProxy();
+
+        // 로그인하지 않은 요청의 조회가 진행 중
+        Future<String> anonymous = executor.submit(() -> loader.load(1L));
+        assertTrue(target.started.await(5, TimeUnit.SECONDS));
+
+        // 방금 쓰기를 한 판매자는 기다리지 않고 직접 조회
+        UserDetailsImpl seller = new UserDetailsImpl(1L, "seller@example.com", "password", "USER");
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(seller, null, seller.getAuthorities()));
+        tracker.recordWrite(1L);
+        assertEquals("상품 1 (조회 2)", loader.load(1L));
+
+        target.release.countDown();
+        assertEquals("상품 1 (조회 1)", anonymous.get(5, TimeUnit.SECONDS));
+        log.info("Read-your-writes 조회 합치기 제외 테스트 통과");
+    }
+
+    static class ProductLoader {
+
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        private final AtomicInteger loads = new AtomicInteger();
+
+        // 첫 조회만 release까지 멈춤
+        @Coalesced
+        public String load(Long id) throws InterruptedException {
+            int load = loads.incrementAndGet();
+            if (load == 1) {
+                started.countDown();
+                release.await();
+            }
+            return "상품 " + id + " (조회 " + load + ")";
+        }
+    }
+
+    private interface Call<V> {
+        V call() throws Throwable;
+    }
+
+    private <V> List<Future<V>> submitAll(Call<V> call) {
+        List<Future<V>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            results.add(executor.submit(() -> {
+                try {
+                    return call.call();
+                } catch (Exception e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new IllegalStateException(e);
+                }
+            }));
+        }
+        return results;
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "조건을 기다리다 시간 초과");
+            Thread.sleep(5);
+        }
+    }
+}